@@ -0,0 +1,200 @@
+package com.wasteofplastic.beaconz;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.awt.geom.Point2D;
+import java.io.File;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.scoreboard.Team;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import com.wasteofplastic.beaconz.config.Settings;
+import com.wasteofplastic.beaconz.core.TriangleField;
+import com.wasteofplastic.beaconz.game.Game;
+import com.wasteofplastic.beaconz.game.GameMgr;
+import com.wasteofplastic.beaconz.game.Register;
+import com.wasteofplastic.beaconz.game.Scorecard;
+
+/**
+ * Generated fixtures shared by the JMH benchmarks.
+ * <p>
+ * Benchmarks run headless against MockBukkit, the same way as the unit tests. All mocks are
+ * created stub-only so Mockito does not record the millions of calls a benchmark makes.
+ * Fixtures are generated from a fixed seed so every run measures the same world.
+ *
+ * @author tastybento
+ */
+public class BenchmarkFixtures {
+
+    /** Seed for all generated fixtures */
+    public static final long SEED = 20151107L;
+
+    private final ServerMock server;
+    private final Beaconz plugin;
+    private final World world;
+    private final Game game;
+    private final Scorecard scorecard;
+    private final Team team;
+    private final Register register;
+
+    /**
+     * Starts a mock server and a plugin with one game and one team covering the whole world
+     * @param dataFolder - folder for files written by the benchmark
+     */
+    public BenchmarkFixtures(File dataFolder) {
+        server = MockBukkit.isMocked() ? MockBukkit.getMock() : MockBukkit.mock();
+        world = server.getWorld("beaconzworld") == null ? server.addSimpleWorld("beaconzworld") : server.getWorld("beaconzworld");
+
+        plugin = stub(Beaconz.class);
+        when(plugin.getDataFolder()).thenReturn(dataFolder);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.isEnabled()).thenReturn(true);
+        when(plugin.getLogger()).thenReturn(java.util.logging.Logger.getLogger("BeaconzBenchmark"));
+        when(plugin.getBeaconzWorld()).thenReturn(world);
+        FileConfiguration config = stub(FileConfiguration.class);
+        when(plugin.getConfig()).thenReturn(config);
+        when(config.getConfigurationSection(anyString())).thenReturn(null);
+
+        team = stub(Team.class);
+        when(team.getName()).thenReturn("red");
+
+        scorecard = stub(Scorecard.class);
+        when(scorecard.getTeam("red")).thenReturn(team);
+        when(scorecard.getBlockID(any(Team.class))).thenReturn(Material.RED_WOOL);
+        game = stub(Game.class);
+        when(game.getScorecard()).thenReturn(scorecard);
+
+        GameMgr gameMgr = stub(GameMgr.class);
+        when(plugin.getGameMgr()).thenReturn(gameMgr);
+        when(gameMgr.getGame(any(Point2D.class))).thenReturn(game);
+        when(gameMgr.getGame(anyInt(), anyInt())).thenReturn(game);
+        when(gameMgr.getSC(any(Point2D.class))).thenReturn(scorecard);
+        when(gameMgr.getSC(anyInt(), anyInt())).thenReturn(scorecard);
+
+        // Allow the large fans of links that some benchmarks build
+        Settings.linkLimit = 10000;
+
+        register = new Register(plugin);
+        when(plugin.getRegister()).thenReturn(register);
+    }
+
+    /**
+     * Creates a mock that does not record invocations
+     * @param type - class to mock
+     * @return the mock
+     */
+    public static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    /**
+     * Lays out a square grid of beacons and fills every cell with two non-overlapping triangles.
+     * The beacons are added to the register and the triangles are returned.
+     *
+     * @param count - approximate number of triangles wanted
+     * @param cell - the size of a grid cell in blocks
+     * @return the triangles, in grid order
+     */
+    public Set<TriangleField> triangleGrid(int count, int cell) {
+        int side = (int) Math.ceil(Math.sqrt(count / 2D));
+        for (int i = 0; i <= side; i++) {
+            for (int j = 0; j <= side; j++) {
+                register.addBeacon(team, i * cell, 64, j * cell);
+            }
+        }
+        Set<TriangleField> triangles = new LinkedHashSet<>();
+        for (int i = 0; i < side && triangles.size() < count; i++) {
+            for (int j = 0; j < side && triangles.size() < count; j++) {
+                Point2D a = new Point2D.Double(i * cell, j * cell);
+                Point2D b = new Point2D.Double((i + 1) * cell, j * cell);
+                Point2D c = new Point2D.Double(i * cell, (j + 1) * cell);
+                Point2D d = new Point2D.Double((i + 1) * cell, (j + 1) * cell);
+                triangles.add(new TriangleField(a, b, c, team));
+                if (triangles.size() < count) {
+                    triangles.add(new TriangleField(b, d, c, team));
+                }
+            }
+        }
+        return triangles;
+    }
+
+    /**
+     * Generates triangles that all overlap one another around a common centre, as a team
+     * builds when it stacks fields for points.
+     *
+     * @param count - number of triangles
+     * @param radius - distance of each corner from the centre
+     * @return the triangles
+     */
+    public Set<TriangleField> overlappingTriangles(int count, int radius) {
+        Random random = new Random(SEED);
+        Set<TriangleField> triangles = new LinkedHashSet<>();
+        while (triangles.size() < count) {
+            double angle = random.nextDouble() * 2 * Math.PI;
+            Point2D[] corners = new Point2D[3];
+            for (int k = 0; k < 3; k++) {
+                double r = radius * (0.5 + random.nextDouble() / 2);
+                double a = angle + k * 2 * Math.PI / 3;
+                corners[k] = new Point2D.Double(Math.round(Math.cos(a) * r), Math.round(Math.sin(a) * r));
+            }
+            triangles.add(new TriangleField(corners[0], corners[1], corners[2], team));
+        }
+        return triangles;
+    }
+
+    /**
+     * Cancels tasks scheduled by the code under test, such as link visualizers
+     */
+    public void cancelTasks() {
+        server.getScheduler().cancelTasks(plugin);
+    }
+
+    /**
+     * Stops the mock server
+     */
+    public void close() {
+        if (MockBukkit.isMocked()) {
+            MockBukkit.unmock();
+        }
+    }
+
+    public ServerMock getServer() {
+        return server;
+    }
+
+    public Beaconz getPlugin() {
+        return plugin;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public Scorecard getScorecard() {
+        return scorecard;
+    }
+
+    public Team getTeam() {
+        return team;
+    }
+
+    public Register getRegister() {
+        return register;
+    }
+}
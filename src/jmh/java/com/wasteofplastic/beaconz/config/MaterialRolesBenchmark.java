@@ -0,0 +1,170 @@
+package com.wasteofplastic.beaconz.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wasteofplastic.beaconz.BenchmarkFixtures;
+
+/**
+ * Benchmarks the {@link MaterialRoles} lookups against the checks they replaced: equals chains
+ * with {@code name().endsWith("STAINED_GLASS")}, a {@code Set} of surround materials, a
+ * {@code HashMap} of link blocks and a {@code Material.getMaterial} call for the locking block.
+ * <p>
+ * Each call classifies the same mix of block types, mostly terrain with some beacon blocks,
+ * the way the block listeners see them.
+ *
+ * @author tastybento
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaterialRolesBenchmark {
+
+    /** Number of block types classified per call */
+    private static final int BLOCKS = 1024;
+
+    /** The surround materials as they were listed before the role table */
+    private static final Set<Material> PROTECTED_MATERIALS = Set.of(
+            Material.BARRIER, Material.BEACON, Material.BEDROCK, Material.CLAY, Material.COBBLESTONE,
+            Material.DIRT, Material.GRASS_BLOCK, Material.DIRT_PATH, Material.MOSSY_COBBLESTONE,
+            Material.OBSIDIAN, Material.RED_SANDSTONE, Material.SANDSTONE, Material.TERRACOTTA,
+            Material.STONE);
+
+    private Material[] blocks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Settings.linkBlocks = new HashMap<>();
+        Settings.linkBlocks.put(Material.GOLD_BLOCK, 5);
+        Settings.linkBlocks.put(Material.DIAMOND_BLOCK, 10);
+        Settings.linkBlocks.put(Material.EMERALD_BLOCK, 20);
+        Settings.lockingBlock = "emerald_block";
+        MaterialRoles.rebuild();
+
+        // Material.isBlock needs a server, so every modern material is used for the rest of the mix
+        List<Material> others = new ArrayList<>();
+        for (Material material : Material.values()) {
+            if (!material.name().startsWith("LEGACY_")) {
+                others.add(material);
+            }
+        }
+        Material[] beaconBlocks = {Material.BEACON, Material.DIAMOND_BLOCK, Material.OBSIDIAN,
+                Material.RED_STAINED_GLASS, Material.EMERALD_BLOCK, Material.GOLD_BLOCK};
+        Material[] terrain = {Material.STONE, Material.DIRT, Material.GRASS_BLOCK, Material.SAND, Material.WATER};
+        Random random = new Random(BenchmarkFixtures.SEED);
+        blocks = new Material[BLOCKS];
+        for (int i = 0; i < BLOCKS; i++) {
+            int pick = random.nextInt(10);
+            if (pick < 2) {
+                blocks[i] = beaconBlocks[random.nextInt(beaconBlocks.length)];
+            } else if (pick < 7) {
+                blocks[i] = terrain[random.nextInt(terrain.length)];
+            } else {
+                blocks[i] = others.get(random.nextInt(others.size()));
+            }
+        }
+    }
+
+    /**
+     * The beacon structure check Register.getBeacon used to make
+     */
+    @Benchmark
+    public int structureChain() {
+        int count = 0;
+        for (Material type : blocks) {
+            if (type.equals(Material.BEACON) || type.equals(Material.DIAMOND_BLOCK)
+                    || type.equals(Material.OBSIDIAN) || type.name().endsWith("STAINED_GLASS")
+                    || type.equals(Material.EMERALD_BLOCK)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int structureTable() {
+        int count = 0;
+        for (Material type : blocks) {
+            if (MaterialRoles.is(type, MaterialRoles.STRUCTURE)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The surround check BeaconSurroundListener and ExplosionListener used to make
+     */
+    @Benchmark
+    public int surroundSet() {
+        int count = 0;
+        for (Material type : blocks) {
+            if (PROTECTED_MATERIALS.contains(type)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int surroundTable() {
+        int count = 0;
+        for (Material type : blocks) {
+            if (MaterialRoles.is(type, MaterialRoles.SURROUND)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * The link block and locking block checks BeaconPassiveDefenseListener used to make
+     */
+    @Benchmark
+    public int linkAndLockingLookup() {
+        int total = 0;
+        for (Material type : blocks) {
+            Integer value = Settings.linkBlocks.get(type);
+            if (value != null) {
+                total += value;
+            }
+            Material lockingBlock = Material.getMaterial(Settings.lockingBlock.toUpperCase());
+            if (type == (lockingBlock != null ? lockingBlock : Material.EMERALD_BLOCK)) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public int linkAndLockingTable() {
+        int total = 0;
+        for (Material type : blocks) {
+            total += MaterialRoles.getLinkValue(type);
+            if (MaterialRoles.is(type, MaterialRoles.LOCKING)) {
+                total++;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,105 @@
+package com.wasteofplastic.beaconz.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Location;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.wasteofplastic.beaconz.BenchmarkFixtures;
+import com.wasteofplastic.beaconz.core.BeaconObj;
+import com.wasteofplastic.beaconz.core.TriangleField;
+
+/**
+ * Benchmarks for {@link Register} lookups over a synthetic world.
+ * <p>
+ * The world is a grid of beacons with every cell filled by two triangles, so the
+ * number of triangles and beacons grows together. Probe points are drawn from a
+ * fixed seed and cycled so every run looks up the same points.
+ *
+ * @author tastybento
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisterBenchmark {
+
+    /** Size of a grid cell in blocks */
+    private static final int CELL = 50;
+    /** Number of probe points */
+    private static final int PROBES = 1024;
+
+    @Param({"100", "1000", "10000"})
+    public int triangles;
+
+    private BenchmarkFixtures fixtures;
+    private Register register;
+    private int[] probeX;
+    private int[] probeZ;
+    private Location[] probeLocations;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        File dataFolder = Files.createTempDirectory("beaconz-bench").toFile();
+        fixtures = new BenchmarkFixtures(dataFolder);
+        register = fixtures.getRegister();
+        register.setTriangleFields(fixtures.triangleGrid(triangles, CELL));
+
+        // Probe points inside the grid
+        int extent = (int) Math.ceil(Math.sqrt(triangles / 2D)) * CELL;
+        Random random = new Random(BenchmarkFixtures.SEED);
+        probeX = new int[PROBES];
+        probeZ = new int[PROBES];
+        probeLocations = new Location[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probeX[i] = random.nextInt(extent);
+            probeZ[i] = random.nextInt(extent);
+            probeLocations[i] = new Location(fixtures.getWorld(), probeX[i], 64, probeZ[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixtures.close();
+    }
+
+    /**
+     * Looks up the triangles covering a point, as the movement listener does every time a player crosses a block
+     */
+    @Benchmark
+    public List<TriangleField> getTriangle() {
+        int i = next++ & (PROBES - 1);
+        return register.getTriangle(probeX[i], probeZ[i]);
+    }
+
+    /**
+     * Finds the beacons near a point, as projectile defense does for every moving player
+     */
+    @Benchmark
+    public void getNearbyBeacons(Blackhole bh) {
+        int i = next++ & (PROBES - 1);
+        List<BeaconObj> nearby = register.getNearbyBeacons(probeLocations[i], CELL * 2);
+        bh.consume(nearby);
+    }
+}
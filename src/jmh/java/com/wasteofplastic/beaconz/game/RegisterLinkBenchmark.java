@@ -0,0 +1,82 @@
+package com.wasteofplastic.beaconz.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wasteofplastic.beaconz.BenchmarkFixtures;
+import com.wasteofplastic.beaconz.core.BeaconObj;
+import com.wasteofplastic.beaconz.util.LinkResult;
+
+/**
+ * Benchmarks triangle discovery in {@link Register#addBeaconLink(BeaconObj, BeaconObj)}.
+ * <p>
+ * Two beacons share a fan of linked neighbours. Linking the two beacons closes one
+ * triangle per neighbour, and each new triangle is checked against those already made.
+ * The fan is rebuilt before every invocation because linking changes it.
+ *
+ * @author tastybento
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegisterLinkBenchmark {
+
+    @Param({"4", "16", "64"})
+    public int neighbours;
+
+    private BenchmarkFixtures fixtures;
+    private Register register;
+    private BeaconObj start;
+    private BeaconObj end;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        File dataFolder = Files.createTempDirectory("beaconz-bench").toFile();
+        fixtures = new BenchmarkFixtures(dataFolder);
+    }
+
+    @Setup(Level.Invocation)
+    public void buildFan() {
+        fixtures.cancelTasks();
+        register = new Register(fixtures.getPlugin());
+        start = register.addBeacon(fixtures.getTeam(), 0, 64, 0);
+        end = register.addBeacon(fixtures.getTeam(), 1000, 64, 0);
+        for (int i = 0; i < neighbours; i++) {
+            BeaconObj neighbour = register.addBeacon(fixtures.getTeam(), 500, 64, 20 + i * 20);
+            register.addBeaconLink(neighbour, start);
+            register.addBeaconLink(neighbour, end);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixtures.close();
+    }
+
+    /**
+     * Links the two beacons, closing a triangle with every neighbour
+     */
+    @Benchmark
+    public LinkResult addBeaconLink() {
+        return register.addBeaconLink(start, end);
+    }
+}
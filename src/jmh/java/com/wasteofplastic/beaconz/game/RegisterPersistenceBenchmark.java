@@ -0,0 +1,87 @@
+package com.wasteofplastic.beaconz.game;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wasteofplastic.beaconz.BenchmarkFixtures;
+import com.wasteofplastic.beaconz.core.BeaconObj;
+
+/**
+ * Benchmarks {@link Register#saveRegister()} and the save and {@link Register#loadRegister()}
+ * round trip for worlds of different sizes. Every beacon is linked to the next one.
+ *
+ * @author tastybento
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegisterPersistenceBenchmark {
+
+    /** Size of a grid cell in blocks */
+    private static final int CELL = 50;
+
+    @Param({"100", "1000", "10000"})
+    public int triangles;
+
+    private BenchmarkFixtures fixtures;
+    private Register register;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        File dataFolder = Files.createTempDirectory("beaconz-bench").toFile();
+        fixtures = new BenchmarkFixtures(dataFolder);
+        register = fixtures.getRegister();
+        register.setTriangleFields(fixtures.triangleGrid(triangles, CELL));
+        // Chain the beacons together so links are saved too
+        List<BeaconObj> beacons = register.getGameBeacons(fixtures.getGame());
+        for (int i = 1; i < beacons.size(); i++) {
+            register.addBeaconLink(beacons.get(i - 1), beacons.get(i));
+        }
+        fixtures.cancelTasks();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixtures.close();
+    }
+
+    /**
+     * Writes beaconz.yml
+     */
+    @Benchmark
+    public void saveRegister() {
+        register.saveRegister();
+    }
+
+    /**
+     * Writes beaconz.yml, clears the register and reads it back
+     */
+    @Benchmark
+    public Register saveAndLoadRegister() {
+        register.saveRegister();
+        register.clear();
+        register.loadRegister();
+        fixtures.cancelTasks();
+        return register;
+    }
+}
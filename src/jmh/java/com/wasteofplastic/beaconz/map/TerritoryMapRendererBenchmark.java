@@ -0,0 +1,108 @@
+package com.wasteofplastic.beaconz.map;
+
+import static org.mockito.ArgumentMatchers.anyByte;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.map.MapCanvas;
+import org.bukkit.map.MapCursor;
+import org.bukkit.map.MapCursorCollection;
+import org.bukkit.map.MapView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wasteofplastic.beaconz.BenchmarkFixtures;
+
+/**
+ * Benchmarks {@link TerritoryMapRenderer} frame generation.
+ * <p>
+ * A new renderer is used for every frame so the whole 128x128 map is recomputed, which is
+ * what happens whenever a beacon changes. The map is centred on the triangle grid.
+ *
+ * @author tastybento
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TerritoryMapRendererBenchmark {
+
+    /** Size of a grid cell in blocks */
+    private static final int CELL = 16;
+
+    @Param({"100", "1000", "10000"})
+    public int triangles;
+
+    private BenchmarkFixtures fixtures;
+    private MapView mapView;
+    private MapCanvas canvas;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        File dataFolder = Files.createTempDirectory("beaconz-bench").toFile();
+        fixtures = new BenchmarkFixtures(dataFolder);
+        fixtures.getRegister().setTriangleFields(fixtures.triangleGrid(triangles, CELL));
+        int centre = (int) Math.ceil(Math.sqrt(triangles / 2D)) * CELL / 2;
+
+        mapView = BenchmarkFixtures.stub(MapView.class);
+        when(mapView.getWorld()).thenReturn(fixtures.getWorld());
+        when(mapView.getCenterX()).thenReturn(centre);
+        when(mapView.getCenterZ()).thenReturn(centre);
+        when(mapView.getScale()).thenReturn(MapView.Scale.NORMAL);
+
+        canvas = BenchmarkFixtures.stub(MapCanvas.class);
+        MapCursorCollection cursors = BenchmarkFixtures.stub(MapCursorCollection.class);
+        when(canvas.getCursors()).thenReturn(cursors);
+        when(cursors.addCursor(anyInt(), anyInt(), anyByte())).thenReturn(BenchmarkFixtures.stub(MapCursor.class));
+        when(canvas.getBasePixelColor(anyInt(), anyInt())).thenReturn(Color.WHITE);
+
+        player = BenchmarkFixtures.stub(Player.class);
+        PlayerInventory inventory = BenchmarkFixtures.stub(PlayerInventory.class);
+        when(player.getInventory()).thenReturn(inventory);
+        when(inventory.getItemInMainHand()).thenReturn(new ItemStack(Material.FILLED_MAP));
+        when(inventory.getItemInOffHand()).thenReturn(new ItemStack(Material.AIR));
+        when(player.getLocation()).thenReturn(new Location(fixtures.getWorld(), centre, 64, centre));
+        when(player.hasPermission(anyString())).thenReturn(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixtures.close();
+    }
+
+    /**
+     * Renders one full frame
+     */
+    @Benchmark
+    public TerritoryMapRenderer renderFrame() {
+        TerritoryMapRenderer renderer = new TerritoryMapRenderer(fixtures.getPlugin());
+        renderer.render(mapView, canvas, player);
+        return renderer;
+    }
+}
@@ -0,0 +1,66 @@
+package com.wasteofplastic.beaconz.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.wasteofplastic.beaconz.BenchmarkFixtures;
+import com.wasteofplastic.beaconz.core.TriangleField;
+
+/**
+ * Benchmarks {@link TriangleScorer#getTriangleSetArea(Set)} with heavily overlapping triangles,
+ * the worst case for the union loop.
+ *
+ * @author tastybento
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TriangleScorerBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int triangles;
+
+    private BenchmarkFixtures fixtures;
+    private Set<TriangleField> overlapping;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        File dataFolder = Files.createTempDirectory("beaconz-bench").toFile();
+        fixtures = new BenchmarkFixtures(dataFolder);
+        overlapping = fixtures.overlappingTriangles(triangles, 500);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixtures.close();
+    }
+
+    /**
+     * Scores the set. The scorer empties the set it is given, so each call gets a copy.
+     */
+    @Benchmark
+    public double getTriangleSetArea() {
+        return TriangleScorer.getTriangleSetArea(new HashSet<>(overlapping));
+    }
+}
@@ -22,6 +22,7 @@
 
 package com.wasteofplastic.beaconz;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -51,12 +52,17 @@ import org.bukkit.potion.PotionEffectType;
 
 import com.wasteofplastic.beaconz.commands.AdminCmdHandler;
 import com.wasteofplastic.beaconz.commands.CmdHandler;
+import com.wasteofplastic.beaconz.config.FieldEffects;
 import com.wasteofplastic.beaconz.config.Lang;
+import com.wasteofplastic.beaconz.config.MaterialRoles;
 import com.wasteofplastic.beaconz.config.Params.GameMode;
 import com.wasteofplastic.beaconz.config.Params.GameScoreGoal;
 import com.wasteofplastic.beaconz.config.Settings;
+import com.wasteofplastic.beaconz.core.Teleporter;
+import com.wasteofplastic.beaconz.game.GameClock;
 import com.wasteofplastic.beaconz.game.GameMgr;
 import com.wasteofplastic.beaconz.game.Register;
+import com.wasteofplastic.beaconz.game.TeamBroadcaster;
 import com.wasteofplastic.beaconz.generator.BeaconPopulator;
 import com.wasteofplastic.beaconz.generator.BeaconzChunkGen;
 import com.wasteofplastic.beaconz.integration.Metrics;
@@ -66,18 +72,23 @@ import com.wasteofplastic.beaconz.listeners.BeaconLinkListener;
 import com.wasteofplastic.beaconz.listeners.BeaconPassiveDefenseListener;
 import com.wasteofplastic.beaconz.listeners.BeaconProjectileDefenseListener;
 import com.wasteofplastic.beaconz.listeners.BeaconProtectionListener;
+import com.wasteofplastic.beaconz.listeners.BeaconStructureListener;
 import com.wasteofplastic.beaconz.listeners.BeaconSurroundListener;
 import com.wasteofplastic.beaconz.listeners.ChatListener;
+import com.wasteofplastic.beaconz.listeners.ExplosionListener;
 import com.wasteofplastic.beaconz.listeners.LobbyListener;
 import com.wasteofplastic.beaconz.listeners.PlayerDeathListener;
 import com.wasteofplastic.beaconz.listeners.PlayerJoinLeaveListener;
 import com.wasteofplastic.beaconz.listeners.PlayerMovementListener;
 import com.wasteofplastic.beaconz.listeners.PlayerTeleportListener;
+import com.wasteofplastic.beaconz.listeners.SafeSpotListener;
 import com.wasteofplastic.beaconz.listeners.SkyListeners;
 import com.wasteofplastic.beaconz.storage.BeaconzStore;
+import com.wasteofplastic.beaconz.storage.GameStateStore;
 import com.wasteofplastic.beaconz.storage.Messages;
 import com.wasteofplastic.beaconz.storage.TinyDB;
 import com.wasteofplastic.beaconz.util.ItemRewardParser;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
 
 /**
  * Main plugin class for the Beaconz strategic team-based game.
@@ -146,6 +157,21 @@ public class Beaconz extends JavaPlugin {
     /** Teleport listener for managing safe teleportation */
     private PlayerTeleportListener teleportListener;
 
+    /** Single clock that drives the timers of all games */
+    private GameClock gameClock;
+
+    /** Local Prometheus metrics export */
+    private Metrics metrics;
+
+    /** Online audiences of every team */
+    private TeamBroadcaster teamBroadcaster;
+
+    /** In-memory copy of games.yml and teams.yml */
+    private GameStateStore gameStateStore;
+
+    /** Async teleports, teleport warmups and batched mass teleports */
+    private Teleporter teleporter;
+
     /**
      * Called when the plugin is loaded (before worlds are loaded).
      * <p>
@@ -211,14 +237,6 @@ public class Beaconz extends JavaPlugin {
 
         // INITIALIZATION PHASE 2: Services
 
-        // Initialize bStats metrics tracking
-        try {
-            final Metrics metrics = new Metrics(this);
-            metrics.start();
-        } catch (final IOException localIOException) {
-            // Metrics failure is not critical - silently continue
-        }
-
         // Start the player name database for offline player lookups
         nameStore = new TinyDB(this);
 
@@ -249,13 +267,16 @@ public class Beaconz extends JavaPlugin {
             getServer().getPluginManager().registerEvents(new BeaconLinkListener(plugin), plugin);
             getServer().getPluginManager().registerEvents(new BeaconCaptureListener(plugin), plugin);
 
-            // Communication listener
+            // Communication listeners
+            getServer().getPluginManager().registerEvents(getTeamBroadcaster(), plugin);
             getServer().getPluginManager().registerEvents(new ChatListener(plugin), plugin);
 
             // Beacon defense listeners
             getServer().getPluginManager().registerEvents(new BeaconPassiveDefenseListener(plugin), plugin);
-            getServer().getPluginManager().registerEvents(new BeaconProjectileDefenseListener(plugin), plugin);
-            getServer().getPluginManager().registerEvents(new BeaconProtectionListener(plugin), plugin);
+            // These run on every move or block change so their handlers are timed (see /badmin perf)
+            PerfMonitor.registerEvents(new BeaconProjectileDefenseListener(plugin), plugin);
+            PerfMonitor.registerEvents(new BeaconProtectionListener(plugin), plugin);
+            PerfMonitor.registerEvents(new ExplosionListener(plugin), plugin);
 
             // Player lifecycle listeners
             getServer().getPluginManager().registerEvents(new PlayerDeathListener(plugin), plugin);
@@ -263,7 +284,7 @@ public class Beaconz extends JavaPlugin {
 
             // Player movement listener (stored for triangle effect access)
             pml = new PlayerMovementListener(plugin);
-            getServer().getPluginManager().registerEvents(pml, plugin);
+            PerfMonitor.registerEvents(pml, plugin);
 
             // Teleport listener (stored for reference)
             teleportListener = new PlayerTeleportListener(plugin);
@@ -271,13 +292,32 @@ public class Beaconz extends JavaPlugin {
 
             // World/environment listeners
             getServer().getPluginManager().registerEvents(new SkyListeners(plugin), plugin);
-            getServer().getPluginManager().registerEvents(new BeaconSurroundListener(plugin), plugin);
+            PerfMonitor.registerEvents(new BeaconSurroundListener(plugin), plugin);
+            PerfMonitor.registerEvents(new SafeSpotListener(plugin), plugin);
+            PerfMonitor.registerEvents(new BeaconStructureListener(plugin), plugin);
 
             // Lobby listener for sign-based game joining
             getServer().getPluginManager().registerEvents(new LobbyListener(plugin), plugin);
 
             // Load player message queues
             messages = new Messages(plugin);
+            messages.loadMessages();
+
+            // Optionally write the performance metrics to perf.csv now and then
+            if (Settings.perfDumpMinutes > 0) {
+                long period = Settings.perfDumpMinutes * 1200L;
+                getServer().getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+                    try {
+                        PerfMonitor.dump(new File(getDataFolder(), "perf.csv"));
+                    } catch (IOException e) {
+                        getLogger().severe("Failed to write perf.csv: " + e.getMessage());
+                    }
+                }, period, period);
+            }
+
+            // OPTIONAL: Local metrics for a Prometheus scraper (general.metricsport / general.metricsfile)
+            metrics = new Metrics(plugin);
+            metrics.start();
 
             // OPTIONAL: Dynmap Integration
             if (Settings.useDynmap) {
@@ -315,6 +355,21 @@ public class Beaconz extends JavaPlugin {
     @Override
     public void onDisable()
     {
+        // Stop the game timers
+        if (gameClock != null) {
+            gameClock.stop();
+        }
+
+        // Forget any waiting teleports
+        if (teleporter != null) {
+            teleporter.stop();
+        }
+
+        // Stop the metrics listener
+        if (metrics != null) {
+            metrics.stop();
+        }
+
         // Save beacon register (beacons, links, triangular fields)
         if (register != null) {
             register.saveRegister();
@@ -329,6 +384,11 @@ public class Beaconz extends JavaPlugin {
             beaconzStore.saveInventories();
         }
 
+        // Write any queued offline messages
+        if (messages != null) {
+            messages.saveMessages();
+        }
+
         // Save all game states (teams, scores, configurations)
         getGameMgr().saveAllGames();
     }
@@ -357,6 +417,63 @@ public class Beaconz extends JavaPlugin {
         return gameMgr;
     }
 
+    /**
+     * Gets the game clock, creating it if it doesn't exist.
+     * <p>
+     * The GameClock is the single timer that drives the countdown and sidebar
+     * clock of every game. Scorecards register with it when their timer starts.
+     *
+     * @return The game clock instance
+     */
+    public GameClock getGameClock() {
+        if (gameClock == null) {
+            gameClock = new GameClock(this);
+        }
+        return gameClock;
+    }
+
+    /**
+     * Gets the team broadcaster, creating it if it doesn't exist.
+     * <p>
+     * The broadcaster keeps the online members of every team so team messages
+     * can be sent without looking them up.
+     *
+     * @return The team broadcaster instance
+     */
+    public TeamBroadcaster getTeamBroadcaster() {
+        if (teamBroadcaster == null) {
+            teamBroadcaster = new TeamBroadcaster(this);
+        }
+        return teamBroadcaster;
+    }
+
+    /**
+     * Gets the teleporter, creating it if it doesn't exist.
+     * <p>
+     * The teleporter loads destination chunks asynchronously, spreads mass teleports
+     * over several ticks and checks every teleport warmup in one sweep per tick.
+     *
+     * @return The teleporter instance
+     */
+    public Teleporter getTeleporter() {
+        if (teleporter == null) {
+            teleporter = new Teleporter(this);
+        }
+        return teleporter;
+    }
+
+    /**
+     * Gets the store that holds games.yml and teams.yml in memory, creating it if it doesn't exist.
+     *
+     * @return The game state store
+     */
+    public GameStateStore getGameStateStore() {
+        if (gameStateStore == null) {
+            gameStateStore = new GameStateStore(this);
+        }
+        return gameStateStore;
+    }
+
     /**
      * Gets the beacon register instance, creating and loading it if it doesn't exist.
      * <p>
@@ -495,9 +612,24 @@ public class Beaconz extends JavaPlugin {
         // The Locking block
         Settings.lockingBlock = getConfig().getString("general.lockingBlock", "EMERALD_BLOCK");
         Settings.nbrLockingBlocks = getConfig().getInt("nbrLockingBlocks", 6);
+        // Block roles depend on the link and locking blocks
+        MaterialRoles.rebuild();
 
         // Load teleport delay
         Settings.teleportDelay = getConfig().getInt("general.teleportdelay",5);
+        // Offline message limits
+        Settings.maxOfflineMessages = Math.max(1, getConfig().getInt("general.maxofflinemessages", 50));
+        Settings.offlineMessageDays = Math.max(1, getConfig().getInt("general.offlinemessagedays", 7));
+        // Performance metrics
+        Settings.perfMetrics = getConfig().getBoolean("general.perfmetrics", true);
+        Settings.perfDumpMinutes = Math.max(0, getConfig().getInt("general.perfdumpminutes", 0));
+        PerfMonitor.setEnabled(Settings.perfMetrics);
+        // Local metrics export
+        Settings.metricsPort = Math.max(0, getConfig().getInt("general.metricsport", 0));
+        Settings.metricsFile = getConfig().getBoolean("general.metricsfile", false);
+        Settings.metricsInterval = Math.max(1, getConfig().getInt("general.metricsinterval", 15));
+        // Team message bursts
+        Settings.coalesceTeamMessages = getConfig().getBoolean("general.coalesceteammessages", false);
         // get the lobby coords and size, adjust to match chunk size
         Settings.lobbyx = (getConfig().getInt("lobby.lobbyx", 0) / 16) * 16;
         Settings.lobbyz = (getConfig().getInt("lobby.lobbyz", 0) / 16) * 16;
@@ -691,6 +823,9 @@ public class Beaconz extends JavaPlugin {
                 Settings.friendlyFieldEffects.put(NumberUtils.toInt(part.getKey()), effects);
             }
         }
+        // Work out the effects for each field depth once
+        FieldEffects.rebuild();
+        Settings.fieldEffectRefresh = Math.max(0, getConfig().getInt("triangles.effectrefresh", 10));
         Settings.minePenalty = getConfig().getStringList("mining.minepenalty");
         List<String> goodies = getConfig().getStringList("mining.enemygoodies");
         Settings.enemyGoodies.clear();
@@ -38,6 +38,7 @@ import com.wasteofplastic.beaconz.game.GameMgr;
 import com.wasteofplastic.beaconz.game.Register;
 import com.wasteofplastic.beaconz.listeners.PlayerMovementListener;
 import com.wasteofplastic.beaconz.storage.BeaconzStore;
+import com.wasteofplastic.beaconz.storage.GameStateStore;
 import com.wasteofplastic.beaconz.storage.Messages;
 
 /**
@@ -121,6 +122,13 @@ public abstract class BeaconzPluginDependent {
         return this.beaconzPlugin.getBeaconzStore();
     }
 
+    /**
+     * @return the in-memory copy of games.yml and teams.yml
+     */
+    public final GameStateStore getGameStateStore() {
+        return this.beaconzPlugin.getGameStateStore();
+    }
+
     /**
      * Runs commands for a player or on a player
      * @param player
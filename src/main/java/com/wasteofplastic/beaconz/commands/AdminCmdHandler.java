@@ -53,6 +53,7 @@ import com.wasteofplastic.beaconz.config.Params;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 import com.wasteofplastic.beaconz.game.Game;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -85,7 +86,9 @@ import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
  *   <li><b>list</b> - List all beacons in a game or across all games</li>
  *   <li><b>listparms</b> - Display game parameters (mode, teams, goals, etc.)</li>
  *   <li><b>newgame</b> - Create a new game with optional custom parameters</li>
+ *   <li><b>perf</b> - Show or reset per-handler timing and allocation metrics</li>
  *   <li><b>reload</b> - Reload plugin configuration and game data</li>
+ *   <li><b>restart</b> - Restart a game with the same teams, over several ticks</li>
  *   <li><b>setspawn</b> - Set the lobby spawn point</li>
  *   <li><b>switch</b> - Switch a player to another team in their current game</li>
  *   <li><b>teams</b> - Display team rosters for a game or all games</li>
@@ -149,7 +152,9 @@ public class AdminCmdHandler extends BeaconzPluginDependent implements CommandEx
             case "force_end" -> onForceEnd(sender, label, args);
             case "list" -> onList(sender, label, args);
             case "newgame" -> onNewGame(sender, label, args);
+            case "perf" -> onPerf(sender, args);
             case "reload" -> onReload(sender);
+            case "restart" -> onRestart(sender, label, args);
             case "listparms" -> onListParms(sender, label, args);
             case "setspawn" -> onSetSpawn(sender, label, args);
             case "teams" ->  onTeams(sender, label, args);
@@ -478,6 +483,33 @@ public class AdminCmdHandler extends BeaconzPluginDependent implements CommandEx
 
     }
 
+    /**
+     * Handles the restart command to restart a game.
+     *
+     * <p>Sends everyone in the game to the lobby, unclaims every beacon and resets the
+     * scores and timer, keeping the teams. The work is spread over several ticks and
+     * the sender is told as each step finishes.
+     *
+     * <p><b>Usage:</b> /admin restart &lt;gamename&gt;
+     *
+     * @param sender the command sender
+     * @param label the command label
+     * @param args arguments: [1] = game name to restart
+     * @return true if the restart was started, false otherwise
+     */
+    private boolean onRestart(CommandSender sender, String label, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(Component.text("/" + label + " restart <gamename>").append(Lang.helpAdminRestart).color(NamedTextColor.RED));
+            return false;
+        }
+        Game game = getGameMgr().getGame(args[1]);
+        if (game == null) {
+            sender.sendMessage(Lang.errorNoSuchGame.append(Component.text("'" + args[1] + "'")).color(NamedTextColor.RED));
+            return false;
+        }
+        return game.restart(sender);
+    }
+
     /**
      * Handles the list command to display beacons in a game.
      *
@@ -619,6 +651,63 @@ public class AdminCmdHandler extends BeaconzPluginDependent implements CommandEx
 
     }
 
+    /**
+     * Handles the perf command, which shows the performance metrics.
+     *
+     * <p>Lists every measured event handler, task and save with its call count,
+     * median and 99th percentile time, longest time and bytes allocated per call.
+     * {@code perf reset} clears the metrics.
+     *
+     * @param sender the command sender
+     * @param args arguments: optionally "reset"
+     * @return true always
+     */
+    private boolean onPerf(CommandSender sender, String[] args) {
+        if (args.length > 1 && args[1].equalsIgnoreCase("reset")) {
+            PerfMonitor.reset();
+            sender.sendMessage(Lang.adminPerfReset.color(NamedTextColor.GREEN));
+            return true;
+        }
+        List<PerfMonitor.Stats> stats = PerfMonitor.getStats();
+        if (stats.isEmpty()) {
+            sender.sendMessage(Lang.adminPerfNone.color(NamedTextColor.RED));
+            return true;
+        }
+        sender.sendMessage(Lang.adminPerfTitle.color(NamedTextColor.GOLD));
+        for (PerfMonitor.Stats s : stats) {
+            sender.sendMessage(Component.text(s.name() + ": ").color(NamedTextColor.AQUA)
+                    .append(Component.text(s.count() + ", " + formatNanos(s.p50Nanos()) + ", " + formatNanos(s.p99Nanos())
+                    + ", " + formatNanos(s.maxNanos()) + ", " + (s.allocPerCall() < 0 ? "-" : formatBytes(s.allocPerCall())))
+                            .color(NamedTextColor.WHITE)));
+        }
+        return true;
+    }
+
+    /**
+     * @param nanos a duration
+     * @return the duration in the most readable unit, e.g. "120µs" or "3.4ms"
+     */
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000_000L) {
+            return (nanos / 1000) + "\u00b5s";
+        }
+        return String.format(Locale.US, "%.1fms", nanos / 1_000_000D);
+    }
+
+    /**
+     * @param bytes a number of bytes
+     * @return the size in the most readable unit, e.g. "512B" or "12.5KB"
+     */
+    private static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + "B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.US, "%.1fKB", bytes / 1024D);
+        }
+        return String.format(Locale.US, "%.1fMB", bytes / (1024D * 1024D));
+    }
+
     /**
      * Handles the listparms command to display game parameters.
      *
@@ -939,10 +1028,18 @@ public class AdminCmdHandler extends BeaconzPluginDependent implements CommandEx
                         .replaceText(builder -> builder.matchLiteral("[label]").replacement(Component.text(label))))
                 .color(aqua));
 
+        sender.sendMessage(Component.text("/" + label).color(green)
+                .append(Component.text(" perf [reset]").color(yellow))
+                .append(Lang.helpAdminPerf).color(aqua));
+
         sender.sendMessage(Component.text("/" + label).color(green)
                 .append(Component.text(" reload").color(yellow))
                 .append(Lang.helpAdminReload).color(aqua));
 
+        sender.sendMessage(Component.text("/" + label).color(green)
+                .append(Component.text(" restart <gamename>").color(yellow))
+                .append(Lang.helpAdminRestart).color(aqua));
+
         // Spawn-related commands (player-only)
         if (sender instanceof Player) {
             sender.sendMessage(Component.text("/" + label).color(green)
@@ -1118,7 +1215,9 @@ public class AdminCmdHandler extends BeaconzPluginDependent implements CommandEx
             options.add("list");
             options.add("listparms");
             options.add("newgame");
+            options.add("perf");
             options.add("reload");
+            options.add("restart");
             options.add("teams");
             break;
         case 2:
@@ -1145,6 +1244,7 @@ public class AdminCmdHandler extends BeaconzPluginDependent implements CommandEx
             if (args[0].equalsIgnoreCase("delete")
                     || args[0].equalsIgnoreCase("force_end") || args[0].equalsIgnoreCase("listparms")
                     || args[0].equalsIgnoreCase("list") || args[0].equalsIgnoreCase("teams")
+                    || args[0].equalsIgnoreCase("restart")
                     ) {
                 // List all the games
                 options.addAll(getGameMgr().getAllGameNames());
@@ -1153,6 +1253,9 @@ public class AdminCmdHandler extends BeaconzPluginDependent implements CommandEx
             if (args[0].equalsIgnoreCase("newgame")) {
                 options.add("help");
             }
+            if (args[0].equalsIgnoreCase("perf")) {
+                options.add("reset");
+            }
             // Options with "all"
             if (args[0].equalsIgnoreCase("list") || args[0].equalsIgnoreCase("teams") || args[0].equalsIgnoreCase("timertoggle")) {
                 // List all the games
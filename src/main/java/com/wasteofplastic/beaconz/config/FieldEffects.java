@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.bukkit.potion.PotionEffect;
+
+/**
+ * The potion effects a player gets in a triangle field, worked out for every field depth.
+ * <p>
+ * Effects are cumulative, so being in three enemy fields gives the level 1, 2 and 3 effects
+ * of {@code triangles.enemyfieldeffects}. Rather than collect them every time a player
+ * moves, each depth gets one ready-made bundle:
+ * <ul>
+ *   <li><b>Enemy bundles</b> - built from {@link Settings#enemyFieldEffects}</li>
+ *   <li><b>Friendly bundles</b> - built from {@link Settings#friendlyFieldEffects}</li>
+ * </ul>
+ * Bundles never change, so the same depth always gives back the same list. Callers can tell
+ * that nothing has changed by comparing the bundle they last applied with {@code ==}.
+ * Depths past the deepest configured level get the deepest bundle.
+ * <p>
+ * The bundles are built by {@link #rebuild()}, which the plugin calls at the end of every
+ * config load. Until then every bundle is empty. A rebuild swaps in a new table, so readers
+ * never see one half built.
+ *
+ * @author tastybento
+ */
+public final class FieldEffects {
+
+    private static volatile Table table = build(null, null);
+
+    /**
+     * One complete set of bundles
+     * @param enemy - enemy field bundles by depth
+     * @param friendly - friendly field bundles by depth
+     */
+    private record Table(List<List<PotionEffect>> enemy, List<List<PotionEffect>> friendly) {}
+
+    private FieldEffects() {}
+
+    /**
+     * Rebuilds the bundles from the current {@link Settings}. Call after the config is loaded.
+     */
+    public static void rebuild() {
+        table = build(Settings.enemyFieldEffects, Settings.friendlyFieldEffects);
+    }
+
+    private static Table build(Map<Integer, List<PotionEffect>> enemy, Map<Integer, List<PotionEffect>> friendly) {
+        return new Table(bundles(enemy), bundles(friendly));
+    }
+
+    /**
+     * @param levels - effects added at each level
+     * @return the effects for each depth, from 0 to the deepest level
+     */
+    private static List<List<PotionEffect>> bundles(Map<Integer, List<PotionEffect>> levels) {
+        if (levels == null || levels.isEmpty()) {
+            return List.of(Collections.emptyList());
+        }
+        int deepest = Math.max(Collections.max(levels.keySet()), 0);
+        List<List<PotionEffect>> bundles = new ArrayList<>(deepest + 1);
+        List<PotionEffect> effects = new ArrayList<>();
+        for (int depth = 0; depth <= deepest; depth++) {
+            List<PotionEffect> added = levels.get(depth);
+            if (added != null && !added.isEmpty()) {
+                effects.addAll(added);
+                bundles.add(List.copyOf(effects));
+            } else {
+                // Nothing new at this depth, so share the bundle below
+                bundles.add(depth == 0 ? Collections.emptyList() : bundles.get(depth - 1));
+            }
+        }
+        return List.copyOf(bundles);
+    }
+
+    /**
+     * @param friendly - true for a field owned by the player's team
+     * @param depth - how many fields the player is in
+     * @return the effects for this depth. Do not change this list.
+     */
+    public static List<PotionEffect> get(boolean friendly, int depth) {
+        List<List<PotionEffect>> bundles = friendly ? table.friendly() : table.enemy();
+        return bundles.get(Math.min(Math.max(depth, 0), bundles.size() - 1));
+    }
+}
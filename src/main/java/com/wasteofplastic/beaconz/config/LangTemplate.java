@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.wasteofplastic.beaconz.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+
+/**
+ * A locale message split into constant parts and placeholder slots.
+ * <p>
+ * Filling placeholders with {@link Component#replaceText} walks the whole component tree and
+ * builds a matcher every time a message is sent. A template does that work once, when the
+ * locale is loaded:
+ * <ul>
+ *   <li>The tree is flattened into a list of parts. Each part keeps the style it had in the
+ *       tree, so colors and decorations are the same as in the original message</li>
+ *   <li>Text between placeholders becomes a ready-made component that is reused on every render</li>
+ *   <li>Each placeholder, such as {@code [team]}, becomes a slot that remembers its style</li>
+ * </ul>
+ * Rendering copies the constant parts and drops the values into the slots. The root style is
+ * kept on the result, so {@code .color(...)} on a rendered message works as it did before.
+ * A placeholder with no value is left as it is.
+ *
+ * @author tastybento
+ */
+public final class LangTemplate {
+
+    /** Placeholders are a name in square brackets, e.g. [team] */
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\[[A-Za-z0-9_]+\\]");
+
+    private final Component source;
+    private final Style rootStyle;
+    /** Constant parts, or the literal placeholder text where there is a slot */
+    private final Component[] parts;
+    /** Placeholder name for each slot, null for constant parts */
+    private final String[] slots;
+    private final Style[] slotStyles;
+    private final boolean constant;
+
+    private LangTemplate(Component source, List<Component> parts, List<String> slots, List<Style> slotStyles) {
+        this.source = source;
+        this.rootStyle = source.style();
+        this.parts = parts.toArray(new Component[0]);
+        this.slots = slots.toArray(new String[0]);
+        this.slotStyles = slotStyles.toArray(new Style[0]);
+        boolean none = true;
+        for (String slot : this.slots) {
+            if (slot != null) {
+                none = false;
+                break;
+            }
+        }
+        this.constant = none;
+    }
+
+    /**
+     * Compiles a message
+     * @param message - the message, as loaded from the locale
+     * @return the template
+     */
+    public static LangTemplate compile(Component message) {
+        List<Component> parts = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        List<Style> slotStyles = new ArrayList<>();
+        flatten(message, Style.empty(), true, parts, slots, slotStyles);
+        return new LangTemplate(message, parts, slots, slotStyles);
+    }
+
+    private static void flatten(Component component, Style inherited, boolean root, List<Component> parts,
+            List<String> slots, List<Style> slotStyles) {
+        // The root style stays on the rendered message. Everything below it keeps its own style
+        // plus whatever it inherited between the root and itself.
+        Style style = root ? Style.empty() : component.style().merge(inherited, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+        if (!(component instanceof TextComponent text)) {
+            // Not something placeholders can be in, so keep it whole
+            parts.add(root ? component.style(Style.empty()) : component.style(style));
+            slots.add(null);
+            slotStyles.add(null);
+            return;
+        }
+        String content = text.content();
+        Matcher matcher = PLACEHOLDER.matcher(content);
+        int last = 0;
+        while (matcher.find()) {
+            if (matcher.start() > last) {
+                addConstant(content.substring(last, matcher.start()), style, parts, slots, slotStyles);
+            }
+            parts.add(Component.text(matcher.group(), style));
+            slots.add(matcher.group());
+            slotStyles.add(style);
+            last = matcher.end();
+        }
+        if (last < content.length()) {
+            addConstant(content.substring(last), style, parts, slots, slotStyles);
+        }
+        for (Component child : component.children()) {
+            flatten(child, style, false, parts, slots, slotStyles);
+        }
+    }
+
+    private static void addConstant(String text, Style style, List<Component> parts, List<String> slots, List<Style> slotStyles) {
+        parts.add(Component.text(text, style));
+        slots.add(null);
+        slotStyles.add(null);
+    }
+
+    /**
+     * Fills in the placeholders
+     * @param replacements - placeholder and value pairs, e.g. {@code "[team]", team.displayName(), "[level]", 2}.
+     * Values that are not components are shown with {@link String#valueOf(Object)}.
+     * @return the message
+     */
+    public Component render(Object... replacements) {
+        if (constant) {
+            return source;
+        }
+        List<Component> children = new ArrayList<>(parts.length);
+        for (int i = 0; i < parts.length; i++) {
+            if (slots[i] == null) {
+                children.add(parts[i]);
+                continue;
+            }
+            Object value = find(slots[i], replacements);
+            if (value == null) {
+                children.add(parts[i]);
+            } else {
+                Component component = value instanceof ComponentLike like ? like.asComponent() : Component.text(String.valueOf(value));
+                children.add(slotStyles[i].isEmpty() ? component : component.applyFallbackStyle(slotStyles[i]));
+            }
+        }
+        return Component.text().style(rootStyle).append(children).build();
+    }
+
+    private static Object find(String placeholder, Object[] replacements) {
+        for (int i = 0; i + 1 < replacements.length; i += 2) {
+            if (placeholder.equals(replacements[i])) {
+                return replacements[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the message this template was compiled from
+     */
+    public Component getSource() {
+        return source;
+    }
+
+    /**
+     * @return true if the message has no placeholders
+     */
+    public boolean isConstant() {
+        return constant;
+    }
+}
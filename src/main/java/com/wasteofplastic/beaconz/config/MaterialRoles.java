@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.config;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.Material;
+
+/**
+ * The part each block type plays in the game, looked up by {@link Material#ordinal()}.
+ * <p>
+ * Block listeners ask "is this a beacon block?" for every block that is placed, broken,
+ * flowed into or blown up. Answering with chains of {@code equals} and
+ * {@code name().endsWith("STAINED_GLASS")} makes a string per call, so the answers are worked
+ * out once here and kept as one bitmask per material:
+ * <ul>
+ *   <li><b>{@link #BEACON}</b> - the beacon block itself</li>
+ *   <li><b>{@link #PYRAMID}</b> - the diamond blocks under a beacon</li>
+ *   <li><b>{@link #CAPSTONE}</b> - the obsidian on top of an unowned beacon</li>
+ *   <li><b>{@link #TEAM_GLASS}</b> - stained glass on top of an owned beacon</li>
+ *   <li><b>{@link #PLINTH}</b> - emerald blocks that extend a beacon</li>
+ *   <li><b>{@link #LOCKING}</b> - the {@code general.lockingBlock} material</li>
+ *   <li><b>{@link #LINK}</b> - the {@code links.linkblocks} materials</li>
+ *   <li><b>{@link #SURROUND}</b> - terrain that cannot be broken next to a beacon</li>
+ * </ul>
+ * The table is built from {@link Settings} by {@link #rebuild()}, which the plugin calls at
+ * the end of every config load. Until then the fixed roles are set and there are no link
+ * blocks. A rebuild swaps in a new table, so readers never see one half built.
+ *
+ * @author tastybento
+ */
+public final class MaterialRoles {
+
+    public static final int BEACON = 1;
+    public static final int PYRAMID = 1 << 1;
+    public static final int CAPSTONE = 1 << 2;
+    public static final int TEAM_GLASS = 1 << 3;
+    public static final int PLINTH = 1 << 4;
+    public static final int LOCKING = 1 << 5;
+    public static final int LINK = 1 << 6;
+    public static final int SURROUND = 1 << 7;
+    /** Every block {@link com.wasteofplastic.beaconz.game.Register#getBeacon} can match */
+    public static final int STRUCTURE = BEACON | PYRAMID | CAPSTONE | TEAM_GLASS | PLINTH;
+
+    /**
+     * Materials that are protected around beacons. These are the blocks that form beacon
+     * pyramids and the surrounding terrain. The beacon itself is also protected.
+     */
+    private static final Set<Material> SURROUND_MATERIALS = Set.of(
+            Material.BARRIER,           // Admin protection blocks
+            Material.BEACON,            // The beacon itself
+            Material.BEDROCK,           // World foundation
+            Material.CLAY,              // Natural terrain
+            Material.COBBLESTONE,       // Common building material
+            Material.DIRT,              // Natural terrain
+            Material.GRASS_BLOCK,       // Natural terrain
+            Material.DIRT_PATH,         // Pathways
+            Material.MOSSY_COBBLESTONE, // Decorative/natural
+            Material.OBSIDIAN,          // Strong material
+            Material.RED_SANDSTONE,     // Building material
+            Material.SANDSTONE,         // Building material
+            Material.TERRACOTTA,        // Building material
+            Material.STONE);            // Natural terrain
+
+    private static volatile Table table = build(null, null);
+
+    /**
+     * One complete set of answers
+     * @param roles - role bits by ordinal
+     * @param linkValues - link block value by ordinal, 0 if not a link block
+     * @param lockingBlock - the locking block
+     */
+    private record Table(int[] roles, int[] linkValues, Material lockingBlock) {}
+
+    private MaterialRoles() {}
+
+    /**
+     * Rebuilds the table from the current {@link Settings}. Call after the config is loaded.
+     */
+    public static void rebuild() {
+        table = build(Settings.linkBlocks, Settings.lockingBlock);
+    }
+
+    private static Table build(Map<Material, Integer> linkBlocks, String lockingBlockName) {
+        Material[] materials = Material.values();
+        int[] roles = new int[materials.length];
+        int[] linkValues = new int[materials.length];
+        Material lockingBlock = lockingBlockName == null ? null : Material.getMaterial(lockingBlockName.toUpperCase());
+        if (lockingBlock == null) {
+            lockingBlock = Material.EMERALD_BLOCK;
+        }
+        for (Material material : materials) {
+            int role = 0;
+            if (material == Material.BEACON) role |= BEACON;
+            if (material == Material.DIAMOND_BLOCK) role |= PYRAMID;
+            if (material == Material.OBSIDIAN) role |= CAPSTONE;
+            if (material.name().endsWith("STAINED_GLASS")) role |= TEAM_GLASS;
+            if (material == Material.EMERALD_BLOCK) role |= PLINTH;
+            if (material == lockingBlock) role |= LOCKING;
+            if (SURROUND_MATERIALS.contains(material)) role |= SURROUND;
+            Integer value = linkBlocks == null ? null : linkBlocks.get(material);
+            if (value != null) {
+                role |= LINK;
+                linkValues[material.ordinal()] = value;
+            }
+            roles[material.ordinal()] = role;
+        }
+        return new Table(roles, linkValues, lockingBlock);
+    }
+
+    /**
+     * @param material - the material
+     * @return all the role bits of this material, 0 if it has none
+     */
+    public static int of(Material material) {
+        return table.roles()[material.ordinal()];
+    }
+
+    /**
+     * @param material - the material
+     * @param roles - one or more role bits
+     * @return true if the material has any of these roles
+     */
+    public static boolean is(Material material, int roles) {
+        return (table.roles()[material.ordinal()] & roles) != 0;
+    }
+
+    /**
+     * @param material - the material
+     * @return the number of blocks this link block extends a link by, 0 if it is not a link block
+     */
+    public static int getLinkValue(Material material) {
+        return table.linkValues()[material.ordinal()];
+    }
+
+    /**
+     * @return the locking block, {@link Material#EMERALD_BLOCK} if the configured one is not a material
+     */
+    public static Material getLockingBlock() {
+        return table.lockingBlock();
+    }
+}
@@ -125,6 +125,10 @@ public class Settings {
      * Integer is the level of triangle overlap.
      */
     public static HashMap<Integer, List<PotionEffect>> friendlyFieldEffects;
+    /**
+     * Seconds between putting triangle field effects back on players in fields. 0 = never
+     */
+    public static int fieldEffectRefresh = 10;
 
     /**
      * What newbies get when they join the game
@@ -182,6 +186,46 @@ public class Settings {
      * Number of seconds to wait until teleporting player
      */
     public static int teleportDelay;
+
+    /**
+     * Maximum number of offline messages kept per player
+     */
+    public static int maxOfflineMessages = 50;
+
+    /**
+     * Number of days an offline message is kept before it expires
+     */
+    public static int offlineMessageDays = 7;
+
+    /**
+     * Record performance metrics
+     */
+    public static boolean perfMetrics = true;
+
+    /**
+     * Minutes between writes of the performance metrics to perf.csv. 0 means never
+     */
+    public static int perfDumpMinutes;
+
+    /**
+     * Port for the local metrics listener. 0 means no listener
+     */
+    public static int metricsPort;
+
+    /**
+     * Write the metrics to metrics.prom
+     */
+    public static boolean metricsFile;
+
+    /**
+     * Seconds between metrics updates
+     */
+    public static int metricsInterval = 15;
+
+    /**
+     * Send team messages from the same tick together
+     */
+    public static boolean coalesceTeamMessages;
     
     /**
      * Maximum number of links that a beacon can have
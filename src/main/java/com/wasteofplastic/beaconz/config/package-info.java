@@ -8,6 +8,9 @@
  * <ul>
  *   <li>{@link com.wasteofplastic.beaconz.config.Settings} - Global configuration settings from config.yml</li>
  *   <li>{@link com.wasteofplastic.beaconz.config.Lang} - Localization and language strings</li>
+ *   <li>{@link com.wasteofplastic.beaconz.config.LangTemplate} - Precompiled messages with placeholder slots</li>
+ *   <li>{@link com.wasteofplastic.beaconz.config.MaterialRoles} - Role of each block type, built from the settings</li>
+ *   <li>{@link com.wasteofplastic.beaconz.config.FieldEffects} - Triangle field effects for each field depth, built from the settings</li>
  *   <li>{@link com.wasteofplastic.beaconz.config.Params} - Game parameters, enums, and constants</li>
  * </ul>
  *
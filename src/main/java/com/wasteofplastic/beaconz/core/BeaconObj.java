@@ -38,12 +38,12 @@ import org.bukkit.Material;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Player;
-import org.bukkit.potion.PotionEffect;
 import org.bukkit.scoreboard.Team;
 
 import com.destroystokyo.paper.MaterialTags;
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.config.MaterialRoles;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.game.Scorecard;
 import com.wasteofplastic.beaconz.util.LineVisualizer;
@@ -151,6 +151,21 @@ public class BeaconObj extends BeaconzPluginDependent {
      */
     private final Set<BeaconObj> links = new HashSet<>();
 
+    /**
+     * Bumped every time a block changes in one of this beacon's columns.
+     * The last integrity and clearance checks are only good for the version they ran at.
+     */
+    private int structureVersion;
+
+    /** structureVersion when {@link #checkIntegrity()} last ran, -1 if it has not */
+    private int intactVersion = -1;
+
+    /** structureVersion when {@link #isNotClear()} last ran, -1 if it has not */
+    private int clearVersion = -1;
+
+    /** What {@link #isNotClear()} said last time */
+    private boolean notClear;
+
     /**
      * Constructs a new beacon object at the specified coordinates.
      * <p>
@@ -354,6 +369,8 @@ public class BeaconObj extends BeaconzPluginDependent {
      */
     public void setOwnership(Team ownership) {
         this.ownership = ownership;
+        // The capstone the integrity check expects depends on the owner
+        structureChanged();
     }
 
     /**
@@ -548,6 +565,40 @@ public class BeaconObj extends BeaconzPluginDependent {
         return false; // Beacon IS clear
     }
 
+    /**
+     * Same as {@link #isNotClear()}, but only scans the columns again if a block in one of them
+     * has changed since the last scan. Players click enemy beacons many times a second during a
+     * siege, and the columns hardly ever change between clicks.
+     *
+     * @return false if clear (no obstructions), true if NOT clear (obstructions exist)
+     */
+    public boolean isNotClearIfChanged() {
+        if (clearVersion != structureVersion) {
+            notClear = isNotClear();
+            clearVersion = structureVersion;
+        }
+        return notClear;
+    }
+
+    /**
+     * Runs {@link #checkIntegrity()} unless it has already run and no block in this beacon's
+     * columns has changed since.
+     */
+    public void checkIntegrityIfChanged() {
+        if (intactVersion != structureVersion) {
+            checkIntegrity();
+            intactVersion = structureVersion;
+        }
+    }
+
+    /**
+     * Forgets the last integrity and clearance checks. Called when a block changes in the beacon's
+     * column or one of its base block columns, or when its plinth grows.
+     */
+    public void structureChanged() {
+        structureVersion++;
+    }
+
     /**
      * Adds a defense block to this beacon's tracking system.
      * <p>
@@ -678,8 +729,7 @@ public class BeaconObj extends BeaconzPluginDependent {
                             // Check if player is inside this triangle
                             if (triangle.contains(new Point2D.Double(player.getLocation().getX(), player.getLocation().getZ()))) {
                                 // Player is inside - remove all triangle effects
-                                for (PotionEffect effect : getPml().getTriangleEffects(player.getUniqueId()))
-                                    player.removePotionEffect(effect.getType());
+                                getPml().removeTriangleEffects(player);
                             }
                         }
                     }
@@ -688,6 +738,7 @@ public class BeaconObj extends BeaconzPluginDependent {
                     it.remove();
                 }
             }
+            getRegister().markChanged();
             return true; // Link was removed successfully
         }
 
@@ -722,17 +773,20 @@ public class BeaconObj extends BeaconzPluginDependent {
      * Any missing or incorrect blocks are logged as SEVERE and replaced automatically.
      */
     public void checkIntegrity() {
+        boolean repaired = false;
         // CHECK 1: Verify beacon block exists
         Block b = getBeaconzWorld().getBlockAt(x, y, z);
         if (!b.getType().equals(Material.BEACON)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing beacon block!");
             b.setType(Material.BEACON);
+            repaired = true;
         }
 
         // CHECK 2a: Verify unowned capstone (obsidian)
         if (ownership == null && !b.getRelative(BlockFace.UP).getType().equals(Material.OBSIDIAN)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing capstone block!");
             b.getRelative(BlockFace.UP).setType(Material.OBSIDIAN);
+            repaired = true;
         }
         
         // CHECK 2b: Verify owned capstone (team glass)
@@ -740,6 +794,7 @@ public class BeaconObj extends BeaconzPluginDependent {
                 && b.getRelative(BlockFace.UP).getType() != Settings.teamBlock.get(ownership))) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing team glass block!");
             b.getRelative(BlockFace.UP).setType(Settings.teamBlock.get(ownership));
+            repaired = true;
         }
 
         // CHECK 3: Verify 3x3 diamond pyramid base
@@ -750,42 +805,55 @@ public class BeaconObj extends BeaconzPluginDependent {
         if (!b.getType().equals(Material.DIAMOND_BLOCK)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing diamond block!");
             b.setType(Material.DIAMOND_BLOCK);
+            repaired = true;
         }
 
         // Cardinal directions (N, S, E, W)
         if (!b.getRelative(BlockFace.SOUTH).getType().equals(Material.DIAMOND_BLOCK)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing S diamond block!");
             b.getRelative(BlockFace.SOUTH).setType(Material.DIAMOND_BLOCK);
+            repaired = true;
         }
         if (!b.getRelative(BlockFace.EAST).getType().equals(Material.DIAMOND_BLOCK)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing E diamond block!");
             b.getRelative(BlockFace.EAST).setType(Material.DIAMOND_BLOCK);
+            repaired = true;
         }
         if (!b.getRelative(BlockFace.WEST).getType().equals(Material.DIAMOND_BLOCK)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing W diamond block!");
             b.getRelative(BlockFace.WEST).setType(Material.DIAMOND_BLOCK);
+            repaired = true;
         }
         if (!b.getRelative(BlockFace.NORTH).getType().equals(Material.DIAMOND_BLOCK)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing N diamond block!");
             b.getRelative(BlockFace.NORTH).setType(Material.DIAMOND_BLOCK);
+            repaired = true;
         }
 
         // Ordinal directions (NE, NW, SE, SW)
         if (!b.getRelative(BlockFace.SOUTH_EAST).getType().equals(Material.DIAMOND_BLOCK)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing SE diamond block!");
             b.getRelative(BlockFace.SOUTH_EAST).setType(Material.DIAMOND_BLOCK);
+            repaired = true;
         }
         if (!b.getRelative(BlockFace.SOUTH_WEST).getType().equals(Material.DIAMOND_BLOCK)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing SW diamond block!");
             b.getRelative(BlockFace.SOUTH_WEST).setType(Material.DIAMOND_BLOCK);
+            repaired = true;
         }
         if (!b.getRelative(BlockFace.NORTH_EAST).getType().equals(Material.DIAMOND_BLOCK)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing NE diamond block!");
             b.getRelative(BlockFace.NORTH_EAST).setType(Material.DIAMOND_BLOCK);
+            repaired = true;
         }
         if (!b.getRelative(BlockFace.NORTH_WEST).getType().equals(Material.DIAMOND_BLOCK)) {
             getLogger().severe("Beacon at " + x + " " + y + " " + z + " missing NW diamond block!");
             b.getRelative(BlockFace.NORTH_WEST).setType(Material.DIAMOND_BLOCK);
+            repaired = true;
+        }
+        if (repaired) {
+            // The repairs may have changed whether the beacon is clear
+            structureChanged();
         }
     }
 
@@ -912,17 +980,12 @@ public class BeaconObj extends BeaconzPluginDependent {
      */
     public int nbrToLock(int height) {
         int maxLocking = Settings.nbrLockingBlocks;
-        Material lockingBlock = Material.EMERALD_BLOCK;
+        Material lockingBlock = MaterialRoles.getLockingBlock();
         int missing = maxLocking;
 
         // Only check heights above the beacon base
         if (height >= y) {
         
-            // Get the configured locking block material (default: emerald)
-            if (Material.getMaterial(Settings.lockingBlock.toUpperCase()) != null) {
-                lockingBlock = Material.getMaterial(Settings.lockingBlock.toUpperCase());                
-            }
-            
             // STEP 1: Calculate required blocks proportional to team size
             int reqLocking; // Default minimum
             int maxSize = ownership.getSize();
@@ -25,12 +25,11 @@ package com.wasteofplastic.beaconz.core;
 import java.awt.geom.Point2D;
 import java.io.File;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Locale;
 import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -61,6 +60,8 @@ import com.wasteofplastic.beaconz.config.Params.GameMode;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.game.Game;
 import com.wasteofplastic.beaconz.game.Register;
+import com.wasteofplastic.beaconz.generator.BeaconzChunkGen;
+import com.wasteofplastic.beaconz.generator.LobbyPlatform;
 import com.wasteofplastic.beaconz.storage.BeaconzStore;
 import com.wasteofplastic.beaconz.util.Pair;
 
@@ -106,6 +107,8 @@ public class Region extends BeaconzPluginDependent {
     private Location spawnPoint;
     /** The game associated with this region, null for lobby */
     private Game game = null;
+    /** Safe spots found in this region */
+    private final SafeSpotFinder safeSpots = new SafeSpotFinder(this);
 
     /** Title timing configuration: 500ms fade-in, 3000ms stay, 500ms fade-out */
     final Title.Times times = Title.Times.times(
@@ -210,6 +213,7 @@ public class Region extends BeaconzPluginDependent {
 
         // Step 2: Clear beacon register for this region
         getRegister().clear(this);
+        safeSpots.clear();
 
         // Step 3: Calculate region bounds excluding 512-block safety border
         final int xMin = (int) corners[0].getX();
@@ -747,9 +751,11 @@ public class Region extends BeaconzPluginDependent {
         if (directly) {
             getBeaconzPlugin().getTeleportListener().setDirectTeleportPlayer(player.getUniqueId());
         }
-        // Make the spawn point safe if it isn't anymore
-        this.setSpawnPoint(spawnPoint, 20);
-        player.teleportAsync(getSpawnPoint());
+        // Make the spawn point safe if it isn't anymore, without loading chunks on the main thread
+        safeSpots.findAsync(spawnPoint, 20).thenAccept(safe -> {
+            spawnPoint = safe;
+            player.teleportAsync(safe);
+        });
         // Remove any Mobs around the area
         for (Entity entity : player.getNearbyEntities(10, 10, 10)) {
             if (entity instanceof Monster) {
@@ -933,9 +939,13 @@ public class Region extends BeaconzPluginDependent {
      * </ul>
      * <p>
      * <b>Search Pattern:</b>
-     * The search starts at the center location and spirals outward checking
-     * increasingly distant locations. The search prioritizes higher ground
-     * and checks in all directions.
+     * The search starts at the center location, then the top of its column, then
+     * walks outward one ring at a time, checking each column once.
+     * <p>
+     * <b>Caching:</b>
+     * Spots that are found are remembered until a block in their ground, feet or
+     * head space changes, so repeated joins and respawns do not search again.
+     * See {@link SafeSpotFinder}.
      * <p>
      * <b>Fallback Behavior:</b>
      * If no safe location is found within the radius, the method creates a safe
@@ -951,56 +961,26 @@ public class Region extends BeaconzPluginDependent {
      * @return a safe Location for player spawn, guaranteed to be non-null
      */
     public Location findSafeSpot (Location location, Integer radius) {
-        // First load the chunk
-        location.getWorld().getChunkAt(location);
+        return safeSpots.find(location, radius);
+    }
 
-        Location safeloc = null;
+    /**
+     * Finds the nearest safe spawn location like {@link #findSafeSpot(Location, Integer)}, but
+     * loads the chunks asynchronously and searches snapshots of them.
+     *
+     * @param location the center location to search from
+     * @param radius maximum search radius in blocks (capped at 20)
+     * @return a future that completes on the main thread with a safe Location
+     */
+    public CompletableFuture<Location> findSafeSpotAsync(Location location, int radius) {
+        return safeSpots.findAsync(location, radius);
+    }
 
-        // Check actual first location
-        if (isLocationSafe(location)) {
-            // We are done
-            return location;
-        }
-        // Check for the highest block at this location
-        int y = location.getWorld().getHighestBlockYAt(location);
-        location.setY(y);
-        if (isLocationSafe(location)) {
-            // We are done
-            return location;
-        }
-        // Limit radius search
-        if (radius > 20) radius = 20;        
-        if (safeloc == null && location != null) {
-            // look for a safe spot at location and within radius
-            Block bl = location.getBlock();
-            List<Pair> used = new ArrayList<>();
-
-            // sweep in a concentric cube pattern to check for a safe spot
-            Location checkloc;
-            outerloop:
-                for (int rad = 0; rad < radius; rad++) {
-                    for (int z = -rad; z <= rad; z++) {
-                        for (int x = -rad; x <= rad; x++) {
-                            Pair coords =new Pair(x,z);
-                            if (!used.contains(coords)) {
-                                used.add(new Pair(x,z));
-                                checkloc = getBeaconzWorld().getHighestBlockAt(bl.getRelative(x, 0, z).getLocation()).getLocation().subtract(0, 1, 0);
-                                if (isLocationSafe(checkloc)) {
-                                    safeloc = checkloc.add(0.5, 0.0, 0.5);
-                                    break outerloop;
-                                }
-                            }
-                        }
-                    }
-                }
-        }
-        if (safeloc == null && location != null) {
-            Bukkit.getConsoleSender().sendMessage(Component.text("Could not find a safe spot. Region at " + displayCoords() + ". Using default.").color(NamedTextColor.YELLOW));
-            safeloc = new Location(getBeaconzWorld(), location.getX(), getBeaconzWorld().getHighestBlockYAt(location), location.getZ());
-            safeloc.getBlock().getRelative(BlockFace.DOWN).setType(Material.BEDROCK);
-        }
-        // Return the safe location
-        return safeloc;
+    /**
+     * @return the safe spots found in this region
+     */
+    public SafeSpotFinder getSafeSpots() {
+        return safeSpots;
     }
 
     /**
@@ -1069,36 +1049,27 @@ public class Region extends BeaconzPluginDependent {
      * <p>
      * <b>Construction:</b>
      * <ul>
-     *   <li>Iterates through all X and Z coordinates within region bounds</li>
-     *   <li>For each position, randomly selects a block type from the lobby blocks list</li>
-     *   <li>Places the block at the configured lobby height</li>
-     *   <li>Skips invalid materials with an error message</li>
+     *   <li>The lobby block materials are looked up once, see {@link LobbyPlatform}</li>
+     *   <li>The chunk generator lays the platform in lobby chunks that do not exist yet</li>
+     *   <li>The chunk with the spawn sign is done straight away</li>
+     *   <li>The other chunks that already exist are loaded asynchronously and done a few
+     *       per tick, with physics off</li>
      * </ul>
      * <p>
      * This is typically used to create a colorful, decorative lobby floor where
      * players can walk around while waiting for games.
      */
     public void makePlatform() {
-        Random rand = new Random();
-        int height = Math.min(getBeaconzWorld().getMaxHeight() - 1, Settings.lobbyHeight);
-        if (corners.length == 2) {
-            for (int x = (int)corners[0].getX(); x <= (int)corners[1].getX(); x++) {
-                for (int z = (int)corners[0].getY(); z <= (int)corners[1].getY(); z++) {
-                    Block block = getBeaconzWorld().getBlockAt(x, height, z);
-                    String matType = Settings.lobbyBlocks.get(rand.nextInt(Settings.lobbyBlocks.size()));
-                    Material material = Material.getMaterial(matType);
-                    if (material != null) {
-                        block.setType(material);
-                    } else {
-                        getLogger().severe("Could not parse block material value for " + matType + ", skipping...");
-                    }
-                } 
-            }
-        }
         // Set spawn
         int x = (int)((corners[0].getX() + corners[1].getX()) / 2D);
         int z = (int)((corners[0].getY() + corners[1].getY()) / 2D);
         int y = Math.min((Settings.lobbyHeight+1), getBeaconzWorld().getMaxHeight() - 2);
+        LobbyPlatform platform = publishPlatform();
+        if (platform != null) {
+            // Do the sign's chunk now so the sign has something to stand on
+            platform.build(getBeaconzWorld().getChunkAt(x >> 4, (z + 2) >> 4), new Random());
+            platform.build(plugin, getBeaconzWorld(), getBeaconzWorld().getGenerator() instanceof BeaconzChunkGen);
+        }
         spawnPoint = new Location(getBeaconzWorld(), x, y, z+2);
         // Place sign
         Block sign = getBeaconzWorld().getBlockAt(spawnPoint.getBlockX(), spawnPoint.getBlockY(), spawnPoint.getBlockZ());
@@ -1119,6 +1090,23 @@ public class Region extends BeaconzPluginDependent {
         getBeaconzWorld().setSpawnLocation(spawnPoint.getBlockX(), spawnPoint.getBlockY(), spawnPoint.getBlockZ());
     }
 
+    /**
+     * Hands this region's lobby platform to the chunk generator, so lobby chunks that do not
+     * exist yet are generated with the platform already in them.
+     * @return the platform, or null if the region has no corners or none of the lobby blocks are blocks
+     */
+    public LobbyPlatform publishPlatform() {
+        if (corners.length != 2) {
+            return null;
+        }
+        int height = Math.min(getBeaconzWorld().getMaxHeight() - 1, Settings.lobbyHeight);
+        LobbyPlatform platform = LobbyPlatform.of(corners, height, Settings.lobbyBlocks, getLogger());
+        if (getBeaconzWorld().getGenerator() instanceof BeaconzChunkGen generator) {
+            generator.setLobbyPlatform(platform);
+        }
+        return platform;
+    }
+
     /**
      * Converts a Minecraft BlockFace direction to yaw rotation in degrees.
      * <p>
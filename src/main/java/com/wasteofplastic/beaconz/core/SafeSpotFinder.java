@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.core;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Finds safe places for players to spawn in a region, and remembers them.
+ * <p>
+ * A search starts at a spot, then tries the top of that column, then walks outwards one ring
+ * at a time. Each column is checked once, using its height and three block types:
+ * <ul>
+ *   <li>{@link #find(Location, int)} reads the world directly, for callers that need an answer
+ *       straight away, such as teleport events</li>
+ *   <li>{@link #findAsync(Location, int)} loads the chunks asynchronously and reads
+ *       {@link ChunkSnapshot} heightmaps instead of blocks</li>
+ * </ul>
+ * Spots that are found are remembered by the spot the search started from, e.g., a team spawn
+ * point or the region spawn, so later joins and respawns do not search again. A remembered spot
+ * is forgotten as soon as a block changes in its ground, feet or head space, see
+ * {@link #blockChanged(int, int, int)}.
+ * <p>
+ * Everything here runs on the main thread.
+ *
+ * @author tastybento
+ */
+public class SafeSpotFinder {
+
+    /** Largest radius that will be searched */
+    public static final int MAX_RADIUS = 20;
+    /** Blocks that are not safe to stand on or in, on top of liquids */
+    private static final Set<Material> UNSAFE = EnumSet.noneOf(Material.class);
+    static {
+        for (Material material : Material.values()) {
+            String name = material.name();
+            if (name.endsWith("_TRAPDOOR") || name.endsWith("_FENCE") || name.endsWith("_SIGN")
+                    || name.endsWith("_LEAVES") || name.endsWith("PORTAL") || name.equals("END_GATEWAY")
+                    || name.equals("CACTUS") || name.equals("MAGMA_BLOCK") || name.equals("FIRE")
+                    || name.equals("SOUL_FIRE") || name.equals("CAMPFIRE") || name.equals("SOUL_CAMPFIRE")
+                    || name.equals("SWEET_BERRY_BUSH") || name.equals("POWDER_SNOW")) {
+                UNSAFE.add(material);
+            }
+        }
+        UNSAFE.add(Material.WATER);
+        UNSAFE.add(Material.LAVA);
+        UNSAFE.add(Material.BUBBLE_COLUMN);
+    }
+
+    private final Region region;
+    /** Most spots that are remembered. Searches from saved player positions would otherwise pile up. */
+    private static final int MAX_SPOTS = 256;
+    /** Safe spots by the block key of the spot the search started from, least recently used first */
+    private final Map<Long, Location> spots = new LinkedHashMap<>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Location> eldest) {
+            if (size() <= MAX_SPOTS) {
+                return false;
+            }
+            forgetColumn(eldest.getKey(), eldest.getValue());
+            return true;
+        }
+    };
+    /** Start keys of the remembered spots, by the column the spot is in */
+    private final Map<Long, List<Long>> byColumn = new HashMap<>();
+
+    /**
+     * Reads block heights and types, either from the world or from chunk snapshots
+     */
+    private interface Columns {
+        /**
+         * @return y of the highest block that is not air
+         */
+        int highestY(int x, int z);
+
+        Material type(int x, int y, int z);
+    }
+
+    /**
+     * @param region - the region the spots are in
+     */
+    public SafeSpotFinder(Region region) {
+        this.region = region;
+    }
+
+    /**
+     * Finds a safe spot now, reading the world directly. Loads the chunk if needed.
+     * @param location - where to start
+     * @param radius - how far to look, up to {@link #MAX_RADIUS}
+     * @return a safe location. If there is none, a block of bedrock is placed to make one.
+     */
+    public Location find(Location location, int radius) {
+        Location known = getSpot(location);
+        if (known != null) {
+            return known;
+        }
+        World world = location.getWorld();
+        // First load the chunk
+        world.getChunkAt(location);
+        Columns columns = new Columns() {
+            @Override
+            public int highestY(int x, int z) {
+                return world.getHighestBlockYAt(x, z);
+            }
+
+            @Override
+            public Material type(int x, int y, int z) {
+                return world.getType(x, y, z);
+            }
+        };
+        return remember(location, search(columns, location, Math.min(radius, MAX_RADIUS)));
+    }
+
+    /**
+     * Finds a safe spot without loading chunks on the main thread. The chunks the search can
+     * reach are loaded asynchronously, then searched using snapshots of their heightmaps.
+     * @param location - where to start
+     * @param radius - how far to look, up to {@link #MAX_RADIUS}
+     * @return a future that completes on the main thread with a safe location
+     */
+    public CompletableFuture<Location> findAsync(Location location, int radius) {
+        Location known = getSpot(location);
+        if (known != null) {
+            return CompletableFuture.completedFuture(known);
+        }
+        World world = location.getWorld();
+        int r = Math.min(radius, MAX_RADIUS);
+        int minChunkX = (location.getBlockX() - r) >> 4;
+        int minChunkZ = (location.getBlockZ() - r) >> 4;
+        int maxChunkX = (location.getBlockX() + r) >> 4;
+        int maxChunkZ = (location.getBlockZ() + r) >> 4;
+        int width = maxChunkX - minChunkX + 1;
+        List<CompletableFuture<Chunk>> loads = new ArrayList<>();
+        for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                loads.add(world.getChunkAtAsync(chunkX, chunkZ));
+            }
+        }
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture[0])).thenApply(v -> {
+            // Chunks are in loads in the order x first, then z
+            ChunkSnapshot[] snapshots = new ChunkSnapshot[loads.size()];
+            for (int i = 0; i < snapshots.length; i++) {
+                snapshots[i] = loads.get(i).join().getChunkSnapshot(true, false, false);
+            }
+            Columns columns = new Columns() {
+                private ChunkSnapshot snapshot(int x, int z) {
+                    return snapshots[((z >> 4) - minChunkZ) * width + (x >> 4) - minChunkX];
+                }
+
+                @Override
+                public int highestY(int x, int z) {
+                    return snapshot(x, z).getHighestBlockYAt(x & 15, z & 15);
+                }
+
+                @Override
+                public Material type(int x, int y, int z) {
+                    if (y < world.getMinHeight() || y >= world.getMaxHeight()) {
+                        return Material.VOID_AIR;
+                    }
+                    return snapshot(x, z).getBlockType(x & 15, y, z & 15);
+                }
+            };
+            // Another search may have finished while the chunks were loading
+            Location found = getSpot(location);
+            return found != null ? found : remember(location, search(columns, location, r));
+        });
+    }
+
+    private Location search(Columns columns, Location location, int radius) {
+        int x = location.getBlockX();
+        int z = location.getBlockZ();
+        // Check actual first location
+        if (isSafe(columns, x, location.getBlockY(), z)) {
+            // We are done
+            return location;
+        }
+        // Check the top of this column
+        int top = columns.highestY(x, z) + 1;
+        if (isSafe(columns, x, top, z)) {
+            Location safeloc = location.clone();
+            safeloc.setY(top);
+            return safeloc;
+        }
+        // Walk outwards a ring at a time. Each ring only visits its edge, so no column is checked twice.
+        for (int rad = 1; rad < radius; rad++) {
+            for (int i = -rad; i <= rad; i++) {
+                Location safeloc = check(columns, location, x + i, z - rad);
+                if (safeloc == null) safeloc = check(columns, location, x + i, z + rad);
+                if (safeloc == null && i > -rad && i < rad) {
+                    safeloc = check(columns, location, x - rad, z + i);
+                    if (safeloc == null) safeloc = check(columns, location, x + rad, z + i);
+                }
+                if (safeloc != null) {
+                    return safeloc;
+                }
+            }
+        }
+        Bukkit.getConsoleSender().sendMessage(Component.text("Could not find a safe spot. Region at " + region.displayCoords() + ". Using default.").color(NamedTextColor.YELLOW));
+        World world = location.getWorld();
+        Location safeloc = new Location(world, location.getX(), top, location.getZ());
+        world.getBlockAt(x, top - 1, z).setType(Material.BEDROCK);
+        return safeloc;
+    }
+
+    private static Location check(Columns columns, Location location, int x, int z) {
+        int y = columns.highestY(x, z) + 1;
+        if (isSafe(columns, x, y, z)) {
+            return new Location(location.getWorld(), x + 0.5D, y, z + 0.5D, location.getYaw(), location.getPitch());
+        }
+        return null;
+    }
+
+    private static boolean isSafe(Columns columns, int x, int y, int z) {
+        return isSafe(columns.type(x, y - 1, z), columns.type(x, y, z), columns.type(x, y + 1, z));
+    }
+
+    /**
+     * Checks if a player can stand here. Unsafe is anything liquid, no ground, no space, or a
+     * block that hurts or traps, such as cactus, portals, fences and leaves.
+     * @param ground - block under the player's feet
+     * @param feet - block at the player's feet
+     * @param head - block at the player's head
+     * @return true if safe
+     */
+    public static boolean isSafe(Material ground, Material feet, Material head) {
+        return ground.isSolid() && !UNSAFE.contains(ground)
+                && !feet.isSolid() && !UNSAFE.contains(feet)
+                && !head.isSolid() && !UNSAFE.contains(head);
+    }
+
+    private Location getSpot(Location location) {
+        Location spot = spots.get(key(location));
+        return spot == null ? null : spot.clone();
+    }
+
+    private Location remember(Location location, Location spot) {
+        long key = key(location);
+        spots.put(key, spot.clone());
+        byColumn.computeIfAbsent(column(spot.getBlockX(), spot.getBlockZ()), k -> new ArrayList<>(1)).add(key);
+        return spot;
+    }
+
+    /**
+     * Forgets any remembered spot whose ground, feet or head space is this block
+     * @param x - block x
+     * @param y - block y
+     * @param z - block z
+     */
+    public void blockChanged(int x, int y, int z) {
+        List<Long> keys = byColumn.get(column(x, z));
+        if (keys == null) {
+            return;
+        }
+        keys.removeIf(key -> {
+            Location spot = spots.get(key);
+            if (spot == null) {
+                return true;
+            }
+            int spotY = spot.getBlockY();
+            if (y >= spotY - 1 && y <= spotY + 1) {
+                spots.remove(key);
+                return true;
+            }
+            return false;
+        });
+        if (keys.isEmpty()) {
+            byColumn.remove(column(x, z));
+        }
+    }
+
+    private void forgetColumn(long key, Location spot) {
+        long column = column(spot.getBlockX(), spot.getBlockZ());
+        List<Long> keys = byColumn.get(column);
+        if (keys != null) {
+            keys.remove(Long.valueOf(key));
+            if (keys.isEmpty()) {
+                byColumn.remove(column);
+            }
+        }
+    }
+
+    /**
+     * Forgets all remembered spots, e.g., when the region is regenerated
+     */
+    public void clear() {
+        spots.clear();
+        byColumn.clear();
+    }
+
+    /**
+     * @return the number of remembered spots
+     */
+    public int size() {
+        return spots.size();
+    }
+
+    private static long key(Location location) {
+        return Block.getBlockKey(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+
+    private static long column(int x, int z) {
+        return ((long)x << 32) | (z & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Monster;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.config.Lang;
+
+import net.kyori.adventure.text.format.NamedTextColor;
+
+/**
+ * Moves players around without holding up the main thread.
+ * <p>
+ * Three kinds of work go through here:
+ * <ul>
+ *   <li><b>Teleports</b> - {@link #sendTo} finds a safe spot on chunk snapshots, loads the chunks
+ *       around it with {@code getChunkAtAsync}, clears out monsters and then teleports the player</li>
+ *   <li><b>Mass teleports</b> - {@link #queue} holds teleports of many players, e.g., a whole team
+ *       roster, and starts a few of them each tick</li>
+ *   <li><b>Warmups</b> - {@link #warmup} makes a player stand still before they are teleported.
+ *       Every waiting player is checked in one sweep per tick instead of each having a task</li>
+ * </ul>
+ * One repeating task does the sweep and the queue. It runs only while there is something
+ * waiting and stops by itself when there is not. When the plugin is disabled nothing can be
+ * scheduled, so everything is done at once.
+ *
+ * @author tastybento
+ */
+public class Teleporter extends BeaconzPluginDependent {
+
+    /** Most queued teleports started in one tick */
+    static final int TELEPORTS_PER_TICK = 4;
+    /** Chunks around a destination that are loaded and cleared of monsters */
+    private static final int CLEAR_RADIUS = 2;
+    /** How far to look for a safe spot */
+    private static final int SAFE_RADIUS = 20;
+
+    /** Players standing still before a teleport, in the order they started */
+    private final Map<UUID, Warmup> warmups = new LinkedHashMap<>();
+    /** Teleports waiting for their turn */
+    private final Deque<Queued> queue = new ArrayDeque<>();
+    /** Players whose warmup is over and whose teleport has not finished yet */
+    private final Set<UUID> completing = new HashSet<>();
+    /** Reused for every location read in the sweep */
+    private final Location scratch = new Location(null, 0, 0, 0);
+    /** The sweep task, or null if nothing is waiting */
+    private BukkitTask task;
+    /** Ticks the sweep has run for */
+    private long ticks;
+
+    /**
+     * A player waiting to be teleported
+     * @param x - x the player started at
+     * @param y - y the player started at
+     * @param z - z the player started at
+     * @param to - where they are going
+     * @param due - the sweep tick on which they go
+     */
+    private record Warmup(double x, double y, double z, Location to, long due) {}
+
+    /**
+     * A teleport waiting for its turn
+     * @param uuid - the player
+     * @param teleport - what to do with the player when it is their turn
+     */
+    private record Queued(UUID uuid, Consumer<Player> teleport) {}
+
+    /**
+     * @param beaconzPlugin - the plugin
+     */
+    public Teleporter(Beaconz beaconzPlugin) {
+        super(beaconzPlugin);
+    }
+
+    /**
+     * Teleports a player to a safe spot near a location. Nothing is loaded on the main thread.
+     * @param player - the player
+     * @param region - the region the location is in, used to find a safe spot
+     * @param location - where the player should go
+     * @return a future that completes on the main thread with true if the player was teleported
+     */
+    public CompletableFuture<Boolean> sendTo(Player player, Region region, Location location) {
+        return region.findSafeSpotAsync(location, SAFE_RADIUS)
+                .thenCompose(safe -> loadAround(safe).thenCompose(chunks -> {
+                    if (!player.isOnline()) {
+                        return CompletableFuture.completedFuture(false);
+                    }
+                    // Remove any hostile mobs
+                    for (Chunk chunk : chunks) {
+                        for (Entity entity : chunk.getEntities()) {
+                            if (entity instanceof Monster) {
+                                entity.remove();
+                            }
+                        }
+                    }
+                    return player.teleportAsync(safe);
+                }))
+                .exceptionally(e -> {
+                    getLogger().severe("Could not teleport " + player.getName() + ": " + e.getMessage());
+                    return false;
+                });
+    }
+
+    /**
+     * Loads the chunks around a location asynchronously
+     * @param location - the center
+     * @return a future with the loaded chunks
+     */
+    private CompletableFuture<List<Chunk>> loadAround(Location location) {
+        World world = location.getWorld();
+        int chunkX = location.getBlockX() >> 4;
+        int chunkZ = location.getBlockZ() >> 4;
+        List<CompletableFuture<Chunk>> loads = new ArrayList<>();
+        for (int x = -CLEAR_RADIUS; x <= CLEAR_RADIUS; x++) {
+            for (int z = -CLEAR_RADIUS; z <= CLEAR_RADIUS; z++) {
+                loads.add(world.getChunkAtAsync(chunkX + x, chunkZ + z));
+            }
+        }
+        return CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]))
+                .thenApply(v -> loads.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Queues a teleport so that mass teleports are spread over several ticks. Players who log
+     * off before their turn are skipped.
+     * @param player - the player
+     * @param teleport - starts the teleport when it is the player's turn
+     */
+    public void queue(Player player, Consumer<Player> teleport) {
+        if (!getBeaconzPlugin().isEnabled()) {
+            run(player, teleport);
+            return;
+        }
+        queue.add(new Queued(player.getUniqueId(), teleport));
+        start();
+    }
+
+    /**
+     * Makes a player stand still for a while before they are teleported. Moving cancels the
+     * teleport. A player who is already waiting starts again with the new destination.
+     * @param player - the player
+     * @param to - where they are going
+     * @param delay - ticks to wait. The teleport happens on the next tick if this is 0.
+     */
+    public void warmup(Player player, Location to, long delay) {
+        if (!getBeaconzPlugin().isEnabled()) {
+            complete(player, to);
+            return;
+        }
+        Location at = player.getLocation();
+        warmups.put(player.getUniqueId(), new Warmup(at.getX(), at.getY(), at.getZ(), to, ticks + Math.max(delay, 1L)));
+        start();
+    }
+
+    /**
+     * @param uuid - the player's UUID
+     * @return true if the player is waiting for a teleport
+     */
+    public boolean isWarmingUp(UUID uuid) {
+        return warmups.containsKey(uuid);
+    }
+
+    /**
+     * @param uuid - the player's UUID
+     * @return true if the player's warmup is over and their teleport is under way
+     */
+    public boolean isCompleting(UUID uuid) {
+        return completing.contains(uuid);
+    }
+
+    /**
+     * @return the number of queued teleports that have not started yet
+     */
+    public int getQueued() {
+        return queue.size();
+    }
+
+    private void start() {
+        if (task == null) {
+            task = getServer().getScheduler().runTaskTimer(getBeaconzPlugin(), this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops the sweep and forgets everything waiting. Used when the plugin is disabled.
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        warmups.clear();
+        queue.clear();
+        completing.clear();
+    }
+
+    /**
+     * Runs one sweep: checks every warmup and starts the next few queued teleports
+     */
+    void tick() {
+        ticks++;
+        Iterator<Map.Entry<UUID, Warmup>> it = warmups.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Warmup> entry = it.next();
+            Warmup warmup = entry.getValue();
+            Player player = getServer().getPlayer(entry.getKey());
+            if (player == null || player.isDead()) {
+                it.remove();
+                continue;
+            }
+            player.getLocation(scratch);
+            if (scratch.getX() != warmup.x() || scratch.getY() != warmup.y() || scratch.getZ() != warmup.z()) {
+                it.remove();
+                player.sendMessage(Lang.teleportYouMoved.color(NamedTextColor.RED));
+            } else if (ticks >= warmup.due()) {
+                it.remove();
+                complete(player, warmup.to());
+            }
+        }
+        scratch.setWorld(null);
+        int started = 0;
+        while (started < TELEPORTS_PER_TICK && !queue.isEmpty()) {
+            Queued queued = queue.poll();
+            Player player = getServer().getPlayer(queued.uuid());
+            if (player != null) {
+                run(player, queued.teleport());
+                started++;
+            }
+        }
+        if (warmups.isEmpty() && queue.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void run(Player player, Consumer<Player> teleport) {
+        try {
+            teleport.accept(player);
+        } catch (Exception e) {
+            getLogger().severe("Could not teleport " + player.getName() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Teleports a player whose warmup is over. While the teleport is under way
+     * {@link #isCompleting} is true, so the teleport listener lets it through.
+     */
+    private void complete(Player player, Location to) {
+        UUID uuid = player.getUniqueId();
+        completing.add(uuid);
+        try {
+            player.teleportAsync(to).whenComplete((done, e) -> completing.remove(uuid));
+        } catch (Exception e) {
+            completing.remove(uuid);
+            getLogger().severe("Could not teleport " + player.getName() + ": " + e.getMessage());
+        }
+    }
+}
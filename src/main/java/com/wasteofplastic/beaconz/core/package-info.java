@@ -10,6 +10,8 @@
  *   <li>{@link com.wasteofplastic.beaconz.core.BeaconLink} - Represents a connection between two beacons</li>
  *   <li>{@link com.wasteofplastic.beaconz.core.DefenseBlock} - Represents a defense block placed on a beacon</li>
  *   <li>{@link com.wasteofplastic.beaconz.core.Region} - Represents a game region (lobby or game area)</li>
+ *   <li>{@link com.wasteofplastic.beaconz.core.SafeSpotFinder} - Finds and remembers safe spawn spots in a region</li>
+ *   <li>{@link com.wasteofplastic.beaconz.core.Teleporter} - Teleports players without loading chunks on the main thread, with warmups and batched mass teleports</li>
  *   <li>{@link com.wasteofplastic.beaconz.core.TriangleField} - Represents a triangular territory field formed by three linked beacons</li>
  * </ul>
  *
@@ -23,8 +23,6 @@
 package com.wasteofplastic.beaconz.game;
 
 import java.awt.geom.Point2D;
-import java.io.File;
-import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 
@@ -37,6 +35,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.MapMeta;
 import org.bukkit.scoreboard.Team;
+import org.jetbrains.annotations.Nullable;
 
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
@@ -45,9 +44,10 @@ import com.wasteofplastic.beaconz.config.Params;
 import com.wasteofplastic.beaconz.config.Params.GameMode;
 import com.wasteofplastic.beaconz.config.Params.GameScoreGoal;
 import com.wasteofplastic.beaconz.config.Settings;
-import com.wasteofplastic.beaconz.core.BeaconObj;
 import com.wasteofplastic.beaconz.core.Region;
 import com.wasteofplastic.beaconz.listeners.BeaconLinkListener;
+import com.wasteofplastic.beaconz.storage.GameStateStore;
+import com.wasteofplastic.beaconz.storage.GameStateStore.Document;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -198,16 +198,24 @@ public class Game extends BeaconzPluginDependent {
         scorecard.reload();
     }
 
+    /**
+     * Restarts the game from a clean slate while preserving teams.
+     * @see #restart(CommandSender)
+     */
+    public void restart() {
+        restart(null);
+    }
+
     /**
      * Restarts the game from a clean slate while preserving teams.
      * <p>
-     * This method performs a full game restart:
+     * The restart is done by a {@link GameReset} over several ticks:
      * <ol>
-     *   <li>Sets the restart flag to prevent concurrent modifications</li>
-     *   <li>Teleports all players to lobby (inventory not saved)</li>
+     *   <li>Sets the restart flag so players cannot join while it runs</li>
+     *   <li>Teleports all players to lobby a few at a time (inventory not saved)</li>
      *   <li>Removes ownership from all beacons in this game's region</li>
-     *   <li>Resets the game timer to current time</li>
-     *   <li>Reloads the scorecard (resets scores but keeps teams)</li>
+     *   <li>Resets the game timer and reloads the scorecard (resets scores but keeps teams)</li>
+     *   <li>Saves the game</li>
      *   <li>Clears the restart and game-over flags</li>
      * </ol>
      * <p>
@@ -220,31 +228,35 @@ public class Game extends BeaconzPluginDependent {
      * </ul>
      * <p>
      * <b>TODO:</b> Determine best approach for giving starting kits to existing team members
+     *
+     * @param admin who to tell about the restart's progress, or null
+     * @return false if the game is already restarting
      */
-    public void restart() {
+    public boolean restart(@Nullable CommandSender admin) {
+        if (gameRestart) {
+            if (admin != null) {
+                admin.sendMessage(Lang.format(Lang.adminRestartBusy, "[name]", gameName).color(NamedTextColor.RED));
+            }
+            return false;
+        }
         // Set restart flag to prevent double-processing
         gameRestart = true;
-        
-        // Move all players in game to lobby, do not save inventory
-        getRegion().sendAllPlayersToLobby(false);
-        
         //TODO - figure out how to give players starting kits when they come in, since they will already be in teams...
-        
-        // Reset all beacons to "unowned" state
-        for (BeaconObj beacon : getRegister().getBeaconRegister().values()) {
-            if (this.getRegion().containsBeacon(beacon)) {
-                // Remove ownership but don't notify (quiet mode during restart)
-                getRegister().removeBeaconOwnership(beacon, true);
-            }
-        }
+        new GameReset(beaconzPlugin, this, admin).start();
+        return true;
+    }
 
-        // Reset the game timer to current time
+    /**
+     * Resets the game timer to the current time. Used by {@link GameReset}.
+     */
+    void resetStartTime() {
         startTime = ((System.currentTimeMillis()+500)/1000)*1000;
+    }
 
-        // Reload scorecard (resets scores, keeps teams)
-        scorecard.reload();
-
-        // Clear flags to allow normal gameplay
+    /**
+     * Clears the restart and game-over flags to allow normal gameplay. Used by {@link GameReset}.
+     */
+    void reopen() {
         gameRestart = false;
         isOver = false;
     }
@@ -334,34 +346,33 @@ public class Game extends BeaconzPluginDependent {
      * </pre>
      * <p>
      * <b>Note:</b> Game loading is handled by GameMgr, not by this class.
-     * <br><b>Thread Safety:</b> This method is NOT thread-safe. File I/O should be
-     * called from the main server thread.
+     * <br>The configuration is put in the {@link GameStateStore} and written the next time it
+     * flushes, so saving every game writes games.yml once.
+     * <br><b>Thread Safety:</b> This method is NOT thread-safe. It must be called from the
+     * main server thread.
      */
     public void save() {
-        File gamesFile = new File(getBeaconzPlugin().getDataFolder(),"games.yml");
-        YamlConfiguration gamesYml = YamlConfiguration.loadConfiguration(gamesFile);
-
-        // Save all game configuration under "game.{gameName}" path
-        String plainText = PlainTextComponentSerializer.plainText().serialize(gameName);
-        String path = "game." + plainText;
-        gamesYml.set(path + ".region", ptsToStrCoord(region.corners()));
-        gamesYml.set(path + ".gamemode", params.getGamemode().name());
-        gamesYml.set(path + ".gamedistance", params.getSize());
-        gamesYml.set(path + ".nbrteams", params.getTeams());
-        gamesYml.set(path + ".gamegoal", params.getGoal().name());
-        gamesYml.set(path + ".goalvalue", params.getGoalvalue());
-        gamesYml.set(path + ".starttime", startTime);
-        gamesYml.set(path + ".creationtime", this.gameCreateTime);
-        gamesYml.set(path + ".countdowntimer", scorecard.getCountdownTimer());
-        gamesYml.set(path + ".scoretypes", params.getScoretypes().stream().map(GameScoreGoal::name).toList());
-        gamesYml.set(path + ".gameOver", isOver);
-        gamesYml.set(path + ".gamedistribution", params.getDistribution());
-
-        // Write the YAML configuration to disk
-        try {
-            gamesYml.save(gamesFile);
-        } catch (IOException e) {
-            getLogger().severe("Failed to save games.yml file for game " + gameName + ": " + e.getMessage());
+        GameStateStore store = getGameStateStore();
+        if (store != null) {
+            YamlConfiguration gamesYml = store.get(Document.GAMES);
+
+            // Save all game configuration under "game.{gameName}" path
+            String plainText = PlainTextComponentSerializer.plainText().serialize(gameName);
+            String path = "game." + plainText;
+            gamesYml.set(path + ".region", ptsToStrCoord(region.corners()));
+            gamesYml.set(path + ".gamemode", params.getGamemode().name());
+            gamesYml.set(path + ".gamedistance", params.getSize());
+            gamesYml.set(path + ".nbrteams", params.getTeams());
+            gamesYml.set(path + ".gamegoal", params.getGoal().name());
+            gamesYml.set(path + ".goalvalue", params.getGoalvalue());
+            gamesYml.set(path + ".starttime", startTime);
+            gamesYml.set(path + ".creationtime", this.gameCreateTime);
+            gamesYml.set(path + ".countdowntimer", scorecard.getCountdownTimer());
+            gamesYml.set(path + ".scoretypes", params.getScoretypes().stream().map(GameScoreGoal::name).toList());
+            gamesYml.set(path + ".gameOver", isOver);
+            gamesYml.set(path + ".gamedistribution", params.getDistribution());
+            // Written with the next flush
+            store.markDirty(Document.GAMES, plainText);
         }
 
         // Save team membership data separately
@@ -376,9 +387,8 @@ public class Game extends BeaconzPluginDependent {
      *   <li>Ends the game if still active (via {@link #forceEnd()})</li>
      *   <li>Deletes all team data and membership</li>
      *   <li>Teleports all players in the game to lobby (inventory not saved)</li>
-     *   <li>Creates backup of games.yml as games.old</li>
      *   <li>Removes this game's configuration from games.yml</li>
-     *   <li>Saves the updated configuration file</li>
+     *   <li>Writes games.yml, keeping the old file as games.old</li>
      * </ol>
      * <p>
      * <b>Warning:</b> This operation is irreversible. All game data is permanently lost.
@@ -391,7 +401,7 @@ public class Game extends BeaconzPluginDependent {
      *   <li>Team memberships are permanently removed</li>
      * </ul>
      * <p>
-     * <b>Backup:</b> Always creates games.old backup before modifying games.yml
+     * <b>Backup:</b> The games.yml that is replaced is kept as games.old
      */
     public void delete() {
         
@@ -404,27 +414,14 @@ public class Game extends BeaconzPluginDependent {
         // Teleport any players in the game to the lobby, do not save inventory
         region.sendAllPlayersToLobby(false);
         
-        // Prepare files for game configuration removal
-        File gamesFile = new File(getBeaconzPlugin().getDataFolder(),"games.yml");
-        YamlConfiguration gamesYml = YamlConfiguration.loadConfiguration(gamesFile);
-
-        // Create backup of games file before deletion
-        if (gamesFile.exists()) {
-            File backup = new File(getBeaconzPlugin().getDataFolder(),"games.old");
-            gamesFile.renameTo(backup);
-        }
-
-        // Remove this game's configuration from the YAML file
-        String path = "game." + gameName;
-        gamesYml.set(path, null);
-
-        // Write the updated configuration to disk
-        try {
-            gamesYml.save(gamesFile);
-        } catch (IOException e) {
-            getLogger().severe("Failed to save games.yml file when deleting game " + gameName + ": " + e.getMessage());
+        // Remove this game's configuration. games.yml is kept as games.old when it is written.
+        GameStateStore store = getGameStateStore();
+        if (store != null) {
+            String plainText = PlainTextComponentSerializer.plainText().serialize(gameName);
+            store.get(Document.GAMES).set("game." + plainText, null);
+            store.markDirty(Document.GAMES, plainText);
+            store.flush();
         }
-
     }
 
     /**
@@ -498,8 +495,8 @@ public class Game extends BeaconzPluginDependent {
             region.enter(player);
         }
 
-        // Update scorecard displays for all players
-        scorecard.refreshScores();
+        // Scores only change when the register does, so only work them out if it has
+        scorecard.refreshScoresIfChanged();
 
         // Give starting kit to new players only
         if (newPlayer) {
@@ -693,6 +690,17 @@ public class Game extends BeaconzPluginDependent {
         return scorecard;
     }
 
+    /**
+     * Gets this game's partition of the register.
+     * <p>
+     * The partition holds only this game's beacons, links, triangles and maps.
+     *
+     * @return the game's register partition, or null if nothing has been registered for it yet
+     */
+    public GameRegister getGameRegister() {
+        return getRegister().getGameRegister(this);
+    }
+
     /**
      * Gets the game mode.
      *
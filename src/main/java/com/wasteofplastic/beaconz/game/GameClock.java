@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.wasteofplastic.beaconz.game;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.bukkit.scheduler.BukkitTask;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * The single plugin-wide clock that drives the timer of every game.
+ * <p>
+ * Each {@link Scorecard} registers itself here when its timer starts. Every
+ * {@link #INTERVAL} seconds the clock runs one pass:
+ * <ol>
+ *   <li><b>Off-thread</b> - each running scorecard advances its countdown and builds its
+ *       timer text and sidebar title. No Bukkit state is touched.</li>
+ *   <li><b>Main thread</b> - the results are applied in one batched task: titles are set on
+ *       the scoreboards and games whose countdown has run out are ended.</li>
+ * </ol>
+ * <p>
+ * Scoreboards are not thread-safe, so nothing in the first step may change them. Restarting,
+ * pausing, resuming and ending a game, and advancing its countdown, are compare-and-set
+ * changes to the scorecard's clock, so the clock thread and the main thread always agree on
+ * whether a game's timer is running. Each restart, pause, resume or end starts a new clock
+ * generation, and an update from an older generation is dropped when it reaches the main thread. A game that ends takes itself off the clock with
+ * {@link #unregister(Scorecard)} on the main thread, so a game that is restarted and registered
+ * again is never dropped by a clock pass that saw it as ended.
+ *
+ * @author tastybento
+ */
+public class GameClock extends BeaconzPluginDependent {
+
+    /** How often (in seconds) the clock ticks */
+    public static final int INTERVAL = 5;
+
+    private static final PerfMonitor.Probe PERF = PerfMonitor.probe("GameClock.tick");
+
+    /** Scorecards whose timers are driven by this clock */
+    private final Set<Scorecard> scorecards = ConcurrentHashMap.newKeySet();
+
+    /** The repeating clock task, or null if the clock is stopped */
+    private BukkitTask task;
+
+    /**
+     * The result of one clock pass for one game, computed off-thread and applied on the main thread.
+     *
+     * @param scorecard the scorecard to update
+     * @param generation the generation of the scorecard's clock this was worked out in. The
+     *        update is dropped if the game has been restarted, paused or ended since.
+     * @param displayTime the formatted timer, e.g. "00d 01:23:45"
+     * @param title the sidebar title to show
+     * @param expired true if the countdown has run out and the game must end
+     */
+    public record Update(Scorecard scorecard, long generation, String displayTime, Component title, boolean expired) {}
+
+    /**
+     * @param beaconzPlugin the main Beaconz plugin instance
+     */
+    public GameClock(Beaconz beaconzPlugin) {
+        super(beaconzPlugin);
+    }
+
+    /**
+     * Adds a scorecard to the clock and starts the clock if it is not already running.
+     *
+     * @param scorecard the scorecard whose timer should run
+     */
+    public synchronized void register(Scorecard scorecard) {
+        scorecards.add(scorecard);
+        if (task == null) {
+            task = getServer().getScheduler().runTaskTimerAsynchronously(getBeaconzPlugin(), this::tick, 20L, INTERVAL * 20L);
+        }
+    }
+
+    /**
+     * Removes a scorecard from the clock. Called by the scorecard when its game ends.
+     *
+     * @param scorecard the scorecard to remove
+     */
+    public synchronized void unregister(Scorecard scorecard) {
+        scorecards.remove(scorecard);
+    }
+
+    /**
+     * Stops the clock. Used when the plugin is disabled.
+     */
+    public synchronized void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        scorecards.clear();
+    }
+
+    /**
+     * Runs one clock pass. Called off the main thread.
+     */
+    void tick() {
+        long start = PERF.start();
+        try {
+            List<Update> updates = new ArrayList<>();
+            for (Scorecard scorecard : scorecards) {
+                if (scorecard.getClockState() == Scorecard.ClockState.ENDED) {
+                    // Waiting for the scorecard to unregister itself
+                    continue;
+                }
+                Update update = scorecard.tickClock(INTERVAL);
+                if (update != null) {
+                    updates.add(update);
+                }
+            }
+            if (!updates.isEmpty() && getBeaconzPlugin().isEnabled()) {
+                // Apply every game's update in one main thread task
+                getServer().getScheduler().runTask(getBeaconzPlugin(), () -> updates.forEach(u -> u.scorecard().applyClock(u)));
+            }
+        } finally {
+            PERF.stop(start);
+        }
+    }
+
+    /**
+     * @return the number of scorecards on the clock
+     */
+    public int size() {
+        return scorecards.size();
+    }
+}
@@ -23,18 +23,20 @@ package com.wasteofplastic.beaconz.game;
 
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
-import java.io.File;
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.Location;
 import org.bukkit.block.Biome;
 import org.bukkit.command.CommandSender;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Team;
@@ -47,6 +49,10 @@ import com.wasteofplastic.beaconz.config.Params.GameScoreGoal;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.Region;
 import com.wasteofplastic.beaconz.generator.BeaconzChunkGen;
+import com.wasteofplastic.beaconz.storage.GameStateStore;
+import com.wasteofplastic.beaconz.storage.GameStateStore.Document;
+import com.wasteofplastic.beaconz.util.CoordIndex;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
@@ -70,19 +76,50 @@ import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
  * by their string names. The class ensures regions maintain a 512-block safety buffer
  * between each other to prevent interference during region regeneration.</p>
  *
+ * <p>The game of each team and the teams of each player are indexed, so
+ * {@link #getGame(Team)} and {@link #getPlayerTeam(Player)} do not have to ask every
+ * game's scorecard. A game is indexed again whenever its scorecard makes new teams, and
+ * scorecards report players joining and leaving teams.</p>
+ *
  * @see Game
  * @see Region
  * @see Scorecard
  */
 public class GameMgr extends BeaconzPluginDependent {
 
+    private static final PerfMonitor.Probe SAVE_PERF = PerfMonitor.probe("GameMgr.saveAllGames");
+
     private final Beaconz plugin;
     /** The lobby region where players gather between games */
     private Region lobby;
     /** Map of region corner coordinates to Region objects for spatial lookup */
     private final LinkedHashMap<Point2D[], Region> regions;
+    /** Chunk cache value for chunks that are not in any region */
+    private static final int NO_REGION = 0;
+    /** Chunk cache value for chunks that are only partly in a region, which have to be checked block by block */
+    private static final int MIXED_CHUNK = Integer.MAX_VALUE;
+    /** The chunk cache is emptied when it gets this big, so wandering the world does not grow it forever */
+    private static final int MAX_CACHED_CHUNKS = 1 << 16;
+    /**
+     * Region of each chunk looked up so far: {@link #NO_REGION}, {@link #MIXED_CHUNK}, or one more
+     * than the region's index in {@link #regionSlots}. Emptied whenever the regions change.
+     */
+    private final CoordIndex chunkRegions = new CoordIndex();
+    /** The regions, in the order the chunk cache refers to them */
+    private Region[] regionSlots = new Region[0];
     /** Map of game names to active Game instances */
     private final LinkedHashMap<Component, Game> games;
+    /** Game of each team. Teams are scoreboard objects, so they are compared by identity. */
+    private final Map<Team, Game> teamGames = new IdentityHashMap<>();
+    /** Teams each player is on, at most one per game */
+    private final Map<UUID, List<Membership>> memberships = new HashMap<>();
+
+    /**
+     * A player's team in one game
+     * @param game - the game
+     * @param team - the player's team in that game
+     */
+    public record Membership(Game game, Team team) {}
 
     // Default game configuration parameters
     private Params defaultParameters;
@@ -129,38 +166,38 @@ public class GameMgr extends BeaconzPluginDependent {
     /**
      * Persists all games and the lobby to disk.
      *
-     * <p>Creates a backup of the existing games.yml file before saving.
-     * The lobby region and spawn point are saved separately from game regions.
-     * Each active game delegates to its own save method for detailed persistence.</p>
+     * <p>The lobby region and spawn point are saved separately from game regions.
+     * Each active game delegates to its own save method for detailed persistence.
+     * The games only change the in-memory documents, so games.yml and teams.yml are
+     * each written once at the end, keeping the replaced files as games.old and teams.old.</p>
      *
      * @see Game#save()
      */
     public void saveAllGames() {
-        File gamesFile = new File(getBeaconzPlugin().getDataFolder(),"games.yml");
-        YamlConfiguration gamesYml = YamlConfiguration.loadConfiguration(gamesFile);
-
-        // Backup the games file just in case of corruption
-        if (gamesFile.exists()) {
-            File backup = new File(getBeaconzPlugin().getDataFolder(),"games.old");
-            gamesFile.renameTo(backup);
-        }
+        long start = SAVE_PERF.start();
+        try {
+            GameStateStore store = getGameStateStore();
+            if (store == null) {
+                return;
+            }
 
-        // Save the lobby region and spawn point
-        if (lobby != null) {
-            gamesYml.set("lobby.region", ptsToStrCoord(lobby.corners()));
-            gamesYml.set("lobby.spawn", Beaconz.getStringLocation(lobby.getSpawnPoint()));
-        }
+            // Save the lobby region and spawn point
+            if (lobby != null) {
+                YamlConfiguration gamesYml = store.get(Document.GAMES);
+                gamesYml.set("lobby.region", ptsToStrCoord(lobby.corners()));
+                gamesYml.set("lobby.spawn", Beaconz.getStringLocation(lobby.getSpawnPoint()));
+                store.markDirty(Document.GAMES, "lobby");
+            }
 
-        // Write lobby data to file
-        try {
-            gamesYml.save(gamesFile);
-        } catch (IOException e) {
-            getLogger().severe("Failed to save lobby data to games.yml: " + e.getMessage());
-        }
+            // Delegate to each game to put its own data in the store
+            for (Game game: games.values()) {
+                game.save();
+            }
 
-        // Delegate to each game to save its own data
-        for (Game game: games.values()) {
-            game.save();
+            // Write games.yml and teams.yml once for all of them
+            store.flush();
+        } finally {
+            SAVE_PERF.stop(start);
         }
     }
 
@@ -198,24 +235,21 @@ public class GameMgr extends BeaconzPluginDependent {
      */
     public void loadAllGames() {
         regions.clear();
+        regionsChanged();
         games.clear();
+        // The reloaded games make new teams, so drop every index to the old ones
+        teamGames.clear();
+        memberships.clear();
         loadGames();
     }
 
     /**
-     * Loads game data from the games.yml file.
+     * Loads game data from games.yml, which the {@link GameStateStore} reads from disk the first time.
      */
     public void loadGames() {
-        File gamesFile = new File(getBeaconzPlugin().getDataFolder(),"games.yml");
-        if (gamesFile.exists()) {
-            YamlConfiguration gamesYml = new YamlConfiguration();
-            try {
-                gamesYml.load(gamesFile);
-            } catch (IOException e) {
-                getLogger().severe("Failed to load games.yml file: " + e.getMessage());
-            } catch (InvalidConfigurationException e) {
-                getLogger().severe("Invalid YAML configuration in games.yml: " + e.getMessage());
-            }
+        GameStateStore store = getGameStateStore();
+        if (store != null) {
+            YamlConfiguration gamesYml = store.get(Document.GAMES);
 
             ConfigurationSection csec = gamesYml.getConfigurationSection("lobby");
             // Load the lobby 
@@ -227,7 +261,10 @@ public class GameMgr extends BeaconzPluginDependent {
                 if (!spawn.isEmpty()) {
                     lobby.setSpawnPoint(Beaconz.getLocationString(spawn));
                 }
+                // Lobby chunks that were never visited still need the platform when they are made
+                lobby.publishPlatform();
                 regions.put(corners, lobby);
+                regionsChanged();
             }
             // Load game configurations
             csec = gamesYml.getConfigurationSection("game");
@@ -260,9 +297,11 @@ public class GameMgr extends BeaconzPluginDependent {
                     } else {
                         // Loading a saved game that isn't currently active
                         regions.put(corners, region);
+                        regionsChanged();
                         game = new Game(plugin, region, gameName, params);
                         game.setOver(isOver);
                         games.put(gameName, game);
+                        indexTeams(game, game.getScorecard());
                     }
                 }
             }
@@ -311,6 +350,7 @@ public class GameMgr extends BeaconzPluginDependent {
             Point2D[] corners = {c1, c2};
             lobby = new Region(plugin, corners);
             regions.put(corners, lobby);
+            regionsChanged();
         } else {
             // Fallback: create minimal lobby at world origin
             getLogger().warning("Could not find a free area of at least 4 chunks for the lobby.");
@@ -320,6 +360,7 @@ public class GameMgr extends BeaconzPluginDependent {
             Point2D[] corners = {c1, c2};
             lobby = new Region(plugin, corners);
             regions.put(corners, lobby);
+            regionsChanged();
         }
         // Generate the physical lobby platform in the world
         lobby.makePlatform();
@@ -372,7 +413,11 @@ public class GameMgr extends BeaconzPluginDependent {
                 // Create the game with current default parameters
                 Game game = new Game(plugin, region, gameName, defaultParameters);
                 games.put(gameName, game);
+                indexTeams(game, game.getScorecard());
                 regions.put(region.corners(), region);
+                regionsChanged();
+                // Beacons generated before the region had a game belong to it now
+                getRegister().adoptBeacons(game);
             }
         }
         return result;
@@ -606,10 +651,16 @@ public class GameMgr extends BeaconzPluginDependent {
      */
     public Team getPlayerTeam(Player player) {
         Team team = null;
-        Scorecard sc = getSC(player);
-        // Try to get team from the scorecard if it exists
-        if (sc != null && sc.getTeam(player) != null) {
-            team = sc.getTeam(player);
+        List<Membership> teams = memberships.get(player.getUniqueId());
+        // Only players on a team somewhere need their location looked up
+        if (teams != null) {
+            Game game = getGame(player.getLocation());
+            for (Membership membership : teams) {
+                if (membership.game() == game) {
+                    team = membership.team();
+                    break;
+                }
+            }
         }
         // If no team and player is not an admin and not in lobby, send them to lobby
         if (team == null && !player.isOp()&& !isPlayerInLobby(player)) {
@@ -633,14 +684,24 @@ public class GameMgr extends BeaconzPluginDependent {
     /**
      * Gets the region containing specific world coordinates.
      *
-     * <p>Iterates through all registered regions to find one that contains the point.
-     * This is the core spatial lookup method used by other getRegion overloads.</p>
+     * <p>This is the core spatial lookup method used by other getRegion overloads. Block
+     * listeners call it for very frequent events, so the answer for each chunk is cached.
+     * Only chunks that straddle a region edge iterate through all registered regions to
+     * find one that contains the point.</p>
      *
      * @param x the x-coordinate in blocks
      * @param z the z-coordinate in blocks
      * @return the Region containing this point, or null if not in any region
      */
     public Region getRegion (int x, int z) {
+        if (regionSlots.length != regions.size()) {
+            // The regions map was changed from outside
+            regionsChanged();
+        }
+        int slot = getChunkRegion(x >> 4, z >> 4);
+        if (slot != MIXED_CHUNK) {
+            return slot == NO_REGION ? null : regionSlots[slot - 1];
+        }
         Region region = null;
         if (regions != null) {
             for (Region reg : regions.values()) {
@@ -654,24 +715,141 @@ public class GameMgr extends BeaconzPluginDependent {
     }
 
     /**
-     * Gets the game instance for a specific team.
+     * Looks up a chunk in the chunk cache, working it out if it is not there yet
      *
-     * <p>Searches all active games to find which one contains the specified team.</p>
+     * @param chunkX chunk x
+     * @param chunkZ chunk z
+     * @return {@link #NO_REGION}, {@link #MIXED_CHUNK}, or one more than the index of the region
+     * in {@link #regionSlots} that holds the whole chunk
+     */
+    private int getChunkRegion(int chunkX, int chunkZ) {
+        int slot = chunkRegions.get(chunkX, chunkZ);
+        if (slot == CoordIndex.NONE) {
+            slot = classifyChunk(chunkX, chunkZ);
+            if (chunkRegions.size() >= MAX_CACHED_CHUNKS) {
+                chunkRegions.clear();
+            }
+            chunkRegions.put(CoordIndex.key(chunkX, chunkZ), slot);
+        }
+        return slot;
+    }
+
+    private int classifyChunk(int chunkX, int chunkZ) {
+        int x0 = chunkX << 4;
+        int z0 = chunkZ << 4;
+        int x1 = x0 + 15;
+        int z1 = z0 + 15;
+        int slot = NO_REGION;
+        for (int i = 0; i < regionSlots.length; i++) {
+            // Same bounds as Region.containsPoint
+            Point2D[] corners = regionSlots[i].corners();
+            int xMin = (int)corners[0].getX();
+            int zMin = (int)corners[0].getY();
+            int xMax = (int)corners[1].getX();
+            int zMax = (int)corners[1].getY();
+            if (xMin <= x1 && xMax >= x0 && zMin <= z1 && zMax >= z0) {
+                if (slot != NO_REGION || xMin > x0 || xMax < x1 || zMin > z0 || zMax < z1) {
+                    // Only partly inside, or touches more than one region
+                    return MIXED_CHUNK;
+                }
+                slot = i + 1;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Empties the chunk cache. Must be called whenever a region is added or removed.
+     */
+    private void regionsChanged() {
+        regionSlots = regions.values().toArray(new Region[0]);
+        chunkRegions.clear();
+    }
+
+    /**
+     * Gets the game instance for a specific team.
      *
      * @param team the team to look up
      * @return the Game this team belongs to, or null if team not found
      */
     public Game getGame(Team team) {
-        Game game = null;
-        if (games != null) {
-            for (Game g : games.values()) {
-                if (g.getScorecard().getTeamMembers().containsKey(team)) {
-                    game = g;
+        return team == null ? null : teamGames.get(team);
+    }
+
+    /**
+     * Gets every team a player is on, whatever game they are in or wherever they are.
+     *
+     * @param uuid the player's UUID
+     * @return the player's teams, at most one per game. Do not change this list.
+     */
+    public List<Membership> getMemberships(UUID uuid) {
+        return memberships.getOrDefault(uuid, List.of());
+    }
+
+    /**
+     * Indexes a game's teams and members again from its scorecard, e.g., after the scorecard
+     * has made new team objects. Anything indexed for the game before is dropped.
+     *
+     * @param game the game
+     * @param sc the game's scorecard, which may not be set on the game yet
+     */
+    void indexTeams(Game game, Scorecard sc) {
+        if (sc == null) {
+            return;
+        }
+        teamGames.values().removeIf(g -> g == game);
+        forgetMembers(game);
+        for (Team team : sc.getTeams()) {
+            teamGames.put(team, game);
+        }
+        for (Map.Entry<UUID, Team> entry : sc.getTeamLookup().entrySet()) {
+            indexPlayer(game, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Records the team a player is on in a game
+     *
+     * @param game the game
+     * @param uuid the player's UUID
+     * @param team the team, or null if the player has left the game's teams
+     */
+    void indexPlayer(Game game, UUID uuid, Team team) {
+        List<Membership> old = memberships.getOrDefault(uuid, List.of());
+        List<Membership> teams = new ArrayList<>(old.size() + 1);
+        for (Membership membership : old) {
+            if (membership.game() != game) {
+                teams.add(membership);
+            }
+        }
+        if (team != null) {
+            teams.add(new Membership(game, team));
+        }
+        if (teams.isEmpty()) {
+            memberships.remove(uuid);
+        } else {
+            memberships.put(uuid, List.copyOf(teams));
+        }
+    }
+
+    /**
+     * Drops every player's team in this game. The teams themselves stay indexed.
+     *
+     * @param game the game
+     */
+    void forgetMembers(Game game) {
+        List<UUID> members = new ArrayList<>();
+        for (Map.Entry<UUID, List<Membership>> entry : memberships.entrySet()) {
+            for (Membership membership : entry.getValue()) {
+                if (membership.game() == game) {
+                    members.add(entry.getKey());
                     break;
                 }
             }
         }
-        return game;
+        for (UUID uuid : members) {
+            indexPlayer(game, uuid, null);
+        }
     }
 
     /**
@@ -984,12 +1162,15 @@ public class GameMgr extends BeaconzPluginDependent {
         game.delete();
         // Unregister the game
         games.remove(game.getName());
+        teamGames.values().removeIf(g -> g == game);
+        forgetMembers(game);
         // Clear beacon ownership tracking for this region
         getRegister().clear(game.getRegion());
         // Deletes the region from disk
         game.getRegion().delete(sender);
         // Remove the region from spatial tracking
         regions.remove(game.getRegion().corners());
+        regionsChanged();
     }
 
     /**
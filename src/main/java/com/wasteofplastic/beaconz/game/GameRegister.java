@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.wasteofplastic.beaconz.game;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.wasteofplastic.beaconz.core.BeaconLink;
+import com.wasteofplastic.beaconz.core.BeaconObj;
+import com.wasteofplastic.beaconz.core.TriangleField;
+
+/**
+ * The slice of the {@link Register} that belongs to a single game.
+ * <p>
+ * The Register keeps one GameRegister per {@link Game} (plus one for beacons that are not
+ * inside any game region). Each partition holds only that game's:
+ * <ul>
+ *   <li><b>Beacons</b> - keyed by their (x,z) coordinate</li>
+ *   <li><b>Links</b> - the beacon links made in this game</li>
+ *   <li><b>Triangle Fields</b> - the control fields made in this game</li>
+ *   <li><b>Maps</b> - territory map IDs that point at this game's beacons</li>
+ * </ul>
+ * <p>
+ * The global lookup tables in the Register (by coordinate, by base block, by map ID) still
+ * exist so that block listeners can find a beacon without knowing which game it is in. The
+ * partition is what lets the Register clear, save or score one game without scanning
+ * every other game's data - clearing a region simply drops its partition and removes
+ * the listed keys from the global tables.
+ * <p>
+ * This class is a plain data holder. All changes go through the Register so that the
+ * partition and the global tables always stay in step.
+ *
+ * @author tastybento
+ */
+public class GameRegister {
+
+    /** The game this partition belongs to, or null for beacons outside any game */
+    private final Game game;
+
+    /** This game's beacons, keyed by (x,z) */
+    private final HashMap<Point2D, BeaconObj> beacons = new HashMap<>();
+
+    /** This game's beacon links */
+    private final List<BeaconLink> links = new ArrayList<>();
+
+    /** This game's triangle fields */
+    private final Set<TriangleField> triangleFields = new HashSet<>();
+
+    /** Map IDs of territory maps that belong to this game's beacons */
+    private final HashMap<Integer, BeaconObj> beaconMaps = new HashMap<>();
+
+    /**
+     * Creates an empty partition for a game.
+     *
+     * @param game the game, or null for the partition holding beacons outside any game
+     */
+    GameRegister(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * @return the game this partition belongs to, or null if it holds beacons outside any game
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * @return this game's beacons keyed by (x,z)
+     */
+    public HashMap<Point2D, BeaconObj> getBeacons() {
+        return beacons;
+    }
+
+    /**
+     * @return this game's beacon links
+     */
+    public List<BeaconLink> getLinks() {
+        return links;
+    }
+
+    /**
+     * @return this game's triangle fields
+     */
+    public Set<TriangleField> getTriangleFields() {
+        return triangleFields;
+    }
+
+    /**
+     * @return map IDs of territory maps for this game's beacons
+     */
+    public HashMap<Integer, BeaconObj> getBeaconMaps() {
+        return beaconMaps;
+    }
+
+    /**
+     * @return true if nothing is registered for this game
+     */
+    public boolean isEmpty() {
+        return beacons.isEmpty() && links.isEmpty() && triangleFields.isEmpty() && beaconMaps.isEmpty();
+    }
+}
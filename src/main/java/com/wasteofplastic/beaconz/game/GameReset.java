@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.game;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.config.Lang;
+import com.wasteofplastic.beaconz.core.BeaconObj;
+import com.wasteofplastic.beaconz.storage.GameStateStore;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+
+/**
+ * Restarts a game over several ticks, so a big game does not freeze the rest of the server.
+ * <p>
+ * The restart is a small state machine. Each tick does a slice of the current step:
+ * <ol>
+ *   <li><b>Evacuate</b> - players in the game are sent to the lobby, a few per tick</li>
+ *   <li><b>Unclaim</b> - owned beacons lose their owner, links and fields, within a time budget</li>
+ *   <li><b>Scorecard</b> - the timer is reset and the scorecard is rebuilt. Teams are kept.</li>
+ *   <li><b>Save</b> - the game is saved. The files are serialized on the main thread and
+ *       written asynchronously by the {@link GameStateStore}.</li>
+ *   <li><b>Reopen</b> - the game can be joined and played again</li>
+ * </ol>
+ * The game reports {@link Game#isGameRestart()} until it reopens, so players cannot join it
+ * half way through. The admin who asked for the restart is told when each step is done and
+ * how long it took. If a step fails, the error is logged and reported and the game is reopened
+ * rather than left closed. One player or beacon that fails does not stop the restart.
+ * <p>
+ * When the plugin is disabled there is no scheduler, so the whole restart runs at once.
+ *
+ * @author tastybento
+ */
+public class GameReset extends BeaconzPluginDependent {
+
+    /** Main thread time each tick may spend unclaiming beacons */
+    private static final long TICK_BUDGET = TimeUnit.MILLISECONDS.toNanos(5);
+    /** Players sent to the lobby per tick. Each one saves a vault and teleports. */
+    private static final int PLAYERS_PER_TICK = 5;
+
+    /**
+     * Steps of a restart, in order
+     */
+    public enum Step {
+        EVACUATE, UNCLAIM, SCORECARD, SAVE, REOPEN, DONE
+    }
+
+    private final Game game;
+    private final @Nullable CommandSender admin;
+    private final Deque<UUID> players = new ArrayDeque<>();
+    private final Deque<BeaconObj> beacons = new ArrayDeque<>();
+    private Step step = Step.EVACUATE;
+    /** Things done in the current step */
+    private int done;
+    /** Main thread time spent on the current step */
+    private long stepNanos;
+    private int failures;
+    private BukkitTask task;
+
+    /**
+     * @param beaconzPlugin - the plugin
+     * @param game - the game to restart
+     * @param admin - who to report progress to, or null to only log it
+     */
+    public GameReset(Beaconz beaconzPlugin, Game game, @Nullable CommandSender admin) {
+        super(beaconzPlugin);
+        this.game = game;
+        this.admin = admin;
+    }
+
+    /**
+     * Starts the restart. Players in the game when it starts are the ones evacuated.
+     */
+    public void start() {
+        for (Player player : getServer().getOnlinePlayers()) {
+            if (game.getRegion().isPlayerInRegion(player)) {
+                players.add(player.getUniqueId());
+            }
+        }
+        report(Lang.adminRestarting, NamedTextColor.GREEN, "[name]", game.getName());
+        if (getBeaconzPlugin().isEnabled()) {
+            task = getServer().getScheduler().runTaskTimer(getBeaconzPlugin(), this::tick, 1L, 1L);
+        } else {
+            while (step != Step.DONE) {
+                tick();
+            }
+        }
+    }
+
+    /**
+     * Does one slice of the current step
+     */
+    void tick() {
+        long start = System.nanoTime();
+        try {
+            switch (step) {
+            case EVACUATE -> evacuate();
+            case UNCLAIM -> unclaim(start);
+            case SCORECARD -> {
+                game.resetStartTime();
+                game.getScorecard().reload();
+                next(Step.SAVE);
+            }
+            case SAVE -> {
+                game.save();
+                GameStateStore store = getGameStateStore();
+                if (store != null) {
+                    store.flush();
+                }
+                next(Step.REOPEN);
+            }
+            case REOPEN -> {
+                game.reopen();
+                next(Step.DONE);
+                report(Lang.adminRestart, NamedTextColor.GREEN, "[name]", game.getName());
+            }
+            case DONE -> { }
+            }
+        } catch (RuntimeException e) {
+            fail(e);
+        } finally {
+            stepNanos += System.nanoTime() - start;
+        }
+        if (step == Step.DONE && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private void evacuate() {
+        for (int i = 0; i < PLAYERS_PER_TICK && !players.isEmpty(); i++) {
+            Player player = getServer().getPlayer(players.poll());
+            if (player == null) {
+                // Logged off since the restart started
+                continue;
+            }
+            try {
+                // Inventories are not saved, this is a fresh start
+                game.getRegion().sendToLobby(player, false);
+                done++;
+            } catch (RuntimeException e) {
+                failures++;
+                getLogger().severe("Could not send " + player.getName() + " to the lobby during restart: " + e.getMessage());
+            }
+        }
+        if (players.isEmpty()) {
+            // Unowned beacons have no links or fields, so there is nothing to reset on them
+            for (BeaconObj beacon : getRegister().getGameBeacons(game)) {
+                if (beacon.getOwnership() != null) {
+                    beacons.add(beacon);
+                }
+            }
+            next(Step.UNCLAIM);
+        }
+    }
+
+    private void unclaim(long start) {
+        while (!beacons.isEmpty() && System.nanoTime() - start < TICK_BUDGET) {
+            BeaconObj beacon = beacons.poll();
+            try {
+                // Quietly, nobody is in the game to hear about it
+                getRegister().removeBeaconOwnership(beacon, true);
+                done++;
+            } catch (RuntimeException e) {
+                failures++;
+                getLogger().severe("Could not unclaim beacon at " + beacon.getX() + "," + beacon.getZ() + " during restart: " + e.getMessage());
+            }
+        }
+        if (beacons.isEmpty()) {
+            next(Step.SCORECARD);
+        }
+    }
+
+    /**
+     * Reports the step that has just finished and moves on
+     * @param nextStep - the step to do next
+     */
+    private void next(Step nextStep) {
+        if (step == Step.EVACUATE || step == Step.UNCLAIM) {
+            report(Lang.adminRestartStep, NamedTextColor.AQUA, "[name]", game.getName(), "[step]", step.name().toLowerCase(),
+                    "[number]", done, "[time]", TimeUnit.NANOSECONDS.toMillis(stepNanos));
+        }
+        step = nextStep;
+        done = 0;
+        stepNanos = 0;
+    }
+
+    private void fail(RuntimeException e) {
+        Step failed = step;
+        getLogger().severe("Restart of " + PlainTextComponentSerializer.plainText().serialize(game.getName()) + " failed at "
+                + failed.name().toLowerCase() + ": " + e.getMessage());
+        failures++;
+        step = Step.DONE;
+        // Do not leave the game closed
+        game.reopen();
+        report(Lang.adminRestartFailed, NamedTextColor.RED, "[name]", game.getName(), "[step]", failed.name().toLowerCase(),
+                "[error]", String.valueOf(e.getMessage()));
+    }
+
+    /**
+     * Tells the admin, if there is one
+     * @param message - the locale message
+     * @param color - the color to show it in
+     * @param replacements - placeholder and value pairs
+     */
+    private void report(Component message, NamedTextColor color, Object... replacements) {
+        if (admin != null) {
+            admin.sendMessage(Lang.format(message, replacements).color(color));
+        }
+    }
+
+    /**
+     * @return the step the restart is on
+     */
+    public Step getStep() {
+        return step;
+    }
+
+    /**
+     * @return players and beacons that could not be reset, plus one if a step failed
+     */
+    public int getFailures() {
+        return failures;
+    }
+}
@@ -24,13 +24,19 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.io.File;
 import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
 
@@ -46,12 +52,12 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.map.MapRenderer;
 import org.bukkit.map.MapView;
-import org.bukkit.potion.PotionEffect;
 import org.bukkit.scoreboard.Team;
 
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
 import com.wasteofplastic.beaconz.config.Lang;
+import com.wasteofplastic.beaconz.config.MaterialRoles;
 import com.wasteofplastic.beaconz.core.BeaconLink;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 import com.wasteofplastic.beaconz.core.DefenseBlock;
@@ -59,11 +65,13 @@ import com.wasteofplastic.beaconz.core.Region;
 import com.wasteofplastic.beaconz.core.TriangleField;
 import com.wasteofplastic.beaconz.map.BeaconMap;
 import com.wasteofplastic.beaconz.map.TerritoryMapRenderer;
+import com.wasteofplastic.beaconz.util.ColumnMask;
+import com.wasteofplastic.beaconz.util.CoordIndex;
 import com.wasteofplastic.beaconz.util.LineVisualizer;
 import com.wasteofplastic.beaconz.util.LinkResult;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
 import com.wasteofplastic.beaconz.util.TriangleScorer;
 
-import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 
@@ -91,14 +99,19 @@ import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
  * <p>
  * <b>Data Structures:</b>
  * <ul>
- *   <li><code>beaconRegister</code> - Maps beacon coordinates (Point2D) to BeaconObj instances</li>
- *   <li><code>beaconLinks</code> - Maps Game instances to lists of BeaconLink objects</li>
+ *   <li><code>beacons</code> - BeaconObj instances by compact beacon ID, found by their (x,z) column
+ *       through <code>beaconIndex</code></li>
+ *   <li><code>gameRegisters</code> - Maps Game instances to their {@link GameRegister} partition
+ *       (beacons, links, triangles and maps of that game only)</li>
  *   <li><code>triangleFields</code> - Set of all active TriangleField control areas</li>
- *   <li><code>baseBlocks</code> - Maps emerald block coordinates to their associated beacon</li>
- *   <li><code>baseBlocksInverse</code> - Maps beacons to their sets of base block coordinates</li>
+ *   <li><code>baseBlocks</code> - Maps emerald block columns to the ID of their associated beacon</li>
+ *   <li><code>baseBlocksInverse</code> - Base block columns of each beacon, by beacon ID</li>
  *   <li><code>beaconMaps</code> - Maps Minecraft map IDs to beacon objects for territory maps</li>
  * </ul>
  * <p>
+ * The coordinate tables are {@link CoordIndex} maps keyed by the packed column, so looking up a
+ * block does not allocate and the register holds no boxed points for base blocks.
+ * <p>
  * <b>Triangle Field Formation:</b>
  * When a beacon link is created, the system automatically checks if it completes any triangles:
  * <ol>
@@ -119,6 +132,8 @@ import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 public class Register extends BeaconzPluginDependent {
 
     private static final boolean DEBUG = false;
+    private static final PerfMonitor.Probe SAVE_PERF = PerfMonitor.probe("Register.saveRegister");
+    private static final PerfMonitor.Probe LOAD_PERF = PerfMonitor.probe("Register.loadRegister");
 
     /**
      * Constructs a new Register instance.
@@ -133,10 +148,28 @@ public class Register extends BeaconzPluginDependent {
     private final HashMap<Integer, BeaconObj> beaconMaps = new HashMap<>();
 
     /**
-     * Primary beacon lookup table - maps 2D coordinates (x,z) to beacon objects.
+     * Beacons by compact ID. The ID is an index into this array and the per-beacon base arrays.
      * This is the authoritative registry of all beacons in the game.
      */
-    private final HashMap<Point2D, BeaconObj> beaconRegister = new HashMap<>();
+    private BeaconObj[] beacons = new BeaconObj[64];
+
+    /** Number of beacons in the register */
+    private int beaconCount;
+
+    /** One past the highest ID handed out so far */
+    private int nextId;
+
+    /** IDs of removed beacons, handed out again before new ones */
+    private int[] freeIds = new int[16];
+    private int freeCount;
+
+    /**
+     * Primary beacon lookup table - maps the beacon column (x,z) to the beacon's ID.
+     */
+    private final CoordIndex beaconIndex = new CoordIndex();
+
+    /** Read-only map view of the register for callers that want one */
+    private final Map<Point2D, BeaconObj> beaconRegister = new BeaconRegisterView();
 
     /**
      * Set of all active triangle control fields in the game.
@@ -145,24 +178,41 @@ public class Register extends BeaconzPluginDependent {
     private Set<TriangleField> triangleFields = new HashSet<>();
 
     /**
-     * Maps each Game instance to its list of beacon links.
-     * Links connect beacons owned by the same team and can form triangle fields.
+     * Per-game partitions of the register. Each game owns its beacons, links, triangles
+     * and maps so that clearing, saving or scoring one game does not scan the others.
+     * The null key holds beacons that are not inside any game region.
      */
-    private final HashMap<Game,List<BeaconLink>> beaconLinks = new HashMap<>();
+    private final HashMap<Game, GameRegister> gameRegisters = new HashMap<>();
 
     /**
-     * Maps 2D coordinates of base blocks (emerald blocks around beacons) to their parent beacon.
+     * Goes up by one every time beacons, owners, links or triangles change. Scores are worked
+     * out from these, so a scorecard that remembers the version it last scored at can tell
+     * whether its scores are still current without recounting them.
+     */
+    private long version;
+
+    /**
+     * Maps the columns of base blocks (emerald blocks around beacons) to their parent beacon's ID.
      * Initially contains the 8 blocks adjacent to each beacon, can expand as players add more.
      * Used for fast lookup when checking if a block is part of a beacon's base.
      */
-    private final HashMap<Point2D, BeaconObj> baseBlocks = new HashMap<>();
+    private final CoordIndex baseBlocks = new CoordIndex();
 
     /**
-     * Inverse mapping: beacon to all its base block coordinates.
+     * Inverse mapping: packed base block columns of each beacon, by beacon ID.
      * Used to efficiently retrieve all base blocks belonging to a specific beacon,
      * which is needed for saving to file and rendering operations.
      */
-    private final HashMap<BeaconObj, Set<Point2D>> baseBlocksInverse = new HashMap<>();
+    private long[][] baseBlocksInverse = new long[64][];
+
+    /** Number of base block columns used in each row of baseBlocksInverse */
+    private int[] baseCounts = new int[64];
+
+    /**
+     * Every column that holds a beacon or one of its base blocks. Block listeners check this
+     * first so that events away from beacons return after one chunk lookup and one bit test.
+     */
+    private final ColumnMask protectedColumns = new ColumnMask();
 
     /**
      * Persists all game data to the beaconz.yml file.
@@ -202,25 +252,64 @@ public class Register extends BeaconzPluginDependent {
      * The reverse link is automatically created when loading.
      */
     public void saveRegister() {
-        // Save the beacons
-        File beaconzFile = new File(getBeaconzPlugin().getDataFolder(),"beaconz.yml");
+        long start = SAVE_PERF.start();
+        try {
+            // Save the beacons
+            File beaconzFile = new File(getBeaconzPlugin().getDataFolder(),"beaconz.yml");
+
+            YamlConfiguration beaconzYml = new YamlConfiguration();
+
+            // Backup the existing beacons file to prevent data loss
+            if (beaconzFile.exists()) {
+                File backup = new File(getBeaconzPlugin().getDataFolder(),"beaconz.old");
+                beaconzFile.renameTo(backup);
+            }
+
+            // Serialize the data one game partition at a time
+            int count = 0;
+            for (GameRegister gameRegister : gameRegisters.values()) {
+                count = saveGameRegister(gameRegister, beaconzYml, count);
+            }
+
+            // Write the configuration to disk
+            try {
+                beaconzYml.save(beaconzFile);
+            } catch (IOException e) {
+                getLogger().severe("Failed to save beaconz.yml file: " + e.getMessage());
+            }
+        } finally {
+            SAVE_PERF.stop(start);
+        }
+    }
+
+    /**
+     * Serializes one game's partition into the beaconz.yml configuration.
+     * <p>
+     * Only the partition's own beacons, links and maps are visited, so the cost of saving
+     * a game does not depend on how many other games are registered.
+     *
+     * @param gameRegister the partition to save
+     * @param beaconzYml the configuration being built
+     * @param count the next free beacon index in the file
+     * @return the next free beacon index after this partition has been written
+     */
+    private int saveGameRegister(GameRegister gameRegister, YamlConfiguration beaconzYml, int count) {
+        Game game = gameRegister.getGame();
+        String gameName = game == null || game.getName() == null ? "None" : PlainTextComponentSerializer.plainText().serialize(game.getName());
 
         // Track which links have been stored to avoid duplicates (links are bidirectional)
         Set<BeaconLink> storedLinks = new HashSet<>();
-        YamlConfiguration beaconzYml = new YamlConfiguration();
 
-        // Backup the existing beacons file to prevent data loss
-        if (beaconzFile.exists()) {
-            File backup = new File(getBeaconzPlugin().getDataFolder(),"beaconz.old");
-            beaconzFile.renameTo(backup);
+        // Group this game's map IDs by beacon so each beacon only looks at its own maps
+        HashMap<BeaconObj, List<String>> beaconMapIds = new HashMap<>();
+        for (Entry<Integer, BeaconObj> en : gameRegister.getBeaconMaps().entrySet()) {
+            // Verify the map still exists on the server before saving
+            if (Bukkit.getMap(en.getKey()) != null) {
+                beaconMapIds.computeIfAbsent(en.getValue(), k -> new ArrayList<>()).add(String.valueOf(en.getKey()));
+            }
         }
 
-        // Iterate through all beacons and serialize their data
-        int count = 0;
-        for (BeaconObj beacon : beaconRegister.values()) {
-            // Determine which game this beacon belongs to
-            Game game = getGameMgr().getGame(beacon.getPoint());
-            String gameName = game == null ? "None" :  PlainTextComponentSerializer.plainText().serialize(game.getName());
+        for (BeaconObj beacon : gameRegister.getBeacons().values()) {
             beaconzYml.set("beacon." + count + ".game",gameName);
 
             // Store beacon ownership (team name or "unowned")
@@ -236,17 +325,15 @@ public class Register extends BeaconzPluginDependent {
             // Store links to other beacons (only outbound links to avoid duplication)
             if (game != null) {
                 List<String> beaconStringLinks = new ArrayList<>();
-                if (beaconLinks.containsKey(game)) {
-                    for (BeaconLink link : beaconLinks.get(game)) {
-                        // Only store each link once - when this beacon is beacon1
-                        // The reverse link will be auto-created during load
-                        if (!storedLinks.contains(link) && link.getBeacon1().equals(beacon)) {
-                            beaconStringLinks.add(link.getBeacon2().getX() +":" + link.getBeacon2().getZ()+ ":" + link.getTimeStamp());
-                            storedLinks.add(link);
-                        }
+                for (BeaconLink link : gameRegister.getLinks()) {
+                    // Only store each link once - when this beacon is beacon1
+                    // The reverse link will be auto-created during load
+                    if (!storedLinks.contains(link) && link.getBeacon1().equals(beacon)) {
+                        beaconStringLinks.add(link.getBeacon2().getX() +":" + link.getBeacon2().getZ()+ ":" + link.getTimeStamp());
+                        storedLinks.add(link);
                     }
-                    beaconzYml.set("beacon." + count + ".links", beaconStringLinks);
                 }
+                beaconzYml.set("beacon." + count + ".links", beaconStringLinks);
             }
 
             // Store map ID if this beacon has an associated map item
@@ -256,8 +343,12 @@ public class Register extends BeaconzPluginDependent {
 
             // Save base blocks (emerald blocks around the beacon)
             List<String> plinthBlocksString = new ArrayList<>();
-            for (Point2D point: baseBlocksInverse.get(beacon)) {
-                plinthBlocksString.add((int)point.getX() + ":" + (int)point.getY());
+            int id = idOf(beacon);
+            if (id != CoordIndex.NONE) {
+                for (int i = 0; i < baseCounts[id]; i++) {
+                    long key = baseBlocksInverse[id][i];
+                    plinthBlocksString.add(CoordIndex.x(key) + ":" + CoordIndex.z(key));
+                }
             }
             beaconzYml.set("beacon." + count + ".baseblocks", plinthBlocksString);
 
@@ -271,25 +362,10 @@ public class Register extends BeaconzPluginDependent {
             }
 
             // Save map item IDs associated with this beacon
-            List<String> maps = new ArrayList<>();
-            for (Integer id : beaconMaps.keySet()) {
-                if (beacon.equals(beaconMaps.get(id))) {
-                    // Verify the map still exists on the server before saving
-                    if (Bukkit.getMap(id) != null) {
-                        maps.add(String.valueOf(id));
-                    }
-                }
-            }
-            beaconzYml.set("beacon." + count + ".maps", maps);
+            beaconzYml.set("beacon." + count + ".maps", beaconMapIds.getOrDefault(beacon, new ArrayList<>()));
             count++;
         }
-
-        // Write the configuration to disk
-        try {
-            beaconzYml.save(beaconzFile);
-        } catch (IOException e) {
-            getLogger().severe("Failed to save beaconz.yml file: " + e.getMessage());
-        }
+        return count;
     }
 
     /**
@@ -325,166 +401,165 @@ public class Register extends BeaconzPluginDependent {
      * Beacons for deleted games are skipped during loading to prevent orphaned data.
      */
     public void loadRegister() {
-        // Clear existing data to start fresh
-        clear();
-
-        File beaconzFile = new File(getBeaconzPlugin().getDataFolder(),"beaconz.yml");
-        if (!beaconzFile.exists()) {
-            return;
-        }
-
-        // Load the YAML configuration from file
-        YamlConfiguration beaconzYml = new YamlConfiguration();
+        long start = LOAD_PERF.start();
         try {
-            beaconzYml.load(beaconzFile);
-        } catch (IOException e) {
-            getLogger().severe("Failed to load beaconz.yml file: " + e.getMessage());
-        } catch (InvalidConfigurationException e) {
-            getLogger().severe("Invalid YAML configuration in beaconz.yml: " + e.getMessage());
-        }
-
-        // === PHASE 1: Load all beacons ===
-        beaconLinks.clear();
-        // Temporary storage for link data (will be processed after all beacons are loaded)
-        HashMap<BeaconObj, List<String>> beaconStringLinks = new HashMap<>();
-        ConfigurationSection configSec = beaconzYml.getConfigurationSection("beacon");
-
-        if (configSec != null) {
-            for (String beacon : configSec.getValues(false).keySet()) {
-                // Parse beacon location string "x:y:z:owner"
-                String info = configSec.getString(beacon + ".location","");
-                String[] args = info.split(":");
-
-                if (!info.isEmpty() && args.length == 4) {
-                    if (NumberUtils.isNumber(args[0]) && NumberUtils.isNumber(args[1]) && NumberUtils.isNumber(args[2])) {
-                        int x = Integer.parseInt(args[0]);
-                        int y = Integer.parseInt(args[1]);
-                        int z = Integer.parseInt(args[2]);
-
-                        // Verify the game still exists at this location
-                        Game game = getGameMgr().getGame(x, z);
-                        if (game != null) {
-                            // Resolve team ownership
-                            Team team = null;
-                            if (!args[3].equalsIgnoreCase("unowned")) {
-                                team = game.getScorecard().getTeam(args[3]);
-                            }
+            // Clear existing data to start fresh
+            clear();
 
-                            // Create the beacon object and add to registry
-                            BeaconObj newBeacon = addBeacon(team, x, y, z);
+            File beaconzFile = new File(getBeaconzPlugin().getDataFolder(),"beaconz.yml");
+            if (!beaconzFile.exists()) {
+                return;
+            }
 
-                            // Store link data for later processing (after all beacons exist)
-                            beaconStringLinks.put(newBeacon, configSec.getStringList(beacon + ".links"));
+            // Load the YAML configuration from file
+            YamlConfiguration beaconzYml = new YamlConfiguration();
+            try {
+                beaconzYml.load(beaconzFile);
+            } catch (IOException e) {
+                getLogger().severe("Failed to load beaconz.yml file: " + e.getMessage());
+            } catch (InvalidConfigurationException e) {
+                getLogger().severe("Invalid YAML configuration in beaconz.yml: " + e.getMessage());
+            }
 
-                            // Initialize the link array for this game if needed
-                            if (beaconLinks.get(game) == null) {
-                                List<BeaconLink> pairs = new ArrayList<>();
-                                beaconLinks.put(game, pairs);
-                            }
+            // === PHASE 1: Load all beacons ===
+            // Temporary storage for link data (will be processed after all beacons are loaded)
+            HashMap<BeaconObj, List<String>> beaconStringLinks = new HashMap<>();
+            ConfigurationSection configSec = beaconzYml.getConfigurationSection("beacon");
+
+            if (configSec != null) {
+                for (String beacon : configSec.getValues(false).keySet()) {
+                    // Parse beacon location string "x:y:z:owner"
+                    String info = configSec.getString(beacon + ".location","");
+                    String[] args = info.split(":");
+
+                    if (!info.isEmpty() && args.length == 4) {
+                        if (NumberUtils.isNumber(args[0]) && NumberUtils.isNumber(args[1]) && NumberUtils.isNumber(args[2])) {
+                            int x = Integer.parseInt(args[0]);
+                            int y = Integer.parseInt(args[1]);
+                            int z = Integer.parseInt(args[2]);
+
+                            // Verify the game still exists at this location
+                            Game game = getGameMgr().getGame(x, z);
+                            if (game != null) {
+                                // Resolve team ownership
+                                Team team = null;
+                                if (!args[3].equalsIgnoreCase("unowned")) {
+                                    team = game.getScorecard().getTeam(args[3]);
+                                }
 
-                            // Load base blocks (emerald blocks around the beacon)
-                            List<String> baseBlocks = configSec.getStringList(beacon + ".baseblocks");
-                            for (String baseBlock : baseBlocks) {
-                                String[] args2 = baseBlock.split(":");
-                                if (args2.length == 2) {
-                                    if (NumberUtils.isNumber(args2[0]) && NumberUtils.isNumber(args2[1])) {
-                                        int blockX = Integer.parseInt(args2[0]);
-                                        int blockZ = Integer.parseInt(args2[1]);
-                                        addBeaconBaseBlock(blockX, blockZ, newBeacon);
+                                // Create the beacon object and add to registry
+                                BeaconObj newBeacon = addBeacon(team, x, y, z);
+
+                                // Store link data for later processing (after all beacons exist)
+                                beaconStringLinks.put(newBeacon, configSec.getStringList(beacon + ".links"));
+
+                                // Load base blocks (emerald blocks around the beacon)
+                                List<String> baseBlocks = configSec.getStringList(beacon + ".baseblocks");
+                                for (String baseBlock : baseBlocks) {
+                                    String[] args2 = baseBlock.split(":");
+                                    if (args2.length == 2) {
+                                        if (NumberUtils.isNumber(args2[0]) && NumberUtils.isNumber(args2[1])) {
+                                            int blockX = Integer.parseInt(args2[0]);
+                                            int blockZ = Integer.parseInt(args2[1]);
+                                            addBeaconBaseBlock(blockX, blockZ, newBeacon);
+                                        }
                                     }
                                 }
-                            }
 
-                            // Load defensive blocks with their levels
-                            ConfigurationSection defBlocks = configSec.getConfigurationSection(beacon + ".defensiveblocks");
-                            if (defBlocks != null) {
-                                for (String defenseBlock : defBlocks.getKeys(false)) {
-                                    // Get the block at the stored location
-                                    Block b = Beaconz.getLocationString(defenseBlock).getBlock();
-                                    int level = defBlocks.getInt(defenseBlock);
-                                    // Try to get the player who placed this defensive block
-                                    String owner = configSec.getString(beacon + ".defensiveblocksowner." + defenseBlock);
-                                    newBeacon.addDefenseBlock(b,level,owner);
+                                // Load defensive blocks with their levels
+                                ConfigurationSection defBlocks = configSec.getConfigurationSection(beacon + ".defensiveblocks");
+                                if (defBlocks != null) {
+                                    for (String defenseBlock : defBlocks.getKeys(false)) {
+                                        // Get the block at the stored location
+                                        Block b = Beaconz.getLocationString(defenseBlock).getBlock();
+                                        int level = defBlocks.getInt(defenseBlock);
+                                        // Try to get the player who placed this defensive block
+                                        String owner = configSec.getString(beacon + ".defensiveblocksowner." + defenseBlock);
+                                        newBeacon.addDefenseBlock(b,level,owner);
+                                    }
                                 }
-                            }
 
-                            // Load map item IDs and initialize renderers
-                            List<String> maps = configSec.getStringList(beacon + ".maps");
-                            for (String mapNumber: maps) {
-                                int id = Integer.parseInt(mapNumber);
-                                beaconMaps.put(id, newBeacon);
-                                MapView map = Bukkit.getMap(id);
-                                if (map != null) {
-                                    // Remove old renderers and add fresh ones
-                                    for (MapRenderer renderer : map.getRenderers()) {
-                                        if (renderer instanceof TerritoryMapRenderer || renderer instanceof BeaconMap) {
-                                            map.removeRenderer(renderer);
+                                // Load map item IDs and initialize renderers
+                                List<String> maps = configSec.getStringList(beacon + ".maps");
+                                for (String mapNumber: maps) {
+                                    int id = Integer.parseInt(mapNumber);
+                                    beaconMaps.put(id, newBeacon);
+                                    getGameRegister(newBeacon).getBeaconMaps().put(id, newBeacon);
+                                    MapView map = Bukkit.getMap(id);
+                                    if (map != null) {
+                                        // Remove old renderers and add fresh ones
+                                        for (MapRenderer renderer : map.getRenderers()) {
+                                            if (renderer instanceof TerritoryMapRenderer || renderer instanceof BeaconMap) {
+                                                map.removeRenderer(renderer);
+                                            }
                                         }
+                                        map.addRenderer(new TerritoryMapRenderer(getBeaconzPlugin()));
+                                        map.addRenderer(new BeaconMap(getBeaconzPlugin()));
+                                    } else {
+                                        getLogger().severe("Could not load map #" + id + " as it doesn't exist on this server. Skipping...");
                                     }
-                                    map.addRenderer(new TerritoryMapRenderer(getBeaconzPlugin()));
-                                    map.addRenderer(new BeaconMap(getBeaconzPlugin()));
-                                } else {
-                                    getLogger().severe("Could not load map #" + id + " as it doesn't exist on this server. Skipping...");
                                 }
                             }
+                            // If game is null, beacon is from a deleted game - skip it
                         }
-                        // If game is null, beacon is from a deleted game - skip it
                     }
                 }
             }
-        }
 
-        // === PHASE 2: Reconstruct beacon links ===
-        // Now that all beacons exist, we can resolve link references
-        long count = 0;
-        for (BeaconObj beacon: beaconStringLinks.keySet()) {
-            for (String link : beaconStringLinks.get(beacon)) {
-                // Parse link string "destX:destZ:timestamp"
-                String[] args = link.split(":");
-                BeaconObj dest = beaconRegister.get(new Point2D.Double(Double.parseDouble(args[0]), Double.parseDouble(args[1])));
-                if (dest != null) {
-                    // Extract timestamp (or assign sequential timestamp if missing from old saves)
-                    long linkTime;
-                    if (args.length == 3) {
-                        linkTime = Long.parseLong(args[2]);
-                    } else {
-                        // Old format without timestamp - assign sequential times
-                        count += 1000;
-                        linkTime = count;
-                    }
-
-                    // Create the link object
-                    BeaconLink newBeaconPair = new BeaconLink(beacon, dest, linkTime);
-                    Game game = getGameMgr().getGame(beacon.getPoint());
-                    if (game != null) {
-                        if (beaconLinks.get(game) == null) {
-                            List<BeaconLink> pairs = new ArrayList<>();
-                            beaconLinks.put(game, pairs);
-                        }
-                        // Check for duplicate links before adding
-                        if (!beaconLinks.get(game).contains(newBeaconPair)) {
-                            beaconLinks.get(game).add(newBeaconPair);
+            // === PHASE 2: Reconstruct beacon links ===
+            // Now that all beacons exist, we can resolve link references
+            long count = 0;
+            for (BeaconObj beacon: beaconStringLinks.keySet()) {
+                for (String link : beaconStringLinks.get(beacon)) {
+                    // Parse link string "destX:destZ:timestamp"
+                    String[] args = link.split(":");
+                    BeaconObj dest = getBeaconAt((int) Double.parseDouble(args[0]), (int) Double.parseDouble(args[1]));
+                    if (dest != null) {
+                        // Extract timestamp (or assign sequential timestamp if missing from old saves)
+                        long linkTime;
+                        if (args.length == 3) {
+                            linkTime = Long.parseLong(args[2]);
                         } else {
-                            getLogger().warning("Removed duplicate link");
+                            // Old format without timestamp - assign sequential times
+                            count += 1000;
+                            linkTime = count;
+                        }
+
+                        // Create the link object
+                        BeaconLink newBeaconPair = new BeaconLink(beacon, dest, linkTime);
+                        GameRegister gameRegister = getGameRegister(beacon);
+                        if (gameRegister.getGame() != null) {
+                            // Check for duplicate links before adding
+                            if (!gameRegister.getLinks().contains(newBeaconPair)) {
+                                gameRegister.getLinks().add(newBeaconPair);
+                            } else {
+                                getLogger().warning("Removed duplicate link");
+                            }
                         }
                     }
                 }
             }
-        }
 
-        // === PHASE 3: Create beacon links and triangle fields ===
-        // Process each game's links in chronological order
-        for (Entry<Game, List<BeaconLink>> entry : beaconLinks.entrySet()) {
-            // Sort by timestamp to recreate links in the same order they were made
-            Collections.sort(entry.getValue());
+            // === PHASE 3: Create beacon links and triangle fields ===
+            // Process each game's links in chronological order
+            for (GameRegister gameRegister : new ArrayList<>(gameRegisters.values())) {
+                if (gameRegister.getGame() == null) {
+                    continue;
+                }
+                // Sort by timestamp to recreate links in the same order they were made
+                Collections.sort(gameRegister.getLinks());
+
+                // Create the actual bidirectional links in the beacon objects
+                for (BeaconLink beaconPair: gameRegister.getLinks()) {
+                    beaconPair.getBeacon1().addOutboundLink(beaconPair.getBeacon2());
+                }
 
-            // Create the actual bidirectional links in the beacon objects
-            for (BeaconLink beaconPair: entry.getValue()) {
-                beaconPair.getBeacon1().addOutboundLink(beaconPair.getBeacon2());
+                // Recalculate scores and auto-generate triangle fields
+                recalculateScore(gameRegister.getGame());
             }
-
-            // Recalculate scores and auto-generate triangle fields
-            recalculateScore(entry.getKey());
+            markChanged();
+        } finally {
+            LOAD_PERF.stop(start);
         }
     }
 
@@ -512,6 +587,11 @@ public class Register extends BeaconzPluginDependent {
      * When a region is specified, only beacons, links, triangles, and maps
      * associated with that region are removed. Other game data remains intact.
      * <p>
+     * The region's game owns a {@link GameRegister} partition, so this drops the partition and
+     * removes only its keys from the global lookup tables - no other game's data is visited.
+     * The partition that holds beacons outside any game is also swept by coordinate, because
+     * beacons generated before the region had a game may still be in it.
+     * <p>
      * This is used when deleting a game or regenerating a specific region.
      *
      * @param region the region to clear, or null to clear all data
@@ -519,18 +599,314 @@ public class Register extends BeaconzPluginDependent {
     public void clear(Region region) {
         if (region == null) {
             beaconMaps.clear();
-            beaconRegister.clear();
+            beaconIndex.clear();
+            baseBlocks.clear();
+            protectedColumns.clear();
+            beacons = new BeaconObj[64];
+            baseBlocksInverse = new long[64][];
+            baseCounts = new int[64];
+            beaconCount = 0;
+            nextId = 0;
+            freeCount = 0;
             triangleFields.clear();
-            //links.clear();
-            beaconLinks.clear();
+            gameRegisters.clear();
+            markChanged();
+            return;
+        }
+        boolean changed = false;
+        if (region.getGame() != null) {
+            GameRegister gameRegister = gameRegisters.remove(region.getGame());
+            if (gameRegister != null) {
+                gameRegister.getBeaconMaps().keySet().forEach(beaconMaps::remove);
+                gameRegister.getBeacons().values().forEach(this::unregisterBeacon);
+                triangleFields.removeAll(gameRegister.getTriangleFields());
+                changed = true;
+            }
+        }
+        GameRegister outside = gameRegisters.get(null);
+        if (outside != null && moveRegion(outside, region, null)) {
+            changed = true;
+        }
+        if (changed) {
+            markChanged();
+        }
+    }
+
+    /**
+     * Moves beacons that are inside a game's region into the game's partition.
+     * <p>
+     * A beacon's partition is picked when it is added. Beacons in chunks generated before the
+     * game was registered, e.g. a region regenerated and then reused by a new game, end up in
+     * the partition that holds beacons outside any game. This moves them, with their links,
+     * triangles and maps, to where {@link #getGameRegister(BeaconObj)} now looks for them.
+     *
+     * @param game the game that has just been registered
+     */
+    public void adoptBeacons(Game game) {
+        GameRegister outside = gameRegisters.get(null);
+        if (outside == null || game == null || game.getRegion() == null) {
+            return;
+        }
+        GameRegister gameRegister = gameRegisters.computeIfAbsent(game, GameRegister::new);
+        if (moveRegion(outside, game.getRegion(), gameRegister)) {
+            markChanged();
+        }
+    }
+
+    /**
+     * Takes everything inside a region out of a partition.
+     *
+     * @param from the partition to take from
+     * @param region the region
+     * @param to the partition to move it to, or null to remove it from the register
+     * @return true if anything was taken
+     */
+    private boolean moveRegion(GameRegister from, Region region, GameRegister to) {
+        boolean changed = false;
+        Iterator<Entry<Point2D, BeaconObj>> beaconIt = from.getBeacons().entrySet().iterator();
+        while (beaconIt.hasNext()) {
+            Entry<Point2D, BeaconObj> en = beaconIt.next();
+            if (region.containsPoint(en.getKey())) {
+                beaconIt.remove();
+                if (to == null) {
+                    unregisterBeacon(en.getValue());
+                } else {
+                    to.getBeacons().put(en.getKey(), en.getValue());
+                }
+                changed = true;
+            }
+        }
+        Iterator<Entry<Integer, BeaconObj>> mapIt = from.getBeaconMaps().entrySet().iterator();
+        while (mapIt.hasNext()) {
+            Entry<Integer, BeaconObj> en = mapIt.next();
+            if (region.containsPoint(en.getValue().getX(), en.getValue().getZ())) {
+                mapIt.remove();
+                if (to == null) {
+                    beaconMaps.remove(en.getKey());
+                } else {
+                    to.getBeaconMaps().put(en.getKey(), en.getValue());
+                }
+                changed = true;
+            }
+        }
+        Iterator<BeaconLink> linkIt = from.getLinks().iterator();
+        while (linkIt.hasNext()) {
+            BeaconLink link = linkIt.next();
+            if (region.containsPoint(link.getBeacon1().getX(), link.getBeacon1().getZ())) {
+                linkIt.remove();
+                if (to != null) {
+                    to.getLinks().add(link);
+                }
+                changed = true;
+            }
+        }
+        Iterator<TriangleField> triangleIt = from.getTriangleFields().iterator();
+        while (triangleIt.hasNext()) {
+            TriangleField triangle = triangleIt.next();
+            if (region.containsPoint(triangle.a)) {
+                triangleIt.remove();
+                if (to == null) {
+                    triangleFields.remove(triangle);
+                } else {
+                    to.getTriangleFields().add(triangle);
+                }
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Removes a beacon and its base blocks from the global lookup tables.
+     *
+     * @param beacon the beacon to remove
+     */
+    private void unregisterBeacon(BeaconObj beacon) {
+        int id = idOf(beacon);
+        if (id == CoordIndex.NONE) {
+            return;
+        }
+        long beaconKey = CoordIndex.key(beacon.getX(), beacon.getZ());
+        beaconIndex.remove(beaconKey);
+        unprotect(beaconKey);
+        for (int i = 0; i < baseCounts[id]; i++) {
+            long key = baseBlocksInverse[id][i];
+            // The column may have been taken over by another beacon since
+            if (baseBlocks.get(key) == id) {
+                baseBlocks.remove(key);
+                unprotect(key);
+            }
+        }
+        beacons[id] = null;
+        baseBlocksInverse[id] = null;
+        baseCounts[id] = 0;
+        beaconCount--;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    /**
+     * Puts a beacon in the register and gives it an ID
+     *
+     * @param beacon the beacon
+     * @return the beacon's ID
+     */
+    private int registerBeacon(BeaconObj beacon) {
+        long key = CoordIndex.key(beacon.getX(), beacon.getZ());
+        int old = beaconIndex.get(key);
+        if (old != CoordIndex.NONE) {
+            // A beacon replaces any beacon that was already in this column
+            unregisterBeacon(beacons[old]);
+        }
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
         } else {
-            beaconMaps.entrySet().removeIf(en -> region.containsBeacon(en.getValue()));
-            beaconRegister.entrySet().removeIf(en -> region.containsPoint(en.getKey()));
-            triangleFields.removeIf(tri -> region.containsPoint(tri.a));
-            beaconLinks.remove(region.getGame());
+            id = nextId++;
+            if (id == beacons.length) {
+                int length = beacons.length * 2;
+                beacons = Arrays.copyOf(beacons, length);
+                baseBlocksInverse = Arrays.copyOf(baseBlocksInverse, length);
+                baseCounts = Arrays.copyOf(baseCounts, length);
+            }
+        }
+        beacons[id] = beacon;
+        beaconIndex.put(key, id);
+        protectedColumns.set(beacon.getX(), beacon.getZ());
+        beaconCount++;
+        return id;
+    }
+
+    /**
+     * Drops a column from the protected columns if no beacon or base block is left in it
+     *
+     * @param key the packed column
+     */
+    private void unprotect(long key) {
+        if (beaconIndex.get(key) == CoordIndex.NONE && baseBlocks.get(key) == CoordIndex.NONE) {
+            protectedColumns.unset(CoordIndex.x(key), CoordIndex.z(key));
         }
     }
 
+    /**
+     * Adds a base block column to a beacon
+     *
+     * @param id the beacon's ID
+     * @param key the packed column of the base block
+     */
+    private void addBase(int id, long key) {
+        int previous = baseBlocks.put(key, id);
+        if (previous == id) {
+            return;
+        }
+        protectedColumns.set(CoordIndex.x(key), CoordIndex.z(key));
+        // A new column means a new place for the clearance check to look
+        beacons[id].structureChanged();
+        if (previous != CoordIndex.NONE) {
+            // The column moves from another beacon to this one
+            removeBase(previous, key);
+            if (beacons[previous] != null) {
+                beacons[previous].structureChanged();
+            }
+        }
+        long[] keys = baseBlocksInverse[id];
+        if (keys == null) {
+            keys = new long[8];
+        } else if (baseCounts[id] == keys.length) {
+            keys = Arrays.copyOf(keys, keys.length * 2);
+        }
+        keys[baseCounts[id]++] = key;
+        baseBlocksInverse[id] = keys;
+    }
+
+    private void removeBase(int id, long key) {
+        long[] keys = baseBlocksInverse[id];
+        for (int i = 0; i < baseCounts[id]; i++) {
+            if (keys[i] == key) {
+                keys[i] = keys[--baseCounts[id]];
+                return;
+            }
+        }
+    }
+
+    /**
+     * @param beacon a beacon
+     * @return the beacon's ID, or {@link CoordIndex#NONE} if it is not in the register
+     */
+    private int idOf(BeaconObj beacon) {
+        int id = beaconIndex.get(beacon.getX(), beacon.getZ());
+        return id != CoordIndex.NONE && beacons[id] == beacon ? id : CoordIndex.NONE;
+    }
+
+    /**
+     * @param id a beacon ID, or {@link CoordIndex#NONE}
+     * @return the beacon, or null
+     */
+    private BeaconObj beacon(int id) {
+        return id == CoordIndex.NONE ? null : beacons[id];
+    }
+
+    /**
+     * Gets the register partition for a game.
+     *
+     * @param game the game, or null for beacons that are not in any game
+     * @return the game's partition, or null if nothing has been registered for it
+     */
+    public GameRegister getGameRegister(Game game) {
+        return gameRegisters.get(game);
+    }
+
+    /**
+     * Gets the partition that holds the game at a coordinate, creating it if needed.
+     *
+     * @param x the X coordinate
+     * @param z the Z coordinate
+     * @return the partition, never null
+     */
+    private GameRegister getGameRegister(int x, int z) {
+        Game game = getGameMgr().getGame(x, z);
+        return gameRegisters.computeIfAbsent(game, GameRegister::new);
+    }
+
+    /**
+     * Gets the partition that a beacon belongs to, creating it if needed.
+     *
+     * @param beacon the beacon
+     * @return the partition, never null
+     */
+    private GameRegister getGameRegister(BeaconObj beacon) {
+        return getGameRegister(beacon.getX(), beacon.getZ());
+    }
+
+    /**
+     * Gets the partitions that hold a team's data. This is the partition of the team's game,
+     * or every partition if the team cannot be matched to a game.
+     *
+     * @param team the team
+     * @return the partitions to search
+     */
+    private Collection<GameRegister> getTeamRegisters(Team team) {
+        Game game = getGameMgr().getGame(team);
+        if (game == null) {
+            return gameRegisters.values();
+        }
+        GameRegister gameRegister = gameRegisters.get(game);
+        return gameRegister == null ? Collections.emptyList() : Collections.singletonList(gameRegister);
+    }
+
+    /**
+     * Gets all the beacons in a game.
+     *
+     * @param game the game
+     * @return a copy of the game's beacons, empty if it has none
+     */
+    public List<BeaconObj> getGameBeacons(Game game) {
+        GameRegister gameRegister = gameRegisters.get(game);
+        return gameRegister == null ? new ArrayList<>() : new ArrayList<>(gameRegister.getBeacons().values());
+    }
+
     /**
      * Creates a new link between two beacons and attempts to form triangle fields.
      * <p>
@@ -566,17 +942,15 @@ public class Register extends BeaconzPluginDependent {
      * @return LinkResult containing: (fieldsMade, success, fieldsFailed)
      */
     public LinkResult addBeaconLink(BeaconObj startBeacon, BeaconObj endBeacon) {
-        Game game = getGameMgr().getGame(startBeacon.getPoint());
+        List<BeaconLink> links = getGameRegister(startBeacon).getLinks();
 
         // Create link object with current timestamp
         BeaconLink beaconPair = new BeaconLink(startBeacon, endBeacon);
 
-        // Initialize link list for this game if needed
-        beaconLinks.computeIfAbsent(game, k -> new ArrayList<>());
-
         // Check for duplicate links (links are compared bidirectionally)
-        if (!beaconLinks.get(game).contains(beaconPair)) {
-            beaconLinks.get(game).add(beaconPair);
+        if (!links.contains(beaconPair)) {
+            links.add(beaconPair);
+            markChanged();
 
             // Try to add the link to the beacon's outbound link list
             // This can fail if the beacon has reached its link limit
@@ -635,8 +1009,9 @@ public class Register extends BeaconzPluginDependent {
      */
     public int getTeamLinks(Team team) {
         int result = 0;
-        if (getGameMgr().getGame(team) != null && beaconLinks.containsKey(getGameMgr().getGame(team))) {
-            for (BeaconLink pair: beaconLinks.get(getGameMgr().getGame(team))) {
+        Game game = getGameMgr().getGame(team);
+        if (game != null && gameRegisters.containsKey(game)) {
+            for (BeaconLink pair: gameRegisters.get(game).getLinks()) {
                 if (pair.getOwner().equals(team)) {
                     result++;
                 }
@@ -648,16 +1023,18 @@ public class Register extends BeaconzPluginDependent {
     /**
      * Gets all beacons owned by a specific team.
      * <p>
-     * This iterates through the entire beacon registry and filters by ownership.
+     * Only the beacons of the team's game are checked.
      *
      * @param team the team whose beacons to retrieve
      * @return list of BeaconObj instances owned by the team, or empty list if none
      */
     public List<BeaconObj> getTeamBeacons(Team team) {
         List<BeaconObj> teambeacons = new ArrayList<>();
-        for (BeaconObj beacon : beaconRegister.values()) {
-            if (beacon.getOwnership() != null && beacon.getOwnership().equals(team)) {
-                teambeacons.add(beacon);
+        for (GameRegister gameRegister : getTeamRegisters(team)) {
+            for (BeaconObj beacon : gameRegister.getBeacons().values()) {
+                if (beacon.getOwnership() != null && beacon.getOwnership().equals(team)) {
+                    teambeacons.add(beacon);
+                }
             }
         }
         return teambeacons;
@@ -673,9 +1050,11 @@ public class Register extends BeaconzPluginDependent {
      */
     public int getTeamTriangles(Team team) {
         int teamtriangles = 0;
-        for (TriangleField triangle : triangleFields) {
-            if (triangle.getOwner() != null && triangle.getOwner().equals(team)) {
-                teamtriangles++;
+        for (GameRegister gameRegister : getTeamRegisters(team)) {
+            for (TriangleField triangle : gameRegister.getTriangleFields()) {
+                if (triangle.getOwner() != null && triangle.getOwner().equals(team)) {
+                    teamtriangles++;
+                }
             }
         }
         return teamtriangles;
@@ -691,7 +1070,11 @@ public class Register extends BeaconzPluginDependent {
      * @return total area in square blocks controlled by the team
      */
     public int getTeamArea(Team team) {
-        return (int) TriangleScorer.getScore(triangleFields, team);
+        long area = 0;
+        for (GameRegister gameRegister : getTeamRegisters(team)) {
+            area += TriangleScorer.getScore(gameRegister.getTriangleFields(), team);
+        }
+        return (int) area;
     }
 
     /**
@@ -724,34 +1107,25 @@ public class Register extends BeaconzPluginDependent {
     public BeaconObj addBeacon(Team owner, int x, int y, int z) {
         // Create the beacon object
         BeaconObj beacon = new BeaconObj(getBeaconzPlugin(), x, y, z, owner);
+        GameRegister gameRegister = getGameRegister(x, z);
+
+        // Register the beacon itself
+        int id = registerBeacon(beacon);
+        gameRegister.getBeacons().put(beacon.getPoint(), beacon);
+        markChanged();
 
-        // Register the beacon and create the 3x3 initial base block grid
+        // Create the 3x3 initial base block grid - the surrounding 8 positions are base blocks (emerald blocks)
         for (int xx = x-1; xx <= x + 1; xx++) {
             for (int zz = z - 1; zz <= z + 1; zz++) {
-                Point2D location = new Point2D.Double(xx,zz);
-
-                if (xx == x && zz == z) {
-                    // Center position - register the beacon itself
-                    beaconRegister.put(location, beacon);
-                } else {
-                    // Surrounding 8 positions - register as base blocks (emerald blocks)
-                    baseBlocks.put(location, beacon);
-
-                    // Also maintain inverse mapping (beacon → set of base blocks)
-                    Set<Point2D> points = baseBlocksInverse.get(beacon);
-                    if (points == null) {
-                        points = new HashSet<>();
-                    }
-                    points.add(location);
-                    baseBlocksInverse.put(beacon, points);
+                if (xx != x || zz != z) {
+                    addBase(id, CoordIndex.key(xx, zz));
                 }
             }
         }
 
         // Update team scores if this is an owned beacon
-        if (owner != null) {
-            Game game = getGameMgr().getGame(x, z);
-            game.getScorecard().refreshScores(owner);
+        if (owner != null && gameRegister.getGame() != null) {
+            gameRegister.getGame().getScorecard().refreshScores(owner);
         }
 
         return beacon;
@@ -791,17 +1165,21 @@ public class Register extends BeaconzPluginDependent {
      */
     public Boolean addTriangle(Point2D point2d, Point2D point2d2, Point2D point2d3, Team owner)  throws IllegalArgumentException {
         // Verify all three points are registered beacons
-        if (beaconRegister.containsKey(point2d) && beaconRegister.containsKey(point2d2) && beaconRegister.containsKey(point2d3)) {
+        BeaconObj beacon1 = getBeaconAt((int) point2d.getX(), (int) point2d.getY());
+        BeaconObj beacon2 = getBeaconAt((int) point2d2.getX(), (int) point2d2.getY());
+        BeaconObj beacon3 = getBeaconAt((int) point2d3.getX(), (int) point2d3.getY());
+        if (beacon1 != null && beacon2 != null && beacon3 != null) {
             // Verify all three beacons are owned by the same team
-            if (beaconRegister.get(point2d).getOwnership().equals(owner)
-                    && beaconRegister.get(point2d2).getOwnership().equals(owner)
-                    && beaconRegister.get(point2d3).getOwnership().equals(owner)) {
+            if (beacon1.getOwnership().equals(owner)
+                    && beacon2.getOwnership().equals(owner)
+                    && beacon3.getOwnership().equals(owner)) {
 
                 // Create the triangle object
                 TriangleField triangle = new TriangleField(point2d, point2d2, point2d3, owner);
+                GameRegister gameRegister = getGameRegister((int)point2d.getX(), (int)point2d.getY());
 
-                // Check for conflicts with existing triangles
-                for (TriangleField triangleField : triangleFields) {
+                // Check for conflicts with existing triangles - only this game's triangles can overlap
+                for (TriangleField triangleField : gameRegister.getTriangleFields()) {
                     // Prevent enemy triangle overlaps (mutual containment)
                     // If either triangle fully contains the other, reject
                     if (!triangle.getOwner().equals(triangleField.getOwner()) &&
@@ -826,10 +1204,13 @@ public class Register extends BeaconzPluginDependent {
                 }
 
                 // All validations passed - add the triangle to the field set
-                if (triangleFields.add(triangle)) {
+                if (gameRegister.getTriangleFields().add(triangle)) {
+                    triangleFields.add(triangle);
+                    markChanged();
                     // Successfully added! Update team scores
-                    Game game = getGameMgr().getGame(point2d);
-                    game.getScorecard().refreshScores(owner);
+                    if (gameRegister.getGame() != null) {
+                        gameRegister.getGame().getScorecard().refreshScores(owner);
+                    }
                     return true;
                 }
             } else {
@@ -844,17 +1225,84 @@ public class Register extends BeaconzPluginDependent {
     }
 
     /**
-     * @return the beaconRegister
+     * @return a read-only view of the register, beacons by their (x,z) coordinates
      */
-    public HashMap<Point2D, BeaconObj> getBeaconRegister() {
+    public Map<Point2D, BeaconObj> getBeaconRegister() {
         return beaconRegister;
     }
 
+    /**
+     * Read-only map over the beacon arrays. Lookups go through the beacon index and do not
+     * copy anything, so callers can keep using the register as a map.
+     */
+    private final class BeaconRegisterView extends AbstractMap<Point2D, BeaconObj> {
+
+        @Override
+        public BeaconObj get(Object key) {
+            return key instanceof Point2D point ? getBeaconAt((int) point.getX(), (int) point.getY()) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public int size() {
+            return beaconCount;
+        }
+
+        @Override
+        public Set<Entry<Point2D, BeaconObj>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<Point2D, BeaconObj>> iterator() {
+                    return new Iterator<>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < nextId && beacons[from] == null) {
+                                from++;
+                            }
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < nextId;
+                        }
+
+                        @Override
+                        public Entry<Point2D, BeaconObj> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            BeaconObj beacon = beacons[next];
+                            next = advance(next + 1);
+                            return new SimpleImmutableEntry<>(beacon.getPoint(), beacon);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return beaconCount;
+                }
+            };
+        }
+    }
+
     /**
      * @param triangleFields the triangleFields to set
      */
     public void setTriangleFields(Set<TriangleField> triangleFields) {
         this.triangleFields = triangleFields;
+        // Redistribute the triangles to their games
+        gameRegisters.values().forEach(gameRegister -> gameRegister.getTriangleFields().clear());
+        for (TriangleField triangle : triangleFields) {
+            getGameRegister((int)triangle.a.getX(), (int)triangle.a.getY()).getTriangleFields().add(triangle);
+        }
+        markChanged();
     }
 
     /**
@@ -864,6 +1312,23 @@ public class Register extends BeaconzPluginDependent {
         return triangleFields;
     }
 
+    /**
+     * @return the version of the register. It changes whenever something that scores are
+     * worked out from changes.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Records that beacons, owners, links or triangles have changed. Called by everything in
+     * here that changes them, and by code that changes them directly, such as
+     * {@link BeaconObj#removeLongestLink()}.
+     */
+    public void markChanged() {
+        version++;
+    }
+
     /**
      * Checks if a block is part of a natural beacon
      * @param b
@@ -881,15 +1346,36 @@ public class Register extends BeaconzPluginDependent {
      */
     public boolean isNearBeacon(Point2D point, int range) {
         int distSquared = range*range;
-        for (Point2D beacon : beaconRegister.keySet()) {
+        for (int id = 0; id < nextId; id++) {
             // Distance squared check is less computationally intensive than checking the square
-            if (distSquared > point.distanceSq(beacon)) {
+            if (beacons[id] != null && distSquared > point.distanceSq(beacons[id].getPoint())) {
                 return true;
             }
         }
         return false;
     }
 
+    /**
+     * Gets the beacons whose columns are inside an area. Used to find, once, the few beacons an
+     * explosion or other area effect could reach.
+     * @param minX lowest x, inclusive
+     * @param minZ lowest z, inclusive
+     * @param maxX highest x, inclusive
+     * @param maxZ highest z, inclusive
+     * @return list of beacons in the area, empty if there are none
+     */
+    public List<BeaconObj> getBeaconsInArea(int minX, int minZ, int maxX, int maxZ) {
+        List<BeaconObj> result = new ArrayList<>();
+        for (int id = 0; id < nextId; id++) {
+            BeaconObj beacon = beacons[id];
+            if (beacon != null && beacon.getX() >= minX && beacon.getX() <= maxX
+                    && beacon.getZ() >= minZ && beacon.getZ() <= maxZ) {
+                result.add(beacon);
+            }
+        }
+        return result;
+    }
+
     /**
      * Get a list of all nearby beacons within range
      * @param location
@@ -900,10 +1386,10 @@ public class Register extends BeaconzPluginDependent {
         int distSquared = range*range;
         List<BeaconObj> result = new ArrayList<>();
         Point2D point = new Point2D.Double(location.getX(), location.getZ());
-        for (Point2D beacon : beaconRegister.keySet()) {
+        for (int id = 0; id < nextId; id++) {
             // Distance squared check is less computationally intensive than checking the square
-            if (distSquared > point.distanceSq(beacon)) {
-                result.add(beaconRegister.get(beacon));
+            if (beacons[id] != null && distSquared > point.distanceSq(beacons[id].getPoint())) {
+                result.add(beacons[id]);
             }
         }
         return result;
@@ -929,20 +1415,17 @@ public class Register extends BeaconzPluginDependent {
     public BeaconObj getBeacon(Block block) {
         if (DEBUG) getLogger().info("DEBUG: getBeacon ");
         // Quick check
-        if (!block.getType().equals(Material.BEACON) && !block.getType().equals(Material.DIAMOND_BLOCK)
-                && !block.getType().equals(Material.OBSIDIAN) &&  !block.getType().name().endsWith("STAINED_GLASS")
-                && !block.getType().equals(Material.EMERALD_BLOCK)) {
+        int role = MaterialRoles.of(block.getType());
+        if ((role & MaterialRoles.STRUCTURE) == 0) {
             if (DEBUG) getLogger().info("DEBUG: wrong type ");
             return null;
         }
-        Point2D point = new Point2D.Double(block.getLocation().getBlockX(),block.getLocation().getBlockZ());
-
         // Check plinth blocks
-        if (block.getType().equals(Material.EMERALD_BLOCK)) {
+        if ((role & MaterialRoles.PLINTH) != 0) {
             if (DEBUG) getLogger().info("DEBUG: emerald ");
-            if (baseBlocks.containsKey(point)) {
+            BeaconObj beacon = beacon(baseBlocks.get(block.getX(), block.getZ()));
+            if (beacon != null) {
                 // Check height
-                BeaconObj beacon = baseBlocks.get(point);
                 if (beacon.getY() == block.getY() + 1) {
                     // Correct height
                     return beacon;
@@ -953,20 +1436,19 @@ public class Register extends BeaconzPluginDependent {
         }
 
         // Check glass or obsidian
-        if (block.getType().equals(Material.OBSIDIAN) || block.getType().name().endsWith("STAINED_GLASS")) {
+        if ((role & (MaterialRoles.CAPSTONE | MaterialRoles.TEAM_GLASS)) != 0) {
             if (DEBUG) getLogger().info("DEBUG: obsidian or stained glass ");
             Block below = block.getRelative(BlockFace.DOWN);
             if (!below.getType().equals(Material.BEACON)) {
                 return null;
             }
-            point = new Point2D.Double(below.getLocation().getBlockX(),below.getLocation().getBlockZ());
             // Beacon below
-            return beaconRegister.getOrDefault(point, null);
+            return getBeaconAt(below.getX(), below.getZ());
         }
         // Check beacons
-        if (block.getType().equals(Material.BEACON)) {
+        if ((role & MaterialRoles.BEACON) != 0) {
             if (DEBUG) getLogger().info("DEBUG: beacon ");
-            return beaconRegister.getOrDefault(point, null);
+            return getBeaconAt(block.getX(), block.getZ());
         }
         // Check the pyramid around the beacon
         if (DEBUG) getLogger().info("DEBUG: check pyramid ");
@@ -978,10 +1460,10 @@ public class Register extends BeaconzPluginDependent {
                     if (DEBUG) getLogger().info("DEBUG: test is " + test.getType() + " and is at " + test.getLocation());
                     if (test.getType().equals(Material.BEACON)) {
                         if (DEBUG) getLogger().info("DEBUG: test is a beacon. Check if it's a known beacon ");
-                        point = new Point2D.Double(test.getLocation().getBlockX(),test.getLocation().getBlockZ());
-                        if (beaconRegister.containsKey(point)) {
+                        BeaconObj beacon = getBeaconAt(test.getX(), test.getZ());
+                        if (beacon != null) {
                             if (DEBUG) getLogger().info("DEBUG: beacon found ");
-                            return beaconRegister.get(point);
+                            return beacon;
                         }
                     }
                 }
@@ -1005,41 +1487,40 @@ public class Register extends BeaconzPluginDependent {
      * @param quiet - if true, then no messages are sent to the team
      */
     public void removeBeaconOwnership(BeaconObj beacon, Boolean quiet) {
-        Game game = getGameMgr().getGame(beacon.getPoint());
+        GameRegister gameRegister = getGameRegister(beacon);
         Team oldOwner = beacon.getOwnership();
         beacon.setOwnership(null);
+        markChanged();
 
         // Remove links to the beacon (and back)
         for (BeaconObj beaconObj : beacon.getLinks()) {
             beaconObj.removeLink(beacon);
         }
-        if (!beaconLinks.isEmpty() && game != null) {
-            if (beaconLinks.get(game) != null) {
-                // Remove links from this register
-                beaconLinks.get(game).removeIf(beaconPair -> beaconPair.getBeacon1().equals(beacon) || beaconPair.getBeacon2().equals(beacon));
-                Iterator<BeaconLink> linkIterator = beaconLinks.get(game).iterator();
-                int linkLossCount = 0;
-                while (linkIterator.hasNext()) {
-                    BeaconLink pair = linkIterator.next();
-                    if (pair.getBeacon1().equals(beacon) || pair.getBeacon2().equals(beacon)) {
-                        linkLossCount++;
-                        linkIterator.remove();
-                    }
+        if (gameRegister.getGame() != null) {
+            // Remove links from this register
+            List<BeaconLink> links = gameRegister.getLinks();
+            links.removeIf(beaconPair -> beaconPair.getBeacon1().equals(beacon) || beaconPair.getBeacon2().equals(beacon));
+            Iterator<BeaconLink> linkIterator = links.iterator();
+            int linkLossCount = 0;
+            while (linkIterator.hasNext()) {
+                BeaconLink pair = linkIterator.next();
+                if (pair.getBeacon1().equals(beacon) || pair.getBeacon2().equals(beacon)) {
+                    linkLossCount++;
+                    linkIterator.remove();
                 }
-                // linkLossCount should always be a multiple of 2 because links go both ways
-                // so divide it by two
-                linkLossCount /= 2;
-                // Tell folks what's going on
-                if (oldOwner != null) {
-                    if (linkLossCount == 1 && !quiet) {
-                        getMessages().tellTeam(oldOwner, Lang.linkLostLink.color(NamedTextColor.RED));
-                        getMessages().tellOtherTeams(oldOwner,Lang.linkTeamLostLink.replaceText(builder -> builder.matchLiteral("[team]").replacement(oldOwner.displayName())).color(NamedTextColor.GREEN));
-                    } else if (linkLossCount > 1) {
-                        String count = String.valueOf(linkLossCount);
-                        getMessages().tellTeam(oldOwner, Lang.linkLostLinks.replaceText(builder -> builder.matchLiteral("[number]").replacement(Component.text(count))).color(NamedTextColor.RED));
-                        getMessages().tellOtherTeams(oldOwner, Lang.linkTeamLostLinks.replaceText(builder -> builder.matchLiteral("[team]")
-                                .replacement(oldOwner.displayName())).replaceText(builder -> builder.matchLiteral("[number]").replacement(Component.text(count))).color(NamedTextColor.GREEN));
-                    }
+            }
+            // linkLossCount should always be a multiple of 2 because links go both ways
+            // so divide it by two
+            linkLossCount /= 2;
+            // Tell folks what's going on
+            if (oldOwner != null) {
+                if (linkLossCount == 1 && !quiet) {
+                    getMessages().tellTeam(oldOwner, Lang.linkLostLink.color(NamedTextColor.RED));
+                    getMessages().tellOtherTeams(oldOwner,Lang.format(Lang.linkTeamLostLink, "[team]", oldOwner.displayName()).color(NamedTextColor.GREEN));
+                } else if (linkLossCount > 1) {
+                    String count = String.valueOf(linkLossCount);
+                    getMessages().tellTeam(oldOwner, Lang.format(Lang.linkLostLinks, "[number]", count).color(NamedTextColor.RED));
+                    getMessages().tellOtherTeams(oldOwner, Lang.format(Lang.linkTeamLostLinks, "[team]", oldOwner.displayName(), "[number]", count).color(NamedTextColor.GREEN));
                 }
             }
         }
@@ -1047,28 +1528,27 @@ public class Register extends BeaconzPluginDependent {
 
         // Get any control triangles that have been removed because of this
         //HashMap<Player, List<TriangleField>> players = new HashMap<Player, List<TriangleField>>();
-        Iterator<TriangleField> it = triangleFields.iterator();
+        Iterator<TriangleField> it = gameRegister.getTriangleFields().iterator();
         while (it.hasNext()) {
             TriangleField triangle = it.next();
             if (triangle.hasVertex(beacon.getPoint())) {
                 // Tell folks what's going on
                 if (!quiet && triangle.getOwner() != null) {
                     getMessages().tellTeam(triangle.getOwner(), Lang.triangleYourTeamLostATriangle.color(NamedTextColor.RED));
-                    getMessages().tellOtherTeams(triangle.getOwner(), Lang.triangleTeamLostATriangle.replaceText(builder -> builder.matchLiteral(
-                            "[team]").replacement(triangle.getOwner().displayName())).color(NamedTextColor.GREEN));
+                    getMessages().tellOtherTeams(triangle.getOwner(), Lang.format(Lang.triangleTeamLostATriangle, "[team]", triangle.getOwner().displayName()).color(NamedTextColor.GREEN));
                 }
                 // Find any players in the triangle being removed
                 for (Player player: getServer().getOnlinePlayers()) {
                     if (getBeaconzWorld().equals(player.getWorld())) {
                         if (triangle.contains(new Point2D.Double(player.getLocation().getX(), player.getLocation().getZ()))) {
                             // Player is in triangle, remove effects
-                            for (PotionEffect effect : getPml().getTriangleEffects(player.getUniqueId()))
-                                player.removePotionEffect(effect.getType());
+                            getPml().removeTriangleEffects(player);
                         }
                     }
                 }
                 // Remove triangle
                 it.remove();
+                triangleFields.remove(triangle);
             }
         }
 
@@ -1076,7 +1556,7 @@ public class Register extends BeaconzPluginDependent {
         getBeaconzWorld().getBlockAt(beacon.getX(), beacon.getHeight() + 1, beacon.getZ()).setType(Material.OBSIDIAN);
 
         // Refresh the scores
-        recalculateScore(getGameMgr().getGame(beacon.getX(), beacon.getZ()));
+        recalculateScore(gameRegister.getGame());
         Scorecard sc = getGameMgr().getSC(beacon.getX(), beacon.getZ());
         if(sc!=null && oldOwner != null) sc.refreshScores(oldOwner);
     }
@@ -1103,13 +1583,17 @@ public class Register extends BeaconzPluginDependent {
     public void addBeaconMap(int i, BeaconObj beacon) {
         beacon.setId(i);
         this.beaconMaps.put(i, beacon);
+        getGameRegister(beacon).getBeaconMaps().put(i, beacon);
     }
 
     /**
      * @param index the map index to remove
      */
     public void removeBeaconMap(int index) {
-        this.beaconMaps.remove(index);
+        BeaconObj beacon = this.beaconMaps.remove(index);
+        if (beacon != null) {
+            getGameRegister(beacon).getBeaconMaps().remove(index);
+        }
     }
 
     /**
@@ -1156,8 +1640,7 @@ public class Register extends BeaconzPluginDependent {
      * @return beacon object
      */
     public BeaconObj getBeaconAt(int x, int z) {
-        Point2D point = new Point2D.Double(x,z);
-        return beaconRegister.get(point);
+        return beacon(beaconIndex.get(x, z));
     }
 
     /**
@@ -1168,6 +1651,7 @@ public class Register extends BeaconzPluginDependent {
     public void setBeaconOwner(BeaconObj beacon, Team team) {
         Team oldowner = beacon.getOwnership();
         beacon.setOwnership(team);
+        markChanged();
         // TODO : Add other things in the future as a result of the ownership change
         Game game = getGameMgr().getGame(beacon.getX(), beacon.getZ());
         if (oldowner != null) {
@@ -1183,8 +1667,9 @@ public class Register extends BeaconzPluginDependent {
      */
     public Set<Line2D> getEnemyLinks(Team team) {
         Set<Line2D> result = new HashSet<>();
-        if (getGameMgr().getGame(team) != null && beaconLinks.containsKey(getGameMgr().getGame(team))) {
-            for (BeaconLink pair: beaconLinks.get(getGameMgr().getGame(team))) {
+        Game game = getGameMgr().getGame(team);
+        if (game != null && gameRegisters.containsKey(game)) {
+            for (BeaconLink pair: gameRegisters.get(game).getLinks()) {
                 if (!pair.getOwner().equals(team)) {
                     result.add(pair.getLine());
                 }
@@ -1209,14 +1694,10 @@ public class Register extends BeaconzPluginDependent {
      * @param beacon
      */
     public void addBeaconBaseBlock(int x, int z, BeaconObj beacon) {
-        Point2D point = new Point2D.Double(x,z);
-        baseBlocks.put(point, beacon);
-        Set<Point2D> points = baseBlocksInverse.get(beacon);
-        if (points == null) {
-            points = new HashSet<>();
-        }
-        points.add(point);
-        baseBlocksInverse.put(beacon, points);
+        int id = idOf(beacon);
+        if (id != CoordIndex.NONE) {
+            addBase(id, CoordIndex.key(x, z));
+        }
     }
 
     /**
@@ -1225,7 +1706,48 @@ public class Register extends BeaconzPluginDependent {
      * @return beacon or null if it doesn't exist
      */
     public BeaconObj getBeaconAt(Point2D point) {
-        return baseBlocks.get(point);
+        return getBaseBeaconAt((int) point.getX(), (int) point.getY());
+    }
+
+    /**
+     * Quick check for block listeners. If this is false there is no beacon and no base block in
+     * the column, so the other lookups in here would all come back empty.
+     * @param x
+     * @param z
+     * @return true if a beacon or a beacon's base block is in the block column x,z
+     */
+    public boolean isProtectedColumn(int x, int z) {
+        return protectedColumns.contains(x, z);
+    }
+
+    /**
+     * Tells the beacon that owns the block column x,z, if any, that a block in it has changed,
+     * so its next integrity and clearance checks look at the world again.
+     * @param x
+     * @param z
+     */
+    public void blockChanged(int x, int z) {
+        if (!protectedColumns.contains(x, z)) {
+            return;
+        }
+        BeaconObj beacon = beacon(beaconIndex.get(x, z));
+        if (beacon != null) {
+            beacon.structureChanged();
+        }
+        beacon = beacon(baseBlocks.get(x, z));
+        if (beacon != null) {
+            beacon.structureChanged();
+        }
+    }
+
+    /**
+     * Get the beacon whose base includes the block column x,z. Does not allocate.
+     * @param x
+     * @param z
+     * @return beacon or null if it doesn't exist
+     */
+    public BeaconObj getBaseBeaconAt(int x, int z) {
+        return beacon(baseBlocks.get(x, z));
     }
 
     /**
@@ -1237,8 +1759,7 @@ public class Register extends BeaconzPluginDependent {
         if (location == null) {
             return null;
         }
-        Point2D point = new Point2D.Double(location.getBlockX(),location.getBlockZ());
-        return baseBlocks.get(point);
+        return getBaseBeaconAt(location.getBlockX(), location.getBlockZ());
     }
 
     /**
@@ -1247,7 +1768,16 @@ public class Register extends BeaconzPluginDependent {
      * @return Set of points
      */
     public Set<Point2D> getDefensesAtBeacon(BeaconObj beacon) {
-        return baseBlocksInverse.get(beacon);
+        int id = idOf(beacon);
+        if (id == CoordIndex.NONE) {
+            return Collections.emptySet();
+        }
+        Set<Point2D> points = new HashSet<>();
+        for (int i = 0; i < baseCounts[id]; i++) {
+            long key = baseBlocksInverse[id][i];
+            points.add(new Point2D.Double(CoordIndex.x(key), CoordIndex.z(key)));
+        }
+        return points;
     }
 
     /**
@@ -1256,15 +1786,25 @@ public class Register extends BeaconzPluginDependent {
      * @return
      */
     public boolean isAboveBeacon(Location loc) {
-        Point2D point = new Point2D.Double(loc.getBlockX(),loc.getBlockZ());
-        if (baseBlocks.containsKey(point)) {
-            BeaconObj beacon = baseBlocks.get(point);
+        return isAboveBeacon(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+    }
+
+    /**
+     * Check if this block is above an owned beacon or above a defense. Does not allocate.
+     * @param x
+     * @param y
+     * @param z
+     * @return true if the block is above an owned beacon or its base
+     */
+    public boolean isAboveBeacon(int x, int y, int z) {
+        BeaconObj beacon = getBaseBeaconAt(x, z);
+        if (beacon != null) {
             // Check ownership
             if (beacon.getOwnership() == null) {
                 return false;
             }
             // Check height - if block is lower than the beacon, then it's not a part of it
-            return beacon.getY() <= loc.getBlockY();
+            return beacon.getY() <= y;
             // It's a defense block
         }
         return false;
@@ -1295,12 +1835,14 @@ public class Register extends BeaconzPluginDependent {
      */
     public void recalculateScore(Game game) {
         // Run through the beacon pairs
-        if (!beaconLinks.isEmpty() && beaconLinks.get(game) != null) {
+        GameRegister gameRegister = gameRegisters.get(game);
+        if (game != null && gameRegister != null) {
+            List<BeaconLink> links = gameRegister.getLinks();
             // Sort in order of age
-            Collections.sort(beaconLinks.get(game));
+            Collections.sort(links);
             // Build the score
             // Go through all the links in this game
-            for (BeaconLink firstPoint: beaconLinks.get(game)) {
+            for (BeaconLink firstPoint: links) {
                 // Go to all the beacons this beacon is linked to
                 for (BeaconObj secondPoint : firstPoint.getBeacon1().getLinks()) {
                     // Check the next set of links
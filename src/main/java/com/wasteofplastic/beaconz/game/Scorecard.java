@@ -4,9 +4,9 @@
 
 package com.wasteofplastic.beaconz.game;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -14,10 +14,10 @@ import java.util.Map.Entry;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
-import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.OfflinePlayer;
@@ -26,10 +26,7 @@ import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.Monster;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.scoreboard.Criteria;
@@ -48,6 +45,9 @@ import com.wasteofplastic.beaconz.config.Params.GameScoreGoal;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 import com.wasteofplastic.beaconz.core.Region;
+import com.wasteofplastic.beaconz.core.Teleporter;
+import com.wasteofplastic.beaconz.storage.GameStateStore;
+import com.wasteofplastic.beaconz.storage.GameStateStore.Document;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -108,6 +108,13 @@ import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
  *   <li>Scores for each score type</li>
  * </ul>
  *
+ * <p><b>Sidebar Updates:</b>
+ * Score changes do not touch the sidebar directly. {@link #putScore(Team, GameScoreGoal, int)}
+ * marks the team's line as dirty and schedules a single flush, which runs at the start of the
+ * next tick. The flush renders each dirty line and only rewrites the scoreboard entry if the
+ * text has actually changed, so a link that makes several triangles updates the sidebar once.
+ * When the plugin is disabled nothing can be scheduled, so the line is redrawn straight away.
+ *
  * <p><b>Display Constraints:</b>
  * The sidebar scoreboard has a maximum of 16 lines including the title.
  * The current implementation uses:
@@ -155,8 +162,32 @@ public class Scorecard extends BeaconzPluginDependent {
     /** Maximum length for score strings displayed on scoreboard (for formatting) */
     private static final Integer MAXSCORELENGTH = 10;
 
-    /** Whether the game is currently running (false when paused) */
-    private boolean gameON;
+    /**
+     * The states of a game's clock. Transitions are made with compare-and-set so that the
+     * {@link GameClock} thread and the main thread always agree.
+     */
+    public enum ClockState {
+        /** Scores are kept and the timer runs */
+        RUNNING,
+        /** Scores are frozen and the timer is stopped */
+        PAUSED,
+        /** The game is over */
+        ENDED
+    }
+
+    /**
+     * The state of a game's clock. A new Clock replaces the old one on every change, so the
+     * state and the countdown always change together.
+     *
+     * @param state whether the game is running, paused or over
+     * @param generation goes up on every restart, pause, resume and end. Clock updates worked out
+     *        in an earlier generation are dropped.
+     * @param countdown seconds left on a countdown timer, 0 for an open-ended one
+     */
+    record Clock(ClockState state, long generation, int countdown) {}
+
+    /** The game's clock, changed only by compare-and-set */
+    private final AtomicReference<Clock> clock = new AtomicReference<>(new Clock(ClockState.RUNNING, 0, 0));
 
     /** The game instance this scorecard manages */
     private final Game game;
@@ -179,17 +210,11 @@ public class Scorecard extends BeaconzPluginDependent {
     /** The scoreboard objective shown in the sidebar */
     private Objective scoreobjective;
 
-    /** Countdown timer in seconds (decrements each interval) */
-    private int countdownTimer;
-
-    /** How often (in seconds) the timer updates */
-    private int timerinterval;
-
     /** Whether to show the timer on scoreboard display */
-    private Boolean showtimer;
+    private volatile boolean showtimer;
 
     /** Type of timer: "countdown" or "openended" */
-    private String timertype;
+    private volatile String timertype;
 
     /** Formatted time string for display (e.g., "00d 00:00:00") */
     private String displaytime;
@@ -201,10 +226,10 @@ public class Scorecard extends BeaconzPluginDependent {
     private String goalstr;
 
     /** Game start time in milliseconds (for elapsed time calculation) */
-    private Long starttimemilis;
+    private volatile Long starttimemilis;
 
-    /** Bukkit task ID for the running timer task (for cancellation) */
-    private BukkitTask timertaskid;
+    /** The sidebar title last set by the game clock */
+    private Component shownTitle;
 
     /** Maps teams to their spawn point locations */
     private final HashMap<Team, Location> teamSpawnPoint = new HashMap<>();
@@ -215,6 +240,12 @@ public class Scorecard extends BeaconzPluginDependent {
      */
     private final HashMap<Team, HashMap<GameScoreGoal,Integer>> score = new HashMap<>();
 
+    /**
+     * {@link Register#getVersion() Register version} the scores were last worked out at,
+     * or -1 if they have not been worked out since the scores were reset
+     */
+    private long scoredVersion = -1;
+
     /** Maps teams to lists of member UUIDs for persistence */
     private final HashMap<Team, List<UUID>> teamMembers = new HashMap<>();
 
@@ -224,6 +255,15 @@ public class Scorecard extends BeaconzPluginDependent {
     /** Maps teams to their block material type (for beacon visualization) */
     private HashMap<Team, Material> teamBlocks = new HashMap<>();
 
+    /** Score lines whose value has changed since the last sidebar flush */
+    private final HashMap<Team, EnumSet<GameScoreGoal>> dirtyLines = new HashMap<>();
+
+    /** The text currently shown on the sidebar for each team and score type */
+    private final HashMap<Team, EnumMap<GameScoreGoal, String>> sidebarText = new HashMap<>();
+
+    /** Pending next-tick sidebar flush, or null if none is scheduled */
+    private BukkitTask flushTask;
+
     /**
      * Constructs a new Scorecard for the specified game.
      *
@@ -247,7 +287,7 @@ public class Scorecard extends BeaconzPluginDependent {
      * </ol>
      *
      * <p><b>Important:</b> The constructor immediately starts the game. The game is set to
-     * running state (gameON = true) and the timer begins counting.
+     * running state ({@link ClockState#RUNNING}) and the timer begins counting.
      *
      * @param beaconzPlugin the main plugin instance for accessing server and config
      * @param game the game instance this scorecard will manage
@@ -278,6 +318,12 @@ public class Scorecard extends BeaconzPluginDependent {
     public void reload() {
         saveTeamMembers();
         initialize(false);
+        // The teams are new objects now. New games are indexed by the GameMgr, which can
+        // not be asked for while it is loading them.
+        GameMgr mgr = getGameMgr();
+        if (mgr != null) {
+            mgr.indexTeams(game, this);
+        }
         refreshScores();
         refreshSBdisplay();
     }
@@ -304,8 +350,8 @@ public class Scorecard extends BeaconzPluginDependent {
      *
      * <p><b>Timer Types:</b>
      * <ul>
-     *   <li><b>countdown</b> - countdownTimer > 0, decrements to zero</li>
-     *   <li><b>openended</b> - countdownTimer == 0, counts up from start</li>
+     *   <li><b>countdown</b> - the countdown is above 0, decrements to zero</li>
+     *   <li><b>openended</b> - the countdown is 0, counts up from start</li>
      * </ul>
      *
      * <p><b>newGame Parameter:</b>
@@ -315,11 +361,10 @@ public class Scorecard extends BeaconzPluginDependent {
      * @param newGame true for new game initialization, false for reload
      */
     public void initialize(Boolean newGame) {
-        timerinterval = 5;
         showtimer = Settings.showTimer;
         starttimemilis = game.getStartTime();
-        countdownTimer = game.getCountdownTimer();
-        timertype = countdownTimer == 0 ? "openended" : "countdown";
+        int countdown = game.getCountdownTimer();
+        timertype = countdown == 0 ? "openended" : "countdown";
         // Define the scoreboard
         try {
             scoreboard.clearSlot(DisplaySlot.SIDEBAR);
@@ -327,8 +372,16 @@ public class Scorecard extends BeaconzPluginDependent {
         try {
             scoreobjective.unregister();
         } catch (Exception ignored){ }
+        // The old teams are replaced below, so drop their audiences. Online members
+        // are added to the new teams when they are loaded.
+        TeamBroadcaster broadcaster = getBeaconzPlugin().getTeamBroadcaster();
+        if (scoreboard != null && broadcaster != null) {
+            broadcaster.clear(scoreboard.getTeams());
+        }
 
         scoreboard = manager.getNewScoreboard();
+        dirtyLines.clear();
+        sidebarText.clear();
         //scoreobjective = scoreboard.registerNewObjective("score", "beaconz");
         scoreobjective = scoreboard.registerNewObjective("score", Criteria.DUMMY, Lang.titleBeaconz);
         scoreobjective.setDisplaySlot(DisplaySlot.SIDEBAR);
@@ -347,11 +400,12 @@ public class Scorecard extends BeaconzPluginDependent {
         scoreline = scoreobjective.getScore(goalstr);
         scoreline.setScore(sidebarline);
 
-        // Start the game
-        gameON = true;
+        // Start the game. Clock updates from before the restart are dropped.
+        clock.updateAndGet(c -> new Clock(ClockState.RUNNING, c.generation() + 1, countdown));
 
         // Reset the score
         score.clear();
+        scoredVersion = -1;
 
         // Create the teams and enable scoreboards
         teamBlocks = new HashMap<>();
@@ -376,7 +430,7 @@ public class Scorecard extends BeaconzPluginDependent {
      * <p>The game can be resumed with {@link #resume()}.
      */
     public void pause() {
-        gameON = false;
+        transition(ClockState.RUNNING, ClockState.PAUSED);
     }
 
     /**
@@ -392,7 +446,26 @@ public class Scorecard extends BeaconzPluginDependent {
      * <p>Note: The timer never actually stops, only score processing pauses.
      */
     public void resume() {
-        gameON = true;
+        transition(ClockState.PAUSED, ClockState.RUNNING);
+    }
+
+    /**
+     * Moves the clock from one state to another and starts a new generation
+     *
+     * @param from the state the clock must be in
+     * @param to the new state
+     * @return true if the clock was in the {@code from} state
+     */
+    private boolean transition(ClockState from, ClockState to) {
+        while (true) {
+            Clock current = clock.get();
+            if (current.state() != from) {
+                return false;
+            }
+            if (clock.compareAndSet(current, new Clock(to, current.generation() + 1, current.countdown()))) {
+                return true;
+            }
+        }
     }
 
     /**
@@ -474,6 +547,24 @@ public class Scorecard extends BeaconzPluginDependent {
         for (Team team: scoreboard.getTeams()) {
             refreshScores(team);
         }
+        if (isGameOn() && getRegister() != null) {
+            scoredVersion = getRegister().getVersion();
+        }
+    }
+
+    /**
+     * Updates the scores of all teams only if the {@link Register} has changed since they were
+     * last worked out.
+     *
+     * <p>Scores depend only on beacons, links and triangles, not on who is in a team, so a player
+     * joining does not change them. Joining players see the scores already on the shared
+     * scoreboard, and the area of every team does not have to be worked out again for each
+     * player when lots of players join at once.
+     */
+    public void refreshScoresIfChanged() {
+        if (getRegister() == null || scoredVersion != getRegister().getVersion()) {
+            refreshScores();
+        }
     }
 
     /**
@@ -511,19 +602,19 @@ public class Scorecard extends BeaconzPluginDependent {
      * via {@link #endGame()}.
      *
      * <p><b>Game State:</b>
-     * Only updates scores when {@code gameON == true}. When paused, scores are not
+     * Only updates scores when the game is {@link ClockState#RUNNING}. When paused, scores are not
      * recalculated from the Register.
      *
      * <p><b>Side Effects:</b>
      * Calls {@link #putScore(Team, GameScoreGoal, int)} which updates the score
-     * and refreshes the scoreboard display.
+     * and marks the sidebar line for redraw on the next tick.
      *
      * @param team the team to update
      * @param scoretype the specific score type to update (AREA, BEACONS, LINKS, TRIANGLES)
      * @param value default value if score doesn't exist (typically 0)
      */
     public void refreshScores(Team team, GameScoreGoal scoretype, int value) {
-        if (gameON) {
+        if (isGameOn()) {
             switch (scoretype) {
             case GameScoreGoal.AREA: {
                 value = getRegister().getTeamArea(team);
@@ -544,7 +635,7 @@ public class Scorecard extends BeaconzPluginDependent {
             default:
                 break;
             }
-            //Update the score - putscore will call refreshSBDisplay()
+            //Update the score - putscore marks the sidebar line for the next-tick flush
             putScore(team, scoretype, value);
 
             // See if we have a winner
@@ -572,20 +663,70 @@ public class Scorecard extends BeaconzPluginDependent {
             }
         }
     }
+    /**
+     * Renders one team's score line and rewrites the sidebar entry if the text has changed.
+     *
+     * @param team - the team
+     * @param scoretype - the score type
+     */
     public void refreshSBdisplay(Team team, GameScoreGoal scoretype) {
         // The setScore values are actually line numbers on the scoreboard
         // the actual scores go in the score description
         // Refresh the team scores for the given score type, if it can be shown
-        if (gameON && game.getScoretypes().contains(scoretype)) {
+        if (isGameOn() && game.getScoretypes().contains(scoretype)) {
             HashMap<GameScoreGoal, Integer> stypes = score.get(team);
             int sv = 0;
             if (stypes != null && stypes.get(scoretype) != null) sv = stypes.get(scoretype);
             String scorestring = fixScoreString(team, scoretype, sv, MAXSCORELENGTH);
-            String oldentry = sbEntry(team, scoretype);
+            EnumMap<GameScoreGoal, String> shown = sidebarText.computeIfAbsent(team, k -> new EnumMap<>(GameScoreGoal.class));
+            String oldentry = shown.get(scoretype);
+            if (scorestring.equals(oldentry)) {
+                // Nothing has changed on this line
+                return;
+            }
+            if (oldentry == null) {
+                oldentry = sbEntry(team, scoretype);
+            }
             int line = scoreobjective.getScore(oldentry).getScore();
             scoreboard.resetScores(oldentry);
             scoreentry = scoreobjective.getScore(scorestring);
             scoreentry.setScore(line);
+            shown.put(scoretype, scorestring);
+        }
+    }
+
+    /**
+     * Marks a team's score line as needing a redraw and schedules a flush for the next tick
+     * if one is not already pending. If the plugin is disabled the flush is done now.
+     *
+     * @param team - the team
+     * @param scoretype - the score type
+     */
+    private void markDirty(Team team, GameScoreGoal scoretype) {
+        dirtyLines.computeIfAbsent(team, k -> EnumSet.noneOf(GameScoreGoal.class)).add(scoretype);
+        if (!getBeaconzPlugin().isEnabled()) {
+            flushSBdisplay();
+        } else if (flushTask == null) {
+            flushTask = getServer().getScheduler().runTask(getBeaconzPlugin(), this::flushSBdisplay);
+        }
+    }
+
+    /**
+     * Redraws every score line that has been marked dirty since the last flush.
+     * Lines whose rendered text has not changed are left alone.
+     */
+    public void flushSBdisplay() {
+        flushTask = null;
+        if (dirtyLines.isEmpty()) {
+            return;
+        }
+        // Copy so that a redraw cannot change the set being walked
+        List<Entry<Team, EnumSet<GameScoreGoal>>> dirty = new ArrayList<>(dirtyLines.entrySet());
+        dirtyLines.clear();
+        for (Entry<Team, EnumSet<GameScoreGoal>> en : dirty) {
+            for (GameScoreGoal st : en.getValue()) {
+                refreshSBdisplay(en.getKey(), st);
+            }
         }
     }
 
@@ -617,6 +758,7 @@ public class Scorecard extends BeaconzPluginDependent {
                     String scorestring = fixScoreString(team, st, 0, 8);
                     scoreentry = scoreobjective.getScore(scorestring);
                     scoreentry.setScore(sidebarline);
+                    sidebarText.computeIfAbsent(team, k -> new EnumMap<>(GameScoreGoal.class)).put(st, scorestring);
                 } else {
                     getLogger().warning("Could not show new team scores on the sidebar, ran out of lines. Team = " + teamName);
                 }
@@ -676,6 +818,14 @@ public class Scorecard extends BeaconzPluginDependent {
         if (members == null) members = new ArrayList<>();
         members.add(player.getUniqueId());
         teamMembers.put(team, members);
+        TeamBroadcaster broadcaster = getBeaconzPlugin().getTeamBroadcaster();
+        if (broadcaster != null) {
+            broadcaster.add(team, player, game.getRegion());
+        }
+        GameMgr mgr = getGameMgr();
+        if (mgr != null) {
+            mgr.indexPlayer(game, player.getUniqueId(), team);
+        }
         game.save();
     }
 
@@ -684,7 +834,15 @@ public class Scorecard extends BeaconzPluginDependent {
      */
     public void removeTeamPlayer(Player player) {
         // Remove player from the teamLookup index
-        teamLookup.remove(player.getUniqueId());
+        Team oldTeam = teamLookup.remove(player.getUniqueId());
+        TeamBroadcaster broadcaster = getBeaconzPlugin().getTeamBroadcaster();
+        if (oldTeam != null && broadcaster != null) {
+            broadcaster.remove(oldTeam, player);
+        }
+        GameMgr mgr = getGameMgr();
+        if (oldTeam != null && mgr != null) {
+            mgr.indexPlayer(game, player.getUniqueId(), null);
+        }
         // Go through all the team and remove the player if he exists
         for (Entry<Team, List<UUID>> team : teamMembers.entrySet()) {
             if (team.getValue() != null) {
@@ -696,21 +854,23 @@ public class Scorecard extends BeaconzPluginDependent {
     }
 
     /**
-     * Send players to their team spawn location
+     * Send players to their team spawn location. The teleports are spread over several ticks.
      */
     public void sendPlayersHome(Boolean ingameOnly) {
         if (teamLookup != null) {
+            Teleporter teleporter = getBeaconzPlugin().getTeleporter();
             for (UUID uuid : teamLookup.keySet()) {
                 Player player = Bukkit.getPlayer(uuid);
                 if (player != null) {
-                    sendPlayersHome(player, ingameOnly);
+                    teleporter.queue(player, p -> sendPlayersHome(p, ingameOnly));
                 }
             }
         }
     }
 
     /**
-     * Sends a player to their team spawn point
+     * Sends a player to their team spawn point. The safe spot is found and the chunks
+     * around it are loaded asynchronously, so the player arrives a little later.
      * @param player
      * @param ingameOnly
      */
@@ -724,22 +884,12 @@ public class Scorecard extends BeaconzPluginDependent {
                 Random rand = new Random();
                 loc = beaconz.get(rand.nextInt(beaconz.size())).getLocation().add(new Vector(0,1,0));
             }
-            loc = game.getRegion().findSafeSpot(loc, 20);  // in case other players have boobytrapped the spawnpoint
-            final int RADIUS = 2;
-            for (int x = -RADIUS; x <= RADIUS; x++) {
-                for (int z = -RADIUS; z <= RADIUS; z++) {
-                    Chunk chunk = loc.getWorld().getChunkAt(loc.getChunk().getX() + x, loc.getChunk().getZ() + z);
-                    chunk.load();
-                    // Remove any hostile mobs
-                    for (Entity entity: chunk.getEntities()) {
-                        if (entity instanceof Monster) {
-                            entity.remove();
-                        }
-                    }
+            // Find a safe spot in case other players have boobytrapped the spawnpoint
+            getBeaconzPlugin().getTeleporter().sendTo(player, game.getRegion(), loc).thenAccept(done -> {
+                if (done) {
+                    player.setScoreboard(scoreboard);
                 }
-            }
-            player.teleport(loc);
-            player.setScoreboard(scoreboard);
+            });
         }
     }
 
@@ -874,18 +1024,7 @@ public class Scorecard extends BeaconzPluginDependent {
      * The teams were added to the scoreboard by addTeamsFromFile()
      */
     public void loadTeamMembers() {
-        File teamFile = new File(getBeaconzPlugin().getDataFolder(),"teams.yml");
-        if (!teamFile.exists()) {
-            saveTeamMembers();
-        }
-        YamlConfiguration teamsYml = new YamlConfiguration();
-        try {
-            teamsYml.load(teamFile);
-        } catch (IOException e) {
-            getLogger().severe("Failed to load teams.yml file for game " + gameName + ": " + e.getMessage());
-        } catch (InvalidConfigurationException e) {
-            getLogger().severe("Invalid YAML configuration in teams.yml for game " + gameName + ": " + e.getMessage());
-        }
+        YamlConfiguration teamsYml = getTeamsYml();
         for (Team team: scoreboard.getTeams()) {
             List<String> members = teamsYml.getStringList(gameName + "." + team.getName() + ".members");
             List<UUID> memberList = new ArrayList<>();
@@ -897,6 +1036,11 @@ public class Scorecard extends BeaconzPluginDependent {
                     if (player != null) {
                         team.addEntry(player.getName());
                         teamLookup.put(uuid, team);
+                        // Players who are on now, e.g., after a reload
+                        TeamBroadcaster broadcaster = getBeaconzPlugin().getTeamBroadcaster();
+                        if (broadcaster != null && player.getPlayer() != null) {
+                            broadcaster.add(team, player.getPlayer(), game.getRegion());
+                        }
                     } else {
                         getLogger().severe("Error loading team member " + team.getName() + " " + uuid + " - skipping");
                     }
@@ -912,13 +1056,11 @@ public class Scorecard extends BeaconzPluginDependent {
      * Saves the teams to the config file
      */
     public void saveTeamMembers() {
-        File teamsFile = new File(getBeaconzPlugin().getDataFolder(),"teams.yml");
-        YamlConfiguration teamsYml = YamlConfiguration.loadConfiguration(teamsFile);
-        // Backup the teams file just in case
-        if (teamsFile.exists()) {
-            File backup = new File(getBeaconzPlugin().getDataFolder(),"teams.old");
-            teamsFile.renameTo(backup);
+        GameStateStore store = getGameStateStore();
+        if (store == null) {
+            return;
         }
+        YamlConfiguration teamsYml = store.get(Document.TEAMS);
         for (Team team: scoreboard.getTeams()) {
             // Save the team members
             if (teamMembers.containsKey(team)) {
@@ -928,11 +1070,16 @@ public class Scorecard extends BeaconzPluginDependent {
             // Save the team spawn location
             teamsYml.set(gameName + "." + team.getName() + "." + "spawnpoint", getStringLocation(teamSpawnPoint.get(team)));
         }
-        try {
-            teamsYml.save(teamsFile);
-        } catch (IOException e) {
-            getLogger().severe("Failed to save teams.yml file for game " + gameName + ": " + e.getMessage());
-        }
+        // Written with the next flush, teams.yml is kept as teams.old
+        store.markDirty(Document.TEAMS, gameName);
+    }
+
+    /**
+     * @return the in-memory teams.yml, or an empty document if there is no store
+     */
+    private YamlConfiguration getTeamsYml() {
+        GameStateStore store = getGameStateStore();
+        return store == null ? new YamlConfiguration() : store.get(Document.TEAMS);
     }
 
     /**
@@ -967,7 +1114,7 @@ public class Scorecard extends BeaconzPluginDependent {
      * Return the current countdown timer
      */
     public int getCountdownTimer() {
-        return countdownTimer;
+        return clock.get().countdown();
     }
 
     /**
@@ -997,18 +1144,19 @@ public class Scorecard extends BeaconzPluginDependent {
     }
 
     /**
-     * Set the score for a team
+     * Set the score for a team. The sidebar is not redrawn here - the line is marked dirty
+     * and redrawn once by {@link #flushSBdisplay()} on the next tick.
      * @param team - the team
      * @param scoretype - the score type
      * @param value - the value to set
      */
     public void putScore(Team team, GameScoreGoal scoretype, int value) {
-        if (gameON && team != null && scoretype != null) {
+        if (isGameOn() && team != null && scoretype != null) {
             HashMap<GameScoreGoal,Integer> stypes = score.get(team);
             if (stypes == null) stypes = new HashMap<>();
             stypes.put(scoretype, value);
             score.put(team, stypes);
-            refreshSBdisplay(team, scoretype);
+            markDirty(team, scoretype);
         }
     }
 
@@ -1050,18 +1198,7 @@ public class Scorecard extends BeaconzPluginDependent {
         Location teamSP = null;
 
         // First try to get the team's spawn point from teams.yml
-        File teamFile = new File(getBeaconzPlugin().getDataFolder(),"teams.yml");
-        if (!teamFile.exists()) {
-            saveTeamMembers();
-        }
-        YamlConfiguration teamsYml = new YamlConfiguration();
-        try {
-            teamsYml.load(teamFile);
-        } catch (IOException e) {
-            getLogger().severe("Failed to load teams.yml file for team spawn point in game " + gameName + ": " + e.getMessage());
-        } catch (InvalidConfigurationException e) {
-            getLogger().severe("Invalid YAML configuration in teams.yml for team spawn point in game " + gameName + ": " + e.getMessage());
-        }
+        YamlConfiguration teamsYml = getTeamsYml();
         String location = teamsYml.getString(gameName + "." + team.getName() + ".spawnpoint");
         if (location != null) {
             teamSP = getLocationString(location);
@@ -1318,10 +1455,18 @@ public class Scorecard extends BeaconzPluginDependent {
      * Ends the game
      */
     public void endGame() {
-        // Stop timer
-        if (timertaskid != null) timertaskid.cancel();
-        // Stop keeping score
-        gameON = false;
+        // Show the final scores before the sidebar is frozen
+        flushSBdisplay();
+        // Stop keeping score and stop the timer. Only the first caller ends the game.
+        Clock before = clock.getAndUpdate(c -> c.state() == ClockState.ENDED ? c
+                : new Clock(ClockState.ENDED, c.generation() + 1, c.countdown()));
+        if (before.state() == ClockState.ENDED) {
+            return;
+        }
+        GameClock gameClock = getBeaconzPlugin().getGameClock();
+        if (gameClock != null) {
+            gameClock.unregister(this);
+        }
         // Set game over to true
         game.setOver(true);
         // Change the objective line in the scoreboard
@@ -1335,7 +1480,7 @@ public class Scorecard extends BeaconzPluginDependent {
             Component titleline = Component.text(Lang.scoreGameOver);
             Component subtitleline = Lang.scoreNoWinners;
             if (winner != null) {
-                titleline = Lang.scoreTeamWins.replaceText(builder -> builder.matchLiteral("[team]").replacement(winner.displayName()));
+                titleline = Lang.format(Lang.scoreTeamWins, "[team]", winner.displayName());
                 subtitleline = Lang.scoreCongratulations;
             }
             for (Team team : scoreboard.getTeams()) {
@@ -1385,61 +1530,106 @@ public class Scorecard extends BeaconzPluginDependent {
     /**
      * Timer
      * <p>
-     * This runs a countdown if Settings.minigameTimer or Settings.strategyTimer > 0, open-ended clock otherwise
+     * This runs a countdown if Settings.minigameTimer or Settings.strategyTimer > 0, open-ended clock otherwise.
+     * The timer is driven by the plugin-wide {@link GameClock}.
      *
      */
     public void runtimer () {
-        if (timertaskid != null) timertaskid.cancel();
-        timertaskid = getBeaconzPlugin().getServer().getScheduler().runTaskTimerAsynchronously(getBeaconzPlugin(), () -> {
+        GameClock gameClock = getBeaconzPlugin().getGameClock();
+        if (gameClock != null) {
+            gameClock.register(this);
+        }
+    }
 
-            if (gameON) {
-                long seconds;
-                int t = timerinterval;
+    /**
+     * Advances the timer by one clock interval. Called by the {@link GameClock} off the main
+     * thread, so this must not touch the scoreboard - it only works out what to show.
+     *
+     * @param interval seconds since the last tick
+     * @return the update to apply on the main thread, or null if the game is not running
+     */
+    GameClock.Update tickClock(int interval) {
+        Clock current = clock.get();
+        if (current.state() != ClockState.RUNNING) {
+            return null;
+        }
+        long seconds;
+        boolean expired = false;
+        if (timertype.equals("openended")) {
+            seconds = (System.currentTimeMillis() - starttimemilis) / 1000;
+            seconds = ((seconds+interval-1)/interval)*interval;
+        } else {
+            int remaining = current.countdown() - interval;
+            if (remaining < 1) {
+                // Beacon timer ran out
+                remaining = 0;
+                expired = true;
+            }
+            // If the main thread has restarted, paused or ended the game since the clock was
+            // read, leave it alone. The next pass works from the new clock.
+            if (!clock.compareAndSet(current, new Clock(ClockState.RUNNING, current.generation(), remaining))) {
+                return null;
+            }
+            seconds = remaining;
+        }
 
-                if (timertype.equals("openended")) {
-                    seconds = (System.currentTimeMillis() - starttimemilis) / 1000;
-                    seconds = ((seconds+t-1)/t)*t;
-                } else {
-                    countdownTimer = countdownTimer - t;
-                    if (countdownTimer < 1) {
-                        // Beacon timer ran out
-                        countdownTimer = 0;
-                        timertaskid.cancel();
-                        endGame();
-                    }
-                    seconds = countdownTimer;
-                }
+        // display the timer
+        long s = seconds % 60;
+        long m = (seconds / 60) % 60;
+        long h = (seconds / (60 * 60)) % 24;
+        long d = (seconds / (60 * 60 * 24)) %100;
+        String time = String.format("%02dd %02d:%02d:%02d", d,h,m,s);
 
-                // display the timer
-                long s = seconds % 60;
-                long m = (seconds / 60) % 60;
-                long h = (seconds / (60 * 60)) % 24;
-                long d = (seconds / (60 * 60 * 24)) %100;
-                displaytime = String.format("%02dd %02d:%02d:%02d", d,h,m,s);
-
-                if (showtimer) {
-                    String objName = scoreobjective.getDisplayName();
-                    if (!objName.contains(":")) objName = objName + "! 00d 00:00:00";
-                    objName = objName.substring(0, objName.length() - displaytime.length()) + displaytime;
-                    scoreobjective.setDisplayName(objName);
-                } else {
-                    scoreobjective.setDisplayName(ChatColor.GREEN + "Beaconz " + game.getGamemode());
-                }
-            }
-        }, 20, timerinterval* 20L);
+        Component title;
+        if (showtimer) {
+            title = Lang.titleBeaconz.append(Component.text(" " + game.getGamemode().getName() + "! " + time).color(NamedTextColor.GREEN));
+        } else {
+            title = Component.text("Beaconz " + game.getGamemode()).color(NamedTextColor.GREEN);
+        }
+        return new GameClock.Update(this, current.generation(), time, title, expired);
+    }
+
+    /**
+     * Applies a clock update to the scoreboard. Called by the {@link GameClock} on the main thread.
+     *
+     * @param update the update worked out by {@link #tickClock(int)}
+     */
+    void applyClock(GameClock.Update update) {
+        Clock current = clock.get();
+        if (current.state() == ClockState.ENDED || current.generation() != update.generation()) {
+            // Worked out before the game was restarted, paused or ended
+            return;
+        }
+        displaytime = update.displayTime();
+        if (!update.title().equals(shownTitle)) {
+            scoreobjective.displayName(update.title());
+            shownTitle = update.title();
+        }
+        if (update.expired()) {
+            endGame();
+        }
+    }
+
+    /**
+     * @return true if the game is running (not paused or over)
+     */
+    private boolean isGameOn() {
+        return clock.get().state() == ClockState.RUNNING;
+    }
+
+    /**
+     * @return the state of this game's clock
+     */
+    public ClockState getClockState() {
+        return clock.get().state();
     }
 
     /**
      * Deletes the team members
      */
     public void deleteTeamMembers() {
-        File teamsFile = new File(getBeaconzPlugin().getDataFolder(),"teams.yml");
-        YamlConfiguration teamsYml = YamlConfiguration.loadConfiguration(teamsFile);
-        // Backup the teams file just in case
-        if (teamsFile.exists()) {
-            File backup = new File(getBeaconzPlugin().getDataFolder(),"teams.old");
-            teamsFile.renameTo(backup);
-        }
+        GameStateStore store = getGameStateStore();
+        YamlConfiguration teamsYml = getTeamsYml();
         teamsYml.set(gameName, null);
         // Remove from hashmap
         /*
@@ -1451,13 +1641,18 @@ public class Scorecard extends BeaconzPluginDependent {
         }*/
         // Clear all the players from the teamLookup.
         teamLookup.clear();
-
-        try {
-            teamsYml.save(teamsFile);
-        } catch (IOException e) {
-            getLogger().severe("Failed to save teams.yml file when deleting team members for game " + gameName + ": " + e.getMessage());
+        TeamBroadcaster broadcaster = getBeaconzPlugin().getTeamBroadcaster();
+        if (broadcaster != null) {
+            broadcaster.clear(scoreboard.getTeams());
+        }
+        GameMgr mgr = getGameMgr();
+        if (mgr != null) {
+            mgr.forgetMembers(game);
         }
 
+        if (store != null) {
+            store.markDirty(Document.TEAMS, gameName);
+        }
     }
 
     /**
@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.wasteofplastic.beaconz.game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scoreboard.Team;
+import org.jetbrains.annotations.Nullable;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.config.Settings;
+import com.wasteofplastic.beaconz.core.Region;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+
+/**
+ * Keeps the online members of every team as a ready-made audience, so team messages do not
+ * have to look up members and online players each time they are sent.
+ * <p>
+ * Audiences are kept up to date by:
+ * <ul>
+ *   <li><b>Team changes</b> - the {@link Scorecard} reports players added to, removed from and
+ *       cleared out of its teams</li>
+ *   <li><b>Join and world change</b> - the player's teams are looked up again in every game</li>
+ *   <li><b>Quit</b> - the player is dropped from every audience</li>
+ * </ul>
+ * When {@code general.coalesceteammessages} is on, messages sent to a team during one tick are
+ * held and delivered together at the end of the tick. Each member then gets the burst as one
+ * multi-line message, which is what happens when a link loss or a game end sends several team
+ * messages in a row.
+ * <p>
+ * Everything here runs on the main thread, except {@link #getChatTeam}. After every change the
+ * audiences are published as an immutable snapshot, so the async chat thread can read team
+ * membership without locks and without waiting for the main thread.
+ *
+ * @author tastybento
+ */
+public class TeamBroadcaster extends BeaconzPluginDependent implements Listener {
+
+    /** Online members of each team, by UUID */
+    private final Map<Team, Map<UUID, Player>> audiences = new HashMap<>();
+    /** Messages waiting for the end of the tick */
+    private final Map<Team, List<Queued>> queued = new LinkedHashMap<>();
+    /** Game region of each team */
+    private final Map<Team, Region> regions = new HashMap<>();
+    private boolean flushScheduled;
+    /** Teams of each online player, as last published for the chat thread */
+    private volatile Map<UUID, List<TeamView>> snapshot = Map.of();
+
+    /**
+     * One team as seen from the chat thread. Nothing in it changes after it is published.
+     * @param team - the team
+     * @param displayName - the team's display name
+     * @param region - the region of the team's game, or null if not known
+     * @param members - UUIDs of the team's online members
+     */
+    public record TeamView(Team team, Component displayName, @Nullable Region region, Set<UUID> members) {}
+
+    /**
+     * A message waiting to be sent
+     * @param message - the message
+     * @param exclude - player who should not get it, or null
+     */
+    private record Queued(Component message, @Nullable UUID exclude) {}
+
+    /**
+     * @param beaconzPlugin - the plugin
+     */
+    public TeamBroadcaster(Beaconz beaconzPlugin) {
+        super(beaconzPlugin);
+    }
+
+    /**
+     * Adds a player to a team's audience. Does nothing if the player is offline.
+     * @param team - the team
+     * @param player - the player
+     * @param region - the region of the team's game, or null if not known
+     */
+    public void add(Team team, Player player, @Nullable Region region) {
+        if (region != null) {
+            regions.put(team, region);
+        }
+        if (player.isOnline()) {
+            audiences.computeIfAbsent(team, k -> new LinkedHashMap<>()).put(player.getUniqueId(), player);
+            publish();
+        }
+    }
+
+    /**
+     * Removes a player from a team's audience
+     * @param team - the team
+     * @param player - the player
+     */
+    public void remove(Team team, Player player) {
+        Map<UUID, Player> members = audiences.get(team);
+        if (members != null && members.remove(player.getUniqueId()) != null) {
+            publish();
+        }
+    }
+
+    /**
+     * Empties the audiences of these teams, e.g., when a game's team members are deleted
+     * @param teams - the teams
+     */
+    public void clear(Collection<Team> teams) {
+        for (Team team : teams) {
+            audiences.remove(team);
+            queued.remove(team);
+            regions.remove(team);
+        }
+        publish();
+    }
+
+    /**
+     * Looks up the player's team in every game and puts them in those audiences only
+     * @param player - the player
+     */
+    public void refresh(Player player) {
+        removeEverywhere(player.getUniqueId());
+        if (getGameMgr() != null) {
+            for (GameMgr.Membership membership : getGameMgr().getMemberships(player.getUniqueId())) {
+                add(membership.team(), player, membership.game().getRegion());
+            }
+        }
+        publish();
+    }
+
+    private void removeEverywhere(UUID uuid) {
+        for (Map<UUID, Player> members : audiences.values()) {
+            members.remove(uuid);
+        }
+    }
+
+    /**
+     * Rebuilds the snapshot the chat thread reads. Team changes are rare compared to chat, so
+     * copying everything here keeps the reads free.
+     */
+    private void publish() {
+        Map<UUID, List<TeamView>> teams = new HashMap<>();
+        for (Map.Entry<Team, Map<UUID, Player>> entry : audiences.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            Team team = entry.getKey();
+            TeamView view = new TeamView(team, team.displayName(), regions.get(team), Set.copyOf(entry.getValue().keySet()));
+            for (UUID uuid : view.members()) {
+                teams.computeIfAbsent(uuid, k -> new ArrayList<>(1)).add(view);
+            }
+        }
+        teams.replaceAll((uuid, views) -> List.copyOf(views));
+        snapshot = Map.copyOf(teams);
+    }
+
+    /**
+     * Finds the team a player chats to at a location. Safe to call from any thread.
+     * @param uuid - the player's UUID
+     * @param x - block x
+     * @param z - block z
+     * @return the team of the game whose region contains the location, or null if there is none
+     */
+    public @Nullable TeamView getChatTeam(UUID uuid, int x, int z) {
+        List<TeamView> views = snapshot.get(uuid);
+        if (views != null) {
+            for (TeamView view : views) {
+                if (view.region() != null && view.region().containsPoint(x, z)) {
+                    return view;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param team - the team
+     * @return the team's online members. Do not change this collection.
+     */
+    public Collection<Player> getOnlineMembers(Team team) {
+        Map<UUID, Player> members = audiences.get(team);
+        return members == null ? Collections.emptyList() : Collections.unmodifiableCollection(members.values());
+    }
+
+    /**
+     * @param team - the team
+     * @return an audience of the team's online members
+     */
+    public Audience getAudience(Team team) {
+        return Audience.audience(getOnlineMembers(team));
+    }
+
+    /**
+     * @param team - the team
+     * @param uuid - the player's UUID
+     * @return true if the player is an online member of the team
+     */
+    public boolean isOnline(Team team, UUID uuid) {
+        Map<UUID, Player> members = audiences.get(team);
+        return members != null && members.containsKey(uuid);
+    }
+
+    /**
+     * Sends a message to the online members of a team
+     * @param team - the team
+     * @param message - the message
+     * @param exclude - player who should not get the message, or null
+     */
+    public void send(Team team, Component message, @Nullable Player exclude) {
+        UUID excluded = exclude == null ? null : exclude.getUniqueId();
+        if (!Settings.coalesceTeamMessages || !getBeaconzPlugin().isEnabled()) {
+            deliver(team, List.of(new Queued(message, excluded)));
+            return;
+        }
+        queued.computeIfAbsent(team, k -> new ArrayList<>()).add(new Queued(message, excluded));
+        if (!flushScheduled) {
+            flushScheduled = true;
+            getServer().getScheduler().runTask(getBeaconzPlugin(), this::flush);
+        }
+    }
+
+    /**
+     * Delivers all held messages now
+     */
+    public void flush() {
+        flushScheduled = false;
+        List<Map.Entry<Team, List<Queued>>> burst = new ArrayList<>(queued.entrySet());
+        queued.clear();
+        for (Map.Entry<Team, List<Queued>> entry : burst) {
+            deliver(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void deliver(Team team, List<Queued> messages) {
+        Map<UUID, Player> members = audiences.get(team);
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+        boolean excludes = false;
+        for (Queued queuedMessage : messages) {
+            if (queuedMessage.exclude() != null) {
+                excludes = true;
+                break;
+            }
+        }
+        if (!excludes) {
+            // Everyone gets the same thing, so send it to the whole audience at once
+            Audience.audience(members.values()).sendMessage(join(messages, null));
+            return;
+        }
+        for (Map.Entry<UUID, Player> member : members.entrySet()) {
+            Component message = join(messages, member.getKey());
+            if (message != null) {
+                member.getValue().sendMessage(message);
+            }
+        }
+    }
+
+    /**
+     * Joins the messages for one recipient
+     * @param messages - the messages
+     * @param recipient - the recipient, or null if no message excludes anyone
+     * @return the joined messages, or null if there are none for this recipient
+     */
+    private static Component join(List<Queued> messages, @Nullable UUID recipient) {
+        List<Component> lines = new ArrayList<>(messages.size());
+        for (Queued queuedMessage : messages) {
+            if (recipient == null || !recipient.equals(queuedMessage.exclude())) {
+                lines.add(queuedMessage.message());
+            }
+        }
+        if (lines.isEmpty()) {
+            return null;
+        }
+        return lines.size() == 1 ? lines.getFirst() : Component.join(JoinConfiguration.newlines(), lines);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        removeEverywhere(event.getPlayer().getUniqueId());
+        publish();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        refresh(event.getPlayer());
+    }
+}
@@ -9,7 +9,11 @@
  *   <li>{@link com.wasteofplastic.beaconz.game.Game} - Individual game instance with teams, regions, and lifecycle</li>
  *   <li>{@link com.wasteofplastic.beaconz.game.GameMgr} - Manager for multiple concurrent game instances</li>
  *   <li>{@link com.wasteofplastic.beaconz.game.Scorecard} - Team scoring, management, and leaderboard</li>
+ *   <li>{@link com.wasteofplastic.beaconz.game.GameClock} - Single plugin-wide timer that drives every game's countdown and sidebar clock</li>
+ *   <li>{@link com.wasteofplastic.beaconz.game.GameReset} - Restarts a game over several ticks and reports its progress to the admin</li>
+ *   <li>{@link com.wasteofplastic.beaconz.game.TeamBroadcaster} - Online audience of each team, used for team messages and team chat</li>
  *   <li>{@link com.wasteofplastic.beaconz.game.Register} - Global registry of all beacons, links, and triangular fields</li>
+ *   <li>{@link com.wasteofplastic.beaconz.game.GameRegister} - One game's partition of the Register (its beacons, links, triangles and maps)</li>
  * </ul>
  *
  * <h2>Game Lifecycle:</h2>
@@ -49,6 +53,8 @@
  *   <li>Defense blocks on beacons</li>
  *   <li>Beacon map associations</li>
  * </ul>
+ * Each game owns a GameRegister partition of this data, so clearing, saving or scoring
+ * one game only touches that game's beacons, links and triangles.
  *
  * This data is persisted to disk and loaded on server startup.
  *
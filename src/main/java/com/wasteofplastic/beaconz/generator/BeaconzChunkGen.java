@@ -9,6 +9,7 @@ import org.bukkit.block.Biome;
 import org.bukkit.generator.ChunkGenerator;
 import org.bukkit.generator.WorldInfo;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import com.wasteofplastic.beaconz.Beaconz;
 
@@ -22,14 +23,28 @@ public class BeaconzChunkGen extends ChunkGenerator {
     private static final int X = 7; // Center of chunk
     private static final int Z = 7;
     private final Beaconz plugin;
+    /** Lobby platform to lay in new chunks. Set on the main thread, read on generator threads. */
+    private volatile LobbyPlatform lobbyPlatform;
     
     public BeaconzChunkGen(Beaconz plugin) {
         super();
         this.plugin = plugin;
     }
 
+    /**
+     * Sets the lobby platform that new chunks in the lobby are generated with
+     * @param lobbyPlatform - the platform, or null for none
+     */
+    public void setLobbyPlatform(@Nullable LobbyPlatform lobbyPlatform) {
+        this.lobbyPlatform = lobbyPlatform;
+    }
+
     @Override
     public void generateSurface(@NotNull WorldInfo worldInfo, @NotNull Random random, int chunkX, int chunkZ, @NotNull ChunkData chunkData) {
+        LobbyPlatform platform = lobbyPlatform;
+        if (platform != null && platform.intersects(chunkX, chunkZ)) {
+            platform.generate(chunkData, chunkX, chunkZ, random);
+        }
         double chance = plugin.getConfig().getDouble("world.distribution", 0.1D);
         if (random.nextDouble() < chance) {
             int maxY = chunkData.getHeight(HeightMap.MOTION_BLOCKING_NO_LEAVES, X, Z);
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.generator;
+
+import java.awt.geom.Point2D;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.generator.ChunkGenerator.ChunkData;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitRunnable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The lobby platform: a one block thick floor of random lobby blocks at the lobby height.
+ * <p>
+ * Materials are looked up once, when the platform is made, instead of once per block. The
+ * platform is then laid one chunk at a time:
+ * <ul>
+ *   <li><b>New chunks</b> - {@link BeaconzChunkGen} writes the platform into the chunk data while
+ *       the chunk is generated, so it costs the main thread nothing</li>
+ *   <li><b>Chunks that already exist</b> - {@link #build(Plugin, World, boolean)} loads them
+ *       asynchronously and lays a few chunks per tick, within a time budget, with physics off</li>
+ * </ul>
+ * Instances never change, so the chunk generator can read them from its worker threads.
+ *
+ * @author tastybento
+ */
+public final class LobbyPlatform {
+
+    /** Main thread time each tick may spend laying blocks */
+    private static final long TICK_BUDGET = TimeUnit.MILLISECONDS.toNanos(5);
+    /** Chunk loads that may be waiting at once */
+    private static final int MAX_LOADS = 8;
+
+    private final int xMin;
+    private final int zMin;
+    private final int xMax;
+    private final int zMax;
+    private final int height;
+    private final Material[] palette;
+
+    private LobbyPlatform(int xMin, int zMin, int xMax, int zMax, int height, Material[] palette) {
+        this.xMin = xMin;
+        this.zMin = zMin;
+        this.xMax = xMax;
+        this.zMax = zMax;
+        this.height = height;
+        this.palette = palette;
+    }
+
+    /**
+     * Makes a platform, looking up the block materials
+     * @param corners - min and max corners of the lobby
+     * @param height - y of the platform
+     * @param blocks - material names to choose from. Names can be repeated to make a block more common.
+     * @param logger - logger for names that are not blocks
+     * @return the platform, or null if none of the names is a block
+     */
+    public static @Nullable LobbyPlatform of(Point2D[] corners, int height, List<String> blocks, Logger logger) {
+        List<Material> materials = new ArrayList<>(blocks.size());
+        for (String name : blocks) {
+            Material material = Material.getMaterial(name);
+            if (material != null && material.isBlock()) {
+                materials.add(material);
+            } else {
+                logger.severe("Could not parse block material value for " + name + ", skipping...");
+            }
+        }
+        if (materials.isEmpty()) {
+            return null;
+        }
+        return new LobbyPlatform((int)Math.min(corners[0].getX(), corners[1].getX()),
+                (int)Math.min(corners[0].getY(), corners[1].getY()),
+                (int)Math.max(corners[0].getX(), corners[1].getX()),
+                (int)Math.max(corners[0].getY(), corners[1].getY()),
+                height, materials.toArray(new Material[0]));
+    }
+
+    /**
+     * @param chunkX - chunk x
+     * @param chunkZ - chunk z
+     * @return true if some of the platform is in this chunk
+     */
+    public boolean intersects(int chunkX, int chunkZ) {
+        return (chunkX << 4) <= xMax && (chunkX << 4) + 15 >= xMin && (chunkZ << 4) <= zMax && (chunkZ << 4) + 15 >= zMin;
+    }
+
+    /**
+     * Writes the platform into a chunk that is being generated. Safe to call from any thread.
+     * @param chunkData - the chunk data
+     * @param chunkX - chunk x
+     * @param chunkZ - chunk z
+     * @param random - the generator's random
+     */
+    public void generate(ChunkData chunkData, int chunkX, int chunkZ, Random random) {
+        if (height < chunkData.getMinHeight() || height >= chunkData.getMaxHeight()) {
+            return;
+        }
+        int baseX = chunkX << 4;
+        int baseZ = chunkZ << 4;
+        for (int x = Math.max(xMin, baseX); x <= Math.min(xMax, baseX + 15); x++) {
+            for (int z = Math.max(zMin, baseZ); z <= Math.min(zMax, baseZ + 15); z++) {
+                chunkData.setBlock(x - baseX, height, z - baseZ, pick(random));
+            }
+        }
+    }
+
+    /**
+     * Lays the platform in a loaded chunk, with physics off
+     * @param chunk - the chunk
+     * @param random - random for picking blocks
+     */
+    public void build(Chunk chunk, Random random) {
+        int baseX = chunk.getX() << 4;
+        int baseZ = chunk.getZ() << 4;
+        for (int x = Math.max(xMin, baseX); x <= Math.min(xMax, baseX + 15); x++) {
+            for (int z = Math.max(zMin, baseZ); z <= Math.min(zMax, baseZ + 15); z++) {
+                chunk.getBlock(x - baseX, height, z - baseZ).setType(pick(random), false);
+            }
+        }
+    }
+
+    /**
+     * Lays the platform in every chunk of the lobby, a few chunks per tick. Chunks are loaded
+     * asynchronously and the blocks are laid on the main thread within {@link #TICK_BUDGET}.
+     * @param plugin - the plugin that owns the task
+     * @param world - the world
+     * @param generatedOnly - if true, only chunks that already exist are done, because the chunk
+     * generator will lay the platform in the rest when they are made
+     * @return the task
+     */
+    public BukkitRunnable build(Plugin plugin, World world, boolean generatedOnly) {
+        Deque<int[]> toLoad = new ArrayDeque<>();
+        for (int chunkX = xMin >> 4; chunkX <= xMax >> 4; chunkX++) {
+            for (int chunkZ = zMin >> 4; chunkZ <= zMax >> 4; chunkZ++) {
+                toLoad.add(new int[] {chunkX, chunkZ});
+            }
+        }
+        Deque<Chunk> loaded = new ArrayDeque<>();
+        Random random = new Random();
+        BukkitRunnable task = new BukkitRunnable() {
+            private int loading;
+
+            @Override
+            public void run() {
+                while (loading < MAX_LOADS && !toLoad.isEmpty()) {
+                    int[] coords = toLoad.poll();
+                    loading++;
+                    world.getChunkAtAsync(coords[0], coords[1], !generatedOnly).whenComplete((chunk, error) -> {
+                        loading--;
+                        if (chunk != null) {
+                            loaded.add(chunk);
+                        }
+                    });
+                }
+                long start = System.nanoTime();
+                while (!loaded.isEmpty() && System.nanoTime() - start < TICK_BUDGET) {
+                    build(loaded.poll(), random);
+                }
+                if (toLoad.isEmpty() && loaded.isEmpty() && loading == 0) {
+                    cancel();
+                }
+            }
+        };
+        task.runTaskTimer(plugin, 1L, 1L);
+        return task;
+    }
+
+    private Material pick(Random random) {
+        return palette.length == 1 ? palette[0] : palette[random.nextInt(palette.length)];
+    }
+
+    /**
+     * @return y of the platform
+     */
+    public int getHeight() {
+        return height;
+    }
+}
@@ -8,6 +8,7 @@
  * <ul>
  *   <li>{@link com.wasteofplastic.beaconz.generator.BeaconzChunkGen} - Custom chunk generator for terrain</li>
  *   <li>{@link com.wasteofplastic.beaconz.generator.BeaconPopulator} - Block populator for beacon placement</li>
+ *   <li>{@link com.wasteofplastic.beaconz.generator.LobbyPlatform} - Lobby platform, laid by the chunk generator or a few chunks per tick</li>
  * </ul>
  *
  * <h2>World Generation:</h2>
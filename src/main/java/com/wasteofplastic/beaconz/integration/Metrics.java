@@ -1,234 +1,370 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
 package com.wasteofplastic.beaconz.integration;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.net.Proxy;
-import java.net.URL;
-import java.net.URLConnection;
-import java.net.URLEncoder;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
-import java.util.List;
-import java.util.UUID;
-import java.util.logging.Level;
-
-import org.bukkit.Bukkit;
-import org.bukkit.World;
-import org.bukkit.configuration.InvalidConfigurationException;
-import org.bukkit.configuration.file.YamlConfiguration;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.bukkit.entity.Player;
-import org.bukkit.plugin.Plugin;
-import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.scheduler.BukkitTask;
-
-import com.google.common.collect.Lists;
-
-public class Metrics {
-    private static String encode(final String text) {
-        return URLEncoder.encode(text, StandardCharsets.UTF_8);
-    }
-
-    private static void encodeDataPair(final StringBuilder buffer, final String key, final String value) {
-        buffer.append('&').append(encode(key)).append('=').append(encode(value));
-    }
-
-    private final YamlConfiguration configuration;
-    private final File configurationFile;
-    private final boolean debug;
-    private final String guid;
-
-    private final Object optOutLock = new Object();
-
-    private final Plugin plugin;
-
-    private volatile BukkitTask task = null;
-
-    public Metrics(final Plugin plugin) throws IOException {
-        if (plugin == null) {
-            throw new IllegalArgumentException("Plugin cannot be null");
+import org.bukkit.scoreboard.Team;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.config.Settings;
+import com.wasteofplastic.beaconz.core.BeaconObj;
+import com.wasteofplastic.beaconz.game.Game;
+import com.wasteofplastic.beaconz.game.GameRegister;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
+
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+
+/**
+ * Operational metrics in the Prometheus text format. Nothing is sent off the server.
+ * <p>
+ * The metrics are:
+ * <ul>
+ *   <li><b>Counters</b> - events such as captures, links and projectiles fired. Code gets a
+ *       {@link Counter} from {@link #counter(String, String)} and increments it from any thread</li>
+ *   <li><b>Gauges</b> - beacons, links and triangles per game, players online per game and the
+ *       depth of the write queues. These read game state so they are taken on the main thread</li>
+ *   <li><b>Section times</b> - the event handler, task and save times recorded by {@link PerfMonitor}</li>
+ * </ul>
+ * Every {@code general.metricsinterval} seconds the metrics are rendered on the main thread and
+ * kept as text. The text can be served by an HTTP listener that is bound to the loopback address
+ * only ({@code general.metricsport}) and written to metrics.prom in the plugin folder
+ * ({@code general.metricsfile}), which suits a node exporter textfile collector.
+ *
+ * @author tastybento
+ */
+public class Metrics extends BeaconzPluginDependent {
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    private static final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private final File file;
+    private volatile String text = "";
+    private BukkitTask task;
+    private HttpServer server;
+    private ExecutorService executor;
+
+    /**
+     * A count that only goes up
+     */
+    public static final class Counter {
+        private final String help;
+        private final LongAdder value = new LongAdder();
+
+        private Counter(String help) {
+            this.help = help;
         }
 
-        this.plugin = plugin;
-
-        configurationFile = getConfigFile();
-        configuration = YamlConfiguration.loadConfiguration(configurationFile);
+        /**
+         * Adds one
+         */
+        public void inc() {
+            value.increment();
+        }
 
-        configuration.addDefault("opt-out", Boolean.FALSE);
-        configuration.addDefault("guid", UUID.randomUUID().toString());
-        configuration.addDefault("debug", Boolean.FALSE);
+        /**
+         * Adds an amount
+         * @param amount - amount to add, ignored if negative
+         */
+        public void inc(long amount) {
+            if (amount > 0) {
+                value.add(amount);
+            }
+        }
 
-        if (configuration.get("guid", null) == null) {
-            configuration.options().header("http://mcstats.org").copyDefaults(true);
-            configuration.save(configurationFile);
+        /**
+         * @return the count
+         */
+        public long get() {
+            return value.sum();
         }
+    }
 
-        guid = configuration.getString("guid");
-        debug = configuration.getBoolean("debug", false);
+    /**
+     * Gets the counter with this name, creating it if needed
+     * @param name - the metric name, ending in _total
+     * @param help - description shown to the scraper
+     * @return the counter
+     */
+    public static Counter counter(String name, String help) {
+        return counters.computeIfAbsent(name, k -> new Counter(help));
     }
 
-    public void disable() throws IOException {
-        synchronized (optOutLock) {
-            if (!isOptOut()) {
-                configuration.set("opt-out", Boolean.TRUE);
-                configuration.save(configurationFile);
-            }
+    /**
+     * @param beaconzPlugin - the plugin
+     */
+    public Metrics(Beaconz beaconzPlugin) {
+        super(beaconzPlugin);
+        this.file = new File(beaconzPlugin.getDataFolder(), "metrics.prom");
+    }
 
-            if (task != null) {
-                task.cancel();
-                task = null;
+    /**
+     * Starts the update timer and, if a port is set, the local listener. Does nothing if neither
+     * the listener nor the file is turned on.
+     */
+    public void start() {
+        if (Settings.metricsPort <= 0 && !Settings.metricsFile) {
+            return;
+        }
+        update();
+        long period = Settings.metricsInterval * 20L;
+        task = getServer().getScheduler().runTaskTimer(getBeaconzPlugin(), this::update, period, period);
+        if (Settings.metricsPort > 0) {
+            try {
+                server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), Settings.metricsPort), 0);
+                server.createContext("/metrics", this::handle);
+                executor = Executors.newSingleThreadExecutor(r -> {
+                    Thread thread = new Thread(r, "Beaconz metrics");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+                server.setExecutor(executor);
+                server.start();
+                getLogger().info("Serving metrics at http://127.0.0.1:" + Settings.metricsPort + "/metrics");
+            } catch (IOException e) {
+                getLogger().severe("Could not start the metrics listener on port " + Settings.metricsPort + ": " + e.getMessage());
+                stop();
             }
         }
     }
 
-    public void enable() throws IOException {
-        synchronized (optOutLock) {
-            if (isOptOut()) {
-                configuration.set("opt-out", Boolean.FALSE);
-                configuration.save(configurationFile);
-            }
+    /**
+     * Stops the timer and the listener
+     */
+    public void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
 
-            if (task == null) {
-                start();
+    /**
+     * Renders the metrics. Must run on the main thread. The file, if used, is written async.
+     */
+    public void update() {
+        StringBuilder sb = new StringBuilder();
+        renderGauges(sb);
+        renderCounters(sb);
+        renderSections(sb);
+        String rendered = sb.toString();
+        text = rendered;
+        if (Settings.metricsFile) {
+            if (getBeaconzPlugin().isEnabled()) {
+                getServer().getScheduler().runTaskAsynchronously(getBeaconzPlugin(), () -> write(rendered));
+            } else {
+                write(rendered);
             }
         }
     }
 
-    public File getConfigFile() {
-        final File pluginsFolder = plugin.getDataFolder().getParentFile();
-
-        return new File(new File(pluginsFolder, "PluginMetrics"), "config.yml");
+    /**
+     * @return the metrics from the last update
+     */
+    public String getText() {
+        return text;
     }
 
-    private boolean isMineshafterPresent() {
-        try {
-            Class.forName("mineshafter.MineServer");
-            return true;
-        } catch (final Exception ignored) {
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] body = text.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
         }
-        return false;
     }
 
-    public boolean isOptOut() {
-        synchronized (optOutLock) {
+    private synchronized void write(String rendered) {
+        Path target = file.toPath();
+        Path tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+        try {
+            Files.writeString(tempPath, rendered, StandardCharsets.UTF_8);
             try {
-                configuration.load(getConfigFile());
-            } catch (final IOException | InvalidConfigurationException ex) {
-                if (debug) {
-                    plugin.getLogger().log(Level.INFO, "[Metrics] " + ex.getMessage());
-                }
-                return true;
+                Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
             }
-            return configuration.getBoolean("opt-out", false);
+        } catch (IOException e) {
+            getLogger().severe("Failed to write metrics.prom: " + e.getMessage());
         }
     }
 
-    private void postPlugin(final boolean isPing) throws IOException {
-        final PluginDescriptionFile description = plugin.getDescription();
-        final String pluginName = description.getName();
-        final boolean onlineMode = Bukkit.getServer().getOnlineMode();
-        final String pluginVersion = description.getVersion();
-        final String serverVersion = Bukkit.getVersion();
-        final int playersOnline = getOnlinePlayers().size();
-
-        final StringBuilder data = new StringBuilder();
-
-        data.append(encode("guid")).append('=').append(encode(guid));
-        encodeDataPair(data, "version", pluginVersion);
-        encodeDataPair(data, "server", serverVersion);
-        encodeDataPair(data, "players", Integer.toString(playersOnline));
-        encodeDataPair(data, "revision", String.valueOf(6));
-
-        final String osname = System.getProperty("os.name");
-        String osarch = System.getProperty("os.arch");
-        final String osversion = System.getProperty("os.version");
-        final String java_version = System.getProperty("java.version");
-        final int coreCount = Runtime.getRuntime().availableProcessors();
-
-        if (osarch.equals("amd64")) {
-            osarch = "x86_64";
+    /**
+     * Game state gauges, read on the main thread
+     */
+    private void renderGauges(StringBuilder sb) {
+        Map<String, Map<String, Integer>> beacons = new TreeMap<>();
+        Map<String, Integer> links = new TreeMap<>();
+        Map<String, Integer> triangles = new TreeMap<>();
+        Map<String, Integer> players = new TreeMap<>();
+        if (getGameMgr() != null) {
+            for (Game game : getGameMgr().getGames().values()) {
+                String name = PlainTextComponentSerializer.plainText().serialize(game.getName());
+                Map<String, Integer> owners = beacons.computeIfAbsent(name, k -> new TreeMap<>());
+                GameRegister gameRegister = getRegister() == null ? null : getRegister().getGameRegister(game);
+                if (gameRegister != null) {
+                    for (BeaconObj beacon : gameRegister.getBeacons().values()) {
+                        Team owner = beacon.getOwnership();
+                        owners.merge(owner == null ? "" : owner.getName(), 1, Integer::sum);
+                    }
+                    links.put(name, gameRegister.getLinks().size());
+                    triangles.put(name, gameRegister.getTriangleFields().size());
+                } else {
+                    links.put(name, 0);
+                    triangles.put(name, 0);
+                }
+                int online = 0;
+                for (Player player : getServer().getOnlinePlayers()) {
+                    if (game.hasPlayer(player)) {
+                        online++;
+                    }
+                }
+                players.put(name, online);
+            }
         }
-
-        encodeDataPair(data, "osname", osname);
-        encodeDataPair(data, "osarch", osarch);
-        encodeDataPair(data, "osversion", osversion);
-        encodeDataPair(data, "cores", Integer.toString(coreCount));
-        encodeDataPair(data, "online-mode", Boolean.toString(onlineMode));
-        encodeDataPair(data, "java_version", java_version);
-
-        if (isPing) {
-            encodeDataPair(data, "ping", "true");
+        header(sb, "beaconz_beacons", "gauge", "Beacons in each game by owning team. Unowned beacons have an empty team");
+        beacons.forEach((game, owners) -> owners.forEach((team, count) ->
+                sample(sb, "beaconz_beacons", count, "game", game, "team", team)));
+        header(sb, "beaconz_links", "gauge", "Links in each game");
+        links.forEach((game, count) -> sample(sb, "beaconz_links", count, "game", game));
+        header(sb, "beaconz_triangles", "gauge", "Triangle fields in each game");
+        triangles.forEach((game, count) -> sample(sb, "beaconz_triangles", count, "game", game));
+        header(sb, "beaconz_players", "gauge", "Players online in each game");
+        players.forEach((game, count) -> sample(sb, "beaconz_players", count, "game", game));
+
+        header(sb, "beaconz_queue_depth", "gauge", "Work waiting to be done");
+        if (getBeaconzStore() != null) {
+            sample(sb, "beaconz_queue_depth", getBeaconzStore().getPendingWrites(), "queue", "inventory_writes");
         }
-
-        final URL url = new URL("http://mcstats.org" + String.format("/report/%s", encode(pluginName)));
-        URLConnection connection;
-        if (isMineshafterPresent()) {
-            connection = url.openConnection(Proxy.NO_PROXY);
-        } else {
-            connection = url.openConnection();
+        if (getMessages() != null) {
+            sample(sb, "beaconz_queue_depth", getMessages().getPendingCount(), "queue", "offline_messages");
         }
-
-        connection.setDoOutput(true);
-
-        final OutputStreamWriter writer = new OutputStreamWriter(connection.getOutputStream());
-        writer.write(data.toString());
-        writer.flush();
-
-        final BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream()));
-        final String response = reader.readLine();
-
-        writer.close();
-        reader.close();
-
-        if (response == null || response.startsWith("ERR")) {
-            throw new IOException(response);
+        int scheduled = 0;
+        for (var pending : getServer().getScheduler().getPendingTasks()) {
+            if (pending.getOwner() == getBeaconzPlugin()) {
+                scheduled++;
+            }
         }
+        sample(sb, "beaconz_queue_depth", scheduled, "queue", "scheduled_tasks");
     }
 
-    public static List<Player> getOnlinePlayers() {
-        List<Player> list = Lists.newArrayList();
-        for (World world : Bukkit.getWorlds()) {
-            list.addAll(world.getPlayers());
-        }
-        return Collections.unmodifiableList(list);
+    /**
+     * Counters, safe on any thread
+     */
+    static void renderCounters(StringBuilder sb) {
+        new TreeMap<>(counters).forEach((name, counter) -> {
+            header(sb, name, "counter", counter.help);
+            sample(sb, name, counter.get());
+        });
     }
 
-    public void start() {
-        synchronized (optOutLock) {
-            if (isOptOut()) {
-                return;
-            }
-
-            if (task != null) {
-                return;
-            }
-
-            task = plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, new Runnable() {
-                private boolean firstPost = true;
-
-                public void run() {
-                    try {
-                        synchronized (optOutLock) {
-                            if (Metrics.this.isOptOut() && task != null) {
-                                task.cancel();
-                                task = null;
-                            }
+    /**
+     * Handler, task and save times from the performance monitor, safe on any thread
+     */
+    static void renderSections(StringBuilder sb) {
+        String name = "beaconz_section_duration_seconds";
+        header(sb, name, "summary", "Time taken by event handlers, tasks and saves");
+        for (PerfMonitor.Stats stats : PerfMonitor.getStats()) {
+            sample(sb, name, seconds(stats.p50Nanos()), "section", stats.name(), "quantile", "0.5");
+            sample(sb, name, seconds(stats.p99Nanos()), "section", stats.name(), "quantile", "0.99");
+            sample(sb, name + "_sum", seconds(stats.meanNanos() * stats.count()), "section", stats.name());
+            sample(sb, name + "_count", stats.count(), "section", stats.name());
+        }
+        header(sb, "beaconz_section_duration_max_seconds", "gauge", "Longest time taken by each section");
+        for (PerfMonitor.Stats stats : PerfMonitor.getStats()) {
+            sample(sb, "beaconz_section_duration_max_seconds", seconds(stats.maxNanos()), "section", stats.name());
+        }
+    }
 
-                        }
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000D;
+    }
 
-                        Metrics.this.postPlugin(!firstPost);
+    private static void header(StringBuilder sb, String name, String type, String help) {
+        sb.append("# HELP ").append(name).append(' ')
+        .append(help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+        sb.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
 
-                        firstPost = false;
-                    } catch (final IOException e) {
-                        if (debug) {
-                            plugin.getLogger().log(Level.INFO, "[Metrics] " + e.getMessage());
-                        }
-                    }
+    /**
+     * Adds a sample line
+     * @param sb - output
+     * @param name - metric name
+     * @param value - the value
+     * @param labels - label names and values, in pairs
+     */
+    static void sample(StringBuilder sb, String name, Number value, String... labels) {
+        sb.append(name);
+        if (labels.length > 0) {
+            sb.append('{');
+            for (int i = 0; i + 1 < labels.length; i += 2) {
+                if (i > 0) {
+                    sb.append(',');
                 }
-            }, 0L, 12000L);
+                sb.append(labels[i]).append("=\"").append(escape(labels[i + 1])).append('"');
+            }
+            sb.append('}');
+        }
+        sb.append(' ').append(value).append('\n');
+    }
 
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
         }
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
     }
-}
\ No newline at end of file
+}
@@ -28,6 +28,7 @@ import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
 import com.wasteofplastic.beaconz.core.TriangleField;
 import com.wasteofplastic.beaconz.game.Game;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
 
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 
@@ -55,6 +56,9 @@ import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
  * @author tastybento
  */
 public class OurServerListener extends BeaconzPluginDependent implements Listener {
+    /** Times the marker rebuild and the per-tick triangle updates */
+    private static final PerfMonitor.Probe MARKER_PERF = PerfMonitor.probe("OurServerListener.updateMarkers");
+    private static final PerfMonitor.Probe TRIANGLE_PERF = PerfMonitor.probe("OurServerListener.updateTriangles");
     /** Reference to the main Beaconz plugin instance */
     private final Beaconz plugin;
 
@@ -240,47 +244,56 @@ public class OurServerListener extends BeaconzPluginDependent implements Listene
 
             @Override
             public void run() {
-                // Clear existing markers from the map
-                for (AreaMarker am : resareas.values()) {
-                    am.deleteMarker();
-                }
-
-                // Process all game boundaries (rectangular areas)
-                for (Game game : getGameMgr().getGames().values()) {
-                    handleGames(game);
-                }
-
-                // Prepare triangle fields for incremental processing
-                trianglesToDo = new HashSet<>(getRegister().getTriangleFields());
-
-                // Incremental update task - processes triangles in batches to avoid lag
-                new BukkitRunnable() {
-                    @Override
-                    public void run() {
-                        // Stop if no more triangles to process
-                        if (trianglesToDo.isEmpty()) {
-                            this.cancel();
-                            return;
-                        }
-
-                        // Stop if plugin is being disabled
-                        if (stop) {
-                            this.cancel();
-                            return;
-                        }
+                long start = MARKER_PERF.start();
+                try {
+                    // Clear existing markers from the map
+                    for (AreaMarker am : resareas.values()) {
+                        am.deleteMarker();
+                    }
 
-                        // Process up to updatesPerTick triangles this tick
-                        int i = 0;
-                        Iterator<TriangleField> it = trianglesToDo.iterator();
-                        while (it.hasNext() && i < updatesPerTick) {
-                            i++;
-                            handleTriangle(it.next());
-                            it.remove();
-                        }
+                    // Process all game boundaries (rectangular areas)
+                    for (Game game : getGameMgr().getGames().values()) {
+                        handleGames(game);
                     }
 
-                }.runTaskTimer(plugin, 40L, 1L); // Start after 2 seconds, run every tick
+                    // Prepare triangle fields for incremental processing
+                    trianglesToDo = new HashSet<>(getRegister().getTriangleFields());
+
+                    // Incremental update task - processes triangles in batches to avoid lag
+                    new BukkitRunnable() {
+                        @Override
+                        public void run() {
+                            long tickStart = TRIANGLE_PERF.start();
+                            try {
+                                // Stop if no more triangles to process
+                                if (trianglesToDo.isEmpty()) {
+                                    this.cancel();
+                                    return;
+                                }
+
+                                // Stop if plugin is being disabled
+                                if (stop) {
+                                    this.cancel();
+                                    return;
+                                }
+
+                                // Process up to updatesPerTick triangles this tick
+                                int i = 0;
+                                Iterator<TriangleField> it = trianglesToDo.iterator();
+                                while (it.hasNext() && i < updatesPerTick) {
+                                    i++;
+                                    handleTriangle(it.next());
+                                    it.remove();
+                                }
+                            } finally {
+                                TRIANGLE_PERF.stop(tickStart);
+                            }
+                        }
 
+                    }.runTaskTimer(plugin, 40L, 1L); // Start after 2 seconds, run every tick
+                } finally {
+                    MARKER_PERF.stop(start);
+                }
             }
 
         }.runTaskTimer(plugin, 0L, updperiod); // Start immediately, repeat at configured interval
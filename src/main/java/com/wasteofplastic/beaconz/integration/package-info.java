@@ -7,7 +7,7 @@
  * <h2>Main Components:</h2>
  * <ul>
  *   <li>{@link com.wasteofplastic.beaconz.integration.dynmap.OurServerListener} - Dynmap integration</li>
- *   <li>{@link com.wasteofplastic.beaconz.integration.Metrics} - bStats metrics collection</li>
+ *   <li>{@link com.wasteofplastic.beaconz.integration.Metrics} - Local metrics in Prometheus text format</li>
  * </ul>
  *
  * <h2>Dynmap Integration:</h2>
@@ -28,21 +28,19 @@
  *   <li>Web-based game viewing</li>
  * </ul>
  *
- * <h2>bStats Metrics:</h2>
- * Metrics class collects anonymous usage statistics:
+ * <h2>Metrics:</h2>
+ * Metrics keeps operational telemetry on the server, for a local scraper:
  * <ul>
- *   <li><b>Server Count:</b> Number of servers using Beaconz</li>
- *   <li><b>Player Count:</b> Active player statistics</li>
- *   <li><b>Version Distribution:</b> Which versions are in use</li>
- *   <li><b>Configuration Stats:</b> Common configuration patterns</li>
+ *   <li><b>Gauges:</b> Beacons, links, triangles and players per game, and write queue depths</li>
+ *   <li><b>Counters:</b> Captures, links, triangles made and projectiles fired</li>
+ *   <li><b>Section Times:</b> Handler, task and save times from PerfMonitor</li>
  * </ul>
  *
- * Data collected is:
+ * Export is off by default:
  * <ul>
- *   <li>Anonymous (no personally identifiable information)</li>
- *   <li>Used to improve the plugin</li>
- *   <li>Viewable at https://bstats.org/plugin/bukkit/Beaconz</li>
- *   <li>Can be disabled in bStats global config</li>
+ *   <li>{@code general.metricsport} serves /metrics on 127.0.0.1 only</li>
+ *   <li>{@code general.metricsfile} writes metrics.prom in the plugin folder</li>
+ *   <li>Nothing is sent to any outside service</li>
  * </ul>
  *
  * <h2>Integration Pattern:</h2>
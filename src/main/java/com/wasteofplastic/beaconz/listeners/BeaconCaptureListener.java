@@ -54,6 +54,7 @@ import com.wasteofplastic.beaconz.config.Lang;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 import com.wasteofplastic.beaconz.game.Game;
+import com.wasteofplastic.beaconz.integration.Metrics;
 import com.wasteofplastic.beaconz.map.BeaconMap;
 import com.wasteofplastic.beaconz.map.TerritoryMapRenderer;
 
@@ -97,6 +98,7 @@ public class BeaconCaptureListener extends BeaconzPluginDependent implements Lis
 
     /** Debug flag for verbose logging of capture mechanics */
     private final static boolean DEBUG = false;
+    private static final Metrics.Counter CAPTURES = Metrics.counter("beaconz_captures_total", "Beacons captured by players");
 
     /**
      * Constructs a new BeaconCaptureListener.
@@ -174,7 +176,8 @@ public class BeaconCaptureListener extends BeaconzPluginDependent implements Lis
         }
 
         // Verify the beacon's structural integrity (checks if pyramid is intact)
-        beacon.checkIntegrity();
+        // Repeated clicks skip this until a block in the beacon's columns changes
+        beacon.checkIntegrityIfChanged();
 
         // Check if this is the capture block (obsidian/colored block directly above the beacon)
         if (block.getRelative(BlockFace.DOWN).getType().equals(Material.BEACON)) {
@@ -182,7 +185,7 @@ public class BeaconCaptureListener extends BeaconzPluginDependent implements Lis
             if (getRegister().isBeacon(block.getRelative(BlockFace.DOWN))) {
                 // Check if the beacon area is clear of obstructions
                 // Beacons must be cleared before capture unless already owned by the player's team
-                if (beacon.isNotClear() && (beacon.getOwnership() == null || !beacon.getOwnership().equals(team))) {
+                if (beacon.isNotClearIfChanged() && (beacon.getOwnership() == null || !beacon.getOwnership().equals(team))) {
                     // Beacon has blocks above it - must be cleared first
                     player.sendMessage(Lang.errorClearAroundBeacon.color(NamedTextColor.GOLD));
                     event.setCancelled(true);
@@ -383,6 +386,7 @@ public class BeaconCaptureListener extends BeaconzPluginDependent implements Lis
 
         // Register the beacon ownership in the system
         getRegister().setBeaconOwner(beacon, team);
+        CAPTURES.inc();
 
         // Notify the player of successful capture
         player.sendMessage(Lang.beaconYouCapturedABeacon.color(NamedTextColor.GREEN));
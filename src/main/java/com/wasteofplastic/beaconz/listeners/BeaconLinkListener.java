@@ -51,6 +51,7 @@ import com.wasteofplastic.beaconz.config.Params.GameScoreGoal;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 import com.wasteofplastic.beaconz.core.DefenseBlock;
+import com.wasteofplastic.beaconz.integration.Metrics;
 import com.wasteofplastic.beaconz.map.TerritoryMapRenderer;
 import com.wasteofplastic.beaconz.util.LinkResult;
 
@@ -93,6 +94,9 @@ public class BeaconLinkListener extends BeaconzPluginDependent implements Listen
 
     /** Debug flag for verbose logging of link operations */
     private final static boolean DEBUG = false;
+    private static final Metrics.Counter LINKS = Metrics.counter("beaconz_links_made_total", "Links made by players");
+    private static final Metrics.Counter FIELDS = Metrics.counter("beaconz_triangles_made_total",
+            "Triangle fields made by players");
 
     /**
      * Constructs a new BeaconLinkListener.
@@ -213,8 +217,7 @@ public class BeaconLinkListener extends BeaconzPluginDependent implements Listen
         // Verify the mapped beacon is also owned by the player's team
         // Cannot link to unowned or enemy beacons
         if (mappedBeacon.getOwnership() == null || !mappedBeacon.getOwnership().equals(team)) {
-            player.sendMessage(Lang.beaconOriginNotOwned
-                    .replaceText(builder -> builder.matchLiteral("[team]").replacement(team.displayName()))
+            player.sendMessage(Lang.format(Lang.beaconOriginNotOwned, "[team]", team.displayName())
                     .color(NamedTextColor.RED));
             return;
         }
@@ -229,9 +232,7 @@ public class BeaconLinkListener extends BeaconzPluginDependent implements Listen
             // Check if the beacons are within linking range
             int linkDistance = checkBeaconDistance(beacon, mappedBeacon);
             if (linkDistance > Settings.linkLimit) {
-                player.sendMessage(Lang.errorTooFar
-                        .replaceText(builder -> builder.matchLiteral("[max]")
-                                .replacement(Component.text(String.valueOf(Settings.linkLimit))))
+                player.sendMessage(Lang.format(Lang.errorTooFar, "[max]", Settings.linkLimit)
                         .color(NamedTextColor.RED));
                 return;
             }
@@ -244,13 +245,9 @@ public class BeaconLinkListener extends BeaconzPluginDependent implements Listen
                 if (testForExp(player, expRequired)) {
                     // Player doesn't have enough experience
                     player.sendMessage(Lang.errorNotEnoughExperience.color(NamedTextColor.RED));
-                    player.sendMessage(Lang.beaconYouNeedThisMuchExp
-                            .replaceText(builder -> builder.matchLiteral("[number]")
-                                    .replacement(Component.text(String.format(Locale.US, "%,d", expRequired))))
+                    player.sendMessage(Lang.format(Lang.beaconYouNeedThisMuchExp, "[number]", String.format(Locale.US, "%,d", expRequired))
                             .color(NamedTextColor.RED));
-                    player.sendMessage(Lang.beaconYouHaveThisMuchExp
-                            .replaceText(builder -> builder.matchLiteral("[number]")
-                                    .replacement(Component.text(String.format(Locale.US, "%,d", player.calculateTotalExperiencePoints()))))
+                    player.sendMessage(Lang.format(Lang.beaconYouHaveThisMuchExp, "[number]", String.format(Locale.US, "%,d", player.calculateTotalExperiencePoints()))
                             .color(NamedTextColor.RED));
                     return;
                 }
@@ -457,9 +454,7 @@ public class BeaconLinkListener extends BeaconzPluginDependent implements Listen
 
         // VALIDATION 2: Check maximum links limit
         if (beacon.getNumberOfLinks() == Settings.maxLinks) {
-            player.sendMessage(Lang.beaconMaxLinks
-                    .replaceText(builder -> builder.matchLiteral("[number]")
-                            .replacement(Component.text(String.valueOf(Settings.maxLinks))))
+            player.sendMessage(Lang.format(Lang.beaconMaxLinks, "[number]", Settings.maxLinks)
                     .color(NamedTextColor.RED));
             return false;
         }
@@ -494,18 +489,16 @@ public class BeaconLinkListener extends BeaconzPluginDependent implements Listen
 
         if (result.isSuccess()) {
             // Link created successfully
+            LINKS.inc();
+            FIELDS.inc(result.getFieldsMade());
             player.sendMessage(Lang.beaconLinkCreated.color(NamedTextColor.GREEN));
-            player.sendMessage(Lang.beaconNowHasLinks
-                    .replaceText(builder -> builder.matchLiteral("[number]")
-                            .replacement(Component.text(String.valueOf(beacon.getNumberOfLinks())))));
+            player.sendMessage(Lang.format(Lang.beaconNowHasLinks, "[number]", beacon.getNumberOfLinks()));
 
             // Play success sound effect
             player.getWorld().playSound(player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LARGE_BLAST, 1F, 1F);
 
             // Notify the player's team about the new link
-            getMessages().tellTeam(player, Lang.beaconNameCreatedALink
-                    .replaceText(builder -> builder.matchLiteral("[name]")
-                            .replacement(player.displayName()))
+            getMessages().tellTeam(player, Lang.format(Lang.beaconNameCreatedALink, "[name]", player.displayName())
                     .color(NamedTextColor.GREEN));
         } else {
             // Link creation failed (shouldn't happen after validations)
@@ -525,25 +518,17 @@ public class BeaconLinkListener extends BeaconzPluginDependent implements Listen
                         .color(NamedTextColor.GOLD));
 
                 // Notify team with new score
-                getMessages().tellTeam(player, Lang.beaconNameCreateATriangle
-                        .replaceText(builder -> builder.matchLiteral("[name]")
-                                .replacement(player.displayName()))
+                getMessages().tellTeam(player, Lang.format(Lang.beaconNameCreateATriangle, "[name]", player.displayName())
                         .append(Component.text(" ").append(Lang.scoreNewScore).append(Component.text(" = ")
                                 .append(Component.text(String.format(Locale.US, "%,d", getGameMgr().getSC(team).getScore(team, GameScoreGoal.AREA))))))
                         .color(NamedTextColor.GREEN));
 
                 // Taunt enemy teams about the new territory
-                getMessages().tellOtherTeams(team, Lang.beaconNameCreateATriangle
-                        .replaceText(builder -> builder.matchLiteral("[name]")
-                                .replacement(team.displayName()))
+                getMessages().tellOtherTeams(team, Lang.format(Lang.beaconNameCreateATriangle, "[name]", team.displayName())
                         .color(NamedTextColor.RED));
             } else {
                 // Multiple triangles created (rare but possible with certain link configurations)
-                Component message = Lang.beaconNameCreateTriangles
-                        .replaceText(builder -> builder.matchLiteral("[name]")
-                                .replacement(player.displayName()))
-                        .replaceText(builder -> builder.matchLiteral("[number]")
-                                .replacement(Component.text(String.valueOf(result.getFieldsMade()))));
+                Component message = Lang.format(Lang.beaconNameCreateTriangles, "[name]", player.displayName(), "[number]", result.getFieldsMade());
 
                 Component newScore = Lang.scoreNewScore.append(Component.text(" " + String.format(Locale.US, "%,d", getGameMgr().getSC(team).getScore(team, GameScoreGoal.AREA))));
 
@@ -564,9 +549,7 @@ public class BeaconLinkListener extends BeaconzPluginDependent implements Listen
             if (result.getFieldsFailedToMake() == 1) {
                 player.sendMessage(Lang.triangleCouldNotMakeTriangle.color(NamedTextColor.RED));
             } else {
-                player.sendMessage(Lang.triangleCouldNotMakeTriangles
-                        .replaceText(builder -> builder.matchLiteral("[number]")
-                                .replacement(Component.text(String.valueOf(result.getFieldsFailedToMake()))))
+                player.sendMessage(Lang.format(Lang.triangleCouldNotMakeTriangles, "[number]", result.getFieldsFailedToMake())
                         .color(NamedTextColor.RED));
             }
         }
@@ -22,7 +22,6 @@
 
 package com.wasteofplastic.beaconz.listeners;
 
-import java.awt.geom.Point2D;
 import java.util.Iterator;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -42,12 +41,12 @@ import org.bukkit.event.block.BlockFromToEvent;
 import org.bukkit.event.block.BlockPistonExtendEvent;
 import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
-import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.scoreboard.Team;
 
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
 import com.wasteofplastic.beaconz.config.Lang;
+import com.wasteofplastic.beaconz.config.MaterialRoles;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 import com.wasteofplastic.beaconz.core.DefenseBlock;
@@ -65,7 +64,7 @@ import net.kyori.adventure.text.Component;
  *   <li>Defense block removal with top-down enforcement</li>
  *   <li>Beacon range extension using emerald blocks</li>
  *   <li>Beacon locking mechanics</li>
- *   <li>Protection from explosions, pistons, and liquid flow</li>
+ *   <li>Protection from pistons and liquid flow (explosions are filtered by {@link ExplosionListener})</li>
  * </ul>
  *
  * <p>Defense blocks must be placed and removed according to specific rules:
@@ -91,6 +90,11 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
      */
     private static final boolean DEBUG = false;
 
+    /**
+     * Horizontal faces checked when looking for an adjacent beacon.
+     */
+    private static final BlockFace[] ADJACENT_FACES = {BlockFace.NORTH, BlockFace.SOUTH, BlockFace.EAST, BlockFace.WEST};
+
     /**
      * Creates a new beacon passive defense listener.
      *
@@ -100,24 +104,6 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
         super(plugin);
     }
 
-    /**
-     * Protects beacon structures from explosion damage.
-     *
-     * <p>Removes any blocks above beacons from the explosion's affected block list,
-     * preventing damage to beacon defenses and the beacon itself.
-     *
-     * @param event the entity explosion event
-     */
-    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
-    public void onExplode(EntityExplodeEvent event) {
-        if (isNotBeaconzWorld(event.getLocation().getWorld())) {
-            return;
-        }
-
-        // Remove any blocks that are above beacons from the explosion
-        event.blockList().removeIf(block -> getRegister().isAboveBeacon(block.getLocation()));
-    }
-
     /**
      * Prevents pistons from pushing blocks into beacon-protected areas.
      *
@@ -134,7 +120,8 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
 
         for (Block block : event.getBlocks()) {
             Block destination = block.getRelative(event.getDirection());
-            if (getRegister().isAboveBeacon(destination.getLocation())) {
+            if (getRegister().isProtectedColumn(destination.getX(), destination.getZ())
+                    && getRegister().isAboveBeacon(destination.getLocation())) {
                 event.setCancelled(true);
                 return;
             }
@@ -156,7 +143,8 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
         }
 
         for (Block block : event.getBlocks()) {
-            if (getRegister().isAboveBeacon(block.getLocation())) {
+            if (getRegister().isProtectedColumn(block.getX(), block.getZ())
+                    && getRegister().isAboveBeacon(block.getLocation())) {
                 event.setCancelled(true);
                 return;
             }
@@ -202,19 +190,18 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
         Optional<BeaconObj> adjacentBeacon = findAdjacentBeacon(block);
 
         // Check for range extension block (emerald)
-        if (block.getType() == Material.EMERALD_BLOCK && adjacentBeacon.isPresent()) {
+        if (MaterialRoles.is(block.getType(), MaterialRoles.PLINTH) && adjacentBeacon.isPresent()) {
             handleRangeExtension(player, block, adjacentBeacon.get(), team.get(), event);
             return;
         }
 
         // Check for locking block
-        Material lockingBlock = getLockingBlockMaterial();
-        if (block.getType() == lockingBlock && adjacentBeacon.isPresent()) {
+        if (MaterialRoles.is(block.getType(), MaterialRoles.LOCKING) && adjacentBeacon.isPresent()) {
             handleLockingBlock(player, block, adjacentBeacon.get(), team.get());
         }
 
         // Handle defensive block placement
-        BeaconObj beacon = getRegister().getBeaconAt(new Point2D.Double(block.getX(), block.getZ()));
+        BeaconObj beacon = getRegister().getBaseBeaconAt(block.getX(), block.getZ());
         if (beacon == null || beacon.getOwnership() == null || beacon.getY() > block.getY()) {
             return;
         }
@@ -276,9 +263,9 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
      * @return the adjacent beacon
      */
     private Optional<BeaconObj> findAdjacentBeacon(Block block) {
-        for (BlockFace face : new BlockFace[]{BlockFace.NORTH, BlockFace.SOUTH, BlockFace.EAST, BlockFace.WEST}) {
+        for (BlockFace face : ADJACENT_FACES) {
             Block adjacent = block.getRelative(face);
-            BeaconObj beacon = getRegister().getBeaconAt(new Point2D.Double(adjacent.getX(), adjacent.getZ()));
+            BeaconObj beacon = getRegister().getBaseBeaconAt(adjacent.getX(), adjacent.getZ());
             if (beacon != null) {
                 return Optional.of(beacon);
             }
@@ -332,16 +319,6 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
         player.sendMessage(Lang.beaconExtended);
     }
 
-    /**
-     * Gets the configured locking block material.
-     *
-     * @return the locking block material, defaults to EMERALD_BLOCK if not configured
-     */
-    private Material getLockingBlockMaterial() {
-        Material material = Material.getMaterial(Settings.lockingBlock.toUpperCase());
-        return material != null ? material : Material.EMERALD_BLOCK;
-    }
-
     /**
      * Handles placement of locking blocks on beacons.
      * Locking blocks must be placed directly above the beacon by the owning team.
@@ -458,10 +435,10 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
                 : Component.text("");
 
         // Check if it's a link block
-        if (Settings.linkBlocks.containsKey(block.getType())) {
+        if (MaterialRoles.is(block.getType(), MaterialRoles.LINK)) {
             player.sendMessage(Lang.beaconLinkBlockPlaced.replaceText(
                     builder -> builder.matchLiteral("[range]")
-                            .replacement(Component.text(String.valueOf(Settings.linkBlocks.get(block.getType()))))));
+                            .replacement(Component.text(String.valueOf(MaterialRoles.getLinkValue(block.getType()))))));
         }
 
         // Send defense placement message
@@ -661,19 +638,20 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
      * @param team the player's team
      */
     private void handleLinkBlockBreak(Player player, Block block, BeaconObj beacon, Team team) {
-        if (!Settings.linkBlocks.containsKey(block.getType())) {
+        if (!MaterialRoles.is(block.getType(), MaterialRoles.LINK)) {
             return;
         }
 
         // Notify player
         player.sendMessage(Lang.beaconLinkBlockBroken
                 .replaceText(builder -> builder.matchLiteral("[range]")
-                        .replacement(Component.text(String.valueOf(Settings.linkBlocks.get(block.getType()))))));
+                        .replacement(Component.text(String.valueOf(MaterialRoles.getLinkValue(block.getType()))))));
 
         // Destroy the block if configured
         if (Settings.destroyLinkBlocks) {
             block.getWorld().playSound(player.getLocation(), Sound.BLOCK_GLASS_BREAK, 1F, 1F);
             block.setType(Material.AIR);
+            getRegister().blockChanged(block.getX(), block.getZ());
         }
 
         // Remove longest link if configured
@@ -720,14 +698,14 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
 
         // Check if this is a defense block
         Block block = event.getBlock();
-        BeaconObj beacon = getRegister().getBeaconAt(new Point2D.Double(block.getX(), block.getZ()));
+        BeaconObj beacon = getRegister().getBaseBeaconAt(block.getX(), block.getZ());
 
         if (!isDefenseBlock(block, beacon)) {
             return;
         }
 
         // Warn about link block destruction
-        if (Settings.destroyLinkBlocks && Settings.linkBlocks.containsKey(block.getType())) {
+        if (Settings.destroyLinkBlocks && MaterialRoles.is(block.getType(), MaterialRoles.LINK)) {
             block.getWorld().playSound(block.getLocation(), Sound.BLOCK_GLASS_BREAK, 1F, 2F);
             player.sendMessage(Lang.beaconAmplifierBlocksCannotBeRecovered);
         }
@@ -787,7 +765,8 @@ public class BeaconPassiveDefenseListener extends BeaconzPluginDependent impleme
             return;
         }
 
-        if (getRegister().isAboveBeacon(event.getToBlock().getLocation())) {
+        Block to = event.getToBlock();
+        if (getRegister().isProtectedColumn(to.getX(), to.getZ()) && getRegister().isAboveBeacon(to.getLocation())) {
             event.setCancelled(true);
             if (DEBUG) {
                 getLogger().info("DEBUG: stopping flow");
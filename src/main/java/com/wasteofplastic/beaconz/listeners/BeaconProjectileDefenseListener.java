@@ -59,6 +59,7 @@ import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 import com.wasteofplastic.beaconz.core.DefenseBlock;
+import com.wasteofplastic.beaconz.integration.Metrics;
 
 /**
  * Listener class that implements automated projectile defense systems for beacons.
@@ -85,6 +86,8 @@ public class BeaconProjectileDefenseListener extends BeaconzPluginDependent impl
 
     /** Maximum range in blocks at which beacon defenses can detect and fire at players */
     private static final int RANGE = 10;
+    private static final Metrics.Counter FIRED = Metrics.counter("beaconz_projectiles_fired_total",
+            "Projectiles fired by beacon defenses");
 
     /**
      * Tracks projectiles fired by beacon defenses mapped to the team that owns the beacon.
@@ -426,6 +429,7 @@ public class BeaconProjectileDefenseListener extends BeaconzPluginDependent impl
 
             // Track this projectile for team-based damage rules
             projectiles.put(projectile.getUniqueId(), team);
+            FIRED.inc();
         }
     }
 
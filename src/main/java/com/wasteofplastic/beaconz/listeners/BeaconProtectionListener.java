@@ -54,7 +54,6 @@ import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.block.BlockSpreadEvent;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
-import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.player.PlayerBucketEmptyEvent;
@@ -72,6 +71,7 @@ import com.wasteofplastic.beaconz.config.Lang;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 import com.wasteofplastic.beaconz.game.Game;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
 
 import net.kyori.adventure.text.format.NamedTextColor;
 
@@ -80,7 +80,7 @@ import net.kyori.adventure.text.format.NamedTextColor;
  * This class manages various events to ensure beacon integrity and proper gameplay:
  * <ul>
  *   <li>Prevents unauthorized block placement/breaking near beacons</li>
- *   <li>Protects beacon structures from explosions and piston manipulation</li>
+ *   <li>Protects beacon structures from piston manipulation (explosions are filtered by {@link ExplosionListener})</li>
  *   <li>Prevents liquid placement above beacon beams</li>
  *   <li>Controls player interaction with beacons (damage, capture)</li>
  *   <li>Protects animals and inventories on owned beacons</li>
@@ -94,6 +94,8 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
 
     /** Debug flag for verbose logging */
     private final static boolean DEBUG = false;
+    /** Times the task that ejects players from beacon beams */
+    private static final PerfMonitor.Probe EJECT_PERF = PerfMonitor.probe("BeaconProtectionListener.ejectPlayers");
 
     /**
      * A bidirectional hashmap to track which players are currently standing on beacon beams.
@@ -150,26 +152,31 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
         new BukkitRunnable() {
             @Override
             public void run() {
-                // Iterate through all players currently tracked as standing on beacons
-                for (Entry<UUID, BeaconObj> entry : standingOn.entrySet()) {
-                    Player player = getServer().getPlayer(entry.getKey());
-
-                    // Verify the player is still valid, online, in the game world, and not in the lobby
-                    if (player != null && player.isOnline()
-                            && player.getWorld().equals(getBeaconzWorld())
-                            && !getGameMgr().isPlayerInLobby(player)
-                            && player.getLocation().getBlockY() > entry.getValue().getY()
-                            && player.getLocation().getBlockY() < entry.getValue().getY() + Settings.defenseHeight) {
-
-                        // Eject the player from the beacon beam with a random horizontal push and upward boost
-                        Random rand = new Random();
-                        // Gaussian distribution gives more natural-feeling random directions
-                        // Y velocity of 1.2 provides a noticeable upward boost
-                        player.setVelocity(new Vector(rand.nextGaussian(), 1.2, rand.nextGaussian()));
-
-                        // Play a pleasant harp sound to indicate the beacon defense is active
-                        getBeaconzWorld().playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HARP, 1F, 1F);
+                long start = EJECT_PERF.start();
+                try {
+                    // Iterate through all players currently tracked as standing on beacons
+                    for (Entry<UUID, BeaconObj> entry : standingOn.entrySet()) {
+                        Player player = getServer().getPlayer(entry.getKey());
+
+                        // Verify the player is still valid, online, in the game world, and not in the lobby
+                        if (player != null && player.isOnline()
+                                && player.getWorld().equals(getBeaconzWorld())
+                                && !getGameMgr().isPlayerInLobby(player)
+                                && player.getLocation().getBlockY() > entry.getValue().getY()
+                                && player.getLocation().getBlockY() < entry.getValue().getY() + Settings.defenseHeight) {
+
+                            // Eject the player from the beacon beam with a random horizontal push and upward boost
+                            Random rand = new Random();
+                            // Gaussian distribution gives more natural-feeling random directions
+                            // Y velocity of 1.2 provides a noticeable upward boost
+                            player.setVelocity(new Vector(rand.nextGaussian(), 1.2, rand.nextGaussian()));
+
+                            // Play a pleasant harp sound to indicate the beacon defense is active
+                            getBeaconzWorld().playSound(player.getLocation(), Sound.BLOCK_NOTE_BLOCK_HARP, 1F, 1F);
+                        }
                     }
+                } finally {
+                    EJECT_PERF.stop(start);
                 }
             }
         }.runTaskTimer(getBeaconzPlugin(), 0L, 20L); // Start immediately (0L delay), repeat every second (20 ticks)
@@ -243,7 +250,7 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
             if (getRegister().isBeacon(block.getRelative(BlockFace.DOWN))) {
                 // Check if the beacon area is clear of obstructions
                 // Uncleared beacons cannot be captured unless already owned by the team
-                if (beacon.isNotClear() && (beacon.getOwnership() == null || !beacon.getOwnership().equals(team))) {
+                if (beacon.isNotClearIfChanged() && (beacon.getOwnership() == null || !beacon.getOwnership().equals(team))) {
                     // Beacon has blocks in its beam - must be cleared first
                     player.sendMessage(Lang.errorClearAroundBeacon);
                     event.setCancelled(true);
@@ -266,39 +273,6 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
 
     }
 
-    /**
-     * Protects beacon structures from explosion damage.
-     * <p>
-     * This handler intercepts all explosion events and removes any beacon-related blocks
-     * from the damage list. This ensures that beacons cannot be destroyed by:
-     * <ul>
-     *   <li>TNT explosions</li>
-     *   <li>Creeper explosions</li>
-     *   <li>Wither explosions</li>
-     *   <li>Any other explosive damage sources</li>
-     * </ul>
-     *
-     * Beacons can only be captured through the proper game mechanics (breaking the
-     * capture block after clearing the area), not through explosions.
-     *
-     * @param event The EntityExplodeEvent containing the explosion location and affected blocks
-     */
-    @EventHandler(priority = EventPriority.LOW, ignoreCancelled=true)
-    public void onExplode(EntityExplodeEvent event) {
-        if (DEBUG)
-            getLogger().info("DEBUG: " + event.getEventName());
-
-        // Quick world check - only process events in the Beaconz world
-        World world = event.getLocation().getWorld();
-        if (!world.equals(getBeaconzWorld())) {
-            return;
-        }
-
-        // Remove all beacon blocks from the explosion's block list
-        // This uses a lambda predicate to filter out beacon-related blocks
-        event.blockList().removeIf(block -> getRegister().isBeacon(block));
-    }
-
     /**
      * Prevents natural block spreading (like vines, grass, mycelium) above beacon beams.
      * <p>
@@ -322,6 +296,11 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
             return;
         }
 
+        // Nearly all spreading happens away from beacons
+        if (!getRegister().isProtectedColumn(event.getBlock().getX(), event.getBlock().getZ())) {
+            return;
+        }
+
         // Check if there's a beacon at this X/Z coordinate
         BeaconObj beacon = getRegister().getBeaconAt(event.getBlock().getX(), event.getBlock().getZ());
 
@@ -330,6 +309,7 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
             // TODO: Future enhancement - special handling for leaf blocks
             // For now, convert any spreading block above a beacon to air
             event.getBlock().setType(Material.AIR);
+            getRegister().blockChanged(event.getBlock().getX(), event.getBlock().getZ());
         }
     }
 
@@ -361,7 +341,7 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
         // Check each block being pushed by the piston
         for (Block b : event.getBlocks()) {
             // Protection 1: Prevent pushing any part of a beacon structure
-            if (getRegister().isBeacon(b)) {
+            if (getRegister().isProtectedColumn(b.getX(), b.getZ()) && getRegister().isBeacon(b)) {
                 event.setCancelled(true);
                 return;
             }
@@ -369,6 +349,9 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
             // Protection 2: Prevent pushing blocks into the space above beacons
             // Calculate where this block will end up after being pushed
             Block testBlock = b.getRelative(event.getDirection());
+            if (!getRegister().isProtectedColumn(testBlock.getX(), testBlock.getZ())) {
+                continue;
+            }
             BeaconObj beacon = getRegister().getBeaconAt(testBlock.getX(), testBlock.getZ());
 
             // If the destination is above a beacon, cancel the push
@@ -404,7 +387,7 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
         // Check each block being pulled by the sticky piston
         for (Block b : event.getBlocks()) {
             // If any block is part of a beacon structure, cancel the entire pull operation
-            if (getRegister().isBeacon(b)) {
+            if (getRegister().isProtectedColumn(b.getX(), b.getZ()) && getRegister().isBeacon(b)) {
                 event.setCancelled(true);
                 return;
             }
@@ -442,6 +425,11 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
         // This is the clicked block plus the face direction
         Block b = event.getBlockClicked().getRelative(event.getBlockFace());
 
+        // Both checks below are about the beacon or base block in this column, if there is one
+        if (!getRegister().isProtectedColumn(b.getX(), b.getZ())) {
+            return;
+        }
+
         // Check if there's a beacon at this X/Z coordinate
         BeaconObj beacon = getRegister().getBeaconAt(b.getX(), b.getZ());
 
@@ -553,19 +541,22 @@ public class BeaconProtectionListener extends BeaconzPluginDependent implements
                 || event.getToBlock().getZ() != event.getBlock().getZ()) {
 
             // Check if there's a beacon at the destination coordinates
-            BeaconObj beacon = getRegister().getBeaconAt(
-                    event.getToBlock().getX(),
-                    event.getToBlock().getZ());
+            if (getRegister().isProtectedColumn(event.getToBlock().getX(), event.getToBlock().getZ())) {
+                BeaconObj beacon = getRegister().getBeaconAt(
+                        event.getToBlock().getX(),
+                        event.getToBlock().getZ());
 
-            // Prevent flow into blocks above beacon level
-            if (beacon != null && beacon.getY() < event.getToBlock().getY()) {
-                event.setCancelled(true);
-                return;
+                // Prevent flow into blocks above beacon level
+                if (beacon != null && beacon.getY() < event.getToBlock().getY()) {
+                    event.setCancelled(true);
+                    return;
+                }
             }
 
             // Additional check: prevent flows outside of the game area
-            // This helps maintain clean boundaries between games
-            Game game = getGameMgr().getGame(event.getBlock().getLocation());
+            // This helps maintain clean boundaries between games. The game manager caches the
+            // region of each chunk, so this does not scan the regions for every flow.
+            Game game = getGameMgr().getGame(event.getBlock().getX(), event.getBlock().getZ());
             if (game == null) {
                 // Source block is outside any game area - cancel the flow
                 event.setCancelled(true);
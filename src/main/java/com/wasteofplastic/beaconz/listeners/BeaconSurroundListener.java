@@ -22,10 +22,8 @@
 
 package com.wasteofplastic.beaconz.listeners;
 
-import java.util.Iterator;
 import java.util.List;
 import java.util.Random;
-import java.util.Set;
 
 import org.bukkit.Material;
 import org.bukkit.Sound;
@@ -36,12 +34,12 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.world.StructureGrowEvent;
 import org.bukkit.inventory.ItemStack;
 
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.config.MaterialRoles;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 
 /**
@@ -63,7 +61,7 @@ import com.wasteofplastic.beaconz.core.BeaconObj;
  *   <li>Only blocks below the beacon level are protected (up to RANGE blocks down)</li>
  *   <li>Breaking protected blocks has a {@link #PROBABILITY} chance to be cancelled</li>
  *   <li>Failed break attempts damage the player's tool</li>
- *   <li>Explosions cannot damage protected blocks</li>
+ *   <li>Explosions cannot damage protected blocks (see {@link ExplosionListener})</li>
  *   <li>Trees cannot grow above beacons (prevents beam obstruction)</li>
  * </ul>
  *
@@ -94,27 +92,6 @@ public class BeaconSurroundListener extends BeaconzPluginDependent implements Li
      */
     private static final double DAMAGE = 0D;
 
-    /**
-     * Set of materials that are protected around beacons.
-     * These are typically structural/foundational blocks that form beacon pyramids
-     * and the surrounding terrain. The beacon itself is also protected.
-     */
-    private static final Set<Material> protectedMaterials = Set.of(
-            Material.BARRIER,           // Admin protection blocks
-            Material.BEACON,            // The beacon itself
-            Material.BEDROCK,           // World foundation
-            Material.CLAY,              // Natural terrain
-            Material.COBBLESTONE,       // Common building material
-            Material.DIRT,              // Natural terrain
-            Material.GRASS_BLOCK,       // Natural terrain
-            Material.DIRT_PATH,         // Pathways
-            Material.MOSSY_COBBLESTONE, // Decorative/natural
-            Material.OBSIDIAN,          // Strong material
-            Material.RED_SANDSTONE,     // Building material
-            Material.SANDSTONE,         // Building material
-            Material.TERRACOTTA,        // Building material
-            Material.STONE);            // Natural terrain
-
     /**
      * Constructs a new beacon surround listener.
      *
@@ -172,7 +149,7 @@ public class BeaconSurroundListener extends BeaconzPluginDependent implements Li
 
         // Step 2: Check if this block type is one we protect
         // Only specific materials (like cobblestone, dirt, etc.) are protected
-        if (!protectedMaterials.contains(event.getBlock().getType())) {
+        if (!MaterialRoles.is(event.getBlock().getType(), MaterialRoles.SURROUND)) {
             return; // Not a protected material, allow normal breaking
         }
 
@@ -250,82 +227,6 @@ public class BeaconSurroundListener extends BeaconzPluginDependent implements Li
         // If random check fails (< PROBABILITY), the event proceeds normally
     }
 
-    /**
-     * Protects blocks around beacons from explosion damage.
-     *
-     * <p>This method intercepts explosion events (TNT, creepers, etc.) and prevents
-     * them from damaging blocks in the protected zone around beacons. This serves
-     * multiple purposes:
-     * <ul>
-     *   <li>Prevents griefing via TNT cannons or creeper suicide attacks</li>
-     *   <li>Protects beacon pyramids from accidental explosion damage</li>
-     *   <li>Maintains beacon integrity during combat</li>
-     *   <li>Forces attackers to manually break blocks rather than using explosives</li>
-     * </ul>
-     *
-     * <p><b>Implementation Notes:</b>
-     * <ul>
-     *   <li>Works by removing protected blocks from the explosion's block list</li>
-     *   <li>Blocks are removed BEFORE damage is applied, preventing any damage</li>
-     *   <li>Uses iterator pattern to safely modify list during iteration</li>
-     *   <li>Protection applies to same Y-range as manual breaking protection</li>
-     * </ul>
-     *
-     * <p><b>Example Scenario:</b>
-     * <pre>
-     * TNT explodes near beacon:
-     *   1. Event fires with list of 50 blocks to damage
-     *   2. 20 blocks are within RANGE of a beacon
-     *   3. Those 20 blocks are removed from the damage list
-     *   4. Explosion only damages the remaining 30 blocks
-     *   5. Beacon pyramid remains intact
-     * </pre>
-     *
-     * @param event the entity explosion event
-     */
-    @EventHandler(priority = EventPriority.LOW, ignoreCancelled=true)
-    public void onExplode(EntityExplodeEvent event) {
-        // Debug logging to track explosion events
-        if (DEBUG)
-            getLogger().info("DEBUG: " + event.getEventName());
-
-        // Step 1: Verify this explosion is in the Beaconz world
-        World world = event.getLocation().getWorld();
-        if (!world.equals(getBeaconzWorld())) {
-            return; // Different world, ignore
-        }
-
-        // Step 2: Check each block that would be damaged by the explosion
-        // Use iterator to safely remove items while iterating
-        Iterator<Block> it = event.blockList().iterator();
-        while (it.hasNext()) {
-            Block block = it.next();
-
-            // Step 3: Only protect materials in our protected list
-            if (protectedMaterials.contains(block.getType())) {
-                if (DEBUG)
-                    getLogger().info("DEBUG: " + block.getLocation());
-
-                // Step 4: Check if this block is near any beacon
-                List<BeaconObj> beacons = getRegister().getNearbyBeacons(block.getLocation(), RANGE);
-                if (!beacons.isEmpty()) {
-                    // Step 5: Find the lowest beacon Y-coordinate
-                    // This determines the protected zone's vertical extent
-                    int lowestY = getBeaconzWorld().getMaxHeight();
-                    for (BeaconObj beacon : beacons) {
-                        lowestY = Math.min(lowestY, beacon.getY());
-                    }
-
-                    // Step 6: Block is protected - remove from explosion damage list
-                    // Note: Unlike manual breaking, explosions get FULL protection
-                    // (no Y-level checks or probability - always protected)
-                    it.remove();
-                }
-            }
-        }
-        // After this method, the explosion will damage only the non-protected blocks
-    }
-
     /**
      * Prevents trees from growing above beacons to maintain clear beam lines.
      *
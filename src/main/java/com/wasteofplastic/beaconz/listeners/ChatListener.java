@@ -22,40 +22,47 @@
 
 package com.wasteofplastic.beaconz.listeners;
 
-import java.util.HashSet;
+
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
-import org.bukkit.OfflinePlayer;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.player.AsyncPlayerChatEvent;
-import org.bukkit.scoreboard.Team;
 
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
 import com.wasteofplastic.beaconz.config.Settings;
-import com.wasteofplastic.beaconz.game.Scorecard;
+import com.wasteofplastic.beaconz.game.TeamBroadcaster;
+import com.wasteofplastic.beaconz.game.TeamBroadcaster.TeamView;
+
+import io.papermc.paper.event.player.AsyncChatEvent;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 
 
 /**
  * This class is to catch chats and implement team chat.
- * As it can be called asynchronously (and usually it is when a player chats)
- * it cannot access any HashMaps or Bukkit APIs without running the risk of a clash with another thread
- * or the main thread. As such:
- * To handle team chat, a thread-safe hashmap is used to store whether team chat is on for a player or not
- * and if it is, the team chat itself is queued to run on the next server tick, i.e., in the main thread
- * This all ensures it's thread-safe.
+ * <p>
+ * Chat events are called on the async chat thread, so team chat is handled there completely:
+ * <ul>
+ *   <li>The player's team is read from the {@link TeamBroadcaster} snapshot, which is immutable
+ *       and replaced by the main thread whenever a team changes</li>
+ *   <li>The event's viewers are cut down to the team's online members and any spies</li>
+ *   <li>A renderer formats the team line, or the spy line for spies</li>
+ * </ul>
+ * Nothing is scheduled on the main thread, so chat spam costs the server tick nothing.
+ * Players who are not on a team in the game they are standing in chat normally.
  * @author tastybento
  *
  */
 public class ChatListener extends BeaconzPluginDependent implements Listener {
 
-    // List of which admins are spying or not on team chat
+    // List of which admins are spying or not on team chat. Read on the chat thread.
     private final Set<UUID> spies;
 
     /**
@@ -64,72 +71,47 @@ public class ChatListener extends BeaconzPluginDependent implements Listener {
     public ChatListener(Beaconz plugin) {
         super(plugin);
         // Initialize spies
-        spies = new HashSet<>();
+        spies = ConcurrentHashMap.newKeySet();
     }
 
 
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onChat(final AsyncPlayerChatEvent event) {
+    @EventHandler(priority = EventPriority.HIGHEST, ignoreCancelled = true)
+    public void onChat(final AsyncChatEvent event) {
         // Team chat
-        if (getBeaconzWorld() == null || event.getPlayer() == null) {
+        World world = getBeaconzWorld();
+        Player player = event.getPlayer();
+        if (!Settings.teamChat || world == null || player == null || !player.getWorld().equals(world)) {
             return;
         }
-        if (Settings.teamChat && event.getPlayer().getWorld().equals(getBeaconzWorld())) {
-            // Cancel the event
-            event.setCancelled(true);
-            // Queue the sync task because you cannot use HashMaps asynchronously. Delaying to the next tick
-            // won't be a major issue for synch events either.
-            Bukkit.getScheduler().runTask(beaconzPlugin, () -> teamChat(event,event.getMessage()));
+        TeamBroadcaster broadcaster = getBeaconzPlugin().getTeamBroadcaster();
+        if (broadcaster == null) {
+            return;
         }
-    }
-
-    private void teamChat(final AsyncPlayerChatEvent event, String message) {
-        Player player = event.getPlayer();
-        // Only act if the player is in a team
-        Scorecard sc = getGameMgr().getSC(player);
-        if (sc == null) {
+        Location location = player.getLocation();
+        TeamView team = broadcaster.getChatTeam(player.getUniqueId(), location.getBlockX(), location.getBlockZ());
+        if (team == null) {
+            // Not on a team in this game, so this is ordinary chat
             return;
         }
-        Team team = sc.getTeam(player);
-        if (team != null) {
-            @SuppressWarnings("deprecation")
-            Set<OfflinePlayer> teamMembers = team.getPlayers();
-            // Tell only the team members if they are online
-            boolean onLine = false;
-            for (OfflinePlayer teamPlayer : teamMembers) {
-                if (teamPlayer != null && teamPlayer.isOnline()) {
-                    ((Player)teamPlayer).sendMessage(ChatColor.LIGHT_PURPLE + "[" + team.getDisplayName() + "]<"
-                            + player.getDisplayName() + "> " + message);
-                    if (!teamPlayer.getUniqueId().equals(player.getUniqueId())) {
-                        onLine = true;
-                    }
-                }
-            }
-            // Spy function
-            if (onLine) {
-                for (Player onlinePlayer: beaconzPlugin.getServer().getOnlinePlayers()) {
-                    if (spies.contains(onlinePlayer.getUniqueId())) {
-                        onlinePlayer.sendMessage(ChatColor.RED + "[TCSpy] " + ChatColor.WHITE + message);
-                    }
-                }
-            }
-            if (!onLine) {
-                // Tell everyone
-                for (Player onlinePlayer: getServer().getOnlinePlayers()) {
-                    if (!onlinePlayer.equals(player)) {
-                        onlinePlayer.sendMessage(ChatColor.LIGHT_PURPLE + "[" + team.getDisplayName() + "]<"
-                                + player.getDisplayName() + "> " + message);
-                    }
-                }
-            }
-        } else {
-            // Tell everyone
-            for (Player onlinePlayer: getServer().getOnlinePlayers()) {
-                if (!onlinePlayer.equals(player)) {
-                    onlinePlayer.sendMessage(event.getFormat() + ": " + message);
-                }
-            }
+        Set<UUID> members = team.members();
+        // If nobody else on the team is on, everyone hears it
+        boolean onLine = members.size() > 1 || !members.contains(player.getUniqueId());
+        if (onLine) {
+            // Tell only the team members and spies. The console still logs it.
+            event.viewers().removeIf(viewer -> viewer instanceof Player p
+                    && !members.contains(p.getUniqueId()) && !spies.contains(p.getUniqueId()));
         }
+        event.renderer((source, sourceDisplayName, message, viewer) -> {
+            if (onLine && viewer instanceof Player p && !members.contains(p.getUniqueId())) {
+                // Spy function
+                return Component.text().append(Component.text("[TCSpy] ", NamedTextColor.RED))
+                        .append(message.colorIfAbsent(NamedTextColor.WHITE)).build();
+            }
+            return Component.text().color(NamedTextColor.LIGHT_PURPLE)
+                    .append(Component.text("[")).append(team.displayName() == null ? Component.empty() : team.displayName())
+                    .append(Component.text("]<")).append(sourceDisplayName).append(Component.text("> "))
+                    .append(message).build();
+        });
     }
 
     /**
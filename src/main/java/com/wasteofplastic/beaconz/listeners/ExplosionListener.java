@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.listeners;
+
+import java.util.List;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityExplodeEvent;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.config.MaterialRoles;
+import com.wasteofplastic.beaconz.core.BeaconObj;
+import com.wasteofplastic.beaconz.game.Register;
+
+/**
+ * Removes protected blocks from explosions in one pass over the explosion's block list.
+ * <p>
+ * A block is kept out of the explosion if it is:
+ * <ul>
+ *   <li><b>Part of a beacon</b> - the beacon, its pyramid, its cap or its emerald plinth</li>
+ *   <li><b>Above a beacon</b> - a defense block on an owned beacon or its base</li>
+ *   <li><b>Beacon surroundings</b> - one of {@link BeaconSurroundListener}'s protected
+ *       materials within {@link BeaconSurroundListener#RANGE} blocks of a beacon</li>
+ * </ul>
+ * TNT cannons send lists of hundreds of blocks, nearly all of them nowhere near a beacon. So
+ * the beacons the explosion could reach are found once, and each block is first checked by its
+ * coordinates against the {@link Register#isProtectedColumn protected columns} and those
+ * beacons. Only blocks that pass that check have their type read.
+ *
+ * @author tastybento
+ */
+public class ExplosionListener extends BeaconzPluginDependent implements Listener {
+
+    private static final int RANGE = BeaconSurroundListener.RANGE;
+    private static final int RANGE_SQUARED = RANGE * RANGE;
+
+    /**
+     * @param plugin the Beaconz plugin instance
+     */
+    public ExplosionListener(Beaconz plugin) {
+        super(plugin);
+    }
+
+    /**
+     * Removes beacon blocks, defenses and protected surroundings from the explosion
+     *
+     * @param event the entity explosion event
+     */
+    @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
+    public void onExplode(EntityExplodeEvent event) {
+        World world = event.getLocation().getWorld();
+        if (world == null || !world.equals(getBeaconzWorld())) {
+            return;
+        }
+        List<Block> blocks = event.blockList();
+        if (blocks.isEmpty()) {
+            return;
+        }
+        Register register = getRegister();
+
+        // Find the area the explosion covers, then the beacons whose surroundings reach into it
+        int minX = Integer.MAX_VALUE;
+        int minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxZ = Integer.MIN_VALUE;
+        for (Block block : blocks) {
+            minX = Math.min(minX, block.getX());
+            minZ = Math.min(minZ, block.getZ());
+            maxX = Math.max(maxX, block.getX());
+            maxZ = Math.max(maxZ, block.getZ());
+        }
+        List<BeaconObj> nearby = register.getBeaconsInArea(minX - RANGE, minZ - RANGE, maxX + RANGE, maxZ + RANGE);
+
+        blocks.removeIf(block -> isProtected(register, nearby, block));
+    }
+
+    private static boolean isProtected(Register register, List<BeaconObj> nearby, Block block) {
+        int x = block.getX();
+        int z = block.getZ();
+        if (register.isProtectedColumn(x, z)
+                && (register.isBeacon(block) || register.isAboveBeacon(x, block.getY(), z))) {
+            return true;
+        }
+        for (BeaconObj beacon : nearby) {
+            int dx = beacon.getX() - x;
+            int dz = beacon.getZ() - z;
+            if (dx * dx + dz * dz < RANGE_SQUARED) {
+                return MaterialRoles.is(block.getType(), MaterialRoles.SURROUND);
+            }
+        }
+        return false;
+    }
+}
@@ -165,6 +165,9 @@ public class LobbyListener extends BeaconzPluginDependent implements Listener {
                         // Verify the game is not already over
                         if (getGameMgr().getGame(gamename).isOver()) {
                             event.getPlayer().sendMessage(Lang.scoreGameOver);
+                        } else if (getGameMgr().getGame(gamename).isGameRestart()) {
+                            // Still being restarted, a few players at a time
+                            event.getPlayer().sendMessage(Lang.errorNotReady);
                         } else {
                             // Join the player to the game
                             getGameMgr().getGame(gamename).join(event.getPlayer());
@@ -39,6 +39,7 @@ import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
 import com.wasteofplastic.beaconz.config.Params.GameMode;
 import com.wasteofplastic.beaconz.game.Game;
+import com.wasteofplastic.beaconz.storage.BeaconzStore;
 
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 
@@ -196,27 +197,29 @@ public class PlayerDeathListener extends BeaconzPluginDependent implements Liste
             }            
             
             // STEP 3: Store the player's current inventory
-            // They will receive this when they respawn/rejoin
-            getBeaconzStore().storeInventory(player, gameName, spawnPoint);
+            // They will receive this when they respawn/rejoin. Everything below goes into
+            // one vault update, so the vault is changed and written once per death.
+            BeaconzStore.Update update = getBeaconzStore().update(player, gameName).storeInventory();
             
             // STEP 4: Handle inventory clearing if drops will occur
             // If keepInventory is false and not in lobby, items will drop
             // We need to clear the stored inventory to match the empty state
             if (!event.getKeepInventory() && !gameName.equals(LOBBY)) {
-                getBeaconzStore().clearItems(player, gameName, spawnPoint);
+                update.clearItems(spawnPoint);
             }
             
             // STEP 5: Handle experience points
             // If keepLevel is false, update stored XP to match what they'll have after death
             if (!event.getKeepLevel()) {
-                getBeaconzStore().setExp(player, gameName, event.getNewExp());
+                update.exp(event.getNewExp());
             }  
 
             // STEP 6: Reset health and hunger to full
             // This prevents death loops where players respawn with low health
             // MAX_HEALTH ensures we use the player's actual max health (may have modifiers)
-            getBeaconzStore().setHealth(player, gameName, player.getAttribute(Attribute.MAX_HEALTH).getValue());
-            getBeaconzStore().setFood(player, gameName, 20); // 20 = full hunger bar
+            update.health(player.getAttribute(Attribute.MAX_HEALTH).getValue())
+                    .food(20) // 20 = full hunger bar
+                    .commit();
 
             // STEP 7: Record the death with designated respawn location
             // This allows the respawn handler to restore the correct state
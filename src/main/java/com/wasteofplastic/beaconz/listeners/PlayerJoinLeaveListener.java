@@ -1,6 +1,5 @@
 package com.wasteofplastic.beaconz.listeners;
 
-import java.util.List;
 import java.util.UUID;
 
 import org.bukkit.entity.Player;
@@ -182,11 +181,10 @@ public class PlayerJoinLeaveListener extends BeaconzPluginDependent implements L
             if (DEBUG)
                 getLogger().info("DEBUG: Checking messages for " + player.getName());
 
-            final List<String> messages = getMessages().getMessages(playerUUID);
-            if (messages != null) {
-                // Messages exist - schedule delivery after a short delay
-                // Delay ensures player is fully loaded and can see the messages
-                getServer().getScheduler().runTaskLater(getBeaconzPlugin(), () -> {
+            // Delay ensures player is fully loaded and can see the messages
+            getServer().getScheduler().runTaskLater(getBeaconzPlugin(), () ->
+                // The messages are taken off the main thread and only handed back if there are some
+                getMessages().takeMessages(playerUUID, messages -> {
                     // Send header
                     player.sendMessage(Lang.titleBeaconzNews);
 
@@ -195,11 +193,7 @@ public class PlayerJoinLeaveListener extends BeaconzPluginDependent implements L
                     for (String message : messages) {
                         player.sendMessage(i++ + ": " + message);
                     }
-
-                    // Clear the message queue now that they've been delivered
-                    getMessages().clearMessages(playerUUID);
-                }, 40L); // 40 ticks = 2 seconds delay
-            }
+                }), 40L); // 40 ticks = 2 seconds delay
 
             if (DEBUG)
                 getLogger().info("DEBUG: no messages");
@@ -255,7 +249,11 @@ public class PlayerJoinLeaveListener extends BeaconzPluginDependent implements L
             }
         }
 
-        // CLEANUP 3: Optional inventory storage (currently disabled)
+        // CLEANUP 3: Drop the player's inventory vaults from memory
+        // Anything not yet written is queued first, and the vaults are read again when needed
+        getBeaconzStore().unloadPlayer(event.getPlayer().getUniqueId());
+
+        // CLEANUP 4: Optional inventory storage (currently disabled)
         // This would save the player's inventory when they log out from a game
         final Game fromGame = getGameMgr().getGame(event.getPlayer().getLocation());
         if (fromGame != null) {
@@ -27,7 +27,9 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -39,27 +41,31 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPotionEffectEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.entity.PlayerLeashEntityEvent;
 import org.bukkit.event.hanging.HangingPlaceEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerShearEntityEvent;
 import org.bukkit.event.vehicle.VehicleDamageEvent;
 import org.bukkit.event.vehicle.VehicleMoveEvent;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
+import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.scoreboard.Team;
 import org.bukkit.util.Vector;
 
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.config.FieldEffects;
 import com.wasteofplastic.beaconz.config.Lang;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.Region;
 import com.wasteofplastic.beaconz.core.TriangleField;
 
-import net.kyori.adventure.text.Component;
-
 /**
  * Handles player and vehicle movement within the game world, enforcing territorial boundaries and effects.
  * <p>
@@ -78,7 +84,10 @@ import net.kyori.adventure.text.Component;
  * <p>
  * The listener maintains state for:
  * <ul>
- *   <li>Active potion effects per player (to properly remove them when leaving fields)</li>
+ *   <li>The field effect bundle each player was last given. Effects are only sent when the
+ *       bundle changes, not on every move, and are removed when the player leaves the fields.
+ *       Every {@code triangles.effectrefresh} seconds the bundles are put back on players who
+ *       are still in fields, in case something else took them off</li>
  *   <li>Players near barriers (to show barrier particles)</li>
  * </ul>
  *
@@ -87,11 +96,14 @@ import net.kyori.adventure.text.Component;
 public class PlayerMovementListener extends BeaconzPluginDependent implements Listener {
 
     /**
-     * Maps player UUIDs to their currently active triangle field effects.
-     * Used to track and remove effects when players leave fields.
+     * Maps player UUIDs to the triangle field effect bundle they were last given.
+     * Effects are only sent when this changes, and it is used to remove them when players leave fields.
      */
     private final HashMap<UUID, Collection<PotionEffect>> triangleEffects = new HashMap<>();
 
+    /** Puts field effects back on players still in fields, or null if nobody is in a field */
+    private BukkitTask refreshTask;
+
     /**
      * Set of player UUIDs who are currently near region barriers.
      * Used to show barrier particles and prevent spam.
@@ -429,45 +441,22 @@ public class PlayerMovementListener extends BeaconzPluginDependent implements Li
         // Player is leaving triangle fields (entering neutral territory)
         if (toTriangles.isEmpty()) {
             // Notify player they're leaving the field
-            player.sendMessage(Lang.triangleLeaving
-                    .replaceText(builder -> builder.matchLiteral("[team]").replacement(fromTriangles.getFirst().getOwner().displayName())));
+            player.sendMessage(Lang.format(Lang.triangleLeaving, "[team]", fromTriangles.getFirst().getOwner().displayName()));
 
             // Remove all triangle field effects that were previously applied
-            if (triangleEffects.containsKey(player.getUniqueId())) {
-                for (PotionEffect effect : triangleEffects.get(player.getUniqueId())) {
-                    player.removePotionEffect(effect.getType());
-                    // Also remove from vehicle
-                    if (player.isInsideVehicle() && player.getVehicle() instanceof LivingEntity le) {
-                        le.removePotionEffect(effect.getType());
-                    }
-                }
-            }
-            triangleEffects.remove(player.getUniqueId());
+            removeTriangleEffects(player);
             return false;
         }
 
         // Player is entering a field or moving to a more densely stacked area
         if (fromTriangles.size() < toTriangles.size()) {
             // Notify player they're entering or powering up in the field
-            player.sendMessage(Lang.triangleEntering
-                    .replaceText(builder -> builder.matchLiteral("[team]").replacement(toTriangles.getFirst().getOwner().displayName()))
-                    .replaceText(builder -> builder.matchLiteral("[level]").replacement(Component.text(String.valueOf(toTriangles.size())))));
+            player.sendMessage(Lang.format(Lang.triangleEntering, "[team]", toTriangles.getFirst().getOwner().displayName(), "[level]", toTriangles.size()));
         } else if (toTriangles.size() < fromTriangles.size()) {
             // Player is moving to less densely stacked area (weaker effects)
-            // Remove current effects first - weaker effects will be applied below
-            if (triangleEffects.containsKey(player.getUniqueId())) {
-                for (PotionEffect effect : triangleEffects.get(player.getUniqueId())) {
-                    player.removePotionEffect(effect.getType());
-                    // Also remove from vehicle
-                    if (player.isInsideVehicle() && player.getVehicle() instanceof LivingEntity le) {
-                        le.removePotionEffect(effect.getType());
-                    }
-                }
-            }
+            // Effects that are not in the weaker bundle are removed below
             // Notify player of the level drop
-            player.sendMessage(Lang.triangleDroppingToLevel
-                    .replaceText(builder -> builder.matchLiteral("[team]").replacement(toTriangles.getFirst().getOwner().displayName()))
-                    .replaceText(builder -> builder.matchLiteral("[level]").replacement(Component.text(String.valueOf(toTriangles.size())))));
+            player.sendMessage(Lang.format(Lang.triangleDroppingToLevel, "[team]", toTriangles.getFirst().getOwner().displayName(), "[level]", toTriangles.size()));
         }
 
         // Apply the appropriate effects for the new field(s)
@@ -482,11 +471,13 @@ public class PlayerMovementListener extends BeaconzPluginDependent implements Li
      * <ul>
      *   <li>Number of overlapping triangle fields (more fields = stronger effects)</li>
      *   <li>Team ownership (enemy vs friendly)</li>
-     *   <li>Configured effect settings from Settings class</li>
+     *   <li>The bundle {@link FieldEffects} worked out for that depth when the config was loaded</li>
      * </ul>
      * <p>
+     * If the player already has this bundle nothing is sent. Otherwise effects of the old bundle
+     * that are not in the new one are removed and only the new effects are added.
      * Effects are also applied to the player's vehicle if they are mounted.
-     * The effects collection is stored in triangleEffects map for later removal.
+     * The bundle is stored in triangleEffects map for later removal.
      *
      * @param player the player to apply effects to
      * @param to list of triangle fields the player is now in
@@ -495,61 +486,161 @@ public class PlayerMovementListener extends BeaconzPluginDependent implements Li
     private void applyEffects(final Player player, final List<TriangleField> to, final Team team) {
         // Remove all effects if no valid field or team data
         if (to == null || to.isEmpty() || team == null) {
-            if (triangleEffects.containsKey(player.getUniqueId())) {
-                for (PotionEffect effect : triangleEffects.get(player.getUniqueId())) {
-                    player.removePotionEffect(effect.getType());                   
-                    // Also remove from player's vehicle if mounted
-                    if (player.isInsideVehicle() && player.getVehicle() instanceof LivingEntity le) {
-                        le.removePotionEffect(effect.getType());
-                    }
-                }
-            }
-            triangleEffects.remove(player.getUniqueId());
+            removeTriangleEffects(player);
             return;
         }
 
         // Determine the team that owns this triangle field
         Team triangleOwner = to.getFirst().getOwner();
-        Collection<PotionEffect> effects = new ArrayList<>();
-
-        // Apply debuffs if this is an enemy field
-        if (triangleOwner != null && !triangleOwner.equals(team)) {
-            // Accumulate effects based on field overlap count
-            // More overlapping fields = more/stronger effects
-            for (int i = 0; i <= to.size(); i++) {
-                if (Settings.enemyFieldEffects.containsKey(i)) {
-                    effects.addAll(Settings.enemyFieldEffects.get(i));
+        if (triangleOwner == null) {
+            removeTriangleEffects(player);
+            return;
+        }
+        // Buffs if this is a friendly field, debuffs if it is an enemy one.
+        // More overlapping fields = more/stronger effects
+        List<PotionEffect> bundle = FieldEffects.get(triangleOwner.equals(team), to.size());
+        Collection<PotionEffect> applied = triangleEffects.get(player.getUniqueId());
+        if (applied == bundle) {
+            // Same fields as last time, so the player already has these effects
+            return;
+        }
+        LivingEntity vehicle = player.isInsideVehicle() && player.getVehicle() instanceof LivingEntity le ? le : null;
+        List<PotionEffect> added = bundle;
+        if (applied != null) {
+            removeEffects(player, vehicle, applied, bundle);
+            added = new ArrayList<>(bundle.size());
+            for (PotionEffect effect : bundle) {
+                if (!applied.contains(effect)) {
+                    added.add(effect);
                 }
             }
-            // Apply all accumulated effects to the player
-            player.addPotionEffects(effects);
-
+        }
+        if (!added.isEmpty()) {
+            player.addPotionEffects(added);
             // Also apply to player's vehicle if they're riding one
-            if (player.isInsideVehicle() && player.getVehicle() instanceof LivingEntity le) {
-                le.addPotionEffects(effects);
+            if (vehicle != null) {
+                vehicle.addPotionEffects(added);
             }
         }
 
-        // Apply buffs if this is a friendly field
-        if (triangleOwner != null && triangleOwner.equals(team)) {
-            // Accumulate effects based on field overlap count
-            // More overlapping fields = more/stronger buffs
-            for (int i = 0; i <= to.size(); i++) {
-                if (Settings.friendlyFieldEffects.containsKey(i)) {
-                    effects.addAll(Settings.friendlyFieldEffects.get(i));
-                }
+        // Store the bundle for later removal when player leaves the field
+        triangleEffects.put(player.getUniqueId(), bundle);
+        startRefresh();
+    }
+
+    /**
+     * Removes effects from a player and their vehicle
+     * @param player the player
+     * @param vehicle the player's living vehicle, or null
+     * @param effects the effects to remove
+     * @param keep effects to leave on the player, or null
+     */
+    private static void removeEffects(Player player, LivingEntity vehicle, Collection<PotionEffect> effects, Collection<PotionEffect> keep) {
+        for (PotionEffect effect : effects) {
+            if (keep != null && keep.contains(effect)) {
+                continue;
+            }
+            player.removePotionEffect(effect.getType());
+            if (vehicle != null) {
+                vehicle.removePotionEffect(effect.getType());
             }
-            // Apply all accumulated effects to the player
-            player.addPotionEffects(effects);
+        }
+    }
 
-            // Also apply to player's vehicle if they're riding one
-            if (player.isInsideVehicle() && player.getVehicle() instanceof LivingEntity le) {
-                le.addPotionEffects(effects);
+    /**
+     * Removes the triangle field effects a player was given, e.g., when they leave the fields
+     * or a field they are in is destroyed.
+     *
+     * @param player the player
+     */
+    public void removeTriangleEffects(Player player) {
+        Collection<PotionEffect> applied = triangleEffects.remove(player.getUniqueId());
+        if (applied != null) {
+            LivingEntity vehicle = player.isInsideVehicle() && player.getVehicle() instanceof LivingEntity le ? le : null;
+            removeEffects(player, vehicle, applied, null);
+        }
+    }
+
+    /**
+     * Starts the refresh task if it is not running and refreshing is on
+     */
+    private void startRefresh() {
+        if (refreshTask == null && Settings.fieldEffectRefresh > 0 && getBeaconzPlugin().isEnabled()) {
+            long period = Settings.fieldEffectRefresh * 20L;
+            refreshTask = getServer().getScheduler().runTaskTimer(getBeaconzPlugin(), this::refreshEffects, period, period);
+        }
+    }
+
+    /**
+     * Puts the field effects back on every player still in a field, in case something like
+     * milk took them off. Players who have gone are forgotten and the task stops when nobody
+     * is left in a field.
+     */
+    void refreshEffects() {
+        Iterator<Map.Entry<UUID, Collection<PotionEffect>>> it = triangleEffects.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Collection<PotionEffect>> entry = it.next();
+            Player player = getServer().getPlayer(entry.getKey());
+            if (player == null || !player.getWorld().equals(getBeaconzWorld())) {
+                it.remove();
+                continue;
+            }
+            if (!entry.getValue().isEmpty()) {
+                player.addPotionEffects(entry.getValue());
+                if (player.isInsideVehicle() && player.getVehicle() instanceof LivingEntity le) {
+                    le.addPotionEffects(entry.getValue());
+                }
             }
         }
+        if (triangleEffects.isEmpty() && refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+    }
 
-        // Store the applied effects for later removal when player leaves the field
-        triangleEffects.put(player.getUniqueId(), effects);
+    /**
+     * Removes the field effects of a player who quits. The effects last forever, so they would
+     * otherwise still be on the player when they log in again.
+     *
+     * @param event the player quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(final PlayerQuitEvent event) {
+        removeTriangleEffects(event.getPlayer());
+    }
+
+    /**
+     * Removes the field effects of a player who changes world.
+     *
+     * @param event the player changed world event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(final PlayerChangedWorldEvent event) {
+        removeTriangleEffects(event.getPlayer());
+    }
+
+    /**
+     * Forgets the field effects of a player who dies. Dying takes every effect off, so the
+     * bundle is given again the next time they move in a field.
+     *
+     * @param event the player death event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDeath(final PlayerDeathEvent event) {
+        triangleEffects.remove(event.getEntity().getUniqueId());
+    }
+
+    /**
+     * Forgets the field effects of a player whose effects were all taken off, e.g., by milk or
+     * a command, so the bundle is given again the next time they move in a field.
+     *
+     * @param event the potion effect event
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEffectsCleared(final EntityPotionEffectEvent event) {
+        if (event.getAction() == EntityPotionEffectEvent.Action.CLEARED && event.getEntity() instanceof Player player) {
+            triangleEffects.remove(player.getUniqueId());
+        }
     }
 
     /**
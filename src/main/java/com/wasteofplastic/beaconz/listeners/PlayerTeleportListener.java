@@ -22,9 +22,7 @@
 
 package com.wasteofplastic.beaconz.listeners;
 
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -38,13 +36,13 @@ import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.event.player.PlayerTeleportEvent.TeleportCause;
 import org.bukkit.potion.PotionEffect;
-import org.bukkit.util.Vector;
 
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
 import com.wasteofplastic.beaconz.config.Lang;
 import com.wasteofplastic.beaconz.config.Params.GameMode;
 import com.wasteofplastic.beaconz.config.Settings;
+import com.wasteofplastic.beaconz.core.Teleporter;
 import com.wasteofplastic.beaconz.game.Game;
 
 import net.kyori.adventure.text.Component;
@@ -73,12 +71,12 @@ import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
  *   <li><b>Region Callbacks</b> - Triggers enter/exit handlers for regions</li>
  * </ul>
  * <p>
- * The class maintains three tracking sets:
+ * The class maintains two tracking sets:
  * <ul>
  *   <li>barrierPlayers - Players being pushed back by region barriers (no-op teleports)</li>
- *   <li>teleportingPlayers - Players in the middle of delayed teleports (tracks position to detect movement)</li>
  *   <li>directTeleportPlayers - Players with admin/op privileges who can teleport instantly</li>
  * </ul>
+ * Players in the middle of delayed teleports are tracked by the {@link Teleporter}.
  * <p>
  * Teleport flow example: Player leaving an active game
  * <ol>
@@ -102,12 +100,6 @@ public class PlayerTeleportListener extends BeaconzPluginDependent implements Li
      */
     private final Set<UUID> barrierPlayers = new HashSet<>();
 
-    /**
-     * Maps player UUIDs to their locations when they initiated a delayed teleport.
-     * Used to detect if player moved during the waiting period (which cancels the teleport).
-     */
-    private final HashMap<UUID, Vector> teleportingPlayers = new HashMap<>();
-
     /**
      * Set of players who should teleport directly without delay.
      * Used for ops and admin commands that need instant teleportation.
@@ -150,10 +142,10 @@ public class PlayerTeleportListener extends BeaconzPluginDependent implements Li
             getBeaconzPlugin().getNameStore().savePlayerName(player.getName(), player.getUniqueId());
 
             // Check if there are any messages queued for this player
-            final List<String> messages = getMessages().getMessages(player.getUniqueId());
-            if (messages != null) {
-                // Deliver messages after a delay to ensure world is fully loaded
-                getServer().getScheduler().runTaskLater(getBeaconzPlugin(), () -> {
+            // Deliver messages after a delay to ensure world is fully loaded
+            getServer().getScheduler().runTaskLater(getBeaconzPlugin(), () ->
+                // The messages are taken off the main thread and only handed back if there are some
+                getMessages().takeMessages(player.getUniqueId(), messages -> {
                     // Show header
                     player.sendMessage(Lang.titleBeaconzNews.color(NamedTextColor.AQUA));
                     // Show each message with a number prefix
@@ -161,10 +153,7 @@ public class PlayerTeleportListener extends BeaconzPluginDependent implements Li
                     for (String message : messages) {
                         player.sendMessage(i++ + ": " + message);
                     }
-                    // Clear the messages now that they've been delivered
-                    getMessages().clearMessages(player.getUniqueId());
-                }, 40L); // 2 second delay (40 ticks)
-            }
+                }), 40L); // 2 second delay (40 ticks)
 
             // Ensure player is sent to lobby if not already there
             if (!getGameMgr().isPlayerInLobby(event.getPlayer())) {
@@ -255,7 +244,7 @@ public class PlayerTeleportListener extends BeaconzPluginDependent implements Li
         }
         // Gather context information about this teleport
         final Player player  = event.getPlayer();
-        final boolean teleporting = teleportingPlayers.containsKey(player.getUniqueId());
+        final boolean teleporting = getBeaconzPlugin().getTeleporter().isCompleting(player.getUniqueId());
         final Game fromGame = getGameMgr().getGame(event.getFrom());
         final Game toGame = getGameMgr().getGame(event.getTo());
         final boolean fromLobby = getGameMgr().isLocationInLobby(event.getFrom());
@@ -368,16 +357,15 @@ public class PlayerTeleportListener extends BeaconzPluginDependent implements Li
      * <p>
      * This method:
      * <ul>
-     *   <li>Records the player's current position</li>
      *   <li>Notifies the player to stand still for the configured duration</li>
-     *   <li>Starts a delayed task that checks for movement</li>
-     *   <li>Cancels teleport if player moved, completes it if player stood still</li>
+     *   <li>Hands the player to the {@link Teleporter}, which checks every waiting player for
+     *       movement once per tick</li>
+     *   <li>The teleport is cancelled as soon as the player moves, or completed when the time is up</li>
      * </ul>
      * <p>
      * Ops always teleport instantly (0 delay). The delay is configurable via Settings.teleportDelay.
      * <p>
      * This prevents players from escaping combat or dangerous situations by teleporting away.
-     * Movement detection uses Vector comparison to catch any position changes.
      *
      * @param player the player attempting to teleport
      * @param from the location the player is teleporting from
@@ -397,28 +385,8 @@ public class PlayerTeleportListener extends BeaconzPluginDependent implements Li
                     .replaceText(builder -> builder.matchLiteral("[number]").replacement(Component.text(String.valueOf(Settings.teleportDelay))))
                     .color(NamedTextColor.RED));
         }
-
-        // Record player's starting position for movement detection
-        teleportingPlayers.put(player.getUniqueId(), player.getLocation().toVector());
-
-        // Schedule the delayed teleport check
-        getServer().getScheduler().runTaskLater(getBeaconzPlugin(), () -> {
-            // Verify player is still valid and in the teleporting set
-            if (player != null && !player.isDead() && teleportingPlayers.containsKey(player.getUniqueId())) {
-                // Check if player's position is still the same
-                if (player.getLocation().toVector().equals(teleportingPlayers.get(player.getUniqueId()))) {
-                    // Player stood still - proceed with teleport
-                    // This will trigger onTeleport again, but with teleporting flag set
-                    player.teleportAsync(to);
-
-                } else {
-                    // Player moved - cancel the teleport
-                    player.sendMessage(Lang.teleportYouMoved.color(NamedTextColor.RED));
-                }
-            }
-            // Clean up tracking data
-            teleportingPlayers.remove(player.getUniqueId());
-        }, Settings.teleportDelay * delay); // Delay in ticks (configurable seconds * 20 ticks/sec)
+        // Once the time is up this triggers onTeleport again, with the teleporting flag set
+        getBeaconzPlugin().getTeleporter().warmup(player, to, Settings.teleportDelay * delay); // Delay in ticks (configurable seconds * 20 ticks/sec)
     }
 
     /**
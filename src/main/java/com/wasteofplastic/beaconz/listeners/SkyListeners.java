@@ -93,11 +93,12 @@ public class SkyListeners extends BeaconzPluginDependent implements Listener {
      */
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled=true)
     public void onBlockSpread(BlockSpreadEvent event) {
-        World world = event.getBlock().getWorld();
-        if (!world.equals(getBeaconzWorld())) {
+        // Spreading fires very often, so the cheap height check goes first
+        if (event.getBlock().getY() != BLOCK_HEIGHT) {
             return;
         }
-        if (event.getBlock().getY() == BLOCK_HEIGHT) {
+        World world = event.getBlock().getWorld();
+        if (world.equals(getBeaconzWorld())) {
             event.setCancelled(true);
         }
     }
@@ -129,11 +130,11 @@ public class SkyListeners extends BeaconzPluginDependent implements Listener {
      */
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled=true)
     public void onBucketEmpty(final PlayerBucketEmptyEvent event) {
-        World world = event.getBlockClicked().getWorld();
-        if (!world.equals(getBeaconzWorld())) {
+        if (event.getBlockClicked().getY() != BLOCK_HEIGHT) {
             return;
         }
-        if (event.getBlockClicked().getY() == BLOCK_HEIGHT) {
+        World world = event.getBlockClicked().getWorld();
+        if (world.equals(getBeaconzWorld())) {
             event.setCancelled(true);
             event.getPlayer().sendMessage(Lang.errorYouCannotDoThat);
         }
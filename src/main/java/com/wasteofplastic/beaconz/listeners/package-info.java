@@ -10,6 +10,8 @@
  *   <li>{@link com.wasteofplastic.beaconz.listeners.BeaconLinkListener} - Beacon linking with maps and experience costs</li>
  *   <li>{@link com.wasteofplastic.beaconz.listeners.BeaconProtectionListener} - Beacon protection rules and mining mechanics</li>
  *   <li>{@link com.wasteofplastic.beaconz.listeners.BeaconSurroundListener} - Beacon surroundings and clearance validation</li>
+ *   <li>{@link com.wasteofplastic.beaconz.listeners.BeaconStructureListener} - Forgets beacon integrity and clearance checks when blocks in a beacon's columns change</li>
+ *   <li>{@link com.wasteofplastic.beaconz.listeners.ExplosionListener} - Keeps beacons, defenses and their surroundings out of explosions</li>
  * </ul>
  *
  * <h2>Defense Listeners:</h2>
@@ -23,6 +25,7 @@
  *   <li>{@link com.wasteofplastic.beaconz.listeners.PlayerJoinLeaveListener} - Player login/logout, name database updates</li>
  *   <li>{@link com.wasteofplastic.beaconz.listeners.PlayerDeathListener} - Death and respawn mechanics, inventory handling</li>
  *   <li>{@link com.wasteofplastic.beaconz.listeners.PlayerTeleportListener} - Safe teleportation with delays</li>
+ *   <li>{@link com.wasteofplastic.beaconz.listeners.SafeSpotListener} - Forgets remembered safe spots when blocks near them change</li>
  * </ul>
  *
  * <h2>Movement and Environment Listeners:</h2>
@@ -358,7 +358,7 @@ public class TerritoryMapRenderer extends MapRenderer {
      */
     private Map<Point2D, CachedBeacon> makeBeaconCache() {
         // Get all current beacons from the register
-        HashMap<Point2D, BeaconObj> current = beaconz.getRegister().getBeaconRegister();
+        Map<Point2D, BeaconObj> current = beaconz.getRegister().getBeaconRegister();
         Map<Point2D, CachedBeacon> result = new HashMap<>(current.size());
 
         // Create a lightweight cache entry for each beacon
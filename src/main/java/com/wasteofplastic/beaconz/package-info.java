@@ -30,7 +30,7 @@
  *   <li>{@link com.wasteofplastic.beaconz.map} - Custom map renderers for beacons and territories</li>
  *   <li>{@link com.wasteofplastic.beaconz.generator} - Custom world generation with beacon placement</li>
  *   <li>{@link com.wasteofplastic.beaconz.util} - Utility classes and helper functions</li>
- *   <li>{@link com.wasteofplastic.beaconz.integration} - Third-party plugin integrations (Dynmap, bStats)</li>
+ *   <li>{@link com.wasteofplastic.beaconz.integration} - Third-party plugin integrations (Dynmap) and local metrics</li>
  * </ul>
  *
  * <h2>Getting Started:</h2>
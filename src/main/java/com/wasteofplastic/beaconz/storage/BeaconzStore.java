@@ -24,10 +24,26 @@ package com.wasteofplastic.beaconz.storage;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.bukkit.Location;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
@@ -35,40 +51,123 @@ import org.bukkit.inventory.ItemStack;
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
 import com.wasteofplastic.beaconz.listeners.BeaconLinkListener;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
 
 /**
  * Enables inventory switching between games. Handles food, experience and spawn points.
+ * <p>
+ * Each player has a small vault file per game: {@code inventories/<game>/<uuid>.yml}.
+ * <ul>
+ *   <li><b>Lazy loading</b> - a vault is read from disk the first time it is needed and then cached</li>
+ *   <li><b>Write-behind</b> - changes only mark the vault dirty. A flush shortly afterwards
+ *       serializes every dirty vault once on the main thread and hands the text to an
+ *       async writer, so several changes to the same vault are written once</li>
+ *   <li><b>In order</b> - writes and deletes go through one queue and are done in the order
+ *       they were asked for, so an older vault never overwrites a newer one. Saving when the
+ *       plugin is disabled empties the queue first</li>
+ *   <li><b>Unloading</b> - a player's vaults are dropped from memory when they leave and a
+ *       game's vaults when it is deleted. Vaults still waiting to be written are read back
+ *       from the queue, not from disk</li>
+ *   <li><b>Crash-safe</b> - each vault is written to a temporary file and then moved over the
+ *       old one, so a crash mid-write never leaves a half-written vault</li>
+ * </ul>
+ * Game names are percent-encoded to make folder names, so no two games share a folder.
+ * Inventories from the old single {@code game_inv.yml} file are moved into vaults the first
+ * time the store starts, and the old file is renamed to {@code game_inv.old}.
+ *
  * @author tastybento
  *
  */
 public class BeaconzStore extends BeaconzPluginDependent {
-    private final YamlConfiguration ymlIndex;
-    private final File invFile;
     private static final boolean DEBUG = false;
+    /** Ticks to wait after a change before writing, so that changes made together are written together */
+    private static final long WRITE_DELAY = 20L;
+    private static final PerfMonitor.Probe WRITE_PERF = PerfMonitor.probe("BeaconzStore.writeVaults");
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    /** Folder holding one sub-folder of vaults per game */
+    private final File vaultFolder;
+    /** Loaded vaults, keyed by "game/uuid" */
+    private final ConcurrentHashMap<String, YamlConfiguration> vaults = new ConcurrentHashMap<>();
+    /** Keys of vaults that have changed since they were last written */
+    private final Set<String> dirty = ConcurrentHashMap.newKeySet();
+    /** True while a flush is scheduled */
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    /** File writes and deletes, in the order they were asked for */
+    private final Queue<Runnable> ioQueue = new ConcurrentLinkedQueue<>();
+    /** True while an async task is working through the queue */
+    private final AtomicBoolean draining = new AtomicBoolean();
+    /** Serialized vaults that are queued but not written yet, by key */
+    private final ConcurrentHashMap<String, String> unwritten = new ConcurrentHashMap<>();
+    /** Only one thread works through the queue at a time */
+    private final Object ioLock = new Object();
 
     public BeaconzStore(Beaconz beaconzPlugin) {
         super(beaconzPlugin);
-        ymlIndex = new YamlConfiguration();
-        invFile = new File(beaconzPlugin.getDataFolder(),"game_inv.yml");
-        try {
-            if (!invFile.exists()) {
-                ymlIndex.save(invFile);
+        vaultFolder = new File(beaconzPlugin.getDataFolder(), "inventories");
+        if (!vaultFolder.exists() && !vaultFolder.mkdirs()) {
+            getLogger().severe("Cannot create the inventories folder!");
+        }
+        migrateLegacyStore();
+    }
+
+    /**
+     * Moves inventories from the old game_inv.yml file into per-player vaults
+     */
+    private void migrateLegacyStore() {
+        File legacyFile = new File(getBeaconzPlugin().getDataFolder(), "game_inv.yml");
+        if (!legacyFile.exists()) {
+            return;
+        }
+        YamlConfiguration legacy = YamlConfiguration.loadConfiguration(legacyFile);
+        int count = 0;
+        for (String gameName : legacy.getKeys(false)) {
+            ConfigurationSection gameSection = legacy.getConfigurationSection(gameName);
+            if (gameSection == null) {
+                continue;
+            }
+            for (String uuid : gameSection.getKeys(false)) {
+                ConfigurationSection playerSection = gameSection.getConfigurationSection(uuid);
+                if (playerSection == null) {
+                    continue;
+                }
+                UUID playerUUID;
+                try {
+                    playerUUID = UUID.fromString(uuid);
+                } catch (IllegalArgumentException e) {
+                    getLogger().warning("Skipping invalid UUID in game_inv.yml: " + uuid);
+                    continue;
+                }
+                YamlConfiguration vault = new YamlConfiguration();
+                for (String key : playerSection.getKeys(false)) {
+                    vault.set(key, playerSection.get(key));
+                }
+                String key = key(gameName, playerUUID);
+                vaults.put(key, vault);
+                dirty.add(key);
+                count++;
             }
-            ymlIndex.load(invFile);
-        } catch (Exception e) {
-            getLogger().severe("Cannot save or load game_inv.yml!");
         }
+        saveInventories();
+        if (!legacyFile.renameTo(new File(getBeaconzPlugin().getDataFolder(), "game_inv.old"))) {
+            getLogger().warning("Could not rename game_inv.yml to game_inv.old");
+        }
+        getLogger().info("Moved " + count + " stored inventories from game_inv.yml to the inventories folder");
     }
 
     /**
-     * Saves to a file
+     * Writes all changed vaults to disk now, on the calling thread, after anything already
+     * queued. Used when the plugin is disabled.
      */
     public void saveInventories() {
-        try {
-            ymlIndex.save(invFile);
-        } catch (IOException e) {
-            getLogger().severe("Problem saving game inventories file!");
-        }
+        queueWrites(snapshotDirty());
+        drain();
+    }
+
+    /**
+     * @return the number of vaults changed since they were last written
+     */
+    public int getPendingWrites() {
+        return dirty.size();
     }
 
     /**
@@ -78,10 +177,11 @@ public class BeaconzStore extends BeaconzPluginDependent {
      * @return last location of the player in the game or null if there is none
      */
     public Location getInventory(Player player, String gameName) {
+        YamlConfiguration vault = getVault(gameName, player.getUniqueId());
         // Get inventory
-        List<?> items = ymlIndex.getList(gameName + "." + player.getUniqueId() + ".inventory");
+        List<?> items = vault.getList("inventory");
         if (items != null) player.getInventory().setContents(items.toArray(new ItemStack[0]));
-        double health = ymlIndex.getDouble(gameName + "." + player.getUniqueId() + ".health", 20D);
+        double health = vault.getDouble("health", 20D);
         if (health > 20D) {
             health = 20D;
         }
@@ -89,7 +189,7 @@ public class BeaconzStore extends BeaconzPluginDependent {
             health = 1D;
         }
         player.setHealth(health);
-        int food = ymlIndex.getInt(gameName + "." + player.getUniqueId() + ".food", 20);
+        int food = vault.getInt("food", 20);
         if (food > 20) {
             food = 20;
         }
@@ -97,9 +197,9 @@ public class BeaconzStore extends BeaconzPluginDependent {
             food = 1;
         }
         player.setFoodLevel(food);
-        BeaconLinkListener.setTotalExperience(player, ymlIndex.getInt(gameName + "." + player.getUniqueId() + ".exp", 0));
+        BeaconLinkListener.setTotalExperience(player, vault.getInt("exp", 0));
         // Get Spawn Point
-        return (Location)(ymlIndex.get(gameName + "." + player.getUniqueId() + ".location"));
+        return (Location)(vault.get("location"));
     }
 
     /**
@@ -122,29 +222,63 @@ public class BeaconzStore extends BeaconzPluginDependent {
     public void storeInventory(Player player, String gameName, Location from, boolean storeInv) {
         if (DEBUG)
             getLogger().info("DEBUG: storeInventory for " + player.getName() + " leaving " + gameName + " from " + from);
-        // Copy the player's items to the chest
-        List<ItemStack> contents = Arrays.asList(player.getInventory().getContents());  
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".inventory", contents);
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".health", player.getHealth());
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".food", player.getFoodLevel());
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".exp", player.calculateTotalExperiencePoints());
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".location", player.getLocation());
-        saveInventories();
-        // Clear the player's inventory
-        player.getInventory().clear();
-        BeaconLinkListener.setTotalExperience(player, 0);
-        // Done!
+        update(player, gameName).storeInventory().commit();
         if (DEBUG)
             getLogger().info("DEBUG: Done!");
     }
 
+    /**
+     * Starts a change to a player's vault. Nothing is changed until {@link Update#commit()} is
+     * called, and then every value is set together and the vault is marked dirty once.
+     * @param player - the player
+     * @param gameName - the game name
+     * @return the update
+     */
+    public Update update(Player player, String gameName) {
+        return new Update(player, gameName);
+    }
+
     /**
      * Removes all inventories for this game
      * @param gameName - the game name
      */
     public void removeGame(String gameName) {
-        ymlIndex.set(gameName, null);
-        saveInventories();
+        String prefix = folderName(gameName) + "/";
+        vaults.keySet().removeIf(key -> key.startsWith(prefix));
+        dirty.removeIf(key -> key.startsWith(prefix));
+        unwritten.keySet().removeIf(key -> key.startsWith(prefix));
+        // Queued after any writes to this game, so nothing is written back once it is gone
+        File gameFolder = new File(vaultFolder, folderName(gameName));
+        submit(() -> deleteFolder(gameFolder));
+    }
+
+    /**
+     * Drops a player's vaults from memory, e.g., when they leave the server. Changes not yet
+     * written are queued first.
+     * @param playerUUID - the player's UUID
+     */
+    public void unloadPlayer(UUID playerUUID) {
+        String suffix = "/" + playerUUID;
+        Map<String, String> snapshot = new HashMap<>();
+        for (String key : vaults.keySet()) {
+            if (key.endsWith(suffix)) {
+                if (dirty.remove(key)) {
+                    YamlConfiguration vault = vaults.get(key);
+                    if (vault != null) {
+                        snapshot.put(key, vault.saveToString());
+                    }
+                }
+                vaults.remove(key);
+            }
+        }
+        queueWrites(snapshot);
+    }
+
+    /**
+     * @return the number of vaults held in memory
+     */
+    public int getLoadedVaults() {
+        return vaults.size();
     }
 
     /**
@@ -154,9 +288,7 @@ public class BeaconzStore extends BeaconzPluginDependent {
      * @param from - the location to set as respawn point
      */
     public void clearItems(Player player, String gameName, Location from) {
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".inventory", null);
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".location", from);
-        saveInventories();
+        update(player, gameName).clearItems(from).commit();
     }
 
     /**
@@ -166,10 +298,9 @@ public class BeaconzStore extends BeaconzPluginDependent {
      * @param foodLevel - the food level
      */
     public void setFood(Player player, String gameName, int foodLevel) {
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".food", foodLevel);
-        saveInventories();
+        update(player, gameName).food(foodLevel).commit();
     }
-    
+
     /**
      * Sets player's health in game
      * @param player - the player
@@ -177,8 +308,7 @@ public class BeaconzStore extends BeaconzPluginDependent {
      * @param maxHealth - the health
      */
     public void setHealth(Player player, String gameName, double maxHealth) {
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".health", maxHealth);
-        saveInventories();
+        update(player, gameName).health(maxHealth).commit();
     }
 
     /**
@@ -188,8 +318,301 @@ public class BeaconzStore extends BeaconzPluginDependent {
      * @param newExp - the experience points
      */
     public void setExp(Player player, String gameName, int newExp) {
-        ymlIndex.set(gameName + "." + player.getUniqueId() + ".exp", newExp);
-        saveInventories();
+        update(player, gameName).exp(newExp).commit();
+    }
+
+    /**
+     * A set of changes to one player's vault in one game, applied together by {@link #commit()}.
+     * <p>
+     * A death, for example, stores the inventory and then overwrites the items, experience,
+     * health and food. Collecting those in one update means:
+     * <ul>
+     *   <li><b>One lookup</b> - the vault is found once instead of once per value</li>
+     *   <li><b>All or nothing</b> - the values are set together on the main thread, so a flush
+     *       never serializes a vault that has only some of them</li>
+     *   <li><b>One write</b> - the vault is marked dirty once and written by the next async flush</li>
+     * </ul>
+     * Later changes to the same value replace earlier ones. Updates are not thread safe and are
+     * meant to be built and committed straight away on the main thread.
+     */
+    public final class Update {
+        private final Player player;
+        private final String gameName;
+        /** Vault keys and their new values, in the order they were set. A null value removes the key. */
+        private final Map<String, Object> changes = new LinkedHashMap<>();
+        private boolean clearPlayer;
+
+        private Update(Player player, String gameName) {
+            this.player = player;
+            this.gameName = gameName;
+        }
+
+        /**
+         * Copies the player's items, health, food, experience and location into the vault, and
+         * empties the player's inventory and experience when the update is committed
+         * @return this update
+         */
+        public Update storeInventory() {
+            changes.put("inventory", Arrays.asList(player.getInventory().getContents()));
+            changes.put("health", player.getHealth());
+            changes.put("food", player.getFoodLevel());
+            changes.put("exp", player.calculateTotalExperiencePoints());
+            changes.put("location", player.getLocation());
+            clearPlayer = true;
+            return this;
+        }
+
+        /**
+         * Clears the stored items and sets the respawn point
+         * @param from - the location to set as respawn point
+         * @return this update
+         */
+        public Update clearItems(Location from) {
+            changes.put("inventory", null);
+            changes.put("location", from);
+            return this;
+        }
+
+        /**
+         * @param foodLevel - the food level to store
+         * @return this update
+         */
+        public Update food(int foodLevel) {
+            changes.put("food", foodLevel);
+            return this;
+        }
+
+        /**
+         * @param health - the health to store
+         * @return this update
+         */
+        public Update health(double health) {
+            changes.put("health", health);
+            return this;
+        }
+
+        /**
+         * @param exp - the experience points to store
+         * @return this update
+         */
+        public Update exp(int exp) {
+            changes.put("exp", exp);
+            return this;
+        }
+
+        /**
+         * Applies every change to the vault and marks it dirty once
+         */
+        public void commit() {
+            if (!changes.isEmpty()) {
+                YamlConfiguration vault = getVault(gameName, player.getUniqueId());
+                changes.forEach(vault::set);
+                markDirty(gameName, player.getUniqueId());
+            }
+            if (clearPlayer) {
+                player.getInventory().clear();
+                BeaconLinkListener.setTotalExperience(player, 0);
+            }
+        }
+    }
+
+    /**
+     * Gets a player's vault for a game, loading it from disk the first time it is used
+     * @param gameName - the game name
+     * @param playerUUID - the player's UUID
+     * @return the vault
+     */
+    private YamlConfiguration getVault(String gameName, UUID playerUUID) {
+        return vaults.computeIfAbsent(key(gameName, playerUUID), key -> {
+            String queued = unwritten.get(key);
+            if (queued != null) {
+                // Not on disk yet
+                YamlConfiguration vault = new YamlConfiguration();
+                try {
+                    vault.loadFromString(queued);
+                } catch (InvalidConfigurationException e) {
+                    getLogger().severe("Problem loading inventory " + key + ": " + e.getMessage());
+                }
+                return vault;
+            }
+            File file = vaultFile(key);
+            return file.exists() ? YamlConfiguration.loadConfiguration(file) : new YamlConfiguration();
+        });
+    }
+
+    /**
+     * Marks a vault as changed and schedules a flush if one is not already pending
+     * @param gameName - the game name
+     * @param playerUUID - the player's UUID
+     */
+    private void markDirty(String gameName, UUID playerUUID) {
+        dirty.add(key(gameName, playerUUID));
+        if (getBeaconzPlugin().isEnabled() && flushScheduled.compareAndSet(false, true)) {
+            getServer().getScheduler().runTaskLater(getBeaconzPlugin(), this::flush, WRITE_DELAY);
+        }
+    }
+
+    /**
+     * Serializes the dirty vaults on the main thread and writes them asynchronously
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        queueWrites(snapshotDirty());
+    }
+
+    /**
+     * Queues serialized vaults to be written
+     * @param snapshot map of vault key to YAML text
+     */
+    private void queueWrites(Map<String, String> snapshot) {
+        if (!snapshot.isEmpty()) {
+            unwritten.putAll(snapshot);
+            submit(() -> writeVaults(snapshot));
+        }
+    }
+
+    /**
+     * Adds a job to the I/O queue and makes sure something is working through it. When the
+     * plugin is disabled nothing can be scheduled, so the queue is worked through now.
+     * @param job - the write or delete
+     */
+    private void submit(Runnable job) {
+        ioQueue.add(job);
+        if (!getBeaconzPlugin().isEnabled()) {
+            drain();
+        } else if (draining.compareAndSet(false, true)) {
+            getServer().getScheduler().runTaskAsynchronously(getBeaconzPlugin(), this::drainAsync);
+        }
+    }
+
+    private void drainAsync() {
+        drain();
+        draining.set(false);
+        // A job may have been added after the queue was found empty but before the flag was cleared
+        if (!ioQueue.isEmpty() && getBeaconzPlugin().isEnabled() && draining.compareAndSet(false, true)) {
+            getServer().getScheduler().runTaskAsynchronously(getBeaconzPlugin(), this::drainAsync);
+        }
+    }
+
+    /**
+     * Does every queued job, in order, on the calling thread
+     */
+    private void drain() {
+        synchronized (ioLock) {
+            Runnable job;
+            while ((job = ioQueue.poll()) != null) {
+                job.run();
+            }
+        }
+    }
+
+    /**
+     * Serializes every dirty vault and clears the dirty set
+     * @return map of vault key to YAML text
+     */
+    private Map<String, String> snapshotDirty() {
+        Map<String, String> snapshot = new HashMap<>();
+        for (String key : dirty) {
+            dirty.remove(key);
+            YamlConfiguration vault = vaults.get(key);
+            if (vault != null) {
+                snapshot.put(key, vault.saveToString());
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Writes serialized vaults to disk. Only called from the I/O queue.
+     * @param snapshot map of vault key to YAML text
+     */
+    private void writeVaults(Map<String, String> snapshot) {
+        long start = WRITE_PERF.start();
+        try {
+            for (Map.Entry<String, String> en : snapshot.entrySet()) {
+                try {
+                    writeAtomically(vaultFile(en.getKey()).toPath(), en.getValue());
+                } catch (IOException e) {
+                    getLogger().severe("Problem saving inventory " + en.getKey() + ": " + e.getMessage());
+                }
+                // Readers can use the file now, unless a newer copy has been queued since
+                unwritten.remove(en.getKey(), en.getValue());
+            }
+        } finally {
+            WRITE_PERF.stop(start);
+        }
+    }
+
+    /**
+     * Writes to a temporary file and then moves it over the target so the target is never half-written
+     * @param target - the file to write
+     * @param data - the contents
+     * @throws IOException if the file cannot be written
+     */
+    private void writeAtomically(Path target, String data) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.writeString(tempPath, data, StandardCharsets.UTF_8);
+        try {
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Deletes a game's vault folder. Only called from the I/O queue.
+     * @param gameFolder - the folder
+     */
+    private void deleteFolder(File gameFolder) {
+        File[] files = gameFolder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                if (!file.delete()) {
+                    getLogger().warning("Could not delete " + file.getName());
+                }
+            }
+        }
+        if (gameFolder.exists() && !gameFolder.delete()) {
+            getLogger().warning("Could not delete inventory folder " + gameFolder.getName());
+        }
+    }
+
+    /**
+     * @param key - vault key
+     * @return the file for this vault
+     */
+    private File vaultFile(String key) {
+        return new File(vaultFolder, key + ".yml");
+    }
+
+    /**
+     * @param gameName - the game name
+     * @param playerUUID - the player's UUID
+     * @return the vault key "game/uuid"
+     */
+    private static String key(String gameName, UUID playerUUID) {
+        return folderName(gameName) + "/" + playerUUID;
+    }
+
+    /**
+     * Percent-encodes a game name so it is safe to use as a folder name. Letters, digits,
+     * {@code _} and {@code -} are kept and every other character becomes {@code %XX} for each
+     * of its UTF-8 bytes, so different names always give different folders.
+     * @param gameName - the game name
+     * @return the folder name
+     */
+    static String folderName(String gameName) {
+        StringBuilder folder = new StringBuilder(gameName.length());
+        for (byte b : gameName.getBytes(StandardCharsets.UTF_8)) {
+            char c = (char) (b & 0xFF);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || c == '-') {
+                folder.append(c);
+            } else {
+                folder.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+        }
+        return folder.toString();
     }
 
 }
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
+
+/**
+ * Holds the game state files, {@code games.yml} and {@code teams.yml}, in memory.
+ * <p>
+ * Each file is read once, the first time it is needed. After that:
+ * <ul>
+ *   <li><b>Reads</b> - spawn points, team members and game settings come from memory, so
+ *       joining a game no longer parses {@code teams.yml}</li>
+ *   <li><b>Changes</b> - callers change the document and mark the game's section dirty.
+ *       Nothing is written yet</li>
+ *   <li><b>Flush</b> - each changed document is serialized once on the main thread and written
+ *       by an async task to a temporary file that is then moved over the old one. The file it
+ *       replaces is kept as {@code games.old} or {@code teams.old}</li>
+ * </ul>
+ * Saving every game therefore writes each file once, instead of reading and writing
+ * {@code games.yml} once per game. A change that is not part of a save cycle is flushed a second
+ * later, so a burst of changes is written together. When the plugin is disabled, flushes
+ * write on the calling thread.
+ * <p>
+ * The documents must only be used from the main thread.
+ *
+ * @author tastybento
+ */
+public class GameStateStore extends BeaconzPluginDependent {
+
+    /**
+     * The files this store holds
+     */
+    public enum Document {
+        GAMES("games"),
+        TEAMS("teams");
+
+        private final String fileName;
+
+        Document(String fileName) {
+            this.fileName = fileName;
+        }
+
+        /**
+         * @return the name of the file, without the extension
+         */
+        public String getFileName() {
+            return fileName;
+        }
+    }
+
+    /** Ticks to wait after a change before writing, so that changes made together are written together */
+    private static final long WRITE_DELAY = 20L;
+    private static final PerfMonitor.Probe WRITE_PERF = PerfMonitor.probe("GameStateStore.write");
+    private final Map<Document, YamlConfiguration> documents = new EnumMap<>(Document.class);
+    /** Sections changed since each document was last flushed, e.g., game names */
+    private final Map<Document, Set<String>> dirty = new EnumMap<>(Document.class);
+    /** Number of the last snapshot taken of each document */
+    private final long[] taken = new long[Document.values().length];
+    /** Number of the last snapshot written for each document. Guarded by ioLock. */
+    private final long[] written = new long[Document.values().length];
+    private boolean flushScheduled;
+    /** Serializes all file writes */
+    private final Object ioLock = new Object();
+
+    /**
+     * A serialized document waiting to be written
+     * @param document - the document
+     * @param number - the snapshot number, so an older snapshot never overwrites a newer one
+     * @param text - the YAML text
+     */
+    private record Snapshot(Document document, long number, String text) {}
+
+    /**
+     * @param beaconzPlugin - the plugin
+     */
+    public GameStateStore(Beaconz beaconzPlugin) {
+        super(beaconzPlugin);
+    }
+
+    /**
+     * Gets a document, reading it from disk the first time it is used
+     * @param document - the document
+     * @return the document. Changes must be followed by {@link #markDirty}.
+     */
+    public YamlConfiguration get(Document document) {
+        return documents.computeIfAbsent(document, this::load);
+    }
+
+    private YamlConfiguration load(Document document) {
+        YamlConfiguration yml = new YamlConfiguration();
+        File file = file(document);
+        if (file.exists()) {
+            try {
+                yml.load(file);
+            } catch (IOException e) {
+                getLogger().severe("Failed to load " + file.getName() + ": " + e.getMessage());
+            } catch (InvalidConfigurationException e) {
+                getLogger().severe("Invalid YAML configuration in " + file.getName() + ": " + e.getMessage());
+            }
+        }
+        return yml;
+    }
+
+    /**
+     * Records that a section of a document has changed and schedules a flush if one is not already pending
+     * @param document - the document
+     * @param section - the section that changed, e.g., the game name
+     */
+    public void markDirty(Document document, String section) {
+        dirty.computeIfAbsent(document, k -> new LinkedHashSet<>()).add(section);
+        if (!flushScheduled && getBeaconzPlugin().isEnabled()) {
+            flushScheduled = true;
+            getServer().getScheduler().runTaskLater(getBeaconzPlugin(), this::flush, WRITE_DELAY);
+        }
+    }
+
+    /**
+     * @param document - the document
+     * @return the sections of the document changed since it was last flushed
+     */
+    public Set<String> getDirtySections(Document document) {
+        return Set.copyOf(dirty.getOrDefault(document, Set.of()));
+    }
+
+    /**
+     * Serializes every changed document and writes it, asynchronously if the plugin is enabled
+     */
+    public void flush() {
+        flushScheduled = false;
+        if (dirty.isEmpty()) {
+            return;
+        }
+        Snapshot[] snapshots = new Snapshot[dirty.size()];
+        int i = 0;
+        for (Document document : dirty.keySet()) {
+            snapshots[i++] = new Snapshot(document, ++taken[document.ordinal()], get(document).saveToString());
+        }
+        dirty.clear();
+        if (getBeaconzPlugin().isEnabled()) {
+            getServer().getScheduler().runTaskAsynchronously(getBeaconzPlugin(), () -> write(snapshots));
+        } else {
+            write(snapshots);
+        }
+    }
+
+    /**
+     * Writes the documents, keeping the files they replace as backups
+     * @param snapshots - serialized documents
+     */
+    private void write(Snapshot[] snapshots) {
+        long start = WRITE_PERF.start();
+        try {
+            synchronized (ioLock) {
+                for (Snapshot snapshot : snapshots) {
+                    int index = snapshot.document().ordinal();
+                    if (snapshot.number() <= written[index]) {
+                        // A newer snapshot has already been written
+                        continue;
+                    }
+                    written[index] = snapshot.number();
+                    Path target = file(snapshot.document()).toPath();
+                    try {
+                        if (Files.exists(target)) {
+                            // Backup the file just in case
+                            Files.copy(target, target.resolveSibling(snapshot.document().getFileName() + ".old"),
+                                    StandardCopyOption.REPLACE_EXISTING);
+                        }
+                        writeAtomically(target, snapshot.text());
+                    } catch (IOException e) {
+                        getLogger().severe("Failed to save " + target.getFileName() + ": " + e.getMessage());
+                    }
+                }
+            }
+        } finally {
+            WRITE_PERF.stop(start);
+        }
+    }
+
+    /**
+     * Writes to a temporary file and then moves it over the target so the target is never half-written
+     * @param target - the file to write
+     * @param data - the contents
+     * @throws IOException if the file cannot be written
+     */
+    private void writeAtomically(Path target, String data) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path tempPath = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.writeString(tempPath, data, StandardCharsets.UTF_8);
+        try {
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private File file(Document document) {
+        return new File(getBeaconzPlugin().getDataFolder(), document.getFileName() + ".yml");
+    }
+}
@@ -23,14 +23,25 @@
 package com.wasteofplastic.beaconz.storage;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Team;
@@ -38,92 +49,299 @@ import org.jetbrains.annotations.NotNull;
 
 import com.wasteofplastic.beaconz.Beaconz;
 import com.wasteofplastic.beaconz.BeaconzPluginDependent;
+import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.game.Game;
 import com.wasteofplastic.beaconz.game.Scorecard;
+import com.wasteofplastic.beaconz.game.TeamBroadcaster;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 
 /**
  * Handles offline messaging to players and teams
+ * <p>
+ * Messages for offline players are kept in an append-only journal with one segment file per
+ * player: {@code messages/<uuid>.log}. Each line is one message with the time it was sent.
+ * <ul>
+ *   <li><b>Batched appends</b> - new messages are queued in memory and appended shortly afterwards
+ *       by an async writer, so a broadcast to a large roster costs one small append per player
+ *       instead of rewriting every queued message</li>
+ *   <li><b>Per-player reads</b> - when a player joins, only their own segment is read and
+ *       removed, off the main thread, and the messages are handed back on the next tick</li>
+ *   <li><b>Cap and TTL</b> - a player keeps at most {@link Settings#maxOfflineMessages} messages and
+ *       messages older than {@link Settings#offlineMessageDays} days are dropped</li>
+ *   <li><b>Compaction</b> - segments that have grown are periodically rewritten without expired or
+ *       excess messages. Rewrites go to a temporary file first, so a segment is never half-written</li>
+ * </ul>
+ * Messages from the old {@code messages.yml} file are moved into the journal when the messages
+ * are loaded, and the old file is renamed to {@code messages.old}.
  *
  * @author tastybento
  *
  */
 public class Messages extends BeaconzPluginDependent {
 
-    // Offline Messages
-    private final HashMap<UUID, List<String>> messages = new HashMap<>();
-    private YamlConfiguration messageStore;
+    /** Ticks to wait after a message is queued before appending, so that broadcasts are written together */
+    private static final long WRITE_DELAY = 20L;
+    /** Ticks between compaction passes (5 minutes) */
+    private static final long COMPACT_PERIOD = 6000L;
+    private static final PerfMonitor.Probe APPEND_PERF = PerfMonitor.probe("Messages.append");
+    /** Folder holding one journal segment per player */
+    private final File journalFolder;
+    /** Messages queued since the last append, per player */
+    private final HashMap<UUID, List<Entry>> pending = new HashMap<>();
+    /** Players whose segments have been appended to since they were last compacted */
+    private final Set<UUID> touched = ConcurrentHashMap.newKeySet();
+    /** Number of lines appended to each segment since it was last compacted */
+    private final ConcurrentHashMap<UUID, Integer> appended = new ConcurrentHashMap<>();
+    /** True while a flush is scheduled */
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    /** Serializes all segment reads, writes and deletes */
+    private final Object ioLock = new Object();
 
+    /**
+     * One journal line
+     * @param time - when the message was sent, in epoch milliseconds
+     * @param text - the message
+     */
+    private record Entry(long time, String text) {}
 
     /**
      * @param plugin
      */
     public Messages(Beaconz plugin) {
         super(plugin);
+        journalFolder = new File(plugin.getDataFolder(), "messages");
+    }
+
+    /**
+     * Takes the messages waiting for the player off the main thread and hands them to
+     * {@code delivery} on the main thread. Nothing is handed over if there are none. When the
+     * plugin is not enabled the messages are taken and handed over now.
+     * <p>
+     * The messages are read and removed from the journal in one step, so a message sent while
+     * they are being read is either handed over or left in the journal for next time. If the
+     * player has left by the time the messages get back to the main thread, they are queued
+     * again.
+     *
+     * @param playerUUID
+     * @param delivery - called on the main thread with the messages, oldest first
+     */
+    public void takeMessages(UUID playerUUID, Consumer<List<String>> delivery) {
+        if (!getBeaconzPlugin().isEnabled()) {
+            List<Entry> entries = take(playerUUID);
+            if (!entries.isEmpty()) {
+                delivery.accept(texts(entries));
+            }
+            return;
+        }
+        getServer().getScheduler().runTaskAsynchronously(getBeaconzPlugin(), () -> {
+            List<Entry> entries = take(playerUUID);
+            if (entries.isEmpty()) {
+                return;
+            }
+            if (!getBeaconzPlugin().isEnabled()) {
+                requeue(playerUUID, entries);
+                return;
+            }
+            getServer().getScheduler().runTask(getBeaconzPlugin(), () -> {
+                Player player = getServer().getPlayer(playerUUID);
+                if (player == null || !player.isOnline()) {
+                    requeue(playerUUID, entries);
+                    return;
+                }
+                delivery.accept(texts(entries));
+            });
+        });
+    }
+
+    /**
+     * Reads and deletes a player's segment and queued messages. Queued messages only reach the
+     * segment while the io lock is held, so none can be missed between the read and the delete.
+     * @param playerUUID - the player's UUID
+     * @return the live messages, oldest first, never null
+     */
+    private List<Entry> take(UUID playerUUID) {
+        synchronized (ioLock) {
+            List<Entry> entries = readSegment(playerUUID);
+            synchronized (pending) {
+                List<Entry> queued = pending.remove(playerUUID);
+                if (queued != null) {
+                    entries.addAll(queued);
+                }
+            }
+            touched.remove(playerUUID);
+            appended.remove(playerUUID);
+            try {
+                Files.deleteIfExists(segmentFile(playerUUID).toPath());
+            } catch (IOException e) {
+                getLogger().severe("Failed to clear offline messages for " + playerUUID + ": " + e.getMessage());
+            }
+            return trim(entries, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Puts taken messages back in the queue, keeping the times they were sent
+     * @param playerUUID - the player's UUID
+     * @param entries - the messages
+     */
+    private void requeue(UUID playerUUID, List<Entry> entries) {
+        for (Entry entry : entries) {
+            queue(playerUUID, entry);
+        }
     }
 
     /**
-     * Returns what messages are waiting for the player or null if none
+     * Returns what messages are waiting for the player or null if none.
+     * Only this player's journal segment is read. Expired messages are not returned.
+     * This reads from disk, so on the main thread use {@link #takeMessages(UUID, Consumer)}.
      *
      * @param playerUUID
-     * @return
+     * @return list of messages, oldest first, or null if there are none
      */
     public List<String> getMessages(UUID playerUUID) {
-        return messages.get(playerUUID);
+        List<Entry> entries;
+        synchronized (ioLock) {
+            entries = readSegment(playerUUID);
+            synchronized (pending) {
+                List<Entry> queued = pending.get(playerUUID);
+                if (queued != null) {
+                    entries.addAll(queued);
+                }
+            }
+        }
+        entries = trim(entries, System.currentTimeMillis());
+        return entries.isEmpty() ? null : texts(entries);
     }
 
     /**
-     * Clears any messages for player
+     * @param entries - messages
+     * @return the text of each message
+     */
+    private static List<String> texts(List<Entry> entries) {
+        List<String> result = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            result.add(entry.text());
+        }
+        return result;
+    }
+
+    /**
+     * Clears any messages for player. The segment is deleted by an async writer.
      *
      * @param playerUUID
      */
     public void clearMessages(UUID playerUUID) {
-        messages.remove(playerUUID);
+        synchronized (pending) {
+            pending.remove(playerUUID);
+        }
+        touched.remove(playerUUID);
+        appended.remove(playerUUID);
+        if (getBeaconzPlugin().isEnabled()) {
+            getServer().getScheduler().runTaskAsynchronously(getBeaconzPlugin(), () -> deleteSegment(playerUUID));
+        } else {
+            deleteSegment(playerUUID);
+        }
     }
 
-    public void saveMessages() {
-        if (messageStore == null) {
-            return;
-        }
-        getLogger().info("Saving offline messages...");
-        try {
-            // Convert to a serialized string
-            final HashMap<String, Object> offlineMessages = new HashMap<>();
-            for (UUID p : messages.keySet()) {
-                offlineMessages.put(p.toString(), messages.get(p));
+    /**
+     * Deletes a player's segment
+     * @param playerUUID - the player's UUID
+     */
+    private void deleteSegment(UUID playerUUID) {
+        synchronized (ioLock) {
+            try {
+                Files.deleteIfExists(segmentFile(playerUUID).toPath());
+            } catch (IOException e) {
+                getLogger().severe("Failed to clear offline messages for " + playerUUID + ": " + e.getMessage());
             }
-            // Convert to YAML
-            messageStore.set("messages", offlineMessages);
-            File messageFile = new File(getDataFolder(), "messages.yml");
-            messageStore.save(messageFile);
-        } catch (Exception e) {
-            getLogger().severe("Failed to save offline messages to messages.yml: " + e.getMessage());
         }
     }
 
+    /**
+     * Appends any queued messages and compacts changed segments. Runs on the calling thread.
+     * Used when the plugin is disabled.
+     */
+    public void saveMessages() {
+        getLogger().info("Saving offline messages...");
+        appendPending();
+        compact(false);
+    }
+
+    /**
+     * Prepares the journal: moves messages from the old messages.yml file into it, drops expired
+     * messages and starts periodic compaction.
+     *
+     * @return true if the journal is ready
+     */
     public boolean loadMessages() {
         getLogger().info("Loading offline messages...");
+        if (!journalFolder.exists() && !journalFolder.mkdirs()) {
+            getLogger().severe("Cannot create the messages folder!");
+            return false;
+        }
         try {
-            File messageFile = new File(getDataFolder(), "messages.yml");
-            messageStore.load(messageFile);
-            if (messageStore.getConfigurationSection("messages") == null) {
-                messageStore.createSection("messages"); // This is only used to
-                // create
-            }
-            HashMap<String, Object> temp = (HashMap<String, Object>) messageStore.getConfigurationSection("messages").getValues(true);
-            for (String s : temp.keySet()) {
-                List<String> messageList = messageStore.getStringList("messages." + s);
-                if (!messageList.isEmpty()) {
-                    messages.put(UUID.fromString(s), messageList);
-                }
-            }
-            return true;
+            migrateLegacyStore();
         } catch (Exception e) {
             getLogger().severe("Failed to load offline messages from messages.yml: " + e.getMessage());
             return false;
         }
+        if (getBeaconzPlugin().isEnabled()) {
+            // Sweep every segment once, then only the ones that change
+            getServer().getScheduler().runTaskAsynchronously(getBeaconzPlugin(), () -> compact(true));
+            getServer().getScheduler().runTaskTimerAsynchronously(getBeaconzPlugin(), () -> compact(false), COMPACT_PERIOD, COMPACT_PERIOD);
+        } else {
+            compact(true);
+        }
+        return true;
+    }
+
+    /**
+     * Moves messages from the old messages.yml file into journal segments
+     */
+    private void migrateLegacyStore() {
+        File legacyFile = new File(getDataFolder(), "messages.yml");
+        if (!legacyFile.exists()) {
+            return;
+        }
+        YamlConfiguration messageStore = YamlConfiguration.loadConfiguration(legacyFile);
+        ConfigurationSection section = messageStore.getConfigurationSection("messages");
+        if (section != null) {
+            long now = System.currentTimeMillis();
+            Map<UUID, List<Entry>> legacy = new HashMap<>();
+            for (String s : section.getKeys(false)) {
+                List<String> messageList = section.getStringList(s);
+                if (messageList.isEmpty()) {
+                    continue;
+                }
+                try {
+                    legacy.put(UUID.fromString(s), messageList.stream().map(m -> new Entry(now, m)).toList());
+                } catch (IllegalArgumentException e) {
+                    getLogger().warning("Skipping offline messages for unknown player " + s);
+                }
+            }
+            append(legacy);
+            getLogger().info("Moved offline messages for " + legacy.size() + " players into the message journal");
+        }
+        if (!legacyFile.renameTo(new File(getDataFolder(), "messages.old"))) {
+            getLogger().warning("Could not rename messages.yml to messages.old");
+        }
+    }
+
+    /**
+     * @return the number of messages waiting to be appended to the journal
+     */
+    public int getPendingCount() {
+        synchronized (pending) {
+            int count = 0;
+            for (List<Entry> entries : pending.values()) {
+                count += entries.size();
+            }
+            return count;
+        }
     }
 
     /**
@@ -133,19 +351,22 @@ public class Messages extends BeaconzPluginDependent {
      * @return List of messages
      */
     public List<String> get(UUID playerUUID) {
-        return messages.get(playerUUID);
+        return getMessages(playerUUID);
     }
 
     /**
-     * Stores a message for player
+     * Replaces the messages stored for player
      *
      * @param playerUUID
      * @param playerMessages
      */
     @Deprecated
     public void put(UUID playerUUID, List<String> playerMessages) {
-        messages.put(playerUUID, playerMessages);
-
+        clearMessages(playerUUID);
+        long now = System.currentTimeMillis();
+        for (String message : playerMessages) {
+            queue(playerUUID, new Entry(now, message));
+        }
     }
 
     /**
@@ -200,30 +421,13 @@ public class Messages extends BeaconzPluginDependent {
      */
     @Deprecated
     public void tellTeam(Player player, Team team, String message) {
-        // Tell other players
-        Game game = getGameMgr().getGame(team);
-        if (game != null) {
-            HashMap<Team, List<UUID>> teamMembers = game.getScorecard().getTeamMembers();
-            if (teamMembers != null) {
-                List<UUID> members = teamMembers.get(team);
-                if (members != null) {
-                    for (UUID uuid : members) {
-                        Player member = Bukkit.getPlayer(uuid);
-                        if (player == null || !player.getUniqueId().equals(uuid)) {
-                            if (member != null) {
-                                member.sendMessage(ChatColor.GOLD + "[" + game.getName() + "] " + message);
-                            } else {
-                                setMessage(uuid, ChatColor.GOLD + "[" + game.getName() + "] " + message);
-                            }
-                        }
-                    }
-                }
-            }
-        }
+        tellTeam(player, team, LegacyComponentSerializer.legacySection().deserialize(message));
     }
-    
+
     /**
      * Tells a message to all members of team, regardless of whether they are online or offline.
+     * Online members get it through the team's audience in the {@link TeamBroadcaster}. Offline
+     * members get it the next time they log in.
      * Ignores player
      * @param player player sending the message
      * @param team team
@@ -232,27 +436,28 @@ public class Messages extends BeaconzPluginDependent {
     public void tellTeam(Player player, Team team, Component message) {
         // Tell other players
         Game game = getGameMgr().getGame(team);
-        if (game != null) {
-            HashMap<Team, List<UUID>> teamMembers = game.getScorecard().getTeamMembers();
-            if (teamMembers != null) {
-                List<UUID> members = teamMembers.get(team);
-                if (members != null) {
-                    for (UUID uuid : members) {
-                        Player member = Bukkit.getPlayer(uuid);
-                        if (player == null || !player.getUniqueId().equals(uuid)) {
-                            if (member != null) {
-                                member.sendMessage(Component.text("[" + game.getName() + "] ").append(message).color(NamedTextColor.GOLD));
-                            } else {
-                                setMessage(uuid, ChatColor.GOLD + "[" + game.getName() + "] " + message);
-                            }
-                        }
+        if (game == null) {
+            return;
+        }
+        Component line = Component.text("[").append(game.getName()).append(Component.text("] ")).append(message)
+                .color(NamedTextColor.GOLD);
+        TeamBroadcaster broadcaster = getBeaconzPlugin().getTeamBroadcaster();
+        broadcaster.send(team, line, player);
+        // Store it for members who are offline
+        HashMap<Team, List<UUID>> teamMembers = game.getScorecard().getTeamMembers();
+        List<UUID> members = teamMembers == null ? null : teamMembers.get(team);
+        if (members != null) {
+            String offline = null;
+            for (UUID uuid : members) {
+                if (!broadcaster.isOnline(team, uuid) && (player == null || !player.getUniqueId().equals(uuid))) {
+                    if (offline == null) {
+                        offline = LegacyComponentSerializer.legacySection().serialize(line);
                     }
+                    setMessage(uuid, offline);
                 }
             }
         }
     }
-    
-    
 
     /**
      * Broadcast a message to all teams other than this one
@@ -276,24 +481,245 @@ public class Messages extends BeaconzPluginDependent {
      * @param message the message to store
      */
     public void setMessage(UUID uuid, String message) {
-        // getLogger().info("DEBUG: received message - " + message);
         Player player = getServer().getPlayer(uuid);
         // Check if player is online
-        if (player != null) {
-            if (player.isOnline()) {
-                // player.sendMessage(message);
+        if (player != null && player.isOnline()) {
+            return;
+        }
+        // Player is offline so store the message
+        queue(uuid, new Entry(System.currentTimeMillis(), message));
+    }
+
+    /**
+     * Queues a message for appending and schedules a flush if one is not already pending
+     * @param uuid - the player's UUID
+     * @param entry - the message
+     */
+    private void queue(UUID uuid, Entry entry) {
+        synchronized (pending) {
+            pending.computeIfAbsent(uuid, k -> new ArrayList<>()).add(entry);
+        }
+        if (getBeaconzPlugin().isEnabled() && flushScheduled.compareAndSet(false, true)) {
+            getServer().getScheduler().runTaskLater(getBeaconzPlugin(), this::flush, WRITE_DELAY);
+        }
+    }
+
+    /**
+     * Hands the queued messages to an async writer
+     */
+    private void flush() {
+        flushScheduled.set(false);
+        getServer().getScheduler().runTaskAsynchronously(getBeaconzPlugin(), this::appendPending);
+    }
+
+    /**
+     * Appends the queued messages. The queue is emptied while holding the io lock, so a
+     * message is always either queued or in its segment when a reader holds the lock.
+     */
+    private void appendPending() {
+        synchronized (ioLock) {
+            append(snapshotPending());
+        }
+    }
+
+    /**
+     * Takes the queued messages and clears the queue
+     * @return map of player to queued messages
+     */
+    private Map<UUID, List<Entry>> snapshotPending() {
+        synchronized (pending) {
+            Map<UUID, List<Entry>> snapshot = new HashMap<>(pending);
+            pending.clear();
+            return snapshot;
+        }
+    }
+
+    /**
+     * Appends messages to each player's segment. A segment that has had more than the cap
+     * appended since it was last compacted is compacted straight away, so a burst of
+     * broadcasts cannot grow it without bound.
+     * @param batch map of player to messages to append
+     */
+    private void append(Map<UUID, List<Entry>> batch) {
+        long start = APPEND_PERF.start();
+        try {
+            if (batch.isEmpty()) {
                 return;
             }
+            synchronized (ioLock) {
+                for (Map.Entry<UUID, List<Entry>> en : batch.entrySet()) {
+                    UUID uuid = en.getKey();
+                    try {
+                        Path segment = segmentFile(uuid).toPath();
+                        Files.createDirectories(segment.getParent());
+                        Files.writeString(segment, toLines(en.getValue()), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    } catch (IOException e) {
+                        getLogger().severe("Failed to save offline messages for " + uuid + ": " + e.getMessage());
+                        continue;
+                    }
+                    touched.add(uuid);
+                    if (appended.merge(uuid, en.getValue().size(), Integer::sum) > Settings.maxOfflineMessages) {
+                        compactSegment(uuid, System.currentTimeMillis());
+                    }
+                }
+            }
+        } finally {
+            APPEND_PERF.stop(start);
         }
-        // Player is offline so store the message
-        // getLogger().info("DEBUG: player is offline - storing message");
-        List<String> playerMessages = get(uuid);
-        if (playerMessages != null) {
-            playerMessages.add(message);
+    }
+
+    /**
+     * Rewrites segments without expired or excess messages
+     * @param all - true to compact every segment, false for only those appended to since the last pass
+     */
+    private void compact(boolean all) {
+        long now = System.currentTimeMillis();
+        List<UUID> targets = new ArrayList<>();
+        if (all) {
+            File[] files = journalFolder.listFiles((dir, name) -> name.endsWith(".log"));
+            if (files != null) {
+                for (File file : files) {
+                    try {
+                        targets.add(UUID.fromString(file.getName().substring(0, file.getName().length() - 4)));
+                    } catch (IllegalArgumentException e) {
+                        getLogger().warning("Ignoring unknown file in messages folder: " + file.getName());
+                    }
+                }
+            }
         } else {
-            playerMessages = new ArrayList<>(Collections.singletonList(message));
+            targets.addAll(touched);
+        }
+        synchronized (ioLock) {
+            for (UUID uuid : targets) {
+                compactSegment(uuid, now);
+            }
         }
-        put(uuid, playerMessages);
+    }
+
+    /**
+     * Rewrites one segment keeping only live messages, or deletes it if none are left.
+     * Must be called holding the io lock.
+     * @param uuid - the player's UUID
+     * @param now - the current time in epoch milliseconds
+     */
+    private void compactSegment(UUID uuid, long now) {
+        touched.remove(uuid);
+        appended.remove(uuid);
+        Path segment = segmentFile(uuid).toPath();
+        List<Entry> entries = readSegment(uuid);
+        List<Entry> live = trim(entries, now);
+        try {
+            if (live.isEmpty()) {
+                Files.deleteIfExists(segment);
+            } else if (live.size() != entries.size()) {
+                Path tempPath = segment.resolveSibling(segment.getFileName() + ".tmp");
+                Files.writeString(tempPath, toLines(live), StandardCharsets.UTF_8);
+                try {
+                    Files.move(tempPath, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(tempPath, segment, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        } catch (IOException e) {
+            getLogger().severe("Failed to compact offline messages for " + uuid + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads a player's segment. Lines that cannot be read, such as one cut short by a crash, are skipped.
+     * Must be called holding the io lock.
+     * @param uuid - the player's UUID
+     * @return messages in the order they were sent, never null
+     */
+    private List<Entry> readSegment(UUID uuid) {
+        List<Entry> entries = new ArrayList<>();
+        Path segment = segmentFile(uuid).toPath();
+        if (!Files.exists(segment)) {
+            return entries;
+        }
+        try {
+            for (String line : Files.readAllLines(segment, StandardCharsets.UTF_8)) {
+                int tab = line.indexOf('\t');
+                if (tab < 1) {
+                    continue;
+                }
+                try {
+                    entries.add(new Entry(Long.parseLong(line.substring(0, tab)), unescape(line.substring(tab + 1))));
+                } catch (NumberFormatException e) {
+                    // Partial line
+                }
+            }
+        } catch (IOException e) {
+            getLogger().severe("Failed to read offline messages for " + uuid + ": " + e.getMessage());
+        }
+        return entries;
+    }
+
+    /**
+     * Drops expired messages and keeps only the newest messages up to the cap
+     * @param entries - messages, oldest first
+     * @param now - the current time in epoch milliseconds
+     * @return the live messages, oldest first
+     */
+    private List<Entry> trim(List<Entry> entries, long now) {
+        long oldest = now - TimeUnit.DAYS.toMillis(Settings.offlineMessageDays);
+        List<Entry> live = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            if (entry.time() >= oldest) {
+                live.add(entry);
+            }
+        }
+        if (live.size() > Settings.maxOfflineMessages) {
+            return new ArrayList<>(live.subList(live.size() - Settings.maxOfflineMessages, live.size()));
+        }
+        return live;
+    }
+
+    /**
+     * @param entries - messages
+     * @return the messages as journal lines, one per message
+     */
+    private static String toLines(List<Entry> entries) {
+        StringBuilder lines = new StringBuilder();
+        for (Entry entry : entries) {
+            lines.append(entry.time()).append('\t').append(escape(entry.text())).append('\n');
+        }
+        return lines.toString();
+    }
+
+    /**
+     * Escapes backslashes and line breaks so each message fits on one journal line
+     */
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Reverses {@link #escape(String)}
+     */
+    private static String unescape(String text) {
+        if (text.indexOf('\\') < 0) {
+            return text;
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\\' && i + 1 < text.length()) {
+                char next = text.charAt(++i);
+                sb.append(next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param uuid - the player's UUID
+     * @return the player's journal segment
+     */
+    private File segmentFile(UUID uuid) {
+        return new File(journalFolder, uuid + ".log");
     }
 
     public void tellTeam(Team team, @NotNull Component message) {
@@ -7,6 +7,7 @@
  * <h2>Main Components:</h2>
  * <ul>
  *   <li>{@link com.wasteofplastic.beaconz.storage.BeaconzStore} - Player inventory and state persistence</li>
+ *   <li>{@link com.wasteofplastic.beaconz.storage.GameStateStore} - In-memory games.yml and teams.yml</li>
  *   <li>{@link com.wasteofplastic.beaconz.storage.Messages} - Offline message queue system</li>
  *   <li>{@link com.wasteofplastic.beaconz.storage.TinyDB} - Player name to UUID database</li>
  * </ul>
@@ -22,7 +23,9 @@
  * </ul>
  *
  * When players switch games or respawn, their appropriate inventory is restored.
- * All data is saved to YAML files in the plugin data directory.
+ * Each player has one small vault file per game ({@code inventories/<game>/<uuid>.yml}),
+ * loaded on first use and written behind by an async writer, so a change to one player
+ * never rewrites anyone else's inventory.
  *
  * <h2>Message Queue:</h2>
  * Messages provides asynchronous messaging for offline players:
@@ -45,9 +48,11 @@
  *
  * <h2>Data Formats:</h2>
  * <ul>
- *   <li><b>Inventories:</b> YAML format per game per player</li>
- *   <li><b>Messages:</b> YAML queue per player UUID</li>
+ *   <li><b>Inventories:</b> YAML file per game per player, replaced atomically on write</li>
+ *   <li><b>Messages:</b> Append-only journal segment per player UUID, compacted periodically</li>
  *   <li><b>Names:</b> Simple key-value mapping in YAML</li>
+ *   <li><b>Games and teams:</b> games.yml and teams.yml, held in memory and replaced atomically
+ *       once per save</li>
  * </ul>
  *
  * <h2>Persistence Timing:</h2>
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.util;
+
+import java.util.Arrays;
+
+/**
+ * A set of block columns (x, z) stored as one 256-bit mask per chunk.
+ * <p>
+ * Block events such as liquid flow fire thousands of times a second, and nearly all of them are
+ * nowhere near a beacon. This set lets a listener throw those away with one chunk lookup and one
+ * bit test:
+ * <ul>
+ *   <li><b>Chunks</b> - each chunk that has ever held a column gets a slot in a {@link CoordIndex}</li>
+ *   <li><b>Columns</b> - the 16 x 16 columns of a chunk are the 256 bits of four {@code long}s</li>
+ * </ul>
+ * Nothing is allocated by {@link #contains}. Chunks whose columns have all been cleared keep
+ * their slot until {@link #clear()}. Not thread-safe.
+ *
+ * @author tastybento
+ */
+public final class ColumnMask {
+
+    private final CoordIndex chunks = new CoordIndex();
+    /** Four longs per chunk slot */
+    private long[][] bits = new long[16][];
+    private int slots;
+
+    /**
+     * @param x - block x
+     * @param z - block z
+     * @return the index of the column's bit within its chunk
+     */
+    private static int bit(int x, int z) {
+        return ((z & 15) << 4) | (x & 15);
+    }
+
+    /**
+     * Adds a column
+     * @param x - block x
+     * @param z - block z
+     */
+    public void set(int x, int z) {
+        long chunk = CoordIndex.key(x >> 4, z >> 4);
+        int slot = chunks.get(chunk);
+        if (slot == CoordIndex.NONE) {
+            slot = slots++;
+            if (slot == bits.length) {
+                bits = Arrays.copyOf(bits, slot * 2);
+            }
+            bits[slot] = new long[4];
+            chunks.put(chunk, slot);
+        }
+        int bit = bit(x, z);
+        bits[slot][bit >> 6] |= 1L << (bit & 63);
+    }
+
+    /**
+     * Removes a column
+     * @param x - block x
+     * @param z - block z
+     */
+    public void unset(int x, int z) {
+        int slot = chunks.get(x >> 4, z >> 4);
+        if (slot != CoordIndex.NONE) {
+            int bit = bit(x, z);
+            bits[slot][bit >> 6] &= ~(1L << (bit & 63));
+        }
+    }
+
+    /**
+     * @param x - block x
+     * @param z - block z
+     * @return true if the column is in the set
+     */
+    public boolean contains(int x, int z) {
+        int slot = chunks.get(x >> 4, z >> 4);
+        if (slot == CoordIndex.NONE) {
+            return false;
+        }
+        int bit = bit(x, z);
+        return (bits[slot][bit >> 6] & (1L << (bit & 63))) != 0;
+    }
+
+    /**
+     * Removes every column
+     */
+    public void clear() {
+        chunks.clear();
+        bits = new long[16][];
+        slots = 0;
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+
+package com.wasteofplastic.beaconz.util;
+
+import java.util.Arrays;
+
+/**
+ * Maps block columns (x, z) to small int IDs without boxing.
+ * <p>
+ * A column is packed into one {@code long}, x in the high 32 bits and z in the low 32 bits.
+ * The keys and values live in two parallel arrays with open addressing and linear probing:
+ * <ul>
+ *   <li><b>No allocation</b> - {@link #get} and {@link #put} never create objects, unlike a
+ *       {@code HashMap<Point2D, ...>} that needs a new {@code Point2D} for every lookup</li>
+ *   <li><b>Small</b> - one {@code long} and one {@code int} per slot instead of an entry, a
+ *       key object and a boxed value</li>
+ *   <li><b>Deletes without tombstones</b> - entries after a removed one are shifted back, so
+ *       lookups stay short however many beacons come and go</li>
+ * </ul>
+ * Values must not be negative. {@link #NONE} means no entry. Not thread-safe.
+ *
+ * @author tastybento
+ */
+public final class CoordIndex {
+
+    /** Returned when there is no entry for a column */
+    public static final int NONE = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    /** Value in each slot, {@link #NONE} if the slot is free */
+    private int[] values;
+    private int mask;
+    private int size;
+
+    public CoordIndex() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * @param expected - number of entries to make room for
+     */
+    public CoordIndex(int expected) {
+        int capacity = MIN_CAPACITY;
+        while (capacity * 3 < expected * 4) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NONE);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Packs a column into a key
+     * @param x - block x
+     * @param z - block z
+     * @return the key
+     */
+    public static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param key - a packed column
+     * @return the block x
+     */
+    public static int x(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * @param key - a packed column
+     * @return the block z
+     */
+    public static int z(long key) {
+        return (int) key;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    /**
+     * @param key - a packed column
+     * @return the value for the column, or {@link #NONE}
+     */
+    public int get(long key) {
+        int i = slot(key);
+        while (values[i] != NONE) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return NONE;
+    }
+
+    /**
+     * @param x - block x
+     * @param z - block z
+     * @return the value for the column, or {@link #NONE}
+     */
+    public int get(int x, int z) {
+        return get(key(x, z));
+    }
+
+    /**
+     * Sets the value for a column
+     * @param key - a packed column
+     * @param value - the value, zero or more
+     * @return the previous value, or {@link #NONE}
+     */
+    public int put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        if ((size + 1) * 4 > values.length * 3) {
+            grow();
+        }
+        int i = slot(key);
+        while (values[i] != NONE) {
+            if (keys[i] == key) {
+                int old = values[i];
+                values[i] = value;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        return NONE;
+    }
+
+    /**
+     * Removes a column
+     * @param key - a packed column
+     * @return the value that was removed, or {@link #NONE}
+     */
+    public int remove(long key) {
+        int i = slot(key);
+        while (values[i] != NONE) {
+            if (keys[i] == key) {
+                int old = values[i];
+                shiftBack(i);
+                size--;
+                return old;
+            }
+            i = (i + 1) & mask;
+        }
+        return NONE;
+    }
+
+    /**
+     * Frees a slot and moves later entries of the same probe run back into the gap, so
+     * no lookup has to step over the freed slot
+     * @param gap - the slot to free
+     */
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            if (values[i] == NONE) {
+                break;
+            }
+            int home = slot(keys[i]);
+            // Move the entry if the gap lies between its home slot and where it is now
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        values[gap] = NONE;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldValues.length << 1);
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != NONE) {
+                int i = slot(oldKeys[j]);
+                while (values[i] != NONE) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    /**
+     * @return the number of columns
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every column
+     */
+    public void clear() {
+        Arrays.fill(values, NONE);
+        size = 0;
+    }
+}
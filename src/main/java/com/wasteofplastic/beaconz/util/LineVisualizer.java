@@ -19,6 +19,7 @@ import com.wasteofplastic.beaconz.game.Game;
  */
 public class LineVisualizer extends BeaconzPluginDependent {
     private final static int BLOCKS_TO_SET = 100;
+    private static final PerfMonitor.Probe PERF = PerfMonitor.probe("LineVisualizer.run");
     private Point2D current;
     private final Iterator<Point2D> it;
     private final Iterator<Point2D> it2;
@@ -32,38 +33,45 @@ public class LineVisualizer extends BeaconzPluginDependent {
 
             @Override
             public void run() {
-                int count = 0;
-                Game game = getGameMgr().getGame(beaconPair.getOwner());
-                if (game == null) {
-                    return;
-                }
-                // Set air to the team's block
-                Material from = Material.AIR;
-                Material to = game.getScorecard().getBlockID(beaconPair.getOwner());
-                if (!addLink) {
-                    // Removal
-                    from = to;
-                    to = Material.AIR;
-                }
-                while(it.hasNext() && count++ < BLOCKS_TO_SET) {
-                    current = it.next();
-                    Block b = getBeaconzWorld().getBlockAt((int)current.getX(), getBeaconzWorld().getMaxHeight()-1, (int)current.getY());
-                    if (b.getType().equals(from)) {
-                        b.setType(to);
-                        //b.setData(to.getData());
+                long start = PERF.start();
+                try {
+                    int count = 0;
+                    Game game = getGameMgr().getGame(beaconPair.getOwner());
+                    if (game == null) {
+                        return;
                     }
-                }
-                while(it2.hasNext() && count++ < BLOCKS_TO_SET) {
-                    current = it2.next();
-                    Block b = getBeaconzWorld().getBlockAt((int)current.getX(), getBeaconzWorld().getMaxHeight()-1, (int)current.getY());
-                    if (b.getType().equals(from)) {
-                        b.setType(to);
-                        //b.setData(to.getData());
+                    // Set air to the team's block
+                    Material from = Material.AIR;
+                    Material to = game.getScorecard().getBlockID(beaconPair.getOwner());
+                    if (!addLink) {
+                        // Removal
+                        from = to;
+                        to = Material.AIR;
                     }
-                }
-                if (!it.hasNext() && !it2.hasNext()) {
-                    // Cancel task
-                    this.cancel();
+                    while(it.hasNext() && count++ < BLOCKS_TO_SET) {
+                        current = it.next();
+                        Block b = getBeaconzWorld().getBlockAt((int)current.getX(), getBeaconzWorld().getMaxHeight()-1, (int)current.getY());
+                        if (b.getType().equals(from)) {
+                            b.setType(to);
+                            getRegister().blockChanged(b.getX(), b.getZ());
+                            //b.setData(to.getData());
+                        }
+                    }
+                    while(it2.hasNext() && count++ < BLOCKS_TO_SET) {
+                        current = it2.next();
+                        Block b = getBeaconzWorld().getBlockAt((int)current.getX(), getBeaconzWorld().getMaxHeight()-1, (int)current.getY());
+                        if (b.getType().equals(from)) {
+                            b.setType(to);
+                            getRegister().blockChanged(b.getX(), b.getZ());
+                            //b.setData(to.getData());
+                        }
+                    }
+                    if (!it.hasNext() && !it2.hasNext()) {
+                        // Cancel task
+                        this.cancel();
+                    }
+                } finally {
+                    PERF.stop(start);
                 }
             }
         }.runTaskTimer(beaconzPlugin, 0, 5L);
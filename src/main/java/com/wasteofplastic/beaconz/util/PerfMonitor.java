@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2015 - 2026 tastybento
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT.  IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.wasteofplastic.beaconz.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Lightweight timing and allocation metrics for event handlers, scheduled tasks and saves.
+ * <p>
+ * Each measured section has a {@link Probe}. A probe counts calls and keeps a lock-free
+ * histogram of call times, so probes can be updated from the main thread and async tasks
+ * at the same time without blocking. Where the JVM supports it, the bytes allocated by the
+ * calling thread during each call are also recorded.
+ * <p>
+ * Sections are measured in one of three ways:
+ * <ul>
+ *   <li><b>Event handlers</b> - listeners registered with {@link #registerEvents(Listener, Plugin)}
+ *       have every {@link EventHandler} method timed without any change to the handler</li>
+ *   <li><b>Tasks and saves</b> - code calls {@link Probe#start()} and {@link Probe#stop(long)}
+ *       around the work, in a finally block</li>
+ *   <li><b>Reporting</b> - {@link #getStats()} returns a snapshot that is shown by
+ *       {@code /badmin perf} and can be appended to a CSV file by {@link #dump(File)}</li>
+ * </ul>
+ *
+ * @author tastybento
+ */
+public final class PerfMonitor {
+
+    /** Sub-buckets per power of two in the histogram. 4 gives buckets about 19% wide */
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int BUCKETS = 64 << SUB_BUCKET_BITS;
+    /** Deepest nesting of probes on one thread that still records allocation */
+    private static final int MAX_DEPTH = 16;
+    /** Size at which the CSV dump is rolled over */
+    private static final long MAX_DUMP_SIZE = 1024 * 1024;
+
+    private static final ConcurrentHashMap<String, Probe> probes = new ConcurrentHashMap<>();
+    private static final com.sun.management.ThreadMXBean threads = getThreadBean();
+    /** Allocation counter at the start of each open probe on this thread. Slot 0 is the depth */
+    private static final ThreadLocal<long[]> allocStack = ThreadLocal.withInitial(() -> new long[MAX_DEPTH + 1]);
+    private static volatile boolean enabled = true;
+
+    private PerfMonitor() {}
+
+    /**
+     * A snapshot of one probe
+     *
+     * @param name the section name
+     * @param count number of calls
+     * @param p50Nanos median call time
+     * @param p99Nanos 99th percentile call time
+     * @param maxNanos longest call time
+     * @param meanNanos mean call time
+     * @param allocPerCall mean bytes allocated per call, or -1 if not measured
+     */
+    public record Stats(String name, long count, long p50Nanos, long p99Nanos, long maxNanos, long meanNanos, long allocPerCall) {}
+
+    /**
+     * Counts calls to one section and records how long they take
+     */
+    public static final class Probe {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder allocated = new LongAdder();
+        private final LongAdder allocSamples = new LongAdder();
+
+        private Probe(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Starts timing a call. Must be matched by {@link #stop(long)} on the same thread.
+         * @return the start time to pass to stop, or 0 if metrics are off
+         */
+        public long start() {
+            if (!enabled) {
+                return 0L;
+            }
+            if (threads != null) {
+                long[] stack = allocStack.get();
+                int depth = (int) ++stack[0];
+                if (depth <= MAX_DEPTH) {
+                    stack[depth] = threads.getCurrentThreadAllocatedBytes();
+                }
+            }
+            return System.nanoTime();
+        }
+
+        /**
+         * Stops timing a call and records it
+         * @param start value returned by {@link #start()}
+         */
+        public void stop(long start) {
+            if (start == 0L) {
+                return;
+            }
+            long elapsed = System.nanoTime() - start;
+            long alloc = -1;
+            if (threads != null) {
+                long[] stack = allocStack.get();
+                int depth = (int) stack[0]--;
+                if (depth > 0 && depth <= MAX_DEPTH) {
+                    alloc = threads.getCurrentThreadAllocatedBytes() - stack[depth];
+                }
+            }
+            record(elapsed, alloc);
+        }
+
+        /**
+         * Records one call
+         * @param nanos how long the call took
+         * @param alloc bytes allocated, or negative if not known
+         */
+        void record(long nanos, long alloc) {
+            count.increment();
+            totalNanos.add(nanos);
+            buckets.incrementAndGet(bucket(nanos));
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            if (alloc >= 0) {
+                allocated.add(alloc);
+                allocSamples.increment();
+            }
+        }
+
+        /**
+         * @return a snapshot of this probe
+         */
+        public Stats getStats() {
+            long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            long calls = count.sum();
+            long samples = allocSamples.sum();
+            return new Stats(name, calls, percentile(counts, total, 0.50), percentile(counts, total, 0.99), maxNanos.get(),
+                    calls == 0 ? 0 : totalNanos.sum() / calls, samples == 0 ? -1 : allocated.sum() / samples);
+        }
+
+        private void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.set(0);
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            allocated.reset();
+            allocSamples.reset();
+        }
+
+        /**
+         * @return the section name
+         */
+        public String getName() {
+            return name;
+        }
+    }
+
+    /**
+     * Gets or creates the probe for a section. Callers should keep the probe in a field.
+     * @param name section name, e.g. "PlayerMovementListener.onPlayerMove"
+     * @return the probe
+     */
+    public static Probe probe(String name) {
+        return probes.computeIfAbsent(name, Probe::new);
+    }
+
+    /**
+     * Registers every {@link EventHandler} method of a listener with an executor that times
+     * each call under the probe "ListenerClass.method". Otherwise behaves like
+     * {@link org.bukkit.plugin.PluginManager#registerEvents(Listener, Plugin)}.
+     * <p>
+     * If metrics are off the listener is registered the normal way, so it is not timed even if
+     * metrics are turned on later.
+     *
+     * @param listener the listener
+     * @param plugin the owning plugin
+     */
+    public static void registerEvents(Listener listener, Plugin plugin) {
+        if (!enabled) {
+            plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+            return;
+        }
+        Set<Method> methods = new HashSet<>();
+        Class<?> type = listener.getClass();
+        methods.addAll(List.of(type.getMethods()));
+        methods.addAll(List.of(type.getDeclaredMethods()));
+        for (Method method : methods) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.isBridge() || method.isSynthetic() || method.getParameterCount() != 1
+                    || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                continue;
+            }
+            Class<? extends Event> eventClass = method.getParameterTypes()[0].asSubclass(Event.class);
+            method.setAccessible(true);
+            Probe probe = probe(type.getSimpleName() + "." + method.getName());
+            EventExecutor executor = (l, event) -> {
+                if (!eventClass.isInstance(event)) {
+                    return;
+                }
+                long start = probe.start();
+                try {
+                    method.invoke(l, event);
+                } catch (InvocationTargetException e) {
+                    throw new EventException(e.getCause());
+                } catch (Throwable t) {
+                    throw new EventException(t);
+                } finally {
+                    probe.stop(start);
+                }
+            };
+            plugin.getServer().getPluginManager().registerEvent(eventClass, listener, handler.priority(), executor, plugin, handler.ignoreCancelled());
+        }
+    }
+
+    /**
+     * @return snapshots of every probe that has been called, sorted by name
+     */
+    public static List<Stats> getStats() {
+        List<Stats> result = new ArrayList<>();
+        for (Probe probe : probes.values()) {
+            Stats stats = probe.getStats();
+            if (stats.count() > 0) {
+                result.add(stats);
+            }
+        }
+        result.sort(Comparator.comparing(Stats::name));
+        return result;
+    }
+
+    /**
+     * Clears every probe
+     */
+    public static void reset() {
+        probes.values().forEach(Probe::reset);
+    }
+
+    /**
+     * Turns metrics on or off. While off, probes cost one volatile read.
+     * @param on true to record metrics
+     */
+    public static void setEnabled(boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * @return true if metrics are being recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Appends a row per probe to a CSV file. When the file grows past 1 MB it is renamed with
+     * an .old extension, replacing any previous one, and a new file is started.
+     * Safe to call off the main thread.
+     *
+     * @param file the CSV file
+     * @throws IOException if the file cannot be written
+     */
+    public static synchronized void dump(File file) throws IOException {
+        if (file.exists() && file.length() > MAX_DUMP_SIZE) {
+            Files.move(file.toPath(), file.toPath().resolveSibling(file.getName() + ".old"), StandardCopyOption.REPLACE_EXISTING);
+        }
+        StringBuilder sb = new StringBuilder();
+        if (!file.exists()) {
+            sb.append("time,section,count,p50_us,p99_us,max_us,mean_us,alloc_bytes_per_call\n");
+        }
+        long now = System.currentTimeMillis();
+        for (Stats stats : getStats()) {
+            sb.append(now).append(',').append(stats.name()).append(',').append(stats.count()).append(',')
+            .append(stats.p50Nanos() / 1000).append(',').append(stats.p99Nanos() / 1000).append(',')
+            .append(stats.maxNanos() / 1000).append(',').append(stats.meanNanos() / 1000).append(',')
+            .append(stats.allocPerCall()).append('\n');
+        }
+        Files.writeString(file.toPath(), sb, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Maps a duration to its histogram bucket. Each power of two is split into sub-buckets.
+     * @param nanos duration
+     * @return bucket index
+     */
+    static int bucket(long nanos) {
+        if (nanos < (1L << SUB_BUCKET_BITS)) {
+            return (int) Math.max(0, nanos);
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) ((nanos >>> (msb - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1));
+        return ((msb - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + sub;
+    }
+
+    /**
+     * @param index bucket index
+     * @return the largest duration that falls in the bucket
+     */
+    static long bucketUpperBound(int index) {
+        if (index < (1 << SUB_BUCKET_BITS)) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long sub = index & ((1 << SUB_BUCKET_BITS) - 1);
+        long lower = ((1L << SUB_BUCKET_BITS) + sub) << shift;
+        return lower + (1L << shift) - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return bucketUpperBound(i);
+            }
+        }
+        return bucketUpperBound(counts.length - 1);
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                if (!bean.isThreadAllocatedMemoryEnabled()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+                return bean;
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            // Allocation is not measured on this JVM
+        }
+        return null;
+    }
+}
@@ -6,10 +6,13 @@
  *
  * <h2>Main Components:</h2>
  * <ul>
+ *   <li>{@link com.wasteofplastic.beaconz.util.ColumnMask} - Per-chunk bit masks of block columns for fast rejects in block listeners</li>
+ *   <li>{@link com.wasteofplastic.beaconz.util.CoordIndex} - Allocation-free map from block columns to int IDs</li>
  *   <li>{@link com.wasteofplastic.beaconz.util.LineIterator} - Iterates over blocks in a line between two points</li>
  *   <li>{@link com.wasteofplastic.beaconz.util.LineVisualizer} - Creates particle effects along lines (beacon links)</li>
  *   <li>{@link com.wasteofplastic.beaconz.util.LinkResult} - Result wrapper for link operations</li>
  *   <li>{@link com.wasteofplastic.beaconz.util.Pair} - Generic pair/tuple utility class</li>
+ *   <li>{@link com.wasteofplastic.beaconz.util.PerfMonitor} - Timing and allocation metrics for handlers, tasks and saves</li>
  *   <li>{@link com.wasteofplastic.beaconz.util.TriangleScorer} - Calculates scores for triangular fields</li>
  *   <li>{@link com.wasteofplastic.beaconz.storage.TinyDB} - Lightweight key-value database for player names</li>
  * </ul>
@@ -24,6 +24,7 @@ import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.command.Command;
+import org.bukkit.command.CommandSender;
 import org.bukkit.command.ConsoleCommandSender;
 import org.bukkit.plugin.PluginDescriptionFile;
 import org.bukkit.scoreboard.Scoreboard;
@@ -49,8 +50,10 @@ import com.wasteofplastic.beaconz.game.Game;
 import com.wasteofplastic.beaconz.game.GameMgr;
 import com.wasteofplastic.beaconz.game.Register;
 import com.wasteofplastic.beaconz.game.Scorecard;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
 
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 
 /**
  * Comprehensive test suite for {@link AdminCmdHandler} covering all admin command scenarios.
@@ -220,6 +223,7 @@ class AdminCmdHandlerTest {
         Lang.helpAdminListParms= Component.text("- list game parameters");
         Lang.helpAdminNewGame= Component.text("- create new game. Use /[label] newgame help for details");
         Lang.helpAdminReload= Component.text("- reload configuration");
+        Lang.helpAdminPerf= Component.text("- show performance metrics");
         Lang.helpAdminSetTeamSpawn= Component.text("- set team spawn");
         Lang.helpAdminSetLobbySpawn= Component.text("- set lobby spawn");
         Lang.helpAdminSwitch= Component.text("- switch teams");
@@ -249,6 +253,9 @@ class AdminCmdHandlerTest {
         Lang.adminListBeaconsInGame= Component.text("Beacons in [name]:");
         Lang.adminNewGameBuilding= Component.text("Building new game...");
         Lang.adminReload= Component.text("Configuration reloaded");
+        Lang.adminPerfTitle= Component.text("Section: calls, p50, p99, max, allocated per call");
+        Lang.adminPerfNone= Component.text("No performance metrics");
+        Lang.adminPerfReset= Component.text("Performance metrics reset.");
         Lang.adminParmsMode= Component.text("Mode");
         Lang.adminParmsTeams= Component.text("Teams");
         Lang.adminParmsGoal= Component.text("Goal");
@@ -766,6 +773,41 @@ class AdminCmdHandlerTest {
         verify(scorecard).sendPlayersHome(player, false);
     }
 
+    // ==================== Restart Command Tests ====================
+
+    /**
+     * Test restart command with a non-existent game.
+     */
+    @Test
+    void testOnCommand_Restart_GameDoesNotExist() {
+        var player = server.addPlayer();
+        player.setOp(true);
+
+        when(gameMgr.getGame("NonExistent")).thenReturn(null);
+
+        boolean result = handler.onCommand(player, command, "bza", new String[]{"restart", "NonExistent"});
+
+        assertFalse(result, "Restart should fail for unknown game");
+    }
+
+    /**
+     * Test restart command looks the game up by name and restarts it.
+     */
+    @Test
+    void testOnCommand_Restart_Success() {
+        var player = server.addPlayer();
+        player.setOp(true);
+
+        when(gameMgr.getGame("TestGame")).thenReturn(game);
+        when(game.restart(player)).thenReturn(true);
+
+        boolean result = handler.onCommand(player, command, "bza", new String[]{"restart", "TestGame"});
+
+        assertTrue(result, "Restart should succeed");
+        verify(gameMgr).getGame("TestGame");
+        verify(game).restart(player);
+    }
+
     // ==================== Reload Command Tests ====================
 
     /**
@@ -787,6 +829,40 @@ class AdminCmdHandlerTest {
         verify(register).loadRegister();
     }
 
+    // ==================== Perf Command Tests ====================
+
+    /**
+     * Test perf command lists recorded sections.
+     */
+    @Test
+    void testOnCommand_Perf() {
+        CommandSender sender = mock(CommandSender.class);
+        PerfMonitor.Probe probe = PerfMonitor.probe("AdminCmdHandlerTest.section");
+        probe.stop(probe.start());
+
+        boolean result = handler.onCommand(sender, command, "bza", new String[]{"perf"});
+
+        assertTrue(result, "Perf should succeed");
+        verify(sender).sendMessage(Lang.adminPerfTitle.color(NamedTextColor.GOLD));
+        verify(sender, atLeast(2)).sendMessage(any(Component.class));
+    }
+
+    /**
+     * Test perf reset clears the metrics.
+     */
+    @Test
+    void testOnCommand_PerfReset() {
+        CommandSender sender = mock(CommandSender.class);
+        PerfMonitor.Probe probe = PerfMonitor.probe("AdminCmdHandlerTest.section");
+        probe.stop(probe.start());
+
+        boolean result = handler.onCommand(sender, command, "bza", new String[]{"perf", "reset"});
+
+        assertTrue(result, "Perf reset should succeed");
+        verify(sender).sendMessage(Lang.adminPerfReset.color(NamedTextColor.GREEN));
+        assertTrue(PerfMonitor.getStats().isEmpty(), "Metrics should be cleared");
+    }
+
     // ==================== Listparms Command Tests ====================
 
     /**
@@ -0,0 +1,98 @@
+package com.wasteofplastic.beaconz.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+
+import org.bukkit.potion.PotionEffect;
+import org.bukkit.potion.PotionEffectType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+/**
+ * Tests for {@link FieldEffects}.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Bundles add up the effects of every level up to the depth</li>
+ *   <li>The same depth always gives the same bundle, and bundles cannot be changed</li>
+ *   <li>Depths past the deepest level get the deepest bundle</li>
+ *   <li>Missing settings give empty bundles</li>
+ * </ul>
+ */
+@DisplayName("FieldEffects Tests")
+class FieldEffectsTest {
+
+    private HashMap<Integer, List<PotionEffect>> oldEnemy;
+    private HashMap<Integer, List<PotionEffect>> oldFriendly;
+    private PotionEffect slow;
+    private PotionEffect weakness;
+    private PotionEffect speed;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        oldEnemy = Settings.enemyFieldEffects;
+        oldFriendly = Settings.friendlyFieldEffects;
+        slow = new PotionEffect(PotionEffectType.SLOWNESS, Integer.MAX_VALUE, 1);
+        weakness = new PotionEffect(PotionEffectType.WEAKNESS, Integer.MAX_VALUE, 1);
+        speed = new PotionEffect(PotionEffectType.SPEED, Integer.MAX_VALUE, 1);
+        Settings.enemyFieldEffects = new HashMap<>();
+        Settings.enemyFieldEffects.put(1, List.of(slow));
+        Settings.enemyFieldEffects.put(3, List.of(weakness));
+        Settings.friendlyFieldEffects = new HashMap<>();
+        Settings.friendlyFieldEffects.put(1, List.of(speed));
+        FieldEffects.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        Settings.enemyFieldEffects = oldEnemy;
+        Settings.friendlyFieldEffects = oldFriendly;
+        FieldEffects.rebuild();
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("Should add up the effects of each level")
+    void testCumulative() {
+        assertTrue(FieldEffects.get(false, 0).isEmpty());
+        assertEquals(List.of(slow), FieldEffects.get(false, 1));
+        assertEquals(List.of(slow, weakness), FieldEffects.get(false, 3));
+        assertEquals(List.of(speed), FieldEffects.get(true, 1));
+    }
+
+    @Test
+    @DisplayName("Should give back the same bundle for the same effects")
+    void testSameBundle() {
+        assertSame(FieldEffects.get(false, 1), FieldEffects.get(false, 1));
+        // Level 2 adds nothing, so it shares level 1's bundle
+        assertSame(FieldEffects.get(false, 1), FieldEffects.get(false, 2));
+        assertThrows(UnsupportedOperationException.class, () -> FieldEffects.get(false, 1).add(speed));
+    }
+
+    @Test
+    @DisplayName("Should give the deepest bundle past the deepest level")
+    void testDeeper() {
+        assertSame(FieldEffects.get(false, 3), FieldEffects.get(false, 8));
+        assertSame(FieldEffects.get(true, 1), FieldEffects.get(true, 5));
+    }
+
+    @Test
+    @DisplayName("Should give empty bundles when there are no settings")
+    void testEmpty() {
+        Settings.friendlyFieldEffects = null;
+        Settings.enemyFieldEffects = new HashMap<>();
+        FieldEffects.rebuild();
+
+        assertTrue(FieldEffects.get(true, 2).isEmpty());
+        assertTrue(FieldEffects.get(false, 1).isEmpty());
+    }
+}
@@ -0,0 +1,115 @@
+package com.wasteofplastic.beaconz.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+
+/**
+ * Tests for {@link LangTemplate} and {@link Lang#format(Component, Object...)}.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Placeholders are filled with components, numbers and strings</li>
+ *   <li>Legacy color codes are kept on the constant parts and inherited by values</li>
+ *   <li>Messages without placeholders are returned as they are</li>
+ *   <li>Placeholders without a value are left in the message</li>
+ * </ul>
+ */
+@DisplayName("LangTemplate Tests")
+class LangTemplateTest {
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+
+    /**
+     * Finds the part of a rendered message that shows this text
+     */
+    private static Component find(Component component, String text) {
+        for (Component child : component.children()) {
+            if (plain(child).equals(text)) {
+                return child;
+            }
+        }
+        throw new AssertionError("No part shows " + text);
+    }
+
+    @Test
+    @DisplayName("Should fill placeholders the same way replaceText does")
+    void testRender() {
+        Component message = Component.text("Now entering [team]'s triangle area level [level]");
+        Component team = Component.text("Red", NamedTextColor.RED);
+
+        Component rendered = Lang.format(message, "[team]", team, "[level]", 3);
+        Component expected = message
+                .replaceText(b -> b.matchLiteral("[team]").replacement(team))
+                .replaceText(b -> b.matchLiteral("[level]").replacement(Component.text("3")));
+
+        assertEquals(plain(expected), plain(rendered));
+        Component value = find(rendered, "Red");
+        assertEquals(NamedTextColor.RED, value.color());
+    }
+
+    @Test
+    @DisplayName("Should keep legacy colors and let values inherit them")
+    void testStyles() {
+        Component message = LegacyComponentSerializer.legacyAmpersand().deserialize("&aYou have &l[number]&r&a points");
+
+        Component rendered = LangTemplate.compile(message).render("[number]", "1,000");
+
+        assertEquals("You have 1,000 points", plain(rendered));
+        Component value = find(rendered, "1,000");
+        assertEquals(NamedTextColor.GREEN, value.color());
+        assertTrue(value.hasDecoration(TextDecoration.BOLD));
+        assertEquals(NamedTextColor.GREEN, find(rendered, "You have ").color());
+    }
+
+    @Test
+    @DisplayName("Should let the caller color the rendered message")
+    void testRootColor() {
+        Component message = Component.text("[name] created a link!");
+
+        Component rendered = Lang.format(message, "[name]", "tastybento").color(NamedTextColor.GREEN);
+
+        assertEquals(NamedTextColor.GREEN, rendered.color());
+        assertEquals("tastybento created a link!", plain(rendered));
+    }
+
+    @Test
+    @DisplayName("Should return constant messages unchanged")
+    void testConstant() {
+        Component message = Component.text("Link created!", NamedTextColor.GREEN).decorate(TextDecoration.BOLD);
+        LangTemplate template = LangTemplate.compile(message);
+
+        assertTrue(template.isConstant());
+        assertSame(message, template.render("[name]", "x"));
+    }
+
+    @Test
+    @DisplayName("Should leave placeholders that have no value")
+    void testMissingValue() {
+        LangTemplate template = LangTemplate.compile(Component.text("[team] lost [number] links!"));
+
+        assertFalse(template.isConstant());
+        assertEquals("Blue lost [number] links!", plain(template.render("[team]", "Blue")));
+        assertEquals("[team] lost [number] links!", plain(template.render()));
+    }
+
+    @Test
+    @DisplayName("Should fill every copy of a placeholder")
+    void testRepeated() {
+        Component rendered = Lang.format(Component.text("[team] vs [team]"), "[team]", Component.text("Red"));
+
+        assertEquals("Red vs Red", plain(rendered));
+    }
+}
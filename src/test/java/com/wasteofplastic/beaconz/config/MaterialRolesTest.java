@@ -0,0 +1,96 @@
+package com.wasteofplastic.beaconz.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MaterialRoles}.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Fixed roles of the beacon structure and the surrounding terrain</li>
+ *   <li>Team glass matches every stained glass block but not panes</li>
+ *   <li>Link and locking blocks follow the settings after a rebuild</li>
+ * </ul>
+ */
+@DisplayName("MaterialRoles Tests")
+class MaterialRolesTest {
+
+    private HashMap<Material, Integer> oldLinkBlocks;
+    private String oldLockingBlock;
+
+    @BeforeEach
+    void setUp() {
+        oldLinkBlocks = Settings.linkBlocks;
+        oldLockingBlock = Settings.lockingBlock;
+    }
+
+    @AfterEach
+    void tearDown() {
+        Settings.linkBlocks = oldLinkBlocks;
+        Settings.lockingBlock = oldLockingBlock;
+        MaterialRoles.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should give the beacon structure its roles")
+    void testStructure() {
+        assertTrue(MaterialRoles.is(Material.BEACON, MaterialRoles.BEACON));
+        assertTrue(MaterialRoles.is(Material.DIAMOND_BLOCK, MaterialRoles.PYRAMID));
+        assertTrue(MaterialRoles.is(Material.OBSIDIAN, MaterialRoles.CAPSTONE));
+        assertTrue(MaterialRoles.is(Material.EMERALD_BLOCK, MaterialRoles.PLINTH));
+        assertTrue(MaterialRoles.is(Material.OBSIDIAN, MaterialRoles.SURROUND));
+        assertFalse(MaterialRoles.is(Material.OAK_PLANKS, MaterialRoles.STRUCTURE | MaterialRoles.SURROUND));
+        assertEquals(0, MaterialRoles.of(Material.AIR));
+    }
+
+    @Test
+    @DisplayName("Should match stained glass the same way as the name check")
+    void testTeamGlass() {
+        for (Material material : Material.values()) {
+            assertEquals(material.name().endsWith("STAINED_GLASS"), MaterialRoles.is(material, MaterialRoles.TEAM_GLASS),
+                    material.name());
+        }
+        assertTrue(MaterialRoles.is(Material.RED_STAINED_GLASS, MaterialRoles.STRUCTURE));
+        assertFalse(MaterialRoles.is(Material.RED_STAINED_GLASS_PANE, MaterialRoles.STRUCTURE));
+    }
+
+    @Test
+    @DisplayName("Should take link and locking blocks from the settings")
+    void testRebuild() {
+        Settings.linkBlocks = new HashMap<>();
+        Settings.linkBlocks.put(Material.GOLD_BLOCK, 300);
+        Settings.lockingBlock = "lapis_block";
+
+        MaterialRoles.rebuild();
+
+        assertTrue(MaterialRoles.is(Material.GOLD_BLOCK, MaterialRoles.LINK));
+        assertEquals(300, MaterialRoles.getLinkValue(Material.GOLD_BLOCK));
+        assertEquals(0, MaterialRoles.getLinkValue(Material.DIAMOND_BLOCK));
+        assertEquals(Material.LAPIS_BLOCK, MaterialRoles.getLockingBlock());
+        assertTrue(MaterialRoles.is(Material.LAPIS_BLOCK, MaterialRoles.LOCKING));
+        assertFalse(MaterialRoles.is(Material.EMERALD_BLOCK, MaterialRoles.LOCKING));
+    }
+
+    @Test
+    @DisplayName("Should fall back to emerald when the locking block is not a material")
+    void testBadLockingBlock() {
+        Settings.linkBlocks = null;
+        Settings.lockingBlock = "not_a_block";
+
+        MaterialRoles.rebuild();
+
+        assertEquals(Material.EMERALD_BLOCK, MaterialRoles.getLockingBlock());
+        assertTrue(MaterialRoles.is(Material.EMERALD_BLOCK, MaterialRoles.LOCKING | MaterialRoles.PLINTH));
+        assertFalse(MaterialRoles.is(Material.GOLD_BLOCK, MaterialRoles.LINK));
+    }
+}
@@ -2,9 +2,16 @@ package com.wasteofplastic.beaconz.core;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.awt.geom.Point2D;
 
+import org.bukkit.scoreboard.Team;
 import org.junit.jupiter.api.Test;
 
 
@@ -51,4 +58,31 @@ public class BeaconObjTest {
         assertThat(beacon.getPoint(), is(point));
     }
 
+    /**
+     * Test method for {@link BeaconObj#checkIntegrityIfChanged()} and {@link BeaconObj#isNotClearIfChanged()}.
+     */
+    @Test
+    public void testStructureChecksCached() {
+        BeaconObj beacon = spy(new BeaconObj(null, 10, 70, -10, null));
+        doNothing().when(beacon).checkIntegrity();
+        doReturn(true).when(beacon).isNotClear();
+
+        // Repeated checks only look at the world once
+        beacon.checkIntegrityIfChanged();
+        beacon.checkIntegrityIfChanged();
+        assertThat(beacon.isNotClearIfChanged(), is(true));
+        assertThat(beacon.isNotClearIfChanged(), is(true));
+        verify(beacon, times(1)).checkIntegrity();
+        verify(beacon, times(1)).isNotClear();
+
+        // A block change or a new owner makes them look again
+        beacon.structureChanged();
+        beacon.checkIntegrityIfChanged();
+        doReturn(false).when(beacon).isNotClear();
+        beacon.setOwnership(mock(Team.class));
+        assertThat(beacon.isNotClearIfChanged(), is(false));
+        verify(beacon, times(2)).checkIntegrity();
+        verify(beacon, times(2)).isNotClear();
+    }
+
 }
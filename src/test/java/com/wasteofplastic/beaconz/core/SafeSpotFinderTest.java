@@ -0,0 +1,202 @@
+package com.wasteofplastic.beaconz.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+/**
+ * Tests for {@link SafeSpotFinder}.
+ *
+ * <p>Covers:
+ * <ul>
+ *   <li>Safe and unsafe ground, feet and head blocks</li>
+ *   <li>The start spot, the top of its column and the ring search</li>
+ *   <li>Remembered spots and forgetting them when a block changes</li>
+ *   <li>Making a spot with bedrock when nothing is safe</li>
+ *   <li>Searching chunk snapshots after loading chunks asynchronously</li>
+ * </ul>
+ */
+class SafeSpotFinderTest {
+
+    private World world;
+    private SafeSpotFinder finder;
+    /** Ground height of each column, by x and z. Columns not in here are at 64. */
+    private final Map<Long, Integer> heights = new HashMap<>();
+    private final Map<Long, Material> grounds = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        world = mock(World.class);
+        when(world.getMinHeight()).thenReturn(-64);
+        when(world.getMaxHeight()).thenReturn(320);
+        when(world.getHighestBlockYAt(anyInt(), anyInt())).thenAnswer(i -> height(i.getArgument(0), i.getArgument(1)));
+        when(world.getType(anyInt(), anyInt(), anyInt())).thenAnswer(i -> type(i.getArgument(0), i.getArgument(1), i.getArgument(2)));
+        when(world.getBlockAt(anyInt(), anyInt(), anyInt())).thenReturn(mock(Block.class));
+        Region region = mock(Region.class);
+        when(region.displayCoords()).thenReturn("0,0");
+        finder = new SafeSpotFinder(region);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    private static long column(int x, int z) {
+        return ((long)x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    private int height(int x, int z) {
+        return heights.getOrDefault(column(x, z), 64);
+    }
+
+    private Material type(int x, int y, int z) {
+        int height = height(x, z);
+        if (y == height) {
+            return grounds.getOrDefault(column(x, z), Material.STONE);
+        }
+        return y < height ? Material.STONE : Material.AIR;
+    }
+
+    /**
+     * Test the safety rules.
+     */
+    @Test
+    void testIsSafe() {
+        assertTrue(SafeSpotFinder.isSafe(Material.STONE, Material.AIR, Material.AIR));
+        assertTrue(SafeSpotFinder.isSafe(Material.GRASS_BLOCK, Material.SHORT_GRASS, Material.AIR));
+        assertFalse(SafeSpotFinder.isSafe(Material.AIR, Material.AIR, Material.AIR));
+        assertFalse(SafeSpotFinder.isSafe(Material.STONE, Material.STONE, Material.AIR));
+        assertFalse(SafeSpotFinder.isSafe(Material.STONE, Material.AIR, Material.DIRT));
+        assertFalse(SafeSpotFinder.isSafe(Material.STONE, Material.WATER, Material.AIR));
+        assertFalse(SafeSpotFinder.isSafe(Material.CACTUS, Material.AIR, Material.AIR));
+        assertFalse(SafeSpotFinder.isSafe(Material.OAK_FENCE, Material.AIR, Material.AIR));
+        assertFalse(SafeSpotFinder.isSafe(Material.OAK_LEAVES, Material.AIR, Material.AIR));
+        assertFalse(SafeSpotFinder.isSafe(Material.STONE, Material.NETHER_PORTAL, Material.AIR));
+    }
+
+    /**
+     * Test that a safe start spot is used as it is and remembered.
+     */
+    @Test
+    void testStartSpotIsRemembered() {
+        Location start = new Location(world, 10, 65, 10);
+
+        Location spot = finder.find(start, 20);
+        Location again = finder.find(start, 20);
+
+        assertSame(start, spot);
+        assertEquals(spot, again);
+        assertEquals(1, finder.size());
+        // Only the first search read the world
+        verify(world, times(1)).getChunkAt(start);
+    }
+
+    /**
+     * Test that an unsafe start spot moves to the top of its column.
+     */
+    @Test
+    void testTopOfColumn() {
+        heights.put(column(10, 10), 70);
+
+        Location spot = finder.find(new Location(world, 10, 65, 10), 20);
+
+        assertEquals(10, spot.getX());
+        assertEquals(71, spot.getY());
+        assertEquals(10, spot.getZ());
+    }
+
+    /**
+     * Test that the ring search finds the nearest safe column.
+     */
+    @Test
+    void testRingSearch() {
+        grounds.put(column(10, 10), Material.LAVA);
+        for (int x = 9; x <= 11; x++) {
+            for (int z = 9; z <= 11; z++) {
+                if (x != 11 || z != 11) {
+                    grounds.put(column(x, z), Material.CACTUS);
+                }
+            }
+        }
+
+        Location spot = finder.find(new Location(world, 10, 65, 10), 20);
+
+        assertEquals(11.5, spot.getX());
+        assertEquals(65, spot.getY());
+        assertEquals(11.5, spot.getZ());
+    }
+
+    /**
+     * Test that a block change in a spot's space forgets it, and other changes do not.
+     */
+    @Test
+    void testBlockChanged() {
+        finder.find(new Location(world, 10, 65, 10), 20);
+
+        finder.blockChanged(10, 67, 10);
+        finder.blockChanged(11, 65, 10);
+        assertEquals(1, finder.size());
+
+        finder.blockChanged(10, 64, 10);
+        assertEquals(0, finder.size());
+    }
+
+    /**
+     * Test that bedrock is placed when nothing is safe.
+     */
+    @Test
+    void testFallback() {
+        Block ground = mock(Block.class);
+        when(world.getBlockAt(10, 64, 10)).thenReturn(ground);
+        when(world.getType(anyInt(), anyInt(), anyInt())).thenReturn(Material.WATER);
+
+        Location spot = finder.find(new Location(world, 10, 65, 10), 5);
+
+        assertEquals(65, spot.getY());
+        verify(ground).setType(Material.BEDROCK);
+    }
+
+    /**
+     * Test that the async search reads chunk snapshots.
+     */
+    @Test
+    void testFindAsync() {
+        heights.put(column(10, 10), 80);
+        Chunk chunk = mock(Chunk.class);
+        ChunkSnapshot snapshot = mock(ChunkSnapshot.class);
+        when(chunk.getChunkSnapshot(true, false, false)).thenReturn(snapshot);
+        when(snapshot.getHighestBlockYAt(anyInt(), anyInt())).thenAnswer(i -> height(10, 10));
+        when(snapshot.getBlockType(anyInt(), anyInt(), anyInt())).thenAnswer(i -> type(10, i.getArgument(1), 10));
+        when(world.getChunkAtAsync(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(chunk));
+
+        Location spot = finder.findAsync(new Location(world, 10, 65, 10), 20).join();
+
+        assertEquals(81, spot.getY());
+        // The search is remembered for the next caller
+        assertEquals(spot, finder.findAsync(new Location(world, 10, 65, 10), 20).join());
+        verify(world, times(9)).getChunkAtAsync(anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,197 @@
+package com.wasteofplastic.beaconz.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Monster;
+import org.bukkit.entity.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.config.Lang;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Tests for {@link Teleporter}.
+ *
+ * <p>Covers:
+ * <ul>
+ *   <li>Warmups teleport a player who stands still once the time is up</li>
+ *   <li>Moving cancels a warmup on the next sweep</li>
+ *   <li>Queued teleports are started a few per tick</li>
+ *   <li>Destination chunks are loaded asynchronously and cleared of monsters</li>
+ *   <li>Everything is done at once when the plugin is disabled</li>
+ * </ul>
+ */
+class TeleporterTest {
+
+    private ServerMock server;
+    private Server bukkit;
+    private Beaconz plugin;
+    private Teleporter teleporter;
+    private Location to;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        bukkit = mock(Server.class);
+        when(bukkit.getScheduler()).thenReturn(server.getScheduler());
+        plugin = mock(Beaconz.class);
+        when(plugin.getServer()).thenReturn(bukkit);
+        when(plugin.isEnabled()).thenReturn(true);
+        when(plugin.getLogger()).thenReturn(java.util.logging.Logger.getLogger("TeleporterTest"));
+        Lang.teleportYouMoved = Component.text("You moved! Cancelling teleport!");
+        to = new Location(null, 100, 64, 100);
+        teleporter = new Teleporter(plugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Makes an online player standing at the position in the array. Changing the array moves them.
+     */
+    private Player player(double[] position, CompletableFuture<Boolean> teleport) {
+        Player player = mock(Player.class);
+        UUID uuid = UUID.randomUUID();
+        when(player.getUniqueId()).thenReturn(uuid);
+        when(player.isOnline()).thenReturn(true);
+        when(player.getLocation()).thenAnswer(i -> new Location(null, position[0], position[1], position[2]));
+        when(player.getLocation(any(Location.class))).thenAnswer(i -> {
+            Location loc = i.getArgument(0);
+            loc.set(position[0], position[1], position[2]);
+            return loc;
+        });
+        when(player.teleportAsync(any(Location.class))).thenReturn(teleport);
+        when(bukkit.getPlayer(uuid)).thenReturn(player);
+        return player;
+    }
+
+    @Test
+    void testWarmup() {
+        // Given
+        CompletableFuture<Boolean> teleport = new CompletableFuture<>();
+        Player player = player(new double[] {0, 64, 0}, teleport);
+
+        // When
+        teleporter.warmup(player, to, 3);
+        server.getScheduler().performTicks(2);
+
+        // Then - still waiting
+        assertTrue(teleporter.isWarmingUp(player.getUniqueId()));
+        verify(player, never()).teleportAsync(any(Location.class));
+
+        server.getScheduler().performOneTick();
+        verify(player).teleportAsync(to);
+        assertFalse(teleporter.isWarmingUp(player.getUniqueId()));
+        assertTrue(teleporter.isCompleting(player.getUniqueId()));
+
+        teleport.complete(true);
+        assertFalse(teleporter.isCompleting(player.getUniqueId()));
+    }
+
+    @Test
+    void testWarmupMoved() {
+        // Given
+        double[] position = {0, 64, 0};
+        Player player = player(position, CompletableFuture.completedFuture(true));
+        teleporter.warmup(player, to, 60);
+        server.getScheduler().performOneTick();
+
+        // When
+        position[0] = 0.5;
+        server.getScheduler().performOneTick();
+
+        // Then
+        assertFalse(teleporter.isWarmingUp(player.getUniqueId()));
+        verify(player).sendMessage(any(Component.class));
+        server.getScheduler().performTicks(60);
+        verify(player, never()).teleportAsync(any(Location.class));
+    }
+
+    @Test
+    void testQueue() {
+        // Given
+        List<Player> sent = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            teleporter.queue(player(new double[3], null), sent::add);
+        }
+
+        // When
+        server.getScheduler().performOneTick();
+
+        // Then
+        assertEquals(Teleporter.TELEPORTS_PER_TICK, sent.size());
+        assertEquals(10 - Teleporter.TELEPORTS_PER_TICK, teleporter.getQueued());
+        server.getScheduler().performTicks(2);
+        assertEquals(10, sent.size());
+        assertEquals(0, teleporter.getQueued());
+    }
+
+    @Test
+    void testSendTo() {
+        // Given
+        World world = mock(World.class);
+        Chunk chunk = mock(Chunk.class);
+        Monster monster = mock(Monster.class);
+        Entity cow = mock(Entity.class);
+        when(chunk.getEntities()).thenReturn(new Entity[] {monster, cow});
+        when(world.getChunkAtAsync(anyInt(), anyInt())).thenReturn(CompletableFuture.completedFuture(chunk));
+        Location safe = new Location(world, 10, 70, 10);
+        Region region = mock(Region.class);
+        when(region.findSafeSpotAsync(to, 20)).thenReturn(CompletableFuture.completedFuture(safe));
+        Player player = player(new double[3], CompletableFuture.completedFuture(true));
+
+        // When
+        boolean done = teleporter.sendTo(player, region, to).join();
+
+        // Then
+        assertTrue(done);
+        verify(world, times(25)).getChunkAtAsync(anyInt(), anyInt());
+        verify(monster, times(25)).remove();
+        verify(cow, never()).remove();
+        verify(player).teleportAsync(safe);
+    }
+
+    @Test
+    void testDisabled() {
+        // Given
+        when(plugin.isEnabled()).thenReturn(false);
+        Player player = player(new double[3], CompletableFuture.completedFuture(true));
+        List<Player> sent = new ArrayList<>();
+
+        // When
+        teleporter.warmup(player, to, 60);
+        teleporter.queue(player, sent::add);
+
+        // Then
+        verify(player).teleportAsync(to);
+        assertEquals(List.of(player), sent);
+        assertEquals(0, teleporter.getQueued());
+    }
+}
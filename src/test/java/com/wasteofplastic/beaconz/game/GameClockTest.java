@@ -0,0 +1,133 @@
+package com.wasteofplastic.beaconz.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import com.wasteofplastic.beaconz.Beaconz;
+
+import net.kyori.adventure.text.Component;
+
+/**
+ * Tests for {@link GameClock}, the single timer that drives every game's clock.
+ *
+ * <p>Covers:
+ * <ul>
+ *   <li>Running games are ticked and their updates applied on the main thread</li>
+ *   <li>Paused games produce no update</li>
+ *   <li>Ended games are dropped from the clock</li>
+ * </ul>
+ */
+class GameClockTest {
+
+    private ServerMock server;
+    private GameClock clock;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        Beaconz plugin = mock(Beaconz.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.isEnabled()).thenReturn(true);
+        clock = new GameClock(plugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.stop();
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Test that a running game's update is applied on the next main thread tick.
+     */
+    @Test
+    void testTickAppliesUpdateOnMainThread() {
+        // Given
+        Scorecard scorecard = mock(Scorecard.class);
+        when(scorecard.getClockState()).thenReturn(Scorecard.ClockState.RUNNING);
+        GameClock.Update update = new GameClock.Update(scorecard, 1, "00d 00:00:05", Component.text("Beaconz"), false);
+        when(scorecard.tickClock(GameClock.INTERVAL)).thenReturn(update);
+        clock.register(scorecard);
+
+        // When
+        clock.tick();
+
+        // Then - nothing is applied until the main thread runs
+        verify(scorecard, never()).applyClock(any());
+        server.getScheduler().performOneTick();
+        verify(scorecard).applyClock(update);
+    }
+
+    /**
+     * Test that a paused game produces no main thread work.
+     */
+    @Test
+    void testPausedGameIsNotApplied() {
+        // Given
+        Scorecard scorecard = mock(Scorecard.class);
+        when(scorecard.getClockState()).thenReturn(Scorecard.ClockState.PAUSED);
+        when(scorecard.tickClock(anyInt())).thenReturn(null);
+        clock.register(scorecard);
+
+        // When
+        clock.tick();
+        server.getScheduler().performOneTick();
+
+        // Then
+        verify(scorecard, never()).applyClock(any());
+        assertEquals(1, clock.size(), "Paused game should stay on the clock");
+    }
+
+    /**
+     * Test that ended games are not ticked and stay on the clock until they unregister.
+     */
+    @Test
+    void testEndedGameIsSkipped() {
+        // Given
+        Scorecard scorecard = mock(Scorecard.class);
+        when(scorecard.getClockState()).thenReturn(Scorecard.ClockState.ENDED);
+        clock.register(scorecard);
+
+        // When
+        clock.tick();
+
+        // Then
+        verify(scorecard, never()).tickClock(anyInt());
+        assertEquals(1, clock.size(), "Only the scorecard takes itself off the clock");
+        clock.unregister(scorecard);
+        assertEquals(0, clock.size());
+    }
+
+    /**
+     * Test that a game restarted after a pass saw it as ended keeps running.
+     */
+    @Test
+    void testRestartedGameIsKept() {
+        // Given - the game ends and is restarted before the next pass
+        Scorecard scorecard = mock(Scorecard.class);
+        clock.register(scorecard);
+        clock.unregister(scorecard);
+        clock.register(scorecard);
+        GameClock.Update update = new GameClock.Update(scorecard, 1, "00d 00:00:05", Component.text("Beaconz"), false);
+        when(scorecard.getClockState()).thenReturn(Scorecard.ClockState.RUNNING);
+        when(scorecard.tickClock(GameClock.INTERVAL)).thenReturn(update);
+
+        // When
+        clock.tick();
+
+        // Then
+        assertEquals(1, clock.size());
+        verify(scorecard).tickClock(GameClock.INTERVAL);
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -13,8 +14,12 @@ import static org.mockito.Mockito.when;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.io.File;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -38,6 +43,7 @@ import com.wasteofplastic.beaconz.config.Params.GameScoreGoal;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.Region;
 import com.wasteofplastic.beaconz.storage.BeaconzStore;
+import com.wasteofplastic.beaconz.storage.GameStateStore;
 
 import net.kyori.adventure.text.Component;
 
@@ -98,6 +104,8 @@ class GameMgrTest {
         Register register = mock(Register.class);
         when(plugin.getBeaconzStore()).thenReturn(store);
         when(plugin.getRegister()).thenReturn(register);
+        GameStateStore stateStore = new GameStateStore(plugin);
+        when(plugin.getGameStateStore()).thenReturn(stateStore);
 
         // Initialize Lang strings
         setupLangStrings();
@@ -211,6 +219,8 @@ class GameMgrTest {
     void testSaveAllGames() {
         mockBiomeForArea(0, 0, 64, Biome.PLAINS);
         gameMgr = new GameMgr(plugin);
+        // Not enabled, so the store writes on this thread
+        when(plugin.isEnabled()).thenReturn(false);
 
         // Save all games
         gameMgr.saveAllGames();
@@ -243,12 +253,23 @@ class GameMgrTest {
         mockBiomeForArea(0, 0, 64, Biome.PLAINS);
         gameMgr = new GameMgr(plugin);
 
+        Game old = mock(Game.class);
+        Scorecard sc = mock(Scorecard.class);
+        Team red = mock(Team.class);
+        UUID uuid = UUID.randomUUID();
+        when(sc.getTeams()).thenReturn(Set.of(red));
+        when(sc.getTeamLookup()).thenReturn(new HashMap<>(Map.of(uuid, red)));
+        gameMgr.indexTeams(old, sc);
+
         // Save and reload
         gameMgr.saveAllGames();
         gameMgr.loadAllGames();
 
         // Verify lobby still exists
         assertNotNull(gameMgr.getLobby());
+        // The old game's teams are forgotten
+        assertNull(gameMgr.getGame(red));
+        assertTrue(gameMgr.getMemberships(uuid).isEmpty());
     }
 
     /**
@@ -477,6 +498,33 @@ class GameMgrTest {
         assertNull(noRegion, "Should not find region at far coordinates");
     }
 
+    /**
+     * Test method for {@link GameMgr#getRegion(int, int)} on chunks that straddle a region edge
+     * and after the regions change. Verifies the chunk cache gives the same answers as a scan.
+     */
+    @Test
+    void testGetRegionChunkCache() {
+        mockBiomeForArea(0, 0, 64, Biome.PLAINS);
+        gameMgr = new GameMgr(plugin);
+        Region lobby = gameMgr.getLobby();
+
+        // The lobby runs from -64 to 64, so the chunks at the edges are only partly in it
+        assertEquals(lobby, gameMgr.getRegion(64, 0));
+        assertNull(gameMgr.getRegion(65, 0));
+        assertEquals(lobby, gameMgr.getRegion(-64, 64));
+        assertNull(gameMgr.getRegion(-65, 0));
+        assertEquals(lobby, gameMgr.getRegion(8, 8));
+        assertEquals(lobby, gameMgr.getRegion(8, 8), "Cached answer should be the same");
+
+        // A region added later is found even where the chunk was already looked up
+        assertNull(gameMgr.getRegion(1050, 1050));
+        Point2D[] corners = {new Point2D.Double(1000, 1000), new Point2D.Double(1100, 1100)};
+        Region region = new Region(plugin, corners);
+        gameMgr.getRegions().put(corners, region);
+        assertEquals(region, gameMgr.getRegion(1050, 1050));
+        assertEquals(lobby, gameMgr.getRegion(0, 0));
+    }
+
     /**
      * Test method for {@link GameMgr#getGame(org.bukkit.scoreboard.Team)}.
      * Verifies game lookup by team.
@@ -493,6 +541,50 @@ class GameMgrTest {
         assertNull(game, "Non-existent team should return null");
     }
 
+    /**
+     * Test that teams and players are indexed by game, and that a player's team is the one in
+     * the game they are standing in.
+     */
+    @Test
+    void testTeamIndex() {
+        mockBiomeForArea(0, 0, 64, Biome.PLAINS);
+        gameMgr = new GameMgr(plugin);
+        Game game = mock(Game.class);
+        Scorecard sc = mock(Scorecard.class);
+        Team red = mock(Team.class);
+        Team blue = mock(Team.class);
+        PlayerMock player = server.addPlayer("testplayer");
+        player.setOp(true); // Make OP to avoid teleport
+        UUID uuid = player.getUniqueId();
+        when(sc.getTeams()).thenReturn(Set.of(red, blue));
+        when(sc.getTeamLookup()).thenReturn(new HashMap<>(Map.of(uuid, red)));
+
+        // When
+        gameMgr.indexTeams(game, sc);
+
+        // Then
+        assertSame(game, gameMgr.getGame(red));
+        assertSame(game, gameMgr.getGame(blue));
+        assertEquals(List.of(new GameMgr.Membership(game, red)), gameMgr.getMemberships(uuid));
+        assertNull(gameMgr.getPlayerTeam(player), "The lobby has no teams");
+
+        // The player's team is the one of the game they are in
+        Point2D[] corners = {new Point2D.Double(1000, 1000), new Point2D.Double(1100, 1100)};
+        Region region = new Region(plugin, corners);
+        region.setGame(game);
+        gameMgr.getRegions().put(corners, region);
+        player.teleport(new Location(world, 1050, 64, 1050));
+        assertSame(red, gameMgr.getPlayerTeam(player));
+
+        // Changing teams and leaving
+        gameMgr.indexPlayer(game, uuid, blue);
+        assertSame(blue, gameMgr.getPlayerTeam(player));
+        gameMgr.forgetMembers(game);
+        assertTrue(gameMgr.getMemberships(uuid).isEmpty());
+        assertNull(gameMgr.getPlayerTeam(player));
+        assertSame(game, gameMgr.getGame(red), "Teams stay when members are removed");
+    }
+
     /**
      * Test method for {@link GameMgr#getGame(java.lang.String)}.
      * Verifies game lookup by name.
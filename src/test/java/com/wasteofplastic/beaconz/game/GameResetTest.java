@@ -0,0 +1,200 @@
+package com.wasteofplastic.beaconz.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.config.Lang;
+import com.wasteofplastic.beaconz.core.BeaconObj;
+import com.wasteofplastic.beaconz.core.Region;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
+
+/**
+ * Tests for {@link GameReset}, the restart of a game over several ticks.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Players are evacuated a few per tick</li>
+ *   <li>Owned beacons are unclaimed, unowned ones are left alone</li>
+ *   <li>The scorecard is rebuilt and the game reopened at the end</li>
+ *   <li>A failed step is reported and the game is still reopened</li>
+ *   <li>Everything runs at once when the plugin is disabled</li>
+ * </ul>
+ */
+@DisplayName("GameReset Tests")
+class GameResetTest {
+
+    private ServerMock server;
+    private Beaconz plugin;
+    private Game game;
+    private Region region;
+    private Scorecard scorecard;
+    private Register register;
+    private CommandSender admin;
+    private BeaconObj owned;
+    private BeaconObj unowned;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = mock(Beaconz.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.isEnabled()).thenReturn(true);
+        when(plugin.getLogger()).thenReturn(java.util.logging.Logger.getLogger("GameResetTest"));
+        register = mock(Register.class);
+        when(plugin.getRegister()).thenReturn(register);
+
+        region = mock(Region.class);
+        scorecard = mock(Scorecard.class);
+        game = mock(Game.class);
+        when(game.getName()).thenReturn(Component.text("game"));
+        when(game.getRegion()).thenReturn(region);
+        when(game.getScorecard()).thenReturn(scorecard);
+
+        owned = mock(BeaconObj.class);
+        when(owned.getOwnership()).thenReturn(mock(Team.class));
+        unowned = mock(BeaconObj.class);
+        when(register.getGameBeacons(game)).thenReturn(new ArrayList<>(List.of(owned, unowned)));
+
+        admin = mock(CommandSender.class);
+        Lang.adminRestarting = Component.text("Restarting game [name]...");
+        Lang.adminRestartStep = Component.text("[name]: [step] done - [number] in [time]ms");
+        Lang.adminRestartFailed = Component.text("Restart of [name] failed at [step]: [error].");
+        Lang.adminRestart = Component.text("Restarted game [name]");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    private List<Player> playersInGame(int count) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Player player = server.addPlayer();
+            when(region.isPlayerInRegion(player)).thenReturn(true);
+            players.add(player);
+        }
+        return players;
+    }
+
+    /**
+     * @return what the admin was told, as plain text
+     */
+    private List<String> messages() {
+        ArgumentCaptor<Component> captor = ArgumentCaptor.forClass(Component.class);
+        verify(admin, atLeastOnce()).sendMessage(captor.capture());
+        return captor.getAllValues().stream().map(m -> PlainTextComponentSerializer.plainText().serialize(m)).toList();
+    }
+
+    @Test
+    @DisplayName("Should send players to the lobby a few per tick and then reset the game")
+    void testSlices() {
+        // Given
+        List<Player> players = playersInGame(12);
+        GameReset reset = new GameReset(plugin, game, admin);
+
+        // When
+        reset.start();
+        server.getScheduler().performOneTick();
+
+        // Then - only the first batch has gone
+        assertEquals(GameReset.Step.EVACUATE, reset.getStep());
+        verify(region, times(5)).sendToLobby(any(), any());
+        verify(game, never()).reopen();
+
+        server.getScheduler().performTicks(10);
+        for (Player player : players) {
+            verify(region).sendToLobby(player, false);
+        }
+        assertEquals(GameReset.Step.DONE, reset.getStep());
+        verify(register).removeBeaconOwnership(owned, true);
+        verify(register, never()).removeBeaconOwnership(unowned, true);
+        verify(game).resetStartTime();
+        verify(scorecard).reload();
+        verify(game).save();
+        verify(game).reopen();
+        assertTrue(messages().contains("Restarted game game"));
+        assertEquals(0, reset.getFailures());
+    }
+
+    @Test
+    @DisplayName("Should report a failed step and reopen the game")
+    void testFailure() {
+        // Given
+        doThrow(new IllegalStateException("broken")).when(scorecard).reload();
+        GameReset reset = new GameReset(plugin, game, admin);
+
+        // When
+        reset.start();
+        server.getScheduler().performTicks(10);
+
+        // Then
+        assertEquals(GameReset.Step.DONE, reset.getStep());
+        assertEquals(1, reset.getFailures());
+        verify(game).reopen();
+        verify(game, never()).save();
+        assertTrue(messages().contains("Restart of game failed at scorecard: broken."));
+    }
+
+    @Test
+    @DisplayName("Should keep going when one player cannot be moved")
+    void testPlayerFailure() {
+        // Given
+        List<Player> players = playersInGame(2);
+        doThrow(new IllegalStateException("no lobby")).when(region).sendToLobby(players.getFirst(), false);
+        GameReset reset = new GameReset(plugin, game, null);
+
+        // When
+        reset.start();
+        server.getScheduler().performTicks(10);
+
+        // Then
+        verify(region).sendToLobby(players.get(1), false);
+        assertEquals(1, reset.getFailures());
+        verify(game).reopen();
+    }
+
+    @Test
+    @DisplayName("Should run the whole restart at once when the plugin is disabled")
+    void testDisabled() {
+        // Given
+        when(plugin.isEnabled()).thenReturn(false);
+        playersInGame(7);
+        GameReset reset = new GameReset(plugin, game, admin);
+
+        // When
+        reset.start();
+
+        // Then
+        assertEquals(GameReset.Step.DONE, reset.getStep());
+        verify(region, times(7)).sendToLobby(any(), any());
+        verify(game).reopen();
+        assertEquals(List.of("Restarting game game...", "game: evacuate done - 7 in 0ms", "game: unclaim done - 1 in 0ms",
+                "Restarted game game"), messages().stream().map(m -> m.replaceAll("in \\d+ms", "in 0ms")).toList());
+    }
+}
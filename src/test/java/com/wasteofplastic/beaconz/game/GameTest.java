@@ -40,6 +40,7 @@ import com.wasteofplastic.beaconz.config.Params.GameMode;
 import com.wasteofplastic.beaconz.config.Params.GameScoreGoal;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.Region;
+import com.wasteofplastic.beaconz.storage.GameStateStore;
 
 import net.kyori.adventure.text.Component;
 
@@ -68,6 +69,7 @@ class GameTest {
     private Region region;
     private Register register;
     private Game game;
+    private GameStateStore stateStore;
 
     @TempDir
     File tempDir;
@@ -106,6 +108,10 @@ class GameTest {
         GameMgr gameMgr = mock(GameMgr.class);
         when(plugin.getGameMgr()).thenReturn(gameMgr);
 
+        // Real store for games.yml and teams.yml in the temp folder
+        stateStore = new GameStateStore(plugin);
+        when(plugin.getGameStateStore()).thenReturn(stateStore);
+
         // Initialize Settings
         setupSettings();
 
@@ -236,14 +242,33 @@ class GameTest {
         void testRestart() {
             // Given - game is in progress
             game.setOver(true);
+            PlayerMock player = server.addPlayer();
+            when(region.isPlayerInRegion(player)).thenReturn(true);
 
             // When
             game.restart();
 
-            // Then
+            // Then - the game stays closed until the restart has run
+            assertTrue(game.isGameRestart(), "Restart flag should be set while restarting");
+            server.getScheduler().performTicks(10);
             assertFalse(game.isOver(), "Game should not be over after restart");
             assertFalse(game.isGameRestart(), "Restart flag should be cleared");
-            verify(region).sendAllPlayersToLobby(false);
+            verify(region).sendToLobby(player, false);
+        }
+
+        /**
+         * Test that a game cannot be restarted while it is restarting.
+         */
+        @Test
+        @DisplayName("restart() - refuses a second restart while one is running")
+        void testRestartBusy() {
+            Lang.adminRestartBusy = Component.text("Game [name] is already restarting.");
+            Player admin = server.addPlayer();
+
+            assertTrue(game.restart(null));
+            assertFalse(game.restart(admin), "Second restart should be refused");
+            server.getScheduler().performTicks(10);
+            assertTrue(game.restart(null), "Game can be restarted again once the restart is done");
         }
 
         /**
@@ -575,9 +600,9 @@ class GameTest {
             // Given
             assertFalse(game.isGameRestart());
 
-            // When - restart sets the flag temporarily
-            // Note: restart() sets it to true then false, so it ends as false
+            // When - restart sets the flag until it has run
             game.restart();
+            server.getScheduler().performTicks(10);
 
             // Then
             assertFalse(game.isGameRestart(), "Flag should be cleared after restart completes");
@@ -597,6 +622,15 @@ class GameTest {
         }
     }
 
+    /**
+     * Writes the game state store now, on this thread, as happens when the plugin is disabled
+     */
+    private void writeState() {
+        when(plugin.isEnabled()).thenReturn(false);
+        stateStore.flush();
+        when(plugin.isEnabled()).thenReturn(true);
+    }
+
     // ========== Persistence Tests ==========
 
     @Nested
@@ -611,6 +645,7 @@ class GameTest {
         void testSave() {
             // When
             game.save();
+            writeState();
 
             // Then - file should be created
             File gamesFile = new File(tempDir, "games.yml");
@@ -625,6 +660,7 @@ class GameTest {
         void testSaveYamlStructure() {
             // When
             game.save();
+            writeState();
 
             // Then - verify file exists and can be loaded
             File gamesFile = new File(tempDir, "games.yml");
@@ -651,11 +687,13 @@ class GameTest {
         void testDelete() {
             // Given - save the game first
             game.save();
+            writeState();
             File gamesFile = new File(tempDir, "games.yml");
             assertTrue(gamesFile.exists());
 
             // When
             game.delete();
+            writeState();
 
             // Then - game should be marked as over
             assertTrue(game.isOver(), "Game should be over after deletion");
@@ -704,6 +742,7 @@ class GameTest {
 
             // When - game restarts
             game.restart();
+            server.getScheduler().performTicks(10);
 
             // Then
             assertFalse(game.isOver(), "Game should be active again after restart");
@@ -717,11 +756,13 @@ class GameTest {
         void testPersistenceRoundTrip() {
             // When - save
             game.save();
+            writeState();
             File gamesFile = new File(tempDir, "games.yml");
             assertTrue(gamesFile.exists());
 
             // When - delete
             game.delete();
+            writeState();
 
             // Then - backup exists
             File backup = new File(tempDir, "games.old");
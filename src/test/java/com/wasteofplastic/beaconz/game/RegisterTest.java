@@ -15,9 +15,9 @@ import static org.mockito.Mockito.when;
 
 import java.awt.geom.Point2D;
 import java.io.File;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.bukkit.Location;
@@ -592,6 +592,207 @@ class RegisterTest {
         assertNull(register.getBeaconAt(100, 200), "Beacon in region should be cleared");
     }
 
+    /**
+     * Test that clearing a region only removes that game's partition.
+     */
+    @Test
+    void testClearRegionLeavesOtherGames() {
+        // Given - a second game owns the beacon at 500,500
+        Game game2 = mock(Game.class);
+        when(gameMgr.getGame(500, 500)).thenReturn(game2);
+        Team team = mock(Team.class);
+        register.addBeacon(team, 100, 64, 200);
+        register.addBeacon(team, 500, 64, 500);
+
+        Region region = mock(Region.class);
+        when(region.getGame()).thenReturn(game);
+
+        // When
+        register.clear(region);
+
+        // Then
+        assertNull(register.getBeaconAt(100, 200), "Beacon in cleared game should be removed");
+        assertNull(register.getBeaconAt(new Point2D.Double(99, 200)), "Base blocks of cleared game should be removed");
+        assertNull(register.getGameRegister(game), "Cleared game's partition should be dropped");
+        assertNotNull(register.getBeaconAt(500, 500), "Beacon in other game should remain");
+        assertNotNull(register.getBeaconAt(new Point2D.Double(499, 500)), "Base blocks of other game should remain");
+        assertEquals(1, register.getGameRegister(game2).getBeacons().size(), "Other game's partition should be intact");
+    }
+
+    /**
+     * Test that clearing a game's region also removes beacons that were generated before the
+     * region had a game, and that clearing a region without a game removes its triangles.
+     */
+    @Test
+    void testClearRegionSweepsBeaconsOutsideGames() {
+        // Given - the beacon at 100,200 was added before its region had a game
+        when(gameMgr.getGame(anyInt(), anyInt())).thenReturn(null);
+        Team team = mock(Team.class);
+        BeaconObj beacon = register.addBeacon(team, 100, 64, 200);
+        TriangleField triangle = new TriangleField(new Point2D.Double(100, 200), new Point2D.Double(150, 200),
+                new Point2D.Double(125, 250), team);
+        register.setTriangleFields(new HashSet<>(Set.of(triangle)));
+        when(gameMgr.getGame(anyInt(), anyInt())).thenReturn(game);
+
+        Region region = mock(Region.class);
+        when(region.containsPoint(any(Point2D.class))).thenReturn(true);
+        when(region.getGame()).thenReturn(game);
+
+        // When
+        register.clear(region);
+
+        // Then
+        assertNull(register.getBeaconAt(100, 200), "Beacon outside any game partition should be cleared");
+        assertFalse(register.isProtectedColumn(99, 200), "Its base block columns should be unprotected");
+        assertFalse(register.getBeaconRegister().containsValue(beacon));
+        assertTrue(register.getGameRegister((Game) null).getBeacons().isEmpty());
+
+        // Given - a region without a game, e.g. the lobby
+        when(gameMgr.getGame(anyInt(), anyInt())).thenReturn(null);
+        when(region.getGame()).thenReturn(null);
+        register.setTriangleFields(new HashSet<>(Set.of(triangle)));
+
+        // When
+        register.clear(region);
+
+        // Then
+        assertTrue(register.getTriangleFields().isEmpty(), "Triangles in the region should be cleared");
+    }
+
+    /**
+     * Test that a new game takes over the beacons already generated in its region.
+     */
+    @Test
+    void testAdoptBeacons() {
+        // Given - beacons and a link made before the region had a game
+        when(gameMgr.getGame(anyInt(), anyInt())).thenReturn(null);
+        Team team = mock(Team.class);
+        BeaconObj beacon1 = register.addBeacon(team, 100, 64, 200);
+        BeaconObj beacon2 = register.addBeacon(team, 150, 64, 250);
+        BeaconObj outside = register.addBeacon(team, 5000, 64, 5000);
+        register.addBeaconLink(beacon1, beacon2);
+
+        // When - the game is registered
+        Region region = mock(Region.class);
+        when(region.containsPoint(any(Point2D.class))).thenAnswer(a -> a.<Point2D>getArgument(0).getX() < 1000);
+        when(region.containsPoint(anyInt(), anyInt())).thenAnswer(a -> a.<Integer>getArgument(0) < 1000);
+        when(game.getRegion()).thenReturn(region);
+        when(gameMgr.getGame(anyInt(), anyInt())).thenAnswer(a -> a.<Integer>getArgument(0) < 1000 ? game : null);
+        register.adoptBeacons(game);
+
+        // Then
+        assertEquals(Set.of(beacon1, beacon2), Set.copyOf(register.getGameBeacons(game)));
+        assertEquals(1, register.getGameRegister(game).getLinks().size(), "Links should move with their beacons");
+        assertEquals(List.of(outside), List.copyOf(register.getGameRegister((Game) null).getBeacons().values()));
+        assertTrue(register.getGameRegister((Game) null).getLinks().isEmpty());
+        assertEquals(beacon1, register.getBeaconAt(100, 200), "Lookups should be unchanged");
+    }
+
+    /**
+     * Test that beacons added after a clear reuse the freed slots and keep their own base blocks.
+     */
+    @Test
+    void testClearAndReAdd() {
+        // Given
+        Game game2 = mock(Game.class);
+        when(gameMgr.getGame(500, 500)).thenReturn(game2);
+        Team team = mock(Team.class);
+        register.addBeacon(team, 100, 64, 200);
+        BeaconObj other = register.addBeacon(team, 500, 64, 500);
+        Region region = mock(Region.class);
+        when(region.getGame()).thenReturn(game);
+        register.clear(region);
+
+        // When
+        BeaconObj beacon = register.addBeacon(team, 100, 64, 200);
+        register.addBeaconBaseBlock(102, 200, beacon);
+
+        // Then
+        assertEquals(beacon, register.getBeaconAt(100, 200));
+        assertEquals(beacon, register.getBeaconAt(new Point2D.Double(102, 200)));
+        assertEquals(9, register.getDefensesAtBeacon(beacon).size(), "8 initial base blocks plus the added one");
+        assertEquals(8, register.getDefensesAtBeacon(other).size());
+        Map<Point2D, BeaconObj> beaconRegister = register.getBeaconRegister();
+        assertEquals(2, beaconRegister.size());
+        assertEquals(other, beaconRegister.get(new Point2D.Double(500, 500)));
+        assertEquals(Set.of(beacon, other), Set.copyOf(beaconRegister.values()));
+    }
+
+    /**
+     * Test that the beacon and base block columns are protected, and stop being so when cleared.
+     */
+    @Test
+    void testProtectedColumns() {
+        // Given
+        Team team = mock(Team.class);
+        BeaconObj beacon = register.addBeacon(team, 100, 64, 200);
+        register.addBeaconBaseBlock(102, 200, beacon);
+
+        // Then
+        assertTrue(register.isProtectedColumn(100, 200), "Beacon column");
+        assertTrue(register.isProtectedColumn(99, 201), "Initial base block column");
+        assertTrue(register.isProtectedColumn(102, 200), "Added base block column");
+        assertFalse(register.isProtectedColumn(103, 200));
+        assertFalse(register.isProtectedColumn(100, 202));
+
+        // When
+        Region region = mock(Region.class);
+        when(region.getGame()).thenReturn(game);
+        register.clear(region);
+
+        // Then
+        assertFalse(register.isProtectedColumn(100, 200));
+        assertFalse(register.isProtectedColumn(102, 200));
+    }
+
+    /**
+     * Test that a beacon's clearance check is only run again after a block in its columns changes.
+     */
+    @Test
+    void testBlockChanged() {
+        // Given - nothing is at beacon height, so the beacon is not clear
+        Team team = mock(Team.class);
+        BeaconObj beacon = register.addBeacon(team, 100, 64, 200);
+        assertTrue(beacon.isNotClearIfChanged());
+
+        // When - the columns are cleared but no change is reported
+        when(plugin.getHighestBlockYAt(anyInt(), anyInt())).thenReturn(64);
+
+        // Then - the last answer is kept
+        assertTrue(beacon.isNotClearIfChanged());
+        register.blockChanged(300, 300);
+        assertTrue(beacon.isNotClearIfChanged(), "A change somewhere else is ignored");
+
+        // When - a block changes in a base column
+        register.blockChanged(101, 201);
+
+        // Then
+        assertFalse(beacon.isNotClearIfChanged());
+        assertFalse(beacon.isNotClear());
+    }
+
+    /**
+     * Test that beacons are registered in their game's partition.
+     */
+    @Test
+    void testGetGameBeacons() {
+        // Given
+        Game game2 = mock(Game.class);
+        when(gameMgr.getGame(500, 500)).thenReturn(game2);
+        Team team = mock(Team.class);
+        BeaconObj beacon1 = register.addBeacon(team, 100, 64, 200);
+        BeaconObj beacon2 = register.addBeacon(team, 500, 64, 500);
+
+        // When
+        List<BeaconObj> gameBeacons = register.getGameBeacons(game);
+        List<BeaconObj> game2Beacons = register.getGameBeacons(game2);
+
+        // Then
+        assertEquals(List.of(beacon1), gameBeacons, "First game should only hold its beacon");
+        assertEquals(List.of(beacon2), game2Beacons, "Second game should only hold its beacon");
+        assertTrue(register.getGameBeacons(mock(Game.class)).isEmpty(), "Unknown game should have no beacons");
+    }
+
     // ========== Beacon Removal Tests ==========
 
     /**
@@ -707,7 +908,7 @@ class RegisterTest {
         register.addBeacon(team, 100, 64, 200);
 
         // When
-        HashMap<Point2D, BeaconObj> beaconRegister = register.getBeaconRegister();
+        Map<Point2D, BeaconObj> beaconRegister = register.getBeaconRegister();
 
         // Then
         assertNotNull(beaconRegister, "Should return the beacon register");
@@ -750,6 +951,35 @@ class RegisterTest {
         assertNull(beacon.getOwnership(), "Beacon should be unowned");
     }
 
+    /**
+     * Test that the version changes when beacons, owners or links change, and not on lookups.
+     */
+    @Test
+    void testVersion() {
+        // Given
+        Team team = mock(Team.class);
+        long start = register.getVersion();
+
+        // When
+        BeaconObj beacon1 = register.addBeacon(team, 100, 64, 200);
+        BeaconObj beacon2 = register.addBeacon(team, 150, 64, 250);
+        long added = register.getVersion();
+        register.getBeaconAt(100, 200);
+        register.getTeamBeacons(team);
+
+        // Then
+        assertTrue(added > start, "Adding beacons should change the version");
+        assertEquals(added, register.getVersion(), "Lookups should not change the version");
+        register.addBeaconLink(beacon1, beacon2);
+        assertTrue(register.getVersion() > added, "Linking should change the version");
+        long linked = register.getVersion();
+        register.setBeaconOwner(beacon2, null);
+        assertTrue(register.getVersion() > linked, "Changing owner should change the version");
+        long owned = register.getVersion();
+        register.clear();
+        assertTrue(register.getVersion() > owned, "Clearing should change the version");
+    }
+
     // ========== Triangle Field Queries ==========
 
     /**
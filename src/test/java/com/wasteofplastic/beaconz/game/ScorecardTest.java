@@ -10,8 +10,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,10 +32,13 @@ import org.bukkit.Material;
 import org.bukkit.Server;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.scoreboard.Criteria;
 import org.bukkit.scoreboard.DisplaySlot;
 import org.bukkit.scoreboard.Objective;
@@ -40,19 +46,25 @@ import org.bukkit.scoreboard.Score;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.ScoreboardManager;
 import org.bukkit.scoreboard.Team;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.mockbukkit.mockbukkit.MockBukkit;
 
 import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.config.Lang;
+import com.wasteofplastic.beaconz.config.Params.GameMode;
 import com.wasteofplastic.beaconz.config.Params.GameScoreGoal;
 import com.wasteofplastic.beaconz.core.Region;
 
@@ -68,7 +80,9 @@ import net.kyori.adventure.text.Component;
  *   <li>Score tracking and display</li>
  *   <li>Player assignment to teams</li>
  *   <li>Team spawn points</li>
- *   <li>Timer functionality</li>
+ *   <li>Timer functionality, including clock updates that arrive after a restart or pause</li>
+ *   <li>Sidebar redraws, merged into one flush per tick</li>
+ *   <li>Team audiences are dropped when the teams are replaced</li>
  *   <li>Game state management</li>
  * </ul>
  *
@@ -215,6 +229,27 @@ class ScorecardTest {
         when(player2.getName()).thenReturn("Player2");
     }
 
+    /**
+     * Builds a real scorecard on the mocked scoreboard, with one team. MockBukkit must be
+     * running, because the scoreboard criteria are looked up through Bukkit.
+     */
+    private Scorecard newScorecard() {
+        when(plugin.getLogger()).thenReturn(java.util.logging.Logger.getLogger("ScorecardTest"));
+        when(plugin.isEnabled()).thenReturn(true);
+        when(scheduler.runTask(any(Plugin.class), any(Runnable.class))).thenReturn(mock(BukkitTask.class));
+        when(game.getGamemode()).thenReturn(GameMode.MINIGAME);
+        Block block = mock(Block.class);
+        when(location.getBlock()).thenReturn(block);
+        when(block.getRelative(any(BlockFace.class), anyInt())).thenReturn(block);
+        when(block.getLocation()).thenReturn(location);
+        Lang.titleBeaconz = Component.text("Beaconz");
+        Lang.scoreGetValueGoal = Component.text("Get [value] [goal]!");
+        Lang.scoreGameOver = "Game Over";
+        Scorecard scorecard = new Scorecard(plugin, game);
+        scorecard.addTeam("red", "Red", Material.RED_STAINED_GLASS, false);
+        return scorecard;
+    }
+
     @Nested
     @DisplayName("Constructor and Initialization Tests")
     class ConstructorTests {
@@ -769,4 +804,182 @@ class ScorecardTest {
             verify(score).setScore(15);
         }
     }
+
+    @Nested
+    @DisplayName("Game Clock Tests")
+    class ClockTests {
+
+        private Scorecard scorecard;
+
+        @BeforeEach
+        void setUp() {
+            MockBukkit.mock();
+            scorecard = newScorecard();
+        }
+
+        @AfterEach
+        void tearDown() {
+            MockBukkit.unmock();
+        }
+
+        @Test
+        @DisplayName("clock tick counts down and the update sets the display time")
+        void testTickCountsDown() {
+            GameClock.Update update = scorecard.tickClock(5);
+
+            assertNotNull(update);
+            assertFalse(update.expired());
+            assertEquals(595, scorecard.getCountdownTimer());
+            scorecard.applyClock(update);
+            assertEquals("00d 00:09:55", scorecard.getDisplayTime("short"));
+        }
+
+        @Test
+        @DisplayName("an expired update worked out before a restart does not end the restarted game")
+        void testExpiredUpdateAfterRestart() {
+            when(game.getCountdownTimer()).thenReturn(5);
+            scorecard.initialize(false);
+            GameClock.Update update = scorecard.tickClock(5);
+            assertTrue(update.expired());
+
+            // The game is restarted before the update reaches the main thread
+            scorecard.initialize(false);
+            scorecard.applyClock(update);
+
+            verify(game, never()).setOver(true);
+            assertEquals(Scorecard.ClockState.RUNNING, scorecard.getClockState());
+            assertEquals(5, scorecard.getCountdownTimer());
+        }
+
+        @Test
+        @DisplayName("an expired update worked out before a pause does not end the game")
+        void testExpiredUpdateAfterPause() {
+            when(game.getCountdownTimer()).thenReturn(5);
+            scorecard.initialize(false);
+            GameClock.Update update = scorecard.tickClock(5);
+
+            scorecard.pause();
+            scorecard.resume();
+            scorecard.applyClock(update);
+
+            verify(game, never()).setOver(true);
+            assertEquals(Scorecard.ClockState.RUNNING, scorecard.getClockState());
+        }
+
+        @Test
+        @DisplayName("a paused or ended game does not count down")
+        void testNoTickWhenNotRunning() {
+            scorecard.pause();
+            assertNull(scorecard.tickClock(5));
+            assertEquals(600, scorecard.getCountdownTimer());
+
+            scorecard.resume();
+            scorecard.endGame();
+            assertNull(scorecard.tickClock(5));
+            verify(game).setOver(true);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sidebar Flush Tests")
+    class SidebarTests {
+
+        private Scorecard scorecard;
+
+        @BeforeEach
+        void setUp() {
+            MockBukkit.mock();
+            scorecard = newScorecard();
+        }
+
+        @AfterEach
+        void tearDown() {
+            MockBukkit.unmock();
+        }
+
+        @Test
+        @DisplayName("score changes in one tick are drawn by a single flush")
+        void testChangesMergedIntoOneFlush() {
+            scorecard.putScore(team1, GameScoreGoal.BEACONS, 3);
+            scorecard.putScore(team1, GameScoreGoal.BEACONS, 4);
+            scorecard.putScore(team1, GameScoreGoal.AREA, 5);
+            String beacons = scorecard.fixScoreString(team1, GameScoreGoal.BEACONS, 4, 10);
+            String area = scorecard.fixScoreString(team1, GameScoreGoal.AREA, 5, 10);
+
+            ArgumentCaptor<Runnable> flush = ArgumentCaptor.forClass(Runnable.class);
+            verify(scheduler).runTask(eq(plugin), flush.capture());
+            verify(objective, never()).getScore(beacons);
+
+            flush.getValue().run();
+
+            verify(objective).getScore(beacons);
+            verify(objective).getScore(area);
+            verify(objective, never()).getScore(scorecard.fixScoreString(team1, GameScoreGoal.BEACONS, 3, 10));
+        }
+
+        @Test
+        @DisplayName("a line whose text has not changed is not rewritten")
+        void testUnchangedLineSkipped() {
+            scorecard.putScore(team1, GameScoreGoal.BEACONS, 4);
+            scorecard.flushSBdisplay();
+            String beacons = scorecard.fixScoreString(team1, GameScoreGoal.BEACONS, 4, 10);
+
+            scorecard.putScore(team1, GameScoreGoal.BEACONS, 4);
+            scorecard.flushSBdisplay();
+
+            verify(objective).getScore(beacons);
+            verify(scoreboard, never()).resetScores(beacons);
+        }
+
+        @Test
+        @DisplayName("ending the game draws pending lines first")
+        void testEndGameFlushesFirst() {
+            scorecard.putScore(team1, GameScoreGoal.BEACONS, 4);
+
+            scorecard.endGame();
+
+            InOrder order = inOrder(objective, game);
+            order.verify(objective).getScore(scorecard.fixScoreString(team1, GameScoreGoal.BEACONS, 4, 10));
+            order.verify(game).setOver(true);
+        }
+
+        @Test
+        @DisplayName("with the plugin disabled the line is drawn straight away")
+        void testDisabledDrawsNow() {
+            when(plugin.isEnabled()).thenReturn(false);
+
+            scorecard.putScore(team1, GameScoreGoal.BEACONS, 4);
+
+            verify(objective).getScore(scorecard.fixScoreString(team1, GameScoreGoal.BEACONS, 4, 10));
+            verify(scheduler, never()).runTask(any(Plugin.class), any(Runnable.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Team Audience Tests")
+    class AudienceTests {
+
+        @BeforeEach
+        void setUp() {
+            MockBukkit.mock();
+        }
+
+        @AfterEach
+        void tearDown() {
+            MockBukkit.unmock();
+        }
+
+        @Test
+        @DisplayName("reinitializing drops the audiences of the replaced teams")
+        void testReinitializeClearsOldAudiences() {
+            TeamBroadcaster broadcaster = mock(TeamBroadcaster.class);
+            when(plugin.getTeamBroadcaster()).thenReturn(broadcaster);
+            Scorecard scorecard = newScorecard();
+            verify(broadcaster, never()).clear(any());
+
+            scorecard.initialize(false);
+
+            verify(broadcaster).clear(scoreboard.getTeams());
+        }
+    }
 }
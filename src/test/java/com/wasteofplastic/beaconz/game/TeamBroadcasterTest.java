@@ -0,0 +1,240 @@
+package com.wasteofplastic.beaconz.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scoreboard.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.config.Settings;
+import com.wasteofplastic.beaconz.core.Region;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+
+/**
+ * Tests for {@link TeamBroadcaster}, the online audience of each team.
+ *
+ * <p>Covers:
+ * <ul>
+ *   <li>Players are added to and removed from audiences on team changes, quit and refresh</li>
+ *   <li>The chat thread reads an immutable snapshot of each player's teams</li>
+ *   <li>Messages skip the excluded player</li>
+ *   <li>Messages sent during one tick are delivered together at the end of the tick</li>
+ *   <li>Messages are delivered at once when coalescing is off or the plugin is disabled</li>
+ * </ul>
+ */
+class TeamBroadcasterTest {
+
+    private ServerMock server;
+    private Beaconz plugin;
+    private TeamBroadcaster broadcaster;
+    private Team red;
+    private Team blue;
+    private Player alice;
+    private Player bob;
+    private boolean oldCoalesce;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        plugin = mock(Beaconz.class);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.isEnabled()).thenReturn(true);
+        oldCoalesce = Settings.coalesceTeamMessages;
+        Settings.coalesceTeamMessages = true;
+        red = mock(Team.class);
+        blue = mock(Team.class);
+        alice = player();
+        bob = player();
+        broadcaster = new TeamBroadcaster(plugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Settings.coalesceTeamMessages = oldCoalesce;
+        MockBukkit.unmock();
+    }
+
+    private static Player player() {
+        Player player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+        return player;
+    }
+
+    /**
+     * Test that team changes and quitting keep the audience up to date.
+     */
+    @Test
+    void testAddRemoveAndQuit() {
+        // Given
+        Player offline = mock(Player.class);
+        when(offline.getUniqueId()).thenReturn(UUID.randomUUID());
+
+        // When
+        broadcaster.add(red, alice, null);
+        broadcaster.add(red, bob, null);
+        broadcaster.add(red, offline, null);
+
+        // Then
+        assertEquals(2, broadcaster.getOnlineMembers(red).size());
+        assertTrue(broadcaster.isOnline(red, alice.getUniqueId()));
+        assertFalse(broadcaster.isOnline(red, offline.getUniqueId()));
+        assertTrue(broadcaster.getOnlineMembers(blue).isEmpty());
+
+        broadcaster.remove(red, alice);
+        assertFalse(broadcaster.isOnline(red, alice.getUniqueId()));
+
+        broadcaster.onQuit(new PlayerQuitEvent(bob, Component.empty(), PlayerQuitEvent.QuitReason.DISCONNECTED));
+        assertTrue(broadcaster.getOnlineMembers(red).isEmpty());
+    }
+
+    /**
+     * Test that refresh moves a player to the team the games say they are on.
+     */
+    @Test
+    void testRefresh() {
+        // Given
+        GameMgr mgr = mock(GameMgr.class);
+        Game game = mock(Game.class);
+        when(plugin.getGameMgr()).thenReturn(mgr);
+        when(mgr.getMemberships(alice.getUniqueId())).thenReturn(List.of(new GameMgr.Membership(game, blue)));
+        broadcaster.add(red, alice, null);
+
+        // When
+        broadcaster.refresh(alice);
+
+        // Then
+        assertFalse(broadcaster.isOnline(red, alice.getUniqueId()));
+        assertTrue(broadcaster.isOnline(blue, alice.getUniqueId()));
+    }
+
+    /**
+     * Test that the chat thread sees the team of the game the player is standing in.
+     */
+    @Test
+    void testChatTeam() {
+        // Given
+        Region redRegion = mock(Region.class);
+        when(redRegion.containsPoint(0, 0)).thenReturn(true);
+        Region blueRegion = mock(Region.class);
+        when(blueRegion.containsPoint(1000, 0)).thenReturn(true);
+        when(blue.displayName()).thenReturn(Component.text("Blue"));
+
+        // When
+        broadcaster.add(red, alice, redRegion);
+        broadcaster.add(blue, alice, blueRegion);
+        broadcaster.add(blue, bob, blueRegion);
+
+        // Then
+        assertEquals(red, broadcaster.getChatTeam(alice.getUniqueId(), 0, 0).team());
+        TeamBroadcaster.TeamView view = broadcaster.getChatTeam(alice.getUniqueId(), 1000, 0);
+        assertEquals(blue, view.team());
+        assertEquals(Component.text("Blue"), view.displayName());
+        assertEquals(Set.of(alice.getUniqueId(), bob.getUniqueId()), view.members());
+        assertNull(broadcaster.getChatTeam(alice.getUniqueId(), 500, 500));
+
+        // A published snapshot does not change, later changes publish a new one
+        broadcaster.remove(blue, bob);
+        assertEquals(2, view.members().size());
+        assertEquals(Set.of(alice.getUniqueId()), broadcaster.getChatTeam(alice.getUniqueId(), 1000, 0).members());
+        assertNull(broadcaster.getChatTeam(bob.getUniqueId(), 1000, 0));
+    }
+
+    /**
+     * Test that clearing teams empties their audiences.
+     */
+    @Test
+    void testClear() {
+        broadcaster.add(red, alice, null);
+        broadcaster.add(blue, bob, null);
+
+        broadcaster.clear(List.of(red));
+
+        assertTrue(broadcaster.getOnlineMembers(red).isEmpty());
+        assertTrue(broadcaster.isOnline(blue, bob.getUniqueId()));
+    }
+
+    /**
+     * Test that messages sent in one tick reach each member once, joined, at the end of the tick.
+     */
+    @Test
+    void testCoalesce() {
+        // Given
+        broadcaster.add(red, alice, null);
+        broadcaster.add(red, bob, null);
+        Component first = Component.text("first");
+        Component second = Component.text("second");
+
+        // When
+        broadcaster.send(red, first, null);
+        broadcaster.send(red, second, null);
+
+        // Then - nothing is sent until the end of the tick
+        verify(alice, never()).sendMessage(any(Component.class));
+        server.getScheduler().performOneTick();
+        Component joined = Component.join(JoinConfiguration.newlines(), first, second);
+        verify(alice).sendMessage(joined);
+        verify(bob).sendMessage(joined);
+    }
+
+    /**
+     * Test that the excluded player only gets the messages that do not exclude them.
+     */
+    @Test
+    void testExclude() {
+        // Given
+        broadcaster.add(red, alice, null);
+        broadcaster.add(red, bob, null);
+        Component fromAlice = Component.text("from alice");
+        Component toAll = Component.text("to all");
+
+        // When
+        broadcaster.send(red, fromAlice, alice);
+        broadcaster.send(red, toAll, null);
+        server.getScheduler().performOneTick();
+
+        // Then
+        verify(alice).sendMessage(toAll);
+        verify(alice, never()).sendMessage(fromAlice);
+        verify(bob).sendMessage(Component.join(JoinConfiguration.newlines(), fromAlice, toAll));
+    }
+
+    /**
+     * Test that messages go out at once when coalescing is off or the plugin is disabled.
+     */
+    @Test
+    void testImmediate() {
+        broadcaster.add(red, alice, null);
+        Component message = Component.text("now");
+
+        Settings.coalesceTeamMessages = false;
+        broadcaster.send(red, message, null);
+        verify(alice).sendMessage(message);
+
+        Settings.coalesceTeamMessages = true;
+        when(plugin.isEnabled()).thenReturn(false);
+        Component shutdown = Component.text("shutting down");
+        broadcaster.send(red, shutdown, null);
+        verify(alice).sendMessage(shutdown);
+    }
+}
@@ -0,0 +1,135 @@
+package com.wasteofplastic.beaconz.generator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Logger;
+
+import org.bukkit.Chunk;
+import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.generator.ChunkGenerator.ChunkData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockbukkit.mockbukkit.MockBukkit;
+
+/**
+ * Tests for {@link LobbyPlatform}.
+ *
+ * <p>Covers:
+ * <ul>
+ *   <li>Materials are looked up once and bad names are skipped</li>
+ *   <li>Only chunks that overlap the lobby are touched</li>
+ *   <li>Generated chunks get the platform in their chunk data</li>
+ *   <li>Loaded chunks get the platform with physics off</li>
+ * </ul>
+ */
+class LobbyPlatformTest {
+
+    private Logger logger;
+    private Point2D[] corners;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        logger = mock(Logger.class);
+        // 20 x 20 lobby that crosses chunk borders
+        corners = new Point2D[] {new Point2D.Double(-10, -10), new Point2D.Double(9, 9)};
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    /**
+     * Test that names that are not blocks are skipped and logged.
+     */
+    @Test
+    void testOfSkipsBadNames() {
+        LobbyPlatform platform = LobbyPlatform.of(corners, 200, List.of("GLASS", "NOT_A_BLOCK", "DIAMOND"), logger);
+
+        assertNotNull(platform);
+        verify(logger).severe(contains("NOT_A_BLOCK"));
+        // DIAMOND is an item, not a block
+        verify(logger).severe(contains("DIAMOND,"));
+        assertNull(LobbyPlatform.of(corners, 200, List.of("NOT_A_BLOCK"), logger));
+    }
+
+    /**
+     * Test that only chunks overlapping the lobby intersect it.
+     */
+    @Test
+    void testIntersects() {
+        LobbyPlatform platform = LobbyPlatform.of(corners, 200, List.of("GLASS"), logger);
+
+        assertTrue(platform.intersects(0, 0));
+        assertTrue(platform.intersects(-1, -1));
+        assertFalse(platform.intersects(1, 0));
+        assertFalse(platform.intersects(0, -2));
+    }
+
+    /**
+     * Test that the generator writes just the lobby part of a chunk.
+     */
+    @Test
+    void testGenerate() {
+        LobbyPlatform platform = LobbyPlatform.of(corners, 200, List.of("GLASS"), logger);
+        ChunkData data = mock(ChunkData.class);
+        when(data.getMinHeight()).thenReturn(-64);
+        when(data.getMaxHeight()).thenReturn(320);
+
+        platform.generate(data, 0, 0, new Random());
+
+        // x and z from 0 to 9 are in the lobby
+        verify(data, times(100)).setBlock(anyInt(), eq(200), anyInt(), eq(Material.GLASS));
+        verify(data, never()).setBlock(eq(10), anyInt(), anyInt(), eq(Material.GLASS));
+    }
+
+    /**
+     * Test that a platform above the world is not generated.
+     */
+    @Test
+    void testGenerateOutOfHeight() {
+        LobbyPlatform platform = LobbyPlatform.of(corners, 400, List.of("GLASS"), logger);
+        ChunkData data = mock(ChunkData.class);
+        when(data.getMinHeight()).thenReturn(-64);
+        when(data.getMaxHeight()).thenReturn(320);
+
+        platform.generate(data, 0, 0, new Random());
+
+        verify(data, never()).setBlock(anyInt(), anyInt(), anyInt(), eq(Material.GLASS));
+    }
+
+    /**
+     * Test that a loaded chunk is laid with physics off.
+     */
+    @Test
+    void testBuildChunk() {
+        LobbyPlatform platform = LobbyPlatform.of(corners, 200, List.of("GLASS"), logger);
+        Chunk chunk = mock(Chunk.class);
+        Block block = mock(Block.class);
+        when(chunk.getX()).thenReturn(-1);
+        when(chunk.getZ()).thenReturn(0);
+        when(chunk.getBlock(anyInt(), eq(200), anyInt())).thenReturn(block);
+
+        platform.build(chunk, new Random());
+
+        // x from -10 to -1 and z from 0 to 9
+        verify(block, times(100)).setType(Material.GLASS, false);
+    }
+}
@@ -0,0 +1,146 @@
+package com.wasteofplastic.beaconz.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.bukkit.Server;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.config.Settings;
+import com.wasteofplastic.beaconz.util.PerfMonitor;
+
+/**
+ * Tests for {@link Metrics}.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Counters and section times in Prometheus text format</li>
+ *   <li>Label escaping</li>
+ *   <li>Export to metrics.prom</li>
+ *   <li>Local HTTP listener</li>
+ * </ul>
+ */
+@DisplayName("Metrics Tests")
+class MetricsTest {
+
+    private Beaconz plugin;
+    private Metrics metrics;
+    private int oldPort;
+    private boolean oldFile;
+
+    @TempDir
+    File tempDir;
+
+    @BeforeEach
+    void setUp() {
+        plugin = mock(Beaconz.class);
+        Server server = mock(Server.class);
+        BukkitScheduler scheduler = mock(BukkitScheduler.class);
+        when(server.getScheduler()).thenReturn(scheduler);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getDataFolder()).thenReturn(tempDir);
+        when(plugin.isEnabled()).thenReturn(false);
+        when(plugin.getLogger()).thenReturn(java.util.logging.Logger.getLogger("MetricsTest"));
+        oldPort = Settings.metricsPort;
+        oldFile = Settings.metricsFile;
+        PerfMonitor.setEnabled(true);
+        PerfMonitor.reset();
+        metrics = new Metrics(plugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        metrics.stop();
+        Settings.metricsPort = oldPort;
+        Settings.metricsFile = oldFile;
+        PerfMonitor.reset();
+    }
+
+    @Test
+    @DisplayName("Should render counters with help and type lines")
+    void testCounters() {
+        Metrics.Counter counter = Metrics.counter("beaconz_test_events_total", "Test events");
+        long before = counter.get();
+        counter.inc();
+        counter.inc(2);
+        counter.inc(-5);
+        assertEquals(before + 3, counter.get());
+
+        metrics.update();
+        String text = metrics.getText();
+        assertTrue(text.contains("# HELP beaconz_test_events_total Test events\n"));
+        assertTrue(text.contains("# TYPE beaconz_test_events_total counter\n"));
+        assertTrue(text.contains("beaconz_test_events_total " + (before + 3) + "\n"));
+    }
+
+    @Test
+    @DisplayName("Should render section times as a summary")
+    void testSections() {
+        PerfMonitor.Probe probe = PerfMonitor.probe("Test.save");
+        probe.stop(probe.start());
+
+        metrics.update();
+        String text = metrics.getText();
+        assertTrue(text.contains("# TYPE beaconz_section_duration_seconds summary\n"));
+        assertTrue(text.contains("beaconz_section_duration_seconds{section=\"Test.save\",quantile=\"0.99\"} "));
+        assertTrue(text.contains("beaconz_section_duration_seconds_count{section=\"Test.save\"} 1\n"));
+    }
+
+    @Test
+    @DisplayName("Should escape label values")
+    void testEscape() {
+        StringBuilder sb = new StringBuilder();
+        Metrics.sample(sb, "beaconz_beacons", 2, "game", "a \"b\"\\c\nd");
+        assertEquals("beaconz_beacons{game=\"a \\\"b\\\"\\\\c\\nd\"} 2\n", sb.toString());
+    }
+
+    @Test
+    @DisplayName("Should write metrics.prom")
+    void testFile() throws Exception {
+        Settings.metricsFile = true;
+        Metrics.counter("beaconz_test_file_total", "Test file").inc();
+
+        metrics.update();
+
+        File prom = new File(tempDir, "metrics.prom");
+        assertTrue(prom.exists());
+        assertEquals(metrics.getText(), Files.readString(prom.toPath(), StandardCharsets.UTF_8));
+        assertTrue(metrics.getText().contains("beaconz_test_file_total"));
+    }
+
+    @Test
+    @DisplayName("Should serve metrics on the loopback address")
+    void testListener() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            Settings.metricsPort = socket.getLocalPort();
+        }
+        Settings.metricsFile = false;
+        Metrics.counter("beaconz_test_http_total", "Test http").inc();
+        metrics.start();
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+                HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + Settings.metricsPort + "/metrics")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.headers().firstValue("Content-Type").orElse("").startsWith("text/plain"));
+        assertTrue(response.body().contains("beaconz_test_http_total 1"));
+    }
+}
@@ -53,7 +53,7 @@ class BeaconCaptureListenerTest extends CommonTestBase {
     void testOnBeaconDamageHappyPath() {
         BlockDamageEvent e = new BlockDamageEvent(player, block, BlockFace.EAST, item, false);
         bcl.onBeaconDamage(e);
-        verify(beacon).checkIntegrity();
+        verify(beacon).checkIntegrityIfChanged();
         assertFalse(e.isCancelled());
     }
 
@@ -131,7 +131,7 @@ class BeaconCaptureListenerTest extends CommonTestBase {
         bcl.onBeaconDamage(e);
 
         verify(register).getBeacon(block);
-        verify(beacon, never()).checkIntegrity();
+        verify(beacon, never()).checkIntegrityIfChanged();
         assertFalse(e.isCancelled());
     }
 
@@ -143,7 +143,7 @@ class BeaconCaptureListenerTest extends CommonTestBase {
         BlockDamageEvent e = new BlockDamageEvent(player, block, BlockFace.EAST, item, false);
         bcl.onBeaconDamage(e);
 
-        verify(beacon).checkIntegrity();
+        verify(beacon).checkIntegrityIfChanged();
         assertFalse(e.isCancelled());
     }
 
@@ -155,20 +155,20 @@ class BeaconCaptureListenerTest extends CommonTestBase {
         BlockDamageEvent e = new BlockDamageEvent(player, block, BlockFace.EAST, item, false);
         bcl.onBeaconDamage(e);
 
-        verify(beacon).checkIntegrity();
+        verify(beacon).checkIntegrityIfChanged();
         assertFalse(e.isCancelled());
     }
 
     /** Uncleared beacon and unowned: player warned, event cancelled. */
     @Test
     void testOnBeaconDamageBeaconNotClearAndUnowned() {
-        when(beacon.isNotClear()).thenReturn(true);
+        when(beacon.isNotClearIfChanged()).thenReturn(true);
         when(beacon.getOwnership()).thenReturn(null);
 
         BlockDamageEvent e = new BlockDamageEvent(player, block, BlockFace.EAST, item, false);
         bcl.onBeaconDamage(e);
 
-        verify(beacon).checkIntegrity();
+        verify(beacon).checkIntegrityIfChanged();
         verify(player, times(1)).sendMessage(any(Component.class));
         assertTrue(e.isCancelled());
     }
@@ -176,13 +176,13 @@ class BeaconCaptureListenerTest extends CommonTestBase {
     /** Uncleared beacon owned by other team: warning + cancel. */
     @Test
     void testOnBeaconDamageBeaconNotClearOwnedByOtherTeam() {
-        when(beacon.isNotClear()).thenReturn(true);
+        when(beacon.isNotClearIfChanged()).thenReturn(true);
         when(beacon.getOwnership()).thenReturn(otherTeam);
 
         BlockDamageEvent e = new BlockDamageEvent(player, block, BlockFace.EAST, item, false);
         bcl.onBeaconDamage(e);
 
-        verify(beacon).checkIntegrity();
+        verify(beacon).checkIntegrityIfChanged();
         verify(player, times(1)).sendMessage(any(Component.class));
         assertTrue(e.isCancelled());
     }
@@ -190,13 +190,13 @@ class BeaconCaptureListenerTest extends CommonTestBase {
     /** Uncleared beacon owned by same team: allowed to proceed. */
     @Test
     void testOnBeaconDamageBeaconNotClearOwnedByTeam() {
-        when(beacon.isNotClear()).thenReturn(true);
+        when(beacon.isNotClearIfChanged()).thenReturn(true);
         when(beacon.getOwnership()).thenReturn(team);
 
         BlockDamageEvent e = new BlockDamageEvent(player, block, BlockFace.EAST, item, false);
         bcl.onBeaconDamage(e);
 
-        verify(beacon).checkIntegrity();
+        verify(beacon).checkIntegrityIfChanged();
         verify(player, never()).sendMessage(anyString());
         assertFalse(e.isCancelled());
     }
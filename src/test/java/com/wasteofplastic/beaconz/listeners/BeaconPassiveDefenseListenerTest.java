@@ -1,11 +1,11 @@
 package com.wasteofplastic.beaconz.listeners;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
@@ -14,8 +14,6 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.awt.geom.Point2D;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -32,13 +30,13 @@ import org.bukkit.event.block.BlockFromToEvent;
 import org.bukkit.event.block.BlockPistonExtendEvent;
 import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
-import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.inventory.EquipmentSlot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
 import com.wasteofplastic.beaconz.config.Lang;
+import com.wasteofplastic.beaconz.config.MaterialRoles;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.DefenseBlock;
 import com.wasteofplastic.beaconz.core.Region;
@@ -56,8 +54,6 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
 
     private BeaconPassiveDefenseListener listener;
 
-    @Mock
-    private EntityExplodeEvent explodeEvent;
     @Mock
     private BlockPistonExtendEvent pistonExtendEvent;
     @Mock
@@ -111,6 +107,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         Settings.linkBlocks = new HashMap<>();
         Settings.linkBlocks.put(Material.DIAMOND_BLOCK, 100);
         Settings.lockingBlock = "EMERALD_BLOCK";
+        MaterialRoles.rebuild();
         Settings.removaldelta = 0;
         Settings.destroyLinkBlocks = false;
         Settings.removeLongestLink = false;
@@ -135,48 +132,6 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         assertNotNull(listener);
     }
 
-    // ==================== onExplode Tests ====================
-
-    /** Explosion in wrong world: no protection applied. */
-    @Test
-    void testOnExplodeWrongWorld() {
-        when(explodeEvent.getLocation()).thenReturn(location);
-        when(location.getWorld()).thenReturn(mock(org.bukkit.World.class));
-        List<Block> blockList = new ArrayList<>();
-        when(explodeEvent.blockList()).thenReturn(blockList);
-
-        listener.onExplode(explodeEvent);
-
-        assertTrue(blockList.isEmpty(), "Should not modify block list in wrong world");
-    }
-
-    /** Explosion removes blocks above beacons from damage list. */
-    @Test
-    void testOnExplodeProtectsBeaconBlocks() {
-        when(explodeEvent.getLocation()).thenReturn(location);
-        when(location.getWorld()).thenReturn(world);
-
-        Block protectedBlock = mock(Block.class);
-        Block unprotectedBlock = mock(Block.class);
-        Location protectedLoc = mock(Location.class);
-        Location unprotectedLoc = mock(Location.class);
-
-        when(protectedBlock.getLocation()).thenReturn(protectedLoc);
-        when(unprotectedBlock.getLocation()).thenReturn(unprotectedLoc);
-        when(register.isAboveBeacon(protectedLoc)).thenReturn(true);
-        when(register.isAboveBeacon(unprotectedLoc)).thenReturn(false);
-
-        List<Block> blockList = new ArrayList<>();
-        blockList.add(protectedBlock);
-        blockList.add(unprotectedBlock);
-        when(explodeEvent.blockList()).thenReturn(blockList);
-
-        listener.onExplode(explodeEvent);
-
-        assertEquals(1, blockList.size(), "Protected block should be removed from explosion list");
-        assertTrue(blockList.contains(unprotectedBlock), "Unprotected block should remain");
-    }
-
     // ==================== onPistonPush Tests ====================
 
     /** Piston push in wrong world: no cancellation. */
@@ -360,7 +315,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(beacon.getOwnership()).thenReturn(team);
         when(beacon.getLocation()).thenReturn(location);
         when(location.distanceSquared(any())).thenReturn(4.0); // Within range
-        when(register.getBeaconAt(new Point2D.Double(100, 101))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 101)).thenReturn(beacon);
         when(plugin.getHighestBlockYAt(100, 100)).thenReturn(64);
 
         BlockPlaceEvent event = new BlockPlaceEvent(block, blockState, adjacentBlock, item, player, true, EquipmentSlot.HAND);
@@ -386,7 +341,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(adjacentBlock.getZ()).thenReturn(101);
         when(beacon.getY()).thenReturn(65);
         when(beacon.getOwnership()).thenReturn(otherTeam);
-        when(register.getBeaconAt(new Point2D.Double(100, 101))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 101)).thenReturn(beacon);
 
         BlockPlaceEvent event = new BlockPlaceEvent(block, blockState, adjacentBlock, item, player, true, EquipmentSlot.HAND);
 
@@ -410,7 +365,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
 
         when(beacon.getY()).thenReturn(65);
         when(beacon.getOwnership()).thenReturn(team);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
         when(player.getLevel()).thenReturn(10);
         when(player.getUniqueId()).thenReturn(UUID.randomUUID());
 
@@ -418,7 +373,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(block.getRelative(any(BlockFace.class))).thenReturn(adjacentBlock);
         when(adjacentBlock.getX()).thenReturn(99);
         when(adjacentBlock.getZ()).thenReturn(99);
-        when(register.getBeaconAt(any(Point2D.Double.class))).thenReturn(null, null, null, null, beacon);
+        when(register.getBaseBeaconAt(anyInt(), anyInt())).thenReturn(null, null, null, null, beacon);
 
         BlockPlaceEvent event = new BlockPlaceEvent(block, blockState, adjacentBlock, item, player, true, EquipmentSlot.HAND);
 
@@ -442,11 +397,11 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
 
         when(beacon.getY()).thenReturn(65);
         when(beacon.getOwnership()).thenReturn(team);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
         when(player.getLevel()).thenReturn(3); // Below required level 5
 
         when(block.getRelative(any(BlockFace.class))).thenReturn(adjacentBlock);
-        when(register.getBeaconAt(any(Point2D.Double.class))).thenReturn(null, null, null, null, beacon);
+        when(register.getBaseBeaconAt(anyInt(), anyInt())).thenReturn(null, null, null, null, beacon);
 
         BlockPlaceEvent event = new BlockPlaceEvent(block, blockState, adjacentBlock, item, player, true, EquipmentSlot.HAND);
 
@@ -472,10 +427,10 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
 
         when(beacon.getY()).thenReturn(65);
         when(beacon.getOwnership()).thenReturn(otherTeam);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
 
         when(block.getRelative(any(BlockFace.class))).thenReturn(adjacentBlock);
-        when(register.getBeaconAt(any(Point2D.Double.class))).thenReturn(null, null, null, null, beacon);
+        when(register.getBaseBeaconAt(anyInt(), anyInt())).thenReturn(null, null, null, null, beacon);
 
         BlockPlaceEvent event = new BlockPlaceEvent(block, blockState, adjacentBlock, item, player, true, EquipmentSlot.HAND);
 
@@ -528,7 +483,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(beacon.getY()).thenReturn(64);
         when(beacon.getHeight()).thenReturn(65);
         when(beacon.getOwnership()).thenReturn(team);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
 
         Map<Block, DefenseBlock> defenseBlocks = new HashMap<>();
         when(defenseBlock.getPlacer()).thenReturn(playerUUID);
@@ -561,7 +516,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(beacon.getY()).thenReturn(64);
         when(beacon.getHeight()).thenReturn(65);
         when(beacon.getOwnership()).thenReturn(team);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
 
         Map<Block, DefenseBlock> defenseBlocks = new HashMap<>();
         when(defenseBlock.getPlacer()).thenReturn(UUID.randomUUID()); // Different player
@@ -593,7 +548,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(beacon.getHeight()).thenReturn(65);
         when(beacon.getOwnership()).thenReturn(otherTeam);
         when(beacon.isLocked()).thenReturn(true);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
 
         Map<Block, DefenseBlock> defenseBlocks = new HashMap<>();
         when(defenseBlock.getLevel()).thenReturn(1);
@@ -625,7 +580,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(beacon.getOwnership()).thenReturn(otherTeam);
         when(beacon.isLocked()).thenReturn(false);
         when(beacon.getHighestBlockLevel()).thenReturn(10);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
 
         Map<Block, DefenseBlock> defenseBlocks = new HashMap<>();
         when(defenseBlock.getLevel()).thenReturn(10);
@@ -660,7 +615,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(beacon.getOwnership()).thenReturn(otherTeam);
         when(beacon.isLocked()).thenReturn(false);
         when(beacon.getHighestBlockLevel()).thenReturn(10);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
 
         Map<Block, DefenseBlock> defenseBlocks = new HashMap<>();
         when(defenseBlock.getLevel()).thenReturn(5); // Not highest
@@ -704,7 +659,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(beacon.getY()).thenReturn(64);
         when(beacon.getHeight()).thenReturn(65);
         when(beacon.getOwnership()).thenReturn(team);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
 
         Map<Block, DefenseBlock> defenseBlocks = new HashMap<>();
         when(defenseBlock.getPlacer()).thenReturn(playerUUID);
@@ -735,7 +690,7 @@ class BeaconPassiveDefenseListenerTest extends CommonTestBase {
         when(beacon.getY()).thenReturn(64);
         when(beacon.getHeight()).thenReturn(65);
         when(beacon.getOwnership()).thenReturn(otherTeam);
-        when(register.getBeaconAt(new Point2D.Double(100, 100))).thenReturn(beacon);
+        when(register.getBaseBeaconAt(100, 100)).thenReturn(beacon);
 
         Block otherBlock = mock(Block.class);
         DefenseBlock otherDefBlock = mock(DefenseBlock.class);
@@ -1,9 +1,8 @@
 package com.wasteofplastic.beaconz.listeners;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -28,7 +27,6 @@ import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.block.BlockSpreadEvent;
 import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
-import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.inventory.InventoryOpenEvent;
 import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.event.player.PlayerBucketEmptyEvent;
@@ -62,7 +60,6 @@ class BeaconProtectionListenerTest extends CommonTestBase {
     @Mock private BlockFromToEvent liquidFlowEvent;
     @Mock private BlockPlaceEvent blockPlaceEvent;
     @Mock private BlockDamageEvent blockDamageEvent;
-    @Mock private EntityExplodeEvent explodeEvent;
     @Mock private EntityDamageByEntityEvent edByEntityEvent;
     @Mock private EntityDamageEvent edEvent;
     @Mock private InventoryOpenEvent inventoryOpenEvent;
@@ -155,7 +152,7 @@ class BeaconProtectionListenerTest extends CommonTestBase {
         when(block.getRelative(BlockFace.DOWN)).thenReturn(belowBlock);
         when(belowBlock.getType()).thenReturn(Material.BEACON);
         when(plugin.getRegister().isBeacon(belowBlock)).thenReturn(true);
-        when(beacon.isNotClear()).thenReturn(true);
+        when(beacon.isNotClearIfChanged()).thenReturn(true);
         when(beacon.getOwnership()).thenReturn(otherTeam);
         listener.onBeaconDamage(blockDamageEvent);
         verify(blockDamageEvent).setCancelled(true);
@@ -174,21 +171,6 @@ class BeaconProtectionListenerTest extends CommonTestBase {
         verify(blockDamageEvent, never()).setCancelled(true);
     }
 
-    // onExplode
-    @Test
-    void testOnExplodeRemovesBeaconsFromDamageList() {
-        when(explodeEvent.getLocation()).thenReturn(location);
-        when(location.getWorld()).thenReturn(world);
-        Block beaconBlock = mock(Block.class);
-        Block otherBlock = mock(Block.class);
-        when(explodeEvent.blockList()).thenReturn(new java.util.ArrayList<>(java.util.List.of(beaconBlock, otherBlock)));
-        when(plugin.getRegister().isBeacon(beaconBlock)).thenReturn(true);
-        when(plugin.getRegister().isBeacon(otherBlock)).thenReturn(false);
-        listener.onExplode(explodeEvent);
-        assertEquals(1, explodeEvent.blockList().size());
-        assertTrue(explodeEvent.blockList().contains(otherBlock));
-    }
-
     // onBlockSpread
     @Test
     void testOnBlockSpreadNonLeavesSetToAir() {
@@ -324,11 +306,42 @@ class BeaconProtectionListenerTest extends CommonTestBase {
         when(from.getX()).thenReturn(100);
         when(from.getZ()).thenReturn(100);
         when(plugin.getRegister().getBeaconAt(101,100)).thenReturn(null);
-        when(mgr.getGame(from.getLocation())).thenReturn(null);
+        when(mgr.getGame(100, 100)).thenReturn(null);
         listener.onLiquidFlow(liquidFlowEvent);
         verify(liquidFlowEvent).setCancelled(true);
     }
 
+    @Test
+    void testOnLiquidFlowAwayFromBeaconsSkipsBeaconLookup() {
+        Block from = mock(Block.class);
+        Block to = mock(Block.class);
+        when(liquidFlowEvent.getBlock()).thenReturn(from);
+        when(liquidFlowEvent.getToBlock()).thenReturn(to);
+        when(from.getWorld()).thenReturn(world);
+        when(to.getX()).thenReturn(101);
+        when(to.getZ()).thenReturn(100);
+        when(from.getX()).thenReturn(100);
+        when(from.getZ()).thenReturn(100);
+        when(plugin.getRegister().isProtectedColumn(101, 100)).thenReturn(false);
+        when(mgr.getGame(100, 100)).thenReturn(game);
+        listener.onLiquidFlow(liquidFlowEvent);
+        verify(plugin.getRegister(), never()).getBeaconAt(anyInt(), anyInt());
+        verify(liquidFlowEvent, never()).setCancelled(true);
+    }
+
+    @Test
+    void testOnBlockSpreadAwayFromBeaconsSkipsBeaconLookup() {
+        Block spreadBlock = mock(Block.class);
+        when(blockSpreadEvent.getBlock()).thenReturn(spreadBlock);
+        when(spreadBlock.getWorld()).thenReturn(world);
+        when(spreadBlock.getX()).thenReturn(100);
+        when(spreadBlock.getZ()).thenReturn(100);
+        when(plugin.getRegister().isProtectedColumn(100, 100)).thenReturn(false);
+        listener.onBlockSpread(blockSpreadEvent);
+        verify(plugin.getRegister(), never()).getBeaconAt(anyInt(), anyInt());
+        verify(spreadBlock, never()).setType(any());
+    }
+
     // onBlockPlace
     @Test
     void testOnBlockPlaceLobbyNonOpCancelled() {
@@ -0,0 +1,98 @@
+package com.wasteofplastic.beaconz.listeners;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.event.block.FluidLevelChangeEvent;
+import org.bukkit.event.block.LeavesDecayEvent;
+import org.bukkit.event.block.SpongeAbsorbEvent;
+import org.bukkit.event.block.TNTPrimeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests BeaconStructureListener, which tells the register about block changes in beacon columns.
+ */
+class BeaconStructureListenerTest extends CommonTestBase {
+
+    private BeaconStructureListener listener;
+
+    @BeforeEach
+    void setUpListener() {
+        listener = new BeaconStructureListener(plugin);
+        when(block.getX()).thenReturn(3);
+        when(block.getZ()).thenReturn(-4);
+    }
+
+    /** Leaves decaying over a beacon forget its checks. */
+    @Test
+    void testLeavesDecay() {
+        LeavesDecayEvent event = mock(LeavesDecayEvent.class);
+        when(event.getBlock()).thenReturn(block);
+
+        listener.onLeavesDecay(event);
+
+        verify(register).blockChanged(3, -4);
+    }
+
+    /** Primed TNT leaves its block. */
+    @Test
+    void testTntPrime() {
+        TNTPrimeEvent event = mock(TNTPrimeEvent.class);
+        when(event.getBlock()).thenReturn(block);
+
+        listener.onTntPrime(event);
+
+        verify(register).blockChanged(3, -4);
+    }
+
+    /** Water level changes count as block changes. */
+    @Test
+    void testFluidLevelChange() {
+        FluidLevelChangeEvent event = mock(FluidLevelChangeEvent.class);
+        when(event.getBlock()).thenReturn(block);
+
+        listener.onFluidLevelChange(event);
+
+        verify(register).blockChanged(3, -4);
+    }
+
+    /** A sponge changes its own block and every block of water it soaks up. */
+    @Test
+    void testSpongeAbsorb() {
+        Block water = mock(Block.class);
+        when(water.getWorld()).thenReturn(world);
+        when(water.getX()).thenReturn(5);
+        when(water.getZ()).thenReturn(6);
+        BlockState state = mock(BlockState.class);
+        when(state.getBlock()).thenReturn(water);
+        SpongeAbsorbEvent event = mock(SpongeAbsorbEvent.class);
+        when(event.getBlock()).thenReturn(block);
+        when(event.getBlocks()).thenReturn(List.of(state));
+
+        listener.onSpongeAbsorb(event);
+
+        verify(register).blockChanged(3, -4);
+        verify(register).blockChanged(5, 6);
+    }
+
+    /** Changes in other worlds are ignored. */
+    @Test
+    void testOtherWorld() {
+        when(block.getWorld()).thenReturn(mock(World.class));
+        LeavesDecayEvent event = mock(LeavesDecayEvent.class);
+        when(event.getBlock()).thenReturn(block);
+
+        listener.onLeavesDecay(event);
+
+        verify(register, never()).blockChanged(anyInt(), anyInt());
+    }
+}
@@ -1,8 +1,6 @@
 package com.wasteofplastic.beaconz.listeners;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
@@ -21,7 +19,6 @@ import org.bukkit.block.Block;
 import org.bukkit.block.BlockState;
 import org.bukkit.entity.Player;
 import org.bukkit.event.block.BlockBreakEvent;
-import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.world.StructureGrowEvent;
 import org.bukkit.inventory.ItemStack;
 import org.junit.jupiter.api.Test;
@@ -29,7 +26,7 @@ import org.junit.jupiter.api.Test;
 import com.wasteofplastic.beaconz.core.BeaconObj;
 
 /**
- * Tests BeaconSurroundListener behaviors for block damage protection, explosion filtering, and tree growth prevention near beacons.
+ * Tests BeaconSurroundListener behaviors for block damage protection and tree growth prevention near beacons.
  */
 class BeaconSurroundListenerTest extends CommonTestBase {
 
@@ -145,45 +142,6 @@ class BeaconSurroundListenerTest extends CommonTestBase {
         verify(event).setCancelled(true);
     }
 
-    /** Explosion in wrong world leaves list untouched. */
-    @Test
-    void testOnExplodeWrongWorld() {
-        BeaconSurroundListener listener = new BeaconSurroundListener(plugin);
-        EntityExplodeEvent event = mock(EntityExplodeEvent.class);
-        World otherWorld = mock(World.class);
-        when(event.getLocation()).thenReturn(location);
-        when(location.getWorld()).thenReturn(otherWorld);
-
-        listener.onExplode(event);
-
-        verify(register, never()).getNearbyBeacons(any(), anyInt());
-    }
-
-    /** Protected blocks near beacons are removed from explosion damage list. */
-    @Test
-    void testOnExplodeRemovesProtectedNearBeacon() {
-        BeaconSurroundListener listener = new BeaconSurroundListener(plugin);
-        EntityExplodeEvent event = mock(EntityExplodeEvent.class);
-        when(event.getLocation()).thenReturn(location);
-        when(location.getWorld()).thenReturn(world);
-        Block protectedBlock = mock(Block.class);
-        Block otherBlock = mock(Block.class);
-        when(protectedBlock.getType()).thenReturn(Material.STONE);
-        when(otherBlock.getType()).thenReturn(Material.OAK_PLANKS);
-        when(protectedBlock.getLocation()).thenReturn(location);
-        when(otherBlock.getLocation()).thenReturn(location);
-        when(event.blockList()).thenReturn(new java.util.ArrayList<>(List.of(protectedBlock, otherBlock)));
-        BeaconObj beaconObj = mock(BeaconObj.class);
-        when(beaconObj.getY()).thenReturn(70);
-        when(register.getNearbyBeacons(location, 10)).thenReturn(List.of(beaconObj));
-        when(world.getMaxHeight()).thenReturn(256);
-
-        listener.onExplode(event);
-
-        assertEquals(2, event.blockList().size());
-        assertTrue(event.blockList().contains(otherBlock));
-    }
-
     /** Tree growth above a beacon cancels the event. */
     @Test
     void testOnTreeGrowAboveBeaconCancelled() {
@@ -1,60 +1,93 @@
 package com.wasteofplastic.beaconz.listeners;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
-import org.bukkit.Bukkit;
-import org.bukkit.ChatColor;
-import org.bukkit.event.player.AsyncPlayerChatEvent;
-import org.bukkit.scheduler.BukkitScheduler;
-import org.junit.jupiter.api.AfterEach;
+import org.bukkit.Location;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockbukkit.mockbukkit.entity.PlayerMock;
 import org.mockito.ArgumentCaptor;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
 
 import com.wasteofplastic.beaconz.config.Settings;
-import com.wasteofplastic.beaconz.game.Scorecard;
+import com.wasteofplastic.beaconz.core.Region;
+import com.wasteofplastic.beaconz.game.TeamBroadcaster;
+
+import io.papermc.paper.chat.ChatRenderer;
+import io.papermc.paper.event.player.AsyncChatEvent;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 
 /**
  * Tests for {@link ChatListener} covering team chat routing, spying, and broadcast fallbacks.
+ * Everything happens in the chat event itself, so nothing is scheduled on the main thread.
  */
 class ChatListenerTest extends CommonTestBase {
 
     private ChatListener listener;
-    private MockedStatic<Bukkit> mockedBukkit;
-    private BukkitScheduler scheduler;
+    private TeamBroadcaster broadcaster;
+    private Region region;
+    private Set<Audience> viewers;
+    private AsyncChatEvent event;
+    private ConsoleCommandSender console;
 
     @BeforeEach
     void setUpChat() {
-        scheduler = mock(BukkitScheduler.class);
-        when(plugin.getServer()).thenReturn(server);
-        mockedBukkit = Mockito.mockStatic(Bukkit.class, Mockito.RETURNS_DEEP_STUBS);
-        mockedBukkit.when(Bukkit::getMinecraftVersion).thenReturn("1.21.10");
-        mockedBukkit.when(Bukkit::getBukkitVersion).thenReturn("");
-        mockedBukkit.when(Bukkit::getServer).thenReturn(server);
-        mockedBukkit.when(Bukkit::getScheduler).thenReturn(scheduler);
-
+        broadcaster = new TeamBroadcaster(plugin);
+        when(plugin.getTeamBroadcaster()).thenReturn(broadcaster);
         listener = new ChatListener(plugin);
-        Settings.teamChat = true; // default enabled for tests that expect scheduling
+        Settings.teamChat = true; // default enabled for tests that expect team chat
+
+        region = mock(Region.class);
+        when(region.containsPoint(anyInt(), anyInt())).thenReturn(true);
+        when(team.displayName()).thenReturn(Component.text("TeamA"));
+        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(player.isOnline()).thenReturn(true);
+        when(player.getWorld()).thenReturn(world);
+        when(player.getLocation()).thenReturn(new Location(world, 0, 64, 0));
+
+        console = mock(ConsoleCommandSender.class);
+        viewers = new HashSet<>();
+        viewers.add(player);
+        viewers.add(console);
+        event = mock(AsyncChatEvent.class);
+        when(event.getPlayer()).thenReturn(player);
+        when(event.viewers()).thenReturn(viewers);
+    }
+
+    private static String plain(Component component) {
+        return PlainTextComponentSerializer.plainText().serialize(component);
+    }
+
+    private static Player online(String name) {
+        Player other = mock(Player.class);
+        when(other.getUniqueId()).thenReturn(UUID.randomUUID());
+        when(other.isOnline()).thenReturn(true);
+        when(other.getName()).thenReturn(name);
+        return other;
     }
 
-    @AfterEach
-    void tearDownChat() {
-        if (mockedBukkit != null) {
-            mockedBukkit.close();
-        }
+    /**
+     * Runs the listener and returns the renderer it set
+     */
+    private ChatRenderer chat() {
+        listener.onChat(event);
+        ArgumentCaptor<ChatRenderer> renderer = ArgumentCaptor.forClass(ChatRenderer.class);
+        verify(event).renderer(renderer.capture());
+        return renderer.getValue();
     }
 
     /** Construction sanity. */
@@ -64,140 +97,99 @@ class ChatListenerTest extends CommonTestBase {
     }
 
     /**
-     * onChat returns early when either beacon world or player is null. Ensures no cancellation/scheduling occurs.
+     * onChat returns early when the beacon world is null. Ensures no viewers or renderer are changed.
      */
     @Test
-    void testOnChatNullWorldOrPlayer() {
-        Settings.teamChat = true;
+    void testOnChatNullWorld() {
         when(plugin.getBeaconzWorld()).thenReturn(null); // null world triggers early return
-        AsyncPlayerChatEvent event = mock(AsyncPlayerChatEvent.class);
+        broadcaster.add(team, player, region);
         listener.onChat(event);
-        verify(event, never()).setCancelled(true);
-        verify(scheduler, never()).runTask(eq(plugin), any(Runnable.class));
+        verify(event, never()).renderer(any());
+        assertEquals(2, viewers.size());
     }
 
     /**
-     * onChat does nothing when team chat is disabled or player is in another world (no cancel, no schedule).
+     * onChat does nothing when team chat is disabled.
      */
     @Test
-    void testOnChatTeamChatDisabledOrOtherWorld() {
-        AsyncPlayerChatEvent event = mock(AsyncPlayerChatEvent.class);
-        when(event.getPlayer()).thenReturn(player);
-        when(player.getWorld()).thenReturn(world);
+    void testOnChatTeamChatDisabled() {
+        broadcaster.add(team, player, region);
         Settings.teamChat = false;
         listener.onChat(event);
-        verify(event, never()).setCancelled(anyBoolean());
-        verify(scheduler, never()).runTask(eq(plugin), any(Runnable.class));
+        verify(event, never()).renderer(any());
+        assertEquals(2, viewers.size());
     }
 
     /**
-     * onChat in Beaconz world with team chat enabled cancels the event and schedules teamChat runnable.
+     * Player in team with another online member -> only the team and spies see it, spies get the spy tag.
      */
     @Test
-    void testOnChatSchedulesTeamChat() {
-        AsyncPlayerChatEvent event = mock(AsyncPlayerChatEvent.class);
-        when(event.getPlayer()).thenReturn(player);
-        when(event.getMessage()).thenReturn("hello");
-        when(player.getWorld()).thenReturn(world);
-
-        listener.onChat(event);
-
-        verify(event).setCancelled(true);
-        verify(scheduler).runTask(eq(plugin), any(Runnable.class));
+    void testTeamChatTeamMembersOnlineWithSpy() {
+        // Team members: self + another online member
+        Player teammate = online("Mate");
+        broadcaster.add(team, player, region);
+        broadcaster.add(team, teammate, region);
+
+        // Spy and a player on no team
+        Player spy = online("Spy");
+        listener.toggleSpy(spy.getUniqueId());
+        Player stranger = online("Stranger");
+        viewers.add(teammate);
+        viewers.add(spy);
+        viewers.add(stranger);
+
+        ChatRenderer renderer = chat();
+
+        // Stranger no longer sees it, the console still logs it
+        assertEquals(Set.of(player, teammate, spy, console), viewers);
+        Component message = Component.text("msg");
+        Component teamLine = renderer.render(player, Component.text("Sender"), message, teammate);
+        assertEquals("[TeamA]<Sender> msg", plain(teamLine));
+        assertEquals(NamedTextColor.LIGHT_PURPLE, teamLine.color());
+        Component spyLine = renderer.render(player, Component.text("Sender"), message, spy);
+        assertEquals("[TCSpy] msg", plain(spyLine));
     }
 
     /**
-     * teamChat: player in team with another online member -> team-only delivery and spy notification.
+     * Player in team with no other online members -> everyone sees the team line.
      */
     @Test
-    void testTeamChatTeamMembersOnlineWithSpy() {
-        // Setup team membership
-        Scorecard sc = mock(Scorecard.class);
-        when(mgr.getSC(player)).thenReturn(sc);
-        when(sc.getTeam(player)).thenReturn(team);
-        when(team.getDisplayName()).thenReturn("TeamA");
-
-        // Team members: self + another online member
-        PlayerMock teammate = new PlayerMock(server, "Mate", UUID.randomUUID());
-        server.addPlayer(teammate);
-        when(team.getPlayers()).thenReturn(Set.of(player, teammate));
-        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
-        when(player.getDisplayName()).thenReturn("Sender");
-
-        // Spy setup
-        UUID spyId = UUID.randomUUID();
-        PlayerMock spy = new PlayerMock(server, "Spy", spyId);        
-        server.addPlayer(spy);
-        listener.toggleSpy(spyId);
+    void testTeamChatNoOtherMembersBroadcasts() {
+        broadcaster.add(team, player, region);
+        Player other = online("Other");
+        viewers.add(other);
 
-        // Capture and execute runnable
-        AsyncPlayerChatEvent event = mock(AsyncPlayerChatEvent.class);
-        when(player.getWorld()).thenReturn(world);
-        when(event.getPlayer()).thenReturn(player);
-        when(event.getMessage()).thenReturn("msg");
-        var runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
-        listener.onChat(event);
-        verify(scheduler).runTask(any(), runnableCaptor.capture());
-        runnableCaptor.getValue().run();
+        ChatRenderer renderer = chat();
 
-        // Verify teammate got team chat (spy gets spy tag)
-        teammate.assertSaid(ChatColor.LIGHT_PURPLE + "[TeamA]<Sender> msg");
-        spy.assertSaid(ChatColor.RED + "[TCSpy] " + ChatColor.WHITE + "msg");
+        assertEquals(3, viewers.size());
+        assertEquals("[TeamA]<Sender> solo",
+                plain(renderer.render(player, Component.text("Sender"), Component.text("solo"), other)));
     }
 
     /**
-     * teamChat: player in team with no other online members -> broadcast to everyone except sender.
+     * Player not in a team -> ordinary chat.
      */
     @Test
-    void testTeamChatNoOtherMembersBroadcasts() {
-        Scorecard sc = mock(Scorecard.class);
-        when(mgr.getSC(player)).thenReturn(sc);
-        when(sc.getTeam(player)).thenReturn(team);
-        when(team.getDisplayName()).thenReturn("TeamA");
-        when(team.getPlayers()).thenReturn(Set.of(player));
-        when(player.getUniqueId()).thenReturn(UUID.randomUUID());
-        when(player.getDisplayName()).thenReturn("Sender");
-
-        PlayerMock other = new PlayerMock(server, "Other", UUID.randomUUID());
-        server.addPlayer(other);
-
-        AsyncPlayerChatEvent event = mock(AsyncPlayerChatEvent.class);
+    void testTeamChatPlayerWithoutTeam() {
+        Player other = online("Other");
+        viewers.add(other);
 
-        when(player.getWorld()).thenReturn(world);
-        when(event.getPlayer()).thenReturn(player);
-        when(event.getMessage()).thenReturn("solo");
-        var runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
         listener.onChat(event);
-        verify(scheduler).runTask(any(), runnableCaptor.capture());
-        runnableCaptor.getValue().run();
 
-        other.assertSaid(ChatColor.LIGHT_PURPLE + "[TeamA]<Sender> solo");
+        verify(event, never()).renderer(any());
+        assertEquals(3, viewers.size());
     }
 
     /**
-     * teamChat: player not in a team -> default broadcast using event format.
+     * Player on a team but outside that game's region -> ordinary chat.
      */
     @Test
-    void testTeamChatPlayerWithoutTeam() {
-        Scorecard sc = mock(Scorecard.class);
-        when(mgr.getSC(player)).thenReturn(sc);
-        when(sc.getTeam(player)).thenReturn(null);
-        when(player.getDisplayName()).thenReturn("Sender");
-
-        PlayerMock other = new PlayerMock(server, "Other", UUID.randomUUID());
-        server.addPlayer(other);
+    void testTeamChatOutsideGameRegion() {
+        when(region.containsPoint(anyInt(), anyInt())).thenReturn(false);
+        broadcaster.add(team, player, region);
 
-        AsyncPlayerChatEvent event = mock(AsyncPlayerChatEvent.class);
-        when(player.getWorld()).thenReturn(world);
-        when(event.getPlayer()).thenReturn(player);
-        when(event.getMessage()).thenReturn("global");
-        when(event.getFormat()).thenReturn("SenderFormat");
-        var runnableCaptor = ArgumentCaptor.forClass(Runnable.class);
         listener.onChat(event);
-        verify(scheduler).runTask(any(), runnableCaptor.capture());
-        runnableCaptor.getValue().run();
 
-        other.assertSaid("SenderFormat: global");
+        verify(event, never()).renderer(any());
     }
 }
-
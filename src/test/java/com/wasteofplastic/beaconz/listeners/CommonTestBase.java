@@ -1,5 +1,6 @@
 package com.wasteofplastic.beaconz.listeners;
 
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.when;
 
 import java.util.logging.Logger;
@@ -212,6 +213,8 @@ public abstract class CommonTestBase {
         when(mgr.getGame(location)).thenReturn(game);
         when(register.getBeacon(block)).thenReturn(beacon);
         when(register.isBeacon(beaconBlock)).thenReturn(true);
+        // Every column counts as near a beacon unless a test says otherwise, so the listeners go on to the detailed checks
+        when(register.isProtectedColumn(anyInt(), anyInt())).thenReturn(true);
     }
 
     /**
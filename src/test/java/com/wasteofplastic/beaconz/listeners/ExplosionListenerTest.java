@@ -0,0 +1,108 @@
+package com.wasteofplastic.beaconz.listeners;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.wasteofplastic.beaconz.core.BeaconObj;
+
+/**
+ * Tests ExplosionListener, which keeps beacons, their defenses and their surroundings out of explosions.
+ */
+class ExplosionListenerTest extends CommonTestBase {
+
+    private ExplosionListener listener;
+    private EntityExplodeEvent event;
+    private List<Block> blocks;
+
+    @BeforeEach
+    void setUpListener() {
+        listener = new ExplosionListener(plugin);
+        event = mock(EntityExplodeEvent.class);
+        blocks = new ArrayList<>();
+        when(event.getLocation()).thenReturn(location);
+        when(location.getWorld()).thenReturn(world);
+        when(event.blockList()).thenReturn(blocks);
+    }
+
+    private static Block block(int x, int y, int z, Material type) {
+        Block block = mock(Block.class);
+        when(block.getX()).thenReturn(x);
+        when(block.getY()).thenReturn(y);
+        when(block.getZ()).thenReturn(z);
+        when(block.getType()).thenReturn(type);
+        return block;
+    }
+
+    /** Explosion in wrong world leaves the list untouched. */
+    @Test
+    void testWrongWorld() {
+        when(location.getWorld()).thenReturn(mock(World.class));
+        blocks.add(block(0, 64, 0, Material.BEACON));
+
+        listener.onExplode(event);
+
+        assertEquals(1, blocks.size());
+        verify(register, never()).getBeaconsInArea(anyInt(), anyInt(), anyInt(), anyInt());
+    }
+
+    /** Beacon blocks and blocks above beacons are removed from the damage list. */
+    @Test
+    void testRemovesBeaconsAndDefenses() {
+        Block beaconBlock = block(0, 64, 0, Material.BEACON);
+        Block defense = block(1, 70, 0, Material.OBSIDIAN);
+        Block other = block(2, 64, 0, Material.OAK_PLANKS);
+        blocks.addAll(List.of(beaconBlock, defense, other));
+        when(register.isBeacon(beaconBlock)).thenReturn(true);
+        when(register.isAboveBeacon(1, 70, 0)).thenReturn(true);
+
+        listener.onExplode(event);
+
+        assertEquals(List.of(other), blocks);
+    }
+
+    /** Protected materials within range of a beacon are removed, others are left. */
+    @Test
+    void testRemovesProtectedSurroundings() {
+        BeaconObj nearby = mock(BeaconObj.class);
+        when(nearby.getX()).thenReturn(0);
+        when(nearby.getZ()).thenReturn(0);
+        when(register.getBeaconsInArea(anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(List.of(nearby));
+        Block stone = block(3, 60, 0, Material.STONE);
+        Block planks = block(3, 60, 1, Material.OAK_PLANKS);
+        Block farStone = block(BeaconSurroundListener.RANGE, 60, 0, Material.STONE);
+        blocks.addAll(List.of(stone, planks, farStone));
+
+        listener.onExplode(event);
+
+        assertEquals(List.of(planks, farStone), blocks);
+    }
+
+    /** Blocks away from beacons are skipped without reading their state. */
+    @Test
+    void testSkipsBlocksAwayFromBeacons() {
+        when(register.isProtectedColumn(anyInt(), anyInt())).thenReturn(false);
+        Block stone = block(500, 60, 500, Material.STONE);
+        blocks.add(stone);
+
+        listener.onExplode(event);
+
+        assertEquals(1, blocks.size());
+        verify(stone, never()).getType();
+        verify(register, never()).isBeacon(any());
+    }
+}
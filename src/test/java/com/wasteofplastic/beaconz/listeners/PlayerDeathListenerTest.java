@@ -2,7 +2,11 @@ package com.wasteofplastic.beaconz.listeners;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +32,7 @@ import org.mockito.Mock;
 
 import com.wasteofplastic.beaconz.config.Params.GameMode;
 import com.wasteofplastic.beaconz.core.Region;
+import com.wasteofplastic.beaconz.storage.BeaconzStore;
 
 import net.kyori.adventure.text.Component;
 
@@ -37,6 +42,7 @@ class PlayerDeathListenerTest extends CommonTestBase {
     private PlayerDeathListener pdl;
     @Mock
     private Region lobby;
+    private BeaconzStore.Update update;
 
     /**
      * @throws java.lang.Exception
@@ -52,6 +58,9 @@ class PlayerDeathListenerTest extends CommonTestBase {
         when(lobby.isPlayerInRegion(player)).thenReturn(true);
         // Game
         when(mgr.getGame(location)).thenReturn(game);
+        // Vault updates are chained, so each call returns the same update
+        update = mock(BeaconzStore.Update.class, RETURNS_SELF);
+        when(store.update(any(), anyString())).thenReturn(update);
         pdl = new PlayerDeathListener(plugin);
     }
 
@@ -82,11 +91,13 @@ class PlayerDeathListenerTest extends CommonTestBase {
         @SuppressWarnings("removal")
         PlayerDeathEvent event = new PlayerDeathEvent(player, DamageSource.builder(DamageType.ARROW).build(), drops, 0, newExp, 0, 0, null);
         pdl.onDeath(event);
-        verify(store).storeInventory(player, PlayerDeathListener.LOBBY, location);
-        //verify(store).clearItems(player, PlayerDeathListener.LOBBY, location);
-        verify(store).setExp(player, PlayerDeathListener.LOBBY, newExp);
-        verify(store).setHealth(player, PlayerDeathListener.LOBBY, player.getAttribute(Attribute.MAX_HEALTH).getValue());
-        verify(store).setFood(player, PlayerDeathListener.LOBBY,  20); 
+        verify(store).update(player, PlayerDeathListener.LOBBY);
+        verify(update).storeInventory();
+        verify(update, never()).clearItems(any());
+        verify(update).exp(newExp);
+        verify(update).health(player.getAttribute(Attribute.MAX_HEALTH).getValue());
+        verify(update).food(20);
+        verify(update).commit();
     }
     
     /**
@@ -111,11 +122,13 @@ class PlayerDeathListenerTest extends CommonTestBase {
         @SuppressWarnings("removal")
         PlayerDeathEvent event = new PlayerDeathEvent(player, DamageSource.builder(DamageType.ARROW).build(), drops, 0, newExp, 0, 0, null);
         pdl.onDeath(event);
-        verify(store).storeInventory(player, GAMENAME, location);
-        verify(store).clearItems(player, GAMENAME, location);
-        verify(store).setExp(player, GAMENAME, newExp);
-        verify(store).setHealth(player, GAMENAME, player.getAttribute(Attribute.MAX_HEALTH).getValue());
-        verify(store).setFood(player, GAMENAME,  20);
+        verify(store).update(player, GAMENAME);
+        verify(update).storeInventory();
+        verify(update).clearItems(location);
+        verify(update).exp(newExp);
+        verify(update).health(player.getAttribute(Attribute.MAX_HEALTH).getValue());
+        verify(update).food(20);
+        verify(update).commit();
         assertEquals(0, drops.size());
     }
 
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
@@ -12,6 +14,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.bukkit.World;
 import org.bukkit.event.player.PlayerJoinEvent;
@@ -167,7 +170,7 @@ class PlayerJoinLeaveListenerTest extends CommonTestBase {
     }
 
     /**
-     * onJoin: queued messages exist -> schedules news delivery and clears messages.
+     * onJoin: queued messages exist -> takes them and delivers the news after a delay.
      */
     @Test
     void testOnJoinQueuedMessages() {
@@ -177,7 +180,11 @@ class PlayerJoinLeaveListenerTest extends CommonTestBase {
         List<String> queued = List.of("msg1", "msg2");
         UUID uuid = UUID.randomUUID();
         when(player.getUniqueId()).thenReturn(uuid);
-        when(messages.getMessages(uuid)).thenReturn(queued);
+        // Hand the messages straight back, as if they had been taken off the main thread
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<String>>>getArgument(1).accept(queued);
+            return null;
+        }).when(messages).takeMessages(eq(uuid), any());
         when(player.getWorld()).thenReturn(world);
         when(mgr.getGame(player.getLocation())).thenReturn(null);
 
@@ -190,7 +197,7 @@ class PlayerJoinLeaveListenerTest extends CommonTestBase {
         // Advance the scheduler by 40 ticks
         server.getScheduler().performTicks(40L);
         verify(player).sendMessage(Lang.titleBeaconzNews);
-        verify(messages).clearMessages(uuid);
+        verify(messages).takeMessages(eq(uuid), any());
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.wasteofplastic.beaconz.listeners;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -7,12 +8,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.awt.Point;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.bukkit.Location;
@@ -26,9 +30,12 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Sheep;
 import org.bukkit.entity.Vehicle;
+import org.bukkit.event.entity.EntityPotionEffectEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
 import org.bukkit.event.entity.PlayerLeashEntityEvent;
 import org.bukkit.event.hanging.HangingPlaceEvent;
 import org.bukkit.event.player.PlayerInteractEntityEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerShearEntityEvent;
 import org.bukkit.event.vehicle.VehicleDamageEvent;
 import org.bukkit.event.vehicle.VehicleMoveEvent;
@@ -44,7 +51,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
+import com.wasteofplastic.beaconz.config.FieldEffects;
 import com.wasteofplastic.beaconz.config.Lang;
+import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.Region;
 import com.wasteofplastic.beaconz.core.TriangleField;
 
@@ -381,6 +390,84 @@ class PlayerMovementListenerTest extends CommonTestBase {
         assertFalse(pml.getTriangleEffects().containsKey(uuid));
     }
 
+    /**
+     * Test case: Effects are only sent when the player's bundle changes.
+     * Staying at the same level sends nothing, and moving from an enemy field to a friendly one
+     * swaps the debuffs for the buffs. Dying or drinking milk means the bundle is sent again.
+     */
+    @Test
+    void testApplyTriangleEffectsOnlyOnChange() {
+        HashMap<Integer, List<PotionEffect>> oldEnemy = Settings.enemyFieldEffects;
+        HashMap<Integer, List<PotionEffect>> oldFriendly = Settings.friendlyFieldEffects;
+        try {
+            PotionEffect slow = new PotionEffect(PotionEffectType.SLOWNESS, Integer.MAX_VALUE, 1);
+            PotionEffect speed = new PotionEffect(PotionEffectType.SPEED, Integer.MAX_VALUE, 1);
+            Settings.enemyFieldEffects = new HashMap<>(Map.of(1, List.of(slow)));
+            Settings.friendlyFieldEffects = new HashMap<>(Map.of(1, List.of(speed)));
+            FieldEffects.rebuild();
+            when(mgr.getPlayerTeam(player)).thenReturn(team);
+            Team enemy = mock(Team.class);
+            when(enemy.displayName()).thenReturn(Component.text("Blue Team"));
+            TriangleField enemyField = mock(TriangleField.class);
+            when(enemyField.getOwner()).thenReturn(enemy);
+            TriangleField friendlyField = mock(TriangleField.class);
+            when(friendlyField.getOwner()).thenReturn(team);
+
+            // Entering, then moving about in the same field
+            pml.applyTriangleEffects(player, List.of(), List.of(enemyField));
+            pml.applyTriangleEffects(player, List.of(enemyField), List.of(enemyField));
+            pml.applyTriangleEffects(player, List.of(enemyField), List.of(enemyField));
+
+            verify(player, times(1)).addPotionEffects(List.of(slow));
+            assertEquals(List.of(slow), pml.getTriangleEffects(uuid));
+
+            // Straight into a friendly field
+            pml.applyTriangleEffects(player, List.of(enemyField), List.of(friendlyField));
+
+            verify(player).removePotionEffect(PotionEffectType.SLOWNESS);
+            verify(player).addPotionEffects(List.of(speed));
+            assertEquals(List.of(speed), pml.getTriangleEffects(uuid));
+
+            // Dying takes the effects off, so they are given again in the same field
+            PlayerDeathEvent death = mock(PlayerDeathEvent.class);
+            when(death.getEntity()).thenReturn(player);
+            pml.onDeath(death);
+            pml.applyTriangleEffects(player, List.of(friendlyField), List.of(friendlyField));
+
+            verify(player, times(2)).addPotionEffects(List.of(speed));
+
+            // So does milk
+            EntityPotionEffectEvent milk = mock(EntityPotionEffectEvent.class);
+            when(milk.getEntity()).thenReturn(player);
+            when(milk.getAction()).thenReturn(EntityPotionEffectEvent.Action.CLEARED);
+            pml.onEffectsCleared(milk);
+            pml.applyTriangleEffects(player, List.of(friendlyField), List.of(friendlyField));
+
+            verify(player, times(3)).addPotionEffects(List.of(speed));
+        } finally {
+            Settings.enemyFieldEffects = oldEnemy;
+            Settings.friendlyFieldEffects = oldFriendly;
+            FieldEffects.rebuild();
+        }
+    }
+
+    /**
+     * Test case: Refreshing forgets players who are no longer online, and quitting removes the player's effects.
+     */
+    @Test
+    void testRefreshAndQuit() {
+        PotionEffect effect = new PotionEffect(PotionEffectType.SPEED, 100, 1);
+        pml.getTriangleEffects().put(uuid, List.of(effect));
+
+        pml.refreshEffects();
+        assertTrue(pml.getTriangleEffects().isEmpty());
+
+        pml.getTriangleEffects().put(uuid, List.of(effect));
+        pml.onQuit(new PlayerQuitEvent(player, Component.empty(), PlayerQuitEvent.QuitReason.DISCONNECTED));
+        assertTrue(pml.getTriangleEffects(uuid).isEmpty());
+        verify(player).removePotionEffect(PotionEffectType.SPEED);
+    }
+
     /**
      * Test method for {@link com.wasteofplastic.beaconz.listeners.PlayerMovementListener#getTriangleEffects(java.util.UUID)}.
      */
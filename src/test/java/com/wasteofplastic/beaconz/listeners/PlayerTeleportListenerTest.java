@@ -3,9 +3,13 @@ package com.wasteofplastic.beaconz.listeners;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -14,6 +18,7 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -32,6 +37,7 @@ import com.wasteofplastic.beaconz.config.Lang;
 import com.wasteofplastic.beaconz.config.Params.GameMode;
 import com.wasteofplastic.beaconz.config.Settings;
 import com.wasteofplastic.beaconz.core.Region;
+import com.wasteofplastic.beaconz.core.Teleporter;
 
 import net.kyori.adventure.text.Component;
 
@@ -51,6 +57,8 @@ class PlayerTeleportListenerTest extends CommonTestBase {
     private Location gameLocation;
     @Mock
     private Location otherLocation;
+    @Mock
+    private Teleporter teleporter;
 
     private UUID playerUUID;
     private static final String GAME_NAME = "TestGame";
@@ -106,6 +114,8 @@ class PlayerTeleportListenerTest extends CommonTestBase {
         when(mgr.getGame(location)).thenReturn(null);
         when(mgr.getGame(lobbyLocation)).thenReturn(null);
 
+        when(plugin.getTeleporter()).thenReturn(teleporter);
+
         ptl = new PlayerTeleportListener(plugin);
     }
 
@@ -134,7 +144,6 @@ class PlayerTeleportListenerTest extends CommonTestBase {
         when(player.getWorld()).thenReturn(world);
         when(player.getName()).thenReturn("TestPlayer");
         when(player.getActivePotionEffects()).thenReturn(new ArrayList<>());
-        when(messages.getMessages(playerUUID)).thenReturn(null);
 
         PlayerChangedWorldEvent event = new PlayerChangedWorldEvent(player, otherWorld);
         ptl.onWorldEnter(event);
@@ -160,12 +169,19 @@ class PlayerTeleportListenerTest extends CommonTestBase {
         List<String> messages = new ArrayList<>();
         messages.add("Message 1");
         messages.add("Message 2");
-        when(this.messages.getMessages(playerUUID)).thenReturn(messages);
+        // Hand the messages straight back, as if they had been taken off the main thread
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<String>>>getArgument(1).accept(messages);
+            return null;
+        }).when(this.messages).takeMessages(eq(playerUUID), any());
 
         PlayerChangedWorldEvent event = new PlayerChangedWorldEvent(player, otherWorld);
         ptl.onWorldEnter(event);
 
         verify(nameStore).savePlayerName("TestPlayer", playerUUID);
+        server.getScheduler().performTicks(40L);
+        verify(player).sendMessage("1: Message 1");
+        verify(this.messages).takeMessages(eq(playerUUID), any());
     }
 
     /**
@@ -177,7 +193,6 @@ class PlayerTeleportListenerTest extends CommonTestBase {
         when(player.getWorld()).thenReturn(world);
         when(player.getName()).thenReturn("TestPlayer");
         when(player.getActivePotionEffects()).thenReturn(new ArrayList<>());
-        when(messages.getMessages(playerUUID)).thenReturn(null);
         when(mgr.isPlayerInLobby(player)).thenReturn(true);
 
         PlayerChangedWorldEvent event = new PlayerChangedWorldEvent(player, otherWorld);
@@ -200,7 +215,6 @@ class PlayerTeleportListenerTest extends CommonTestBase {
         effects.add(new PotionEffect(PotionEffectType.SPEED, 100, 1));
         effects.add(new PotionEffect(PotionEffectType.REGENERATION, 100, 1));
         when(player.getActivePotionEffects()).thenReturn(effects);
-        when(messages.getMessages(playerUUID)).thenReturn(null);
 
         PlayerChangedWorldEvent event = new PlayerChangedWorldEvent(player, otherWorld);
         ptl.onWorldEnter(event);
@@ -296,6 +310,50 @@ class PlayerTeleportListenerTest extends CommonTestBase {
 
         // OP players teleport immediately
         verify(player, never()).sendMessage(Lang.teleportDoNotMove.replaceText("[number]", Component.text(String.valueOf(Settings.teleportDelay))));
+        verify(teleporter).warmup(player, lobbyLocation, 0L);
+    }
+
+    /**
+     * Test method for {@link com.wasteofplastic.beaconz.listeners.PlayerTeleportListener#onTeleport(org.bukkit.event.player.PlayerTeleportEvent)}.
+     * Tests teleport from game to lobby - player must stand still first.
+     */
+    @Test
+    void testOnTeleportFromGameToLobbyWarmup() {
+        Location from = mock(Location.class);
+        when(from.getWorld()).thenReturn(world);
+        when(mgr.getGame(from)).thenReturn(game);
+        when(mgr.isLocationInLobby(from)).thenReturn(false);
+        when(player.isOp()).thenReturn(false);
+
+        PlayerTeleportEvent event = new PlayerTeleportEvent(player, from, lobbyLocation);
+        ptl.onTeleport(event);
+
+        assertTrue(event.isCancelled());
+        verify(player).sendMessage(any(Component.class));
+        verify(teleporter).warmup(player, lobbyLocation, Settings.teleportDelay * 20L);
+        verify(gameRegion, never()).exit(player);
+    }
+
+    /**
+     * Test method for {@link com.wasteofplastic.beaconz.listeners.PlayerTeleportListener#onTeleport(org.bukkit.event.player.PlayerTeleportEvent)}.
+     * Tests the teleport at the end of a warmup - should leave the game.
+     */
+    @Test
+    void testOnTeleportAfterWarmup() {
+        Location from = mock(Location.class);
+        when(from.getWorld()).thenReturn(world);
+        when(mgr.getGame(from)).thenReturn(game);
+        when(mgr.isLocationInLobby(from)).thenReturn(false);
+        when(teleporter.isCompleting(playerUUID)).thenReturn(true);
+
+        PlayerTeleportEvent event = new PlayerTeleportEvent(player, from, lobbyLocation);
+        ptl.onTeleport(event);
+
+        assertFalse(event.isCancelled());
+        verify(teleporter, never()).warmup(any(), any(), anyLong());
+        verify(gameRegion).exit(player);
+        verify(store).storeInventory(player, GAME_NAME, from);
+        verify(lobby).enterLobby(player);
     }
 
     /**
@@ -0,0 +1,216 @@
+package com.wasteofplastic.beaconz.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import com.wasteofplastic.beaconz.Beaconz;
+
+/**
+ * Tests for the per-player inventory vaults in {@link BeaconzStore}.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Vault files are written per game and player</li>
+ *   <li>Stored values are read back by a new store</li>
+ *   <li>Inventories from the old game_inv.yml are migrated</li>
+ *   <li>Removing a game deletes its vaults</li>
+ *   <li>Updates change a vault only when committed</li>
+ *   <li>Game names that differ only in symbols get their own folders</li>
+ *   <li>A player's vaults are written and dropped from memory when they leave</li>
+ * </ul>
+ */
+@DisplayName("BeaconzStore Inventory Vault Tests")
+class BeaconzStoreTest {
+
+    private ServerMock server;
+    private Beaconz plugin;
+    private Player player;
+    private UUID uuid;
+    private World world;
+
+    @TempDir
+    File tempDir;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        world = server.addSimpleWorld("beaconzworld");
+
+        // Plugin is not enabled, so writes happen when saveInventories is called
+        plugin = mock(Beaconz.class);
+        when(plugin.getDataFolder()).thenReturn(tempDir);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.isEnabled()).thenReturn(false);
+        when(plugin.getLogger()).thenReturn(java.util.logging.Logger.getLogger("BeaconzStoreTest"));
+
+        uuid = UUID.randomUUID();
+        player = mock(Player.class);
+        when(player.getUniqueId()).thenReturn(uuid);
+        when(player.getName()).thenReturn("tastybento");
+        when(player.getInventory()).thenReturn(mock(PlayerInventory.class));
+        when(player.getInventory().getContents()).thenReturn(new ItemStack[0]);
+        when(player.getHealth()).thenReturn(15D);
+        when(player.getFoodLevel()).thenReturn(12);
+        when(player.getLocation()).thenReturn(new Location(world, 10, 64, 20));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("Should write one vault file per game and player")
+    void testStoreInventoryWritesVault() {
+        BeaconzStore store = new BeaconzStore(plugin);
+
+        store.storeInventory(player, "game1", null);
+        store.saveInventories();
+
+        File vault = new File(tempDir, "inventories/game1/" + uuid + ".yml");
+        assertTrue(vault.exists(), "Vault file should be written");
+        YamlConfiguration yml = YamlConfiguration.loadConfiguration(vault);
+        assertEquals(12, yml.getInt("food"));
+        assertEquals(15D, yml.getDouble("health"));
+        verify(player.getInventory()).clear();
+    }
+
+    @Test
+    @DisplayName("Should read a vault back in a new store")
+    void testRoundTrip() {
+        BeaconzStore store = new BeaconzStore(plugin);
+        store.storeInventory(player, "game1", null);
+        store.setFood(player, "game1", 7);
+        store.saveInventories();
+
+        BeaconzStore reloaded = new BeaconzStore(plugin);
+        Location location = reloaded.getInventory(player, "game1");
+
+        verify(player).setFoodLevel(7);
+        verify(player).setHealth(15D);
+        assertNotNull(location, "Last location should be stored");
+        assertEquals(10, location.getBlockX());
+        assertEquals(20, location.getBlockZ());
+    }
+
+    @Test
+    @DisplayName("Should migrate inventories from game_inv.yml")
+    void testMigrateLegacyStore() throws Exception {
+        YamlConfiguration legacy = new YamlConfiguration();
+        legacy.set("game1." + uuid + ".food", 5);
+        legacy.set("game1." + uuid + ".health", 9D);
+        legacy.save(new File(tempDir, "game_inv.yml"));
+
+        BeaconzStore store = new BeaconzStore(plugin);
+
+        assertFalse(new File(tempDir, "game_inv.yml").exists(), "Old file should be renamed");
+        assertTrue(new File(tempDir, "game_inv.old").exists(), "Old file should be kept as a backup");
+        assertTrue(new File(tempDir, "inventories/game1/" + uuid + ".yml").exists(), "Vault should be written");
+        store.getInventory(player, "game1");
+        verify(player).setFoodLevel(5);
+        verify(player).setHealth(9D);
+    }
+
+    @Test
+    @DisplayName("Should delete a game's vaults when the game is removed")
+    void testRemoveGame() {
+        BeaconzStore store = new BeaconzStore(plugin);
+        store.storeInventory(player, "game1", null);
+        store.storeInventory(player, "game2", null);
+        store.saveInventories();
+
+        store.removeGame("game1");
+
+        assertFalse(new File(tempDir, "inventories/game1").exists(), "Removed game's folder should be deleted");
+        assertTrue(new File(tempDir, "inventories/game2/" + uuid + ".yml").exists(), "Other game should be kept");
+    }
+
+    @Test
+    @DisplayName("Should apply an update's changes together when it is committed")
+    void testUpdate() {
+        BeaconzStore store = new BeaconzStore(plugin);
+        Location spawn = new Location(world, 1, 70, 2);
+
+        BeaconzStore.Update update = store.update(player, "game1")
+                .storeInventory()
+                .clearItems(spawn)
+                .exp(5)
+                .health(20D)
+                .food(20);
+
+        assertEquals(0, store.getPendingWrites(), "Nothing should change before commit");
+        verify(player.getInventory(), never()).clear();
+
+        update.commit();
+
+        assertEquals(1, store.getPendingWrites());
+        verify(player.getInventory()).clear();
+        store.saveInventories();
+        YamlConfiguration yml = YamlConfiguration.loadConfiguration(new File(tempDir, "inventories/game1/" + uuid + ".yml"));
+        assertFalse(yml.contains("inventory"), "Cleared items should not be stored");
+        assertEquals(5, yml.getInt("exp"));
+        assertEquals(20D, yml.getDouble("health"));
+        assertEquals(20, yml.getInt("food"));
+        assertEquals(70, yml.getLocation("location").getBlockY());
+    }
+
+    @Test
+    @DisplayName("Should keep games whose names only differ in symbols apart")
+    void testFolderNames() {
+        assertEquals("game1", BeaconzStore.folderName("game1"));
+        assertEquals("red%20team", BeaconzStore.folderName("red team"));
+        assertEquals("red_team", BeaconzStore.folderName("red_team"));
+        assertEquals("%2E%2E", BeaconzStore.folderName(".."));
+
+        BeaconzStore store = new BeaconzStore(plugin);
+        store.storeInventory(player, "red team", null);
+        store.setFood(player, "red_team", 3);
+        store.saveInventories();
+
+        assertTrue(new File(tempDir, "inventories/red%20team/" + uuid + ".yml").exists());
+        YamlConfiguration yml = YamlConfiguration.loadConfiguration(new File(tempDir, "inventories/red_team/" + uuid + ".yml"));
+        assertEquals(3, yml.getInt("food"));
+        assertFalse(yml.contains("health"), "The other game's vault should not be mixed in");
+    }
+
+    @Test
+    @DisplayName("Should write a player's vaults and drop them from memory when they leave")
+    void testUnloadPlayer() {
+        BeaconzStore store = new BeaconzStore(plugin);
+        store.storeInventory(player, "game1", null);
+        store.setFood(player, "game2", 6);
+        assertEquals(2, store.getLoadedVaults());
+
+        store.unloadPlayer(uuid);
+
+        assertEquals(0, store.getLoadedVaults());
+        assertEquals(0, store.getPendingWrites());
+        YamlConfiguration yml = YamlConfiguration.loadConfiguration(new File(tempDir, "inventories/game2/" + uuid + ".yml"));
+        assertEquals(6, yml.getInt("food"));
+        store.getInventory(player, "game1");
+        verify(player).setHealth(15D);
+    }
+}
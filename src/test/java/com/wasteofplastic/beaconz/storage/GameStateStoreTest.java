@@ -0,0 +1,133 @@
+package com.wasteofplastic.beaconz.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.storage.GameStateStore.Document;
+
+/**
+ * Tests for {@link GameStateStore}, the in-memory games.yml and teams.yml.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Documents are read from disk once and then served from memory</li>
+ *   <li>Changed sections are tracked per document until a flush</li>
+ *   <li>A flush writes each changed document once and keeps the old file</li>
+ *   <li>Changes are flushed at the end of the write delay when the plugin is enabled</li>
+ * </ul>
+ */
+@DisplayName("GameStateStore Tests")
+class GameStateStoreTest {
+
+    private ServerMock server;
+    private Beaconz plugin;
+    private GameStateStore store;
+
+    @TempDir
+    File tempDir;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        // Plugin is not enabled, so flushes write on this thread
+        plugin = mock(Beaconz.class);
+        when(plugin.getDataFolder()).thenReturn(tempDir);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.getLogger()).thenReturn(java.util.logging.Logger.getLogger("GameStateStoreTest"));
+        store = new GameStateStore(plugin);
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    @DisplayName("Should read a document once and keep it in memory")
+    void testLoadOnce() throws Exception {
+        Files.writeString(new File(tempDir, "teams.yml").toPath(), "game:\n  red:\n    spawnpoint: here\n", StandardCharsets.UTF_8);
+
+        YamlConfiguration teams = store.get(Document.TEAMS);
+        assertEquals("here", teams.getString("game.red.spawnpoint"));
+
+        // Later changes to the file are not read again
+        Files.writeString(new File(tempDir, "teams.yml").toPath(), "game:\n  red:\n    spawnpoint: there\n", StandardCharsets.UTF_8);
+        assertSame(teams, store.get(Document.TEAMS));
+        assertEquals("here", store.get(Document.TEAMS).getString("game.red.spawnpoint"));
+    }
+
+    @Test
+    @DisplayName("Should track changed sections until a flush")
+    void testDirty() {
+        store.get(Document.GAMES).set("game.one.nbrteams", 2);
+        store.markDirty(Document.GAMES, "one");
+        store.get(Document.GAMES).set("game.two.nbrteams", 3);
+        store.markDirty(Document.GAMES, "two");
+
+        assertEquals(Set.of("one", "two"), store.getDirtySections(Document.GAMES));
+        assertTrue(store.getDirtySections(Document.TEAMS).isEmpty());
+
+        store.flush();
+        assertTrue(store.getDirtySections(Document.GAMES).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should write changed documents only and keep the replaced file")
+    void testFlush() {
+        File games = new File(tempDir, "games.yml");
+        store.get(Document.GAMES).set("game.one.nbrteams", 2);
+        store.markDirty(Document.GAMES, "one");
+
+        store.flush();
+
+        assertTrue(games.exists());
+        assertFalse(new File(tempDir, "games.old").exists());
+        assertFalse(new File(tempDir, "teams.yml").exists());
+        assertEquals(2, YamlConfiguration.loadConfiguration(games).getInt("game.one.nbrteams"));
+
+        // Second flush keeps the first file as the backup
+        store.get(Document.GAMES).set("game.one.nbrteams", 4);
+        store.markDirty(Document.GAMES, "one");
+        store.flush();
+
+        assertEquals(4, YamlConfiguration.loadConfiguration(games).getInt("game.one.nbrteams"));
+        assertEquals(2, YamlConfiguration.loadConfiguration(new File(tempDir, "games.old")).getInt("game.one.nbrteams"));
+        assertFalse(new File(tempDir, "games.yml.tmp").exists());
+    }
+
+    @Test
+    @DisplayName("Should flush by itself after the write delay when enabled")
+    void testScheduledFlush() {
+        when(plugin.isEnabled()).thenReturn(true);
+        store.get(Document.TEAMS).set("game.red.members", List.of("a"));
+        store.markDirty(Document.TEAMS, "game");
+
+        server.getScheduler().performTicks(19);
+        assertEquals(Set.of("game"), store.getDirtySections(Document.TEAMS));
+
+        server.getScheduler().performOneTick();
+        assertTrue(store.getDirtySections(Document.TEAMS).isEmpty());
+        server.getScheduler().waitAsyncTasksFinished();
+        assertTrue(new File(tempDir, "teams.yml").exists());
+    }
+}
@@ -0,0 +1,227 @@
+package com.wasteofplastic.beaconz.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+import org.mockbukkit.mockbukkit.entity.PlayerMock;
+
+import com.wasteofplastic.beaconz.Beaconz;
+import com.wasteofplastic.beaconz.config.Settings;
+
+/**
+ * Tests for the offline message journal in {@link Messages}.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Messages are appended to the player's segment and read back</li>
+ *   <li>The per-player cap keeps only the newest messages</li>
+ *   <li>Expired messages are dropped</li>
+ *   <li>Messages from the old messages.yml are migrated</li>
+ *   <li>Messages are taken off the main thread and handed back on it, without losing any
+ *       that are being written at the same time</li>
+ * </ul>
+ */
+@DisplayName("Messages Journal Tests")
+class MessagesTest {
+
+    private ServerMock server;
+    private Beaconz plugin;
+    private UUID uuid;
+    private int oldCap;
+    private int oldDays;
+
+    @TempDir
+    File tempDir;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+
+        // Plugin is not enabled, so appends happen when saveMessages is called
+        plugin = mock(Beaconz.class);
+        when(plugin.getDataFolder()).thenReturn(tempDir);
+        when(plugin.getServer()).thenReturn(server);
+        when(plugin.isEnabled()).thenReturn(false);
+        when(plugin.getLogger()).thenReturn(java.util.logging.Logger.getLogger("MessagesTest"));
+
+        // An offline player
+        uuid = UUID.randomUUID();
+        oldCap = Settings.maxOfflineMessages;
+        oldDays = Settings.offlineMessageDays;
+        Settings.maxOfflineMessages = 50;
+        Settings.offlineMessageDays = 7;
+    }
+
+    @AfterEach
+    void tearDown() {
+        Settings.maxOfflineMessages = oldCap;
+        Settings.offlineMessageDays = oldDays;
+        MockBukkit.unmock();
+    }
+
+    private File segment() {
+        return new File(tempDir, "messages/" + uuid + ".log");
+    }
+
+    @Test
+    @DisplayName("Should append messages to the player's segment and read them back")
+    void testRoundTrip() {
+        Messages messages = new Messages(plugin);
+        assertTrue(messages.loadMessages());
+
+        messages.setMessage(uuid, "Beacon lost");
+        messages.setMessage(uuid, "Two\nlines");
+        // Queued messages are visible before they are written
+        assertEquals(List.of("Beacon lost", "Two\nlines"), messages.getMessages(uuid));
+        messages.saveMessages();
+
+        assertTrue(segment().exists(), "Segment should be written");
+        Messages reloaded = new Messages(plugin);
+        reloaded.loadMessages();
+        assertEquals(List.of("Beacon lost", "Two\nlines"), reloaded.getMessages(uuid));
+        assertNull(reloaded.getMessages(UUID.randomUUID()), "Other players should have no messages");
+    }
+
+    @Test
+    @DisplayName("Should clear a player's segment")
+    void testClearMessages() {
+        Messages messages = new Messages(plugin);
+        messages.loadMessages();
+        messages.setMessage(uuid, "Triangle made");
+        messages.saveMessages();
+
+        messages.clearMessages(uuid);
+
+        assertFalse(segment().exists(), "Segment should be deleted");
+        assertNull(messages.getMessages(uuid));
+    }
+
+    @Test
+    @DisplayName("Should keep only the newest messages up to the cap")
+    void testCap() throws Exception {
+        Settings.maxOfflineMessages = 3;
+        Messages messages = new Messages(plugin);
+        messages.loadMessages();
+        for (int i = 1; i <= 5; i++) {
+            messages.setMessage(uuid, "message " + i);
+        }
+        messages.saveMessages();
+
+        assertEquals(List.of("message 3", "message 4", "message 5"), messages.getMessages(uuid));
+        assertEquals(3, Files.readAllLines(segment().toPath(), StandardCharsets.UTF_8).size(), "Segment should be compacted");
+    }
+
+    @Test
+    @DisplayName("Should drop expired messages when loading")
+    void testExpiry() throws Exception {
+        long old = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(8);
+        segment().getParentFile().mkdirs();
+        Files.writeString(segment().toPath(), old + "\tOld news\n", StandardCharsets.UTF_8);
+
+        Messages messages = new Messages(plugin);
+        messages.loadMessages();
+
+        assertNull(messages.getMessages(uuid));
+        assertFalse(segment().exists(), "Empty segment should be deleted");
+    }
+
+    @Test
+    @DisplayName("Should migrate messages from messages.yml")
+    void testMigrateLegacyStore() throws Exception {
+        YamlConfiguration legacy = new YamlConfiguration();
+        legacy.set("messages." + uuid, List.of("Game over"));
+        legacy.save(new File(tempDir, "messages.yml"));
+
+        Messages messages = new Messages(plugin);
+        assertTrue(messages.loadMessages());
+
+        assertFalse(new File(tempDir, "messages.yml").exists(), "Old file should be renamed");
+        assertTrue(new File(tempDir, "messages.old").exists(), "Old file should be kept as a backup");
+        List<String> result = messages.getMessages(uuid);
+        assertNotNull(result);
+        assertEquals(List.of("Game over"), result);
+    }
+
+    @Test
+    @DisplayName("Should take messages off the main thread and hand them back on it")
+    void testTakeMessages() {
+        Messages messages = new Messages(plugin);
+        messages.loadMessages();
+        messages.setMessage(uuid, "Beacon lost");
+        messages.saveMessages();
+        when(plugin.isEnabled()).thenReturn(true);
+        server.addPlayer(new PlayerMock(server, "Alice", uuid));
+
+        List<List<String>> delivered = new ArrayList<>();
+        messages.takeMessages(uuid, delivered::add);
+        messages.takeMessages(UUID.randomUUID(), delivered::add);
+        server.getScheduler().waitAsyncTasksFinished();
+        server.getScheduler().performOneTick();
+
+        assertEquals(List.of(List.of("Beacon lost")), delivered, "Only players with messages get them");
+        assertFalse(segment().exists(), "Taken messages should be removed from the journal");
+        assertNull(messages.getMessages(uuid));
+    }
+
+    @Test
+    @DisplayName("Should not lose messages that are being written when the player joins")
+    void testTakeMessagesDuringFlush() {
+        when(plugin.isEnabled()).thenReturn(true);
+        Messages messages = new Messages(plugin);
+        messages.loadMessages();
+        messages.setMessage(uuid, "Beacon lost");
+        messages.setMessage(uuid, "Triangle lost");
+
+        // The flush hands the queue to the async writer as the player joins
+        server.getScheduler().performTicks(20L);
+        server.addPlayer(new PlayerMock(server, "Alice", uuid));
+        List<List<String>> delivered = new ArrayList<>();
+        messages.takeMessages(uuid, delivered::add);
+        server.getScheduler().waitAsyncTasksFinished();
+        server.getScheduler().performOneTick();
+
+        assertEquals(List.of(List.of("Beacon lost", "Triangle lost")), delivered,
+                "Messages are delivered whether the writer or the reader ran first");
+        assertFalse(segment().exists(), "Nothing should be left to deliver twice");
+        assertNull(messages.getMessages(uuid));
+    }
+
+    @Test
+    @DisplayName("Should keep taken messages if the player has left")
+    void testTakeMessagesPlayerLeft() {
+        Messages messages = new Messages(plugin);
+        messages.loadMessages();
+        messages.setMessage(uuid, "Beacon lost");
+        messages.saveMessages();
+        when(plugin.isEnabled()).thenReturn(true);
+
+        List<List<String>> delivered = new ArrayList<>();
+        messages.takeMessages(uuid, delivered::add);
+        server.getScheduler().waitAsyncTasksFinished();
+        server.getScheduler().performOneTick();
+
+        assertTrue(delivered.isEmpty(), "Offline players are not handed messages");
+        assertEquals(List.of("Beacon lost"), messages.getMessages(uuid), "Messages should be queued again");
+    }
+}
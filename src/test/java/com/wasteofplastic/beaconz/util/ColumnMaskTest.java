@@ -0,0 +1,84 @@
+package com.wasteofplastic.beaconz.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ColumnMask}.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Columns are added and removed, including negative coordinates and chunk edges</li>
+ *   <li>Neighbouring columns and chunks are not affected</li>
+ *   <li>The mask agrees with a plain set</li>
+ * </ul>
+ */
+@DisplayName("ColumnMask Tests")
+class ColumnMaskTest {
+
+    @Test
+    @DisplayName("Should add and remove single columns")
+    void testSetUnset() {
+        ColumnMask mask = new ColumnMask();
+        assertFalse(mask.contains(0, 0));
+
+        mask.set(-1, -1);
+        mask.set(15, 15);
+        mask.set(-16, 16);
+
+        assertTrue(mask.contains(-1, -1));
+        assertTrue(mask.contains(15, 15));
+        assertTrue(mask.contains(-16, 16));
+        assertFalse(mask.contains(-1, 0));
+        assertFalse(mask.contains(16, 15));
+        assertFalse(mask.contains(-17, 16));
+
+        mask.unset(15, 15);
+        assertFalse(mask.contains(15, 15));
+        assertTrue(mask.contains(-1, -1));
+        // Unsetting a column in a chunk that has never been used does nothing
+        mask.unset(1000, 1000);
+
+        mask.clear();
+        assertFalse(mask.contains(-1, -1));
+        assertFalse(mask.contains(-16, 16));
+    }
+
+    @Test
+    @DisplayName("Should agree with a set of columns")
+    void testAgainstSet() {
+        ColumnMask mask = new ColumnMask();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            int x = random.nextInt(400) - 200;
+            int z = random.nextInt(400) - 200;
+            if (random.nextInt(3) == 0) {
+                mask.unset(x, z);
+                expected.remove(CoordIndex.key(x, z));
+            } else {
+                mask.set(x, z);
+                expected.add(CoordIndex.key(x, z));
+            }
+        }
+        int found = 0;
+        for (int x = -200; x < 200; x++) {
+            for (int z = -200; z < 200; z++) {
+                boolean contains = mask.contains(x, z);
+                assertEquals(expected.contains(CoordIndex.key(x, z)), contains);
+                if (contains) {
+                    found++;
+                }
+            }
+        }
+        assertEquals(expected.size(), found);
+    }
+}
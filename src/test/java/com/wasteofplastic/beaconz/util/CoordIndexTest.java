@@ -0,0 +1,79 @@
+package com.wasteofplastic.beaconz.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link CoordIndex}.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Columns are packed and unpacked, including negative coordinates</li>
+ *   <li>Put, get and remove behave like a map</li>
+ *   <li>Entries stay reachable after removals in the middle of a probe run</li>
+ * </ul>
+ */
+@DisplayName("CoordIndex Tests")
+class CoordIndexTest {
+
+    @Test
+    @DisplayName("Should pack and unpack columns")
+    void testKey() {
+        long key = CoordIndex.key(-12345, 67890);
+        assertEquals(-12345, CoordIndex.x(key));
+        assertEquals(67890, CoordIndex.z(key));
+        key = CoordIndex.key(5, -1);
+        assertEquals(5, CoordIndex.x(key));
+        assertEquals(-1, CoordIndex.z(key));
+    }
+
+    @Test
+    @DisplayName("Should put, replace, get and remove")
+    void testPutGetRemove() {
+        CoordIndex index = new CoordIndex();
+        assertEquals(CoordIndex.NONE, index.put(CoordIndex.key(1, 2), 7));
+        assertEquals(7, index.get(1, 2));
+        assertEquals(CoordIndex.NONE, index.get(2, 1));
+        assertEquals(7, index.put(CoordIndex.key(1, 2), 8));
+        assertEquals(1, index.size());
+        assertEquals(8, index.remove(CoordIndex.key(1, 2)));
+        assertEquals(CoordIndex.NONE, index.remove(CoordIndex.key(1, 2)));
+        assertEquals(0, index.size());
+        assertThrows(IllegalArgumentException.class, () -> index.put(0L, -1));
+    }
+
+    @Test
+    @DisplayName("Should match a HashMap through growth and removals")
+    void testRandom() {
+        CoordIndex index = new CoordIndex();
+        Map<Long, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            long key = CoordIndex.key(random.nextInt(200) - 100, random.nextInt(200) - 100);
+            if (random.nextInt(3) == 0) {
+                Integer old = expected.remove(key);
+                assertEquals(old == null ? CoordIndex.NONE : old, index.remove(key));
+            } else {
+                Integer old = expected.put(key, i);
+                assertEquals(old == null ? CoordIndex.NONE : old, index.put(key, i));
+            }
+        }
+        assertEquals(expected.size(), index.size());
+        for (int x = -100; x < 100; x++) {
+            for (int z = -100; z < 100; z++) {
+                Integer value = expected.get(CoordIndex.key(x, z));
+                assertEquals(value == null ? CoordIndex.NONE : value, index.get(x, z));
+            }
+        }
+        index.clear();
+        assertEquals(0, index.size());
+        assertEquals(CoordIndex.NONE, index.get(0, 0));
+    }
+}
@@ -0,0 +1,158 @@
+package com.wasteofplastic.beaconz.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.plugin.Plugin;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockbukkit.mockbukkit.MockBukkit;
+import org.mockbukkit.mockbukkit.ServerMock;
+
+/**
+ * Tests for {@link PerfMonitor}.
+ *
+ * <p>Test categories:
+ * <ul>
+ *   <li>Histogram buckets and percentiles</li>
+ *   <li>Event handlers registered through the monitor are timed, unless metrics are off</li>
+ *   <li>Probes record nothing while metrics are off</li>
+ *   <li>Metrics are appended to a CSV file</li>
+ * </ul>
+ */
+@DisplayName("PerfMonitor Tests")
+class PerfMonitorTest {
+
+    private ServerMock server;
+
+    @TempDir
+    File tempDir;
+
+    /**
+     * Listener with one handler, used to check registration
+     */
+    public static class MoveCounter implements Listener {
+        int moves;
+
+        @EventHandler
+        public void onMove(PlayerMoveEvent event) {
+            moves++;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        PerfMonitor.setEnabled(true);
+        PerfMonitor.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PerfMonitor.setEnabled(true);
+        PerfMonitor.reset();
+        MockBukkit.unmock();
+    }
+
+    private PerfMonitor.Stats stats(String name) {
+        return PerfMonitor.getStats().stream().filter(s -> s.name().equals(name)).findFirst().orElse(null);
+    }
+
+    @Test
+    @DisplayName("Bucket upper bounds should cover the recorded value within 25%")
+    void testBuckets() {
+        for (long nanos : new long[] {0, 1, 3, 4, 7, 8, 9, 1000, 123_456, 50_000_000L, Long.MAX_VALUE / 2}) {
+            long upper = PerfMonitor.bucketUpperBound(PerfMonitor.bucket(nanos));
+            assertTrue(upper >= nanos, "Upper bound should not be below " + nanos);
+            assertTrue(upper <= nanos + nanos / 4 + 1, "Upper bound should be close to " + nanos);
+        }
+    }
+
+    @Test
+    @DisplayName("Should report count, percentiles, max and allocation")
+    void testPercentiles() {
+        PerfMonitor.Probe probe = PerfMonitor.probe("test.percentiles");
+        for (int i = 0; i < 98; i++) {
+            probe.record(1_000, 100);
+        }
+        probe.record(1_000_000, 100);
+        probe.record(2_000_000, 100);
+
+        PerfMonitor.Stats stats = stats("test.percentiles");
+        assertEquals(100, stats.count());
+        assertTrue(stats.p50Nanos() >= 1_000 && stats.p50Nanos() < 1_250, "Median should be about 1us");
+        assertTrue(stats.p99Nanos() >= 1_000_000 && stats.p99Nanos() < 1_250_000, "p99 should be about 1ms");
+        assertEquals(2_000_000, stats.maxNanos());
+        assertEquals(100, stats.allocPerCall());
+    }
+
+    @Test
+    @DisplayName("Should time event handlers registered through the monitor")
+    void testRegisterEvents() {
+        Plugin plugin = MockBukkit.createMockPlugin();
+        MoveCounter listener = new MoveCounter();
+        PerfMonitor.registerEvents(listener, plugin);
+        Player player = server.addPlayer();
+
+        server.getPluginManager().callEvent(new PlayerMoveEvent(player, player.getLocation(), player.getLocation()));
+        server.getPluginManager().callEvent(new PlayerMoveEvent(player, player.getLocation(), player.getLocation()));
+
+        assertEquals(2, listener.moves, "Handler should still be called");
+        assertEquals(2, stats("MoveCounter.onMove").count());
+    }
+
+    @Test
+    @DisplayName("Should register listeners the normal way while metrics are off")
+    void testRegisterEventsDisabled() {
+        PerfMonitor.setEnabled(false);
+        Plugin plugin = MockBukkit.createMockPlugin();
+        MoveCounter listener = new MoveCounter();
+        PerfMonitor.registerEvents(listener, plugin);
+        PerfMonitor.setEnabled(true);
+        Player player = server.addPlayer();
+
+        server.getPluginManager().callEvent(new PlayerMoveEvent(player, player.getLocation(), player.getLocation()));
+
+        assertEquals(1, listener.moves, "Handler should still be called");
+        assertNull(stats("MoveCounter.onMove"), "Handler should not be timed");
+    }
+
+    @Test
+    @DisplayName("Should record nothing while metrics are off")
+    void testDisabled() {
+        PerfMonitor.setEnabled(false);
+        PerfMonitor.Probe probe = PerfMonitor.probe("test.disabled");
+        probe.stop(probe.start());
+
+        assertTrue(PerfMonitor.getStats().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should append metrics to a CSV file")
+    void testDump() throws Exception {
+        PerfMonitor.Probe probe = PerfMonitor.probe("test.dump");
+        probe.stop(probe.start());
+        File csv = new File(tempDir, "perf.csv");
+
+        PerfMonitor.dump(csv);
+        PerfMonitor.dump(csv);
+
+        List<String> lines = Files.readAllLines(csv.toPath(), StandardCharsets.UTF_8);
+        assertEquals(3, lines.size(), "Header and one row per dump");
+        assertTrue(lines.get(0).startsWith("time,section,count"));
+        assertTrue(lines.get(1).contains(",test.dump,1,"));
+    }
+}